@@ -61,6 +61,8 @@ public class CmdMigrationMonitor implements IMigrationMonitor {
     private MigrationFinishedEvent finalEvent = null;
     // private int circle = 0;
     private boolean hasError;
+    // True if some row counts are estimated by the statistics of the source database.
+    private boolean estimatedTotal;
     private final int monitorMode;
     private PrintStream outPrinter = System.out;
 
@@ -73,11 +75,14 @@ public class CmdMigrationMonitor implements IMigrationMonitor {
                     totalProgress++;
                 }
                 totalProgress = totalProgress + table.getTableRowCount();
+                estimatedTotal = estimatedTotal || table.isTableRowCountEstimated();
             }
             List<SourceSQLTableConfig> sqlTables = config.getExpSQLCfg();
             for (SourceSQLTableConfig tbl : sqlTables) {
                 Table table = config.getSrcTableSchema(tbl.getOwner(), tbl.getName());
                 totalProgress = totalProgress + (table == null ? 0 : table.getTableRowCount());
+                estimatedTotal =
+                        estimatedTotal || (table != null && table.isTableRowCountEstimated());
             }
             totalProgress = totalProgress + config.getExpObjCount();
         } else if (config.sourceIsSQL()) {
@@ -111,6 +116,10 @@ public class CmdMigrationMonitor implements IMigrationMonitor {
 
         if (event instanceof MigrationStartEvent) {
             outPrinter.println(event.toString());
+            if (estimatedTotal) {
+                outPrinter.println(
+                        "The progress is estimated by the statistics of the source database.");
+            }
             return;
         }
 
@@ -168,6 +177,10 @@ public class CmdMigrationMonitor implements IMigrationMonitor {
             // print progress
             long tmpPro = currentProgress * 100 / totalProgress;
             tmpPro = tmpPro == 0 ? 1 : tmpPro;
+            // The estimated total may be less than the real one.
+            if (estimatedTotal && tmpPro > 99) {
+                tmpPro = 99;
+            }
             progress = tmpPro;
             if (!isNewLine) {
                 print('\b', String.valueOf(tmpPro).length() + 2);
@@ -31,11 +31,12 @@
 package com.cubrid.cubridmigration.command.handler;
 
 import com.cubrid.cubridmigration.command.ConsoleUtils;
+import com.cubrid.cubridmigration.core.engine.report.IMigrationReporter;
 import com.cubrid.cubridmigration.core.engine.report.MigrationReportFileUtils;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.List;
 import org.apache.commons.collections.CollectionUtils;
@@ -90,10 +91,14 @@ public class LogCommandHandler extends HistoryCommandHandler {
             outPrinter.println();
             outPrinter.println("Reading migration history file: <" + file.getName() + ">");
             outPrinter.println();
-            String logFile = MigrationReportFileUtils.extractLog(file.getName());
-            BufferedReader reader =
-                    new BufferedReader(
-                            new InputStreamReader(new FileInputStream(logFile), "utf-8"));
+            InputStream logStream =
+                    MigrationReportFileUtils.openEntry(
+                            file.getName(), IMigrationReporter.LOG_FILE_EX);
+            if (logStream == null) {
+                outPrinter.println("There is no log in the migration history file.");
+                return;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(logStream, "utf-8"));
             try {
                 String line = reader.readLine();
                 int lineNumber = 1;
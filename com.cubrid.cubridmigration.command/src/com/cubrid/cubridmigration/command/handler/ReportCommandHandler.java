@@ -33,6 +33,7 @@ package com.cubrid.cubridmigration.command.handler;
 import com.cubrid.cubridmigration.command.ConsoleUtils;
 import com.cubrid.cubridmigration.core.engine.report.DBObjMigrationResult;
 import com.cubrid.cubridmigration.core.engine.report.DataFileImportResult;
+import com.cubrid.cubridmigration.core.engine.report.MigrationHistoryIndex;
 import com.cubrid.cubridmigration.core.engine.report.MigrationOverviewResult;
 import com.cubrid.cubridmigration.core.engine.report.MigrationReport;
 import com.cubrid.cubridmigration.core.engine.report.MigrationReportFileUtils;
@@ -76,8 +77,11 @@ public class ReportCommandHandler extends HistoryCommandHandler {
             outPrinter.println();
             outPrinter.println("Reading migration history file: <" + file.getName() + ">");
             outPrinter.println();
-            String rptFile = MigrationReportFileUtils.extractReport(file.getName());
-            MigrationReport report = MigrationReport.loadFromReportFile(rptFile);
+            if (isSummaryMode(args)) {
+                printTableSummaries(MigrationHistoryIndex.getTableSummaries(file.getName()));
+                return;
+            }
+            MigrationReport report = MigrationReportFileUtils.loadReport(file.getName());
             printReport(report);
 
         } catch (IOException e) {
@@ -116,6 +120,9 @@ public class ReportCommandHandler extends HistoryCommandHandler {
                             + (rmr.isSucceed() ? "successfully" : "failed")
                             + "]");
             outPrinter.println("        DDL:[" + rmr.getDdl() + "]");
+            if (rmr.getBuildTime() >= 0) {
+                outPrinter.println("        Build time:[" + rmr.getBuildTime() + "ms]");
+            }
             if (!rmr.isSucceed()) {
                 outPrinter.println("        Error:[" + rmr.getError() + "]");
             }
@@ -136,9 +143,23 @@ public class ReportCommandHandler extends HistoryCommandHandler {
         pageCount = 1;
         for (RecordMigrationResult rmr : recMigResults) {
             outPrinter.println("    [" + rmr.getSource() + "] >> [" + rmr.getTarget() + "]");
-            outPrinter.println("           Total:[" + rmr.getTotalCount() + "]");
+            outPrinter.println(
+                    "           Total:["
+                            + rmr.getTotalCount()
+                            + (rmr.isTotalCountEstimated() ? "] (estimated)" : "]"));
             outPrinter.println("        Exported:[" + rmr.getExpCount() + "]");
             outPrinter.println("        Imported:[" + rmr.getImpCount() + "]");
+            if (rmr.getBatchSize() > 0) {
+                outPrinter.println("      Batch size:[" + rmr.getBatchSize() + "]");
+            }
+            if (rmr.getSalvagedCount() > 0 || rmr.getIsolatedCount() > 0) {
+                outPrinter.println("        Salvaged:[" + rmr.getSalvagedCount() + "]");
+                outPrinter.println("        Isolated:[" + rmr.getIsolatedCount() + "]");
+            }
+            if (rmr.getBlockedTime() > 0) {
+                outPrinter.println("     Blocked(ms):[" + rmr.getBlockedTime() + "]");
+                outPrinter.println(" Pending batches:[" + rmr.getMaxPendingBatches() + "]");
+            }
             if (pageCount >= pageSize) {
                 pageCount = 1;
                 if (!waitForEnter(atOnceMode)) {
@@ -168,6 +189,26 @@ public class ReportCommandHandler extends HistoryCommandHandler {
         ConsoleUtils.printHelp("/com/cubrid/cubridmigration/command/help_report.txt");
     }
 
+    /**
+     * Print the data migration summaries of the tables, they are read from the history index.
+     *
+     * @param tables List<RecordMigrationResult>
+     */
+    private void printTableSummaries(List<RecordMigrationResult> tables) {
+        outPrinter.println("[Data migration]");
+        for (RecordMigrationResult rmr : tables) {
+            outPrinter.println("    [" + rmr.getSource() + "] >> [" + rmr.getTarget() + "]");
+            outPrinter.println("           Total:[" + rmr.getTotalCount() + "]");
+            outPrinter.println("        Exported:[" + rmr.getExpCount() + "]");
+            outPrinter.println("        Imported:[" + rmr.getImpCount() + "]");
+        }
+    }
+
+    /** isSummaryMode */
+    private boolean isSummaryMode(List<String> args) {
+        return args.indexOf("-s") >= 0;
+    }
+
     /** isAtOnceMode */
     private boolean isAtOnceMode(List<String> args) {
         if (args.indexOf("-ao") >= 0) {
@@ -94,6 +94,8 @@ public class StartCommandHandler implements ConsoleCommandHandler {
     private String targetPath;
     private String sourceXML;
     private boolean migrateDataOnly;
+    private boolean checkpoint;
+    private boolean resume;
 
     // 0:default, only progress; 1:errors and progress; 2:all messages and events.
     private int monitorMode = MigrationConfiguration.RPT_LEVEL_BRIEF;
@@ -403,6 +405,8 @@ public class StartCommandHandler implements ConsoleCommandHandler {
         } else {
             migrateDataOnly = false;
         }
+        resume = "yes".equalsIgnoreCase(ConsoleUtils.getParameter(argList, "-rs"));
+        checkpoint = resume || "yes".equalsIgnoreCase(ConsoleUtils.getParameter(argList, "-cp"));
 
         String scriptFile = getScriptFile(argList);
         if (scriptFile == null) {
@@ -415,6 +419,11 @@ public class StartCommandHandler implements ConsoleCommandHandler {
         if (config == null) {
             return;
         }
+        // The progress is saved beside the script if asked, so a broken migration can be resumed.
+        if (checkpoint) {
+            config.setCheckpointFile(scriptFile + ".journal");
+            config.setResumeFromCheckpoint(resume);
+        }
         // Start migration
         final ConsoleMigrationReporter migrationReporter =
                 new ConsoleMigrationReporter(config, MigrationBriefReport.SM_USER);
@@ -567,6 +576,22 @@ public class StartCommandHandler implements ConsoleCommandHandler {
                     bw.append(Long.toString(rmr.getExpCount()));
                     bw.append("] Imported:[");
                     bw.append(Long.toString(rmr.getImpCount()));
+                    if (rmr.getBatchSize() > 0) {
+                        bw.append("] Batch size:[");
+                        bw.append(Integer.toString(rmr.getBatchSize()));
+                    }
+                    if (rmr.getSalvagedCount() > 0 || rmr.getIsolatedCount() > 0) {
+                        bw.append("] Salvaged:[");
+                        bw.append(Long.toString(rmr.getSalvagedCount()));
+                        bw.append("] Isolated:[");
+                        bw.append(Long.toString(rmr.getIsolatedCount()));
+                    }
+                    if (rmr.getBlockedTime() > 0) {
+                        bw.append("] Blocked(ms):[");
+                        bw.append(Long.toString(rmr.getBlockedTime()));
+                        bw.append("] Pending batches:[");
+                        bw.append(Integer.toString(rmr.getMaxPendingBatches()));
+                    }
                     bw.append("]\r\n");
                 }
                 bw.flush();
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.config;
+
+import com.cubrid.cubridmigration.core.dbobject.Catalog;
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.Schema;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ConfigurationBenchmark measures the start-up of a migration with a large schema: building the
+ * configuration from a synthetic catalog, building it again as the wizard does after the source
+ * was changed, and looking up every table of it.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConfigurationBenchmark {
+
+    private static final String SCHEMA_NAME = "bench";
+
+    @Param({"50000"})
+    private int tableCount;
+
+    private Catalog catalog;
+    private MigrationConfiguration config;
+
+    /**
+     * Create a CUBRID catalog with tables of two columns and a primary key.
+     *
+     * @param count of tables
+     * @return Catalog
+     */
+    static Catalog createCatalog(int count) {
+        Catalog catalog = new Catalog();
+        catalog.setName(SCHEMA_NAME);
+        catalog.setDatabaseType(DatabaseType.CUBRID);
+        Schema schema = new Schema(catalog);
+        schema.setName(SCHEMA_NAME);
+        catalog.addSchema(schema);
+        for (int i = 0; i < count; i++) {
+            Table table = new Table(schema);
+            table.setName("t" + i);
+            table.setOwner(SCHEMA_NAME);
+            Column id = new Column(table);
+            id.setName("id");
+            id.setDataType("integer");
+            id.setShownDataType("integer");
+            id.setNullable(false);
+            table.addColumn(id);
+            Column name = new Column(table);
+            name.setName("name");
+            name.setDataType("character varying");
+            name.setPrecision(64);
+            name.setShownDataType("character varying(64)");
+            table.addColumn(name);
+            PK pk = new PK(table);
+            pk.setName("pk_t" + i);
+            pk.addColumn("id");
+            table.setPk(pk);
+            schema.addTable(table);
+        }
+        return catalog;
+    }
+
+    /**
+     * Create a configuration of the catalog
+     *
+     * @param catalog Catalog
+     * @return MigrationConfiguration
+     */
+    private static MigrationConfiguration createConfig(Catalog catalog) {
+        MigrationConfiguration result = new MigrationConfiguration();
+        result.setSourceType(DatabaseType.CUBRID.getID());
+        result.setSrcCatalog(catalog, true);
+        return result;
+    }
+
+    /** Prepare the catalog and a configuration built from it */
+    @Setup
+    public void setup() {
+        catalog = createCatalog(tableCount);
+        config = createConfig(catalog);
+    }
+
+    @Benchmark
+    public Object buildConfiguration() {
+        return createConfig(catalog);
+    }
+
+    @Benchmark
+    public Object rebuildConfiguration() {
+        config.buildConfigAndTargetSchema(false);
+        return config;
+    }
+
+    @Benchmark
+    public int lookupTables() {
+        int found = 0;
+        for (int i = 0; i < tableCount; i++) {
+            final String name = "t" + i;
+            SourceEntryTableConfig setc = config.getExpEntryTableCfg(SCHEMA_NAME, name);
+            if (config.getSrcTableSchema(SCHEMA_NAME, name) != null
+                    && config.getTargetTableSchema(setc.getTargetOwner(), setc.getTarget())
+                            != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
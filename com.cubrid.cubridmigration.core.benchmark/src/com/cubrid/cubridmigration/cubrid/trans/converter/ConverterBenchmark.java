@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.cubrid.trans.converter;
+
+import com.cubrid.cubridmigration.core.common.DBUtils;
+import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.cubrid.trans.ToCUBRIDDataConverterFacade;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ConverterBenchmark measures the converters of CUBRID data types: the string values which are
+ * exported from CSV/SQL files or as text, and the JDBC values through the converter facade.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private final ToCUBRIDDataConverterFacade facade = ToCUBRIDDataConverterFacade.getIntance();
+    private final MigrationConfiguration config = new MigrationConfiguration();
+
+    private final BigIntConverter bigIntConverter = new BigIntConverter();
+    private final BitConverter bitConverter = new BitConverter();
+    private final BlobConverter blobConverter = new BlobConverter();
+    private final CharConverter charConverter = new CharConverter();
+    private final ClobConverter clobConverter = new ClobConverter();
+    private final DateConverter dateConverter = new DateConverter();
+    private final DateTimeConverter dateTimeConverter = new DateTimeConverter();
+    private final DoubleConverter doubleConverter = new DoubleConverter();
+    private final FloatConverter floatConverter = new FloatConverter();
+    private final IntegerConverter integerConverter = new IntegerConverter();
+    private final NumericConverter numericConverter = new NumericConverter();
+    private final SmallIntConverter smallIntConverter = new SmallIntConverter();
+    private final TimeConverter timeConverter = new TimeConverter();
+    private final TimeStampConverter timeStampConverter = new TimeStampConverter();
+
+    private DataTypeInstance bigintType;
+    private DataTypeInstance bitType;
+    private DataTypeInstance blobType;
+    private DataTypeInstance varcharType;
+    private DataTypeInstance clobType;
+    private DataTypeInstance dateType;
+    private DataTypeInstance datetimeType;
+    private DataTypeInstance doubleType;
+    private DataTypeInstance floatType;
+    private DataTypeInstance integerType;
+    private DataTypeInstance numericType;
+    private DataTypeInstance smallintType;
+    private DataTypeInstance timeType;
+    private DataTypeInstance timestampType;
+
+    private byte[] bytes;
+    private Integer intValue;
+    private BigDecimal decimalValue;
+    private Timestamp timestampValue;
+    private String formattedTimestamp;
+
+    /**
+     * Create the data types
+     *
+     * @param name of the data type
+     * @param precision of the data type
+     * @param scale of the data type
+     * @return DataTypeInstance
+     */
+    private static DataTypeInstance newDataType(String name, int precision, int scale) {
+        DataTypeInstance dti = new DataTypeInstance();
+        dti.setName(name);
+        dti.setPrecision(precision);
+        dti.setScale(scale);
+        return dti;
+    }
+
+    /** Prepare the values */
+    @Setup
+    public void setup() {
+        config.setSourceType(MigrationConfiguration.CSV);
+        config.setSourceFileTimeZone("Default");
+        bigintType = newDataType("bigint", 19, 0);
+        bitType = newDataType("bit varying", 1024, 0);
+        blobType = newDataType("blob", 0, 0);
+        varcharType = newDataType("varchar", 255, 0);
+        clobType = newDataType("clob", 0, 0);
+        dateType = newDataType("date", 0, 0);
+        datetimeType = newDataType("datetime", 0, 0);
+        doubleType = newDataType("double", 0, 0);
+        floatType = newDataType("float", 0, 0);
+        integerType = newDataType("integer", 10, 0);
+        numericType = newDataType("numeric", 20, 4);
+        smallintType = newDataType("smallint", 5, 0);
+        timeType = newDataType("time", 0, 0);
+        timestampType = newDataType("timestamp", 0, 0);
+
+        bytes = new byte[64];
+        intValue = Integer.valueOf(123456);
+        decimalValue = new BigDecimal("12345.6789");
+        timestampValue = Timestamp.valueOf("2026-10-18 12:34:56.789");
+        formattedTimestamp = DBUtils.getDateFormat().format(timestampValue);
+    }
+
+    @Benchmark
+    public Object bigIntFromString() {
+        return bigIntConverter.convert("1234567890123", bigintType, config);
+    }
+
+    @Benchmark
+    public Object bigIntFromInteger() {
+        return facade.convert(intValue, bigintType, config);
+    }
+
+    @Benchmark
+    public Object bitFromString() {
+        return bitConverter.convert("0101", bitType, config);
+    }
+
+    @Benchmark
+    public Object bitFromBytes() {
+        return facade.convert(bytes, bitType, config);
+    }
+
+    @Benchmark
+    public Object blobFromBytes() {
+        return blobConverter.convert(bytes, blobType, config);
+    }
+
+    @Benchmark
+    public Object charFromString() {
+        return facade.convert("varchar value", varcharType, config);
+    }
+
+    @Benchmark
+    public Object charFromDecimal() {
+        return charConverter.convert(decimalValue, varcharType, config);
+    }
+
+    @Benchmark
+    public Object clobFromString() {
+        return clobConverter.convert("clob value", clobType, config);
+    }
+
+    @Benchmark
+    public Object dateFromString() {
+        return dateConverter.convert("2026-10-18", dateType, config);
+    }
+
+    @Benchmark
+    public Object dateTimeFromString() {
+        return dateTimeConverter.convert("2026-10-18 12:34:56", datetimeType, config);
+    }
+
+    @Benchmark
+    public Object dateTimeFromFormattedString() {
+        return dateTimeConverter.convert(formattedTimestamp, datetimeType, config);
+    }
+
+    @Benchmark
+    public Object dateTimeFromTimestamp() {
+        return facade.convert(timestampValue, datetimeType, config);
+    }
+
+    @Benchmark
+    public Object doubleFromString() {
+        return doubleConverter.convert("12345.6789", doubleType, config);
+    }
+
+    @Benchmark
+    public Object doubleFromInteger() {
+        return facade.convert(intValue, doubleType, config);
+    }
+
+    @Benchmark
+    public Object floatFromString() {
+        return floatConverter.convert("123.45", floatType, config);
+    }
+
+    @Benchmark
+    public Object integerFromString() {
+        return integerConverter.convert("123456", integerType, config);
+    }
+
+    @Benchmark
+    public Object integerFromInteger() {
+        return facade.convert(intValue, integerType, config);
+    }
+
+    @Benchmark
+    public Object numericFromString() {
+        return numericConverter.convert("12345.6789", numericType, config);
+    }
+
+    @Benchmark
+    public Object numericFromDecimal() {
+        return facade.convert(decimalValue, numericType, config);
+    }
+
+    @Benchmark
+    public Object smallIntFromString() {
+        return smallIntConverter.convert("1234", smallintType, config);
+    }
+
+    @Benchmark
+    public Object timeFromString() {
+        return timeConverter.convert("12:34:56", timeType, config);
+    }
+
+    @Benchmark
+    public Object timeStampFromString() {
+        return timeStampConverter.convert("2026-10-18 12:34:56", timestampType, config);
+    }
+
+    @Benchmark
+    public Object timeStampFromTimestamp() {
+        return facade.convert(timestampValue, timestampType, config);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.common;
+
+import com.cubrid.cubridmigration.core.dbobject.DBObjectList;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NameIndexedListTest {
+
+    private static Table createTable(String name, String owner) {
+        Table table = new Table();
+        table.setName(name);
+        table.setOwner(owner);
+        return table;
+    }
+
+    @Test
+    public void testLookup() {
+        DBObjectList<Table> list = new DBObjectList<Table>();
+        Table t1 = createTable("t1", "a");
+        Table t2 = createTable("T1", "b");
+        Table t3 = createTable("t1", "c");
+        list.add(t1);
+        list.add(t2);
+        list.add(t3);
+        Assert.assertSame(t1, list.getFirstByName("t1"));
+        Assert.assertSame(t2, list.getFirstByName("T1"));
+        Assert.assertEquals(2, list.getByName("t1").size());
+        Assert.assertSame(t3, list.getByName("t1").get(1));
+        Assert.assertEquals(3, list.getByNameIgnoreCase("t1").size());
+        Assert.assertNull(list.getFirstByName("t2"));
+
+        // Changed by the iterator
+        Iterator<Table> it = list.iterator();
+        it.next();
+        it.remove();
+        Assert.assertSame(t3, list.getFirstByName("t1"));
+        Assert.assertSame(t2, list.getFirstByNameIgnoreCase("t1"));
+
+        list.remove(t2);
+        Assert.assertNull(list.getFirstByName("T1"));
+        list.add(0, t1);
+        Assert.assertSame(t1, list.getFirstByName("t1"));
+        list.set(0, t2);
+        Assert.assertSame(t2, list.getFirstByNameIgnoreCase("t1"));
+        Assert.assertSame(t3, list.getFirstByName("t1"));
+        list.clear();
+        Assert.assertNull(list.getFirstByNameIgnoreCase("t1"));
+    }
+
+    @Test
+    public void testRename() {
+        DBObjectList<Table> list = new DBObjectList<Table>();
+        Table t1 = createTable("t1", null);
+        Table t2 = createTable("t2", null);
+        list.add(t1);
+        list.add(t2);
+        Assert.assertSame(t1, list.getFirstByName("t1"));
+
+        t1.setName("t3");
+        // The stale index is rebuilt when the old name is looked up.
+        Assert.assertNull(list.getFirstByName("t1"));
+        Assert.assertSame(t1, list.getFirstByName("t3"));
+
+        t2.setName("t4");
+        list.reindex();
+        Assert.assertSame(t2, list.getFirstByNameIgnoreCase("T4"));
+
+        Collections.sort(
+                list,
+                new Comparator<Table>() {
+                    public int compare(Table o1, Table o2) {
+                        return o2.getName().compareTo(o1.getName());
+                    }
+                });
+        Assert.assertSame(t2, list.get(0));
+        Assert.assertSame(t1, list.getFirstByName("t3"));
+    }
+
+    @Test
+    public void testFold() {
+        Assert.assertEquals(NameIndexedList.fold("ABC_d"), NameIndexedList.fold("abc_D"));
+        Assert.assertEquals(NameIndexedList.fold("K"), NameIndexedList.fold("k"));
+        Assert.assertNull(NameIndexedList.fold(null));
+    }
+}
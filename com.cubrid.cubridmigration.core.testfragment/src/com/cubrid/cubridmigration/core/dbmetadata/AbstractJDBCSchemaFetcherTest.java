@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.dbmetadata;
+
+import com.cubrid.cubridmigration.core.dbobject.Catalog;
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.DBObjectFactory;
+import com.cubrid.cubridmigration.core.dbobject.Index;
+import com.cubrid.cubridmigration.core.dbobject.Schema;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
+import com.cubrid.cubridmigration.core.export.DBExportHelper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AbstractJDBCSchemaFetcherTest {
+
+    private static class MockSchemaFetcher extends AbstractJDBCSchemaFetcher {
+        private final List<String> events = new ArrayList<String>();
+
+        MockSchemaFetcher() {
+            factory = new DBObjectFactory() {};
+        }
+
+        public DatabaseType getDBType() {
+            return DatabaseType.MYSQL;
+        }
+
+        protected DBExportHelper getExportHelper() {
+            return null;
+        }
+
+        protected List<String> getAllTableNames(Connection conn, Catalog catalog, Schema schema) {
+            return Arrays.asList("t1", "owner.t2", "skipped", "t3");
+        }
+
+        protected void prefetchTables(
+                Connection conn, Catalog catalog, Schema schema, List<Table> tables) {
+            events.add("prefetch" + tables.size());
+        }
+
+        protected void releasePrefetchedTables(Schema schema) {
+            events.add("release");
+        }
+
+        protected void buildTableColumns(
+                Connection conn, Catalog catalog, Schema schema, Table table)
+                throws SQLException {
+            if ("t3".equals(table.getName())) {
+                throw new SQLException("broken table");
+            }
+            Column column = factory.createColumn();
+            column.setName("c1");
+            table.addColumn(column);
+        }
+
+        protected void buildTablePK(Connection conn, Catalog catalog, Schema schema, Table table) {
+            // do nothing
+        }
+
+        protected void buildTableFKs(Connection conn, Catalog catalog, Schema schema, Table table) {
+            // do nothing
+        }
+
+        protected void buildTableIndexes(
+                Connection conn, Catalog catalog, Schema schema, Table table) {
+            // do nothing
+        }
+    }
+
+    @Test
+    public void testBuildTables() throws Exception {
+        MockSchemaFetcher fetcher = new MockSchemaFetcher();
+        Catalog catalog = new Catalog();
+        Schema schema = new Schema();
+        schema.setName("s1");
+        catalog.addSchema(schema);
+        IBuildSchemaFilter filter =
+                new IBuildSchemaFilter() {
+                    public boolean filter(String schemaName, String objName) {
+                        return "skipped".equals(objName);
+                    }
+                };
+        fetcher.buildTables(null, catalog, schema, filter);
+
+        Assert.assertEquals(Arrays.asList("prefetch3", "release"), fetcher.events);
+        List<Table> tables = schema.getTables();
+        Assert.assertEquals(3, tables.size());
+        Assert.assertEquals("t1", tables.get(0).getName());
+        Assert.assertEquals("t2", tables.get(1).getName());
+        Assert.assertEquals("owner", tables.get(1).getOwner());
+        Assert.assertEquals(1, tables.get(1).getColumns().size());
+        // A table failing to build is still kept, as before
+        Assert.assertEquals("t3", tables.get(2).getName());
+        Assert.assertTrue(tables.get(2).getColumns().isEmpty());
+    }
+
+    @Test
+    public void testSetTablePK() {
+        MockSchemaFetcher fetcher = new MockSchemaFetcher();
+        Table table = fetcher.factory.createTable();
+        for (String name : new String[] {"id", "Code", "c3"}) {
+            Column column = fetcher.factory.createColumn();
+            column.setName(name);
+            table.addColumn(column);
+        }
+        Index index = fetcher.factory.createIndex(table);
+        index.setName("pk_t");
+        table.addIndex(index);
+        fetcher.setTablePK(table, "PK_T", Arrays.asList("code", "missing", "id"));
+
+        Assert.assertEquals("PK_T", table.getPk().getName());
+        Assert.assertEquals(Arrays.asList("Code", "id"), table.getPk().getPkColumns());
+        // The index of the PK is removed
+        Assert.assertTrue(table.getIndexes().isEmpty());
+    }
+
+    @Test
+    public void testFetchSerially() throws Exception {
+        MockSchemaFetcher fetcher = new MockSchemaFetcher();
+        final List<Integer> order = new ArrayList<Integer>();
+        List<AbstractJDBCSchemaFetcher.FetchTask> tasks =
+                new ArrayList<AbstractJDBCSchemaFetcher.FetchTask>();
+        for (int i = 0; i < 3; i++) {
+            final int idx = i;
+            tasks.add(
+                    new AbstractJDBCSchemaFetcher.FetchTask() {
+                        public void fetch(Connection conn) throws SQLException {
+                            order.add(idx);
+                        }
+                    });
+        }
+        // Without connection parameters no extra connection can be opened
+        fetcher.fetch(null, null, tasks);
+        Assert.assertEquals(Arrays.asList(0, 1, 2), order);
+    }
+}
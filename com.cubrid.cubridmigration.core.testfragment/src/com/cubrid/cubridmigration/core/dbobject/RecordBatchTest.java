@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.dbobject;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RecordBatchTest {
+
+    private static Column[] createColumns(int count) {
+        Column[] columns = new Column[count];
+        for (int i = 0; i < count; i++) {
+            columns[i] = new Column();
+            columns[i].setName("c" + i);
+        }
+        return columns;
+    }
+
+    @Test
+    public void testPrimitiveColumns() {
+        RecordBatch batch = new RecordBatch(createColumns(4), 1);
+        for (int i = 0; i < 100; i++) {
+            int row = batch.addRow();
+            Assert.assertEquals(i, row);
+            batch.setValue(row, 0, Integer.valueOf(i));
+            batch.setValue(row, 1, Long.valueOf(i * 10L));
+            batch.setValue(row, 2, i % 2 == 0 ? null : Double.valueOf(i / 2.0));
+            batch.setValue(row, 3, "v" + i);
+        }
+        Assert.assertEquals(100, batch.size());
+        Assert.assertEquals(RecordBatch.KIND_INT, batch.getKind(0));
+        Assert.assertEquals(RecordBatch.KIND_LONG, batch.getKind(1));
+        Assert.assertEquals(RecordBatch.KIND_DOUBLE, batch.getKind(2));
+        Assert.assertEquals(RecordBatch.KIND_OBJECT, batch.getKind(3));
+        Assert.assertEquals(99, batch.getInt(99, 0));
+        Assert.assertEquals(990L, batch.getLong(99, 1));
+        Assert.assertTrue(batch.isNull(98, 2));
+        Assert.assertNull(batch.getValue(98, 2));
+        Assert.assertEquals(Double.valueOf(49.5), batch.getValue(99, 2));
+        Assert.assertEquals("v70", batch.getValue(70, 3));
+
+        Record record = batch.get(3);
+        Assert.assertEquals(4, record.getColumnValueList().size());
+        Assert.assertEquals(Integer.valueOf(3), record.getColumnValueList().get(0).getValue());
+        Assert.assertEquals(Long.valueOf(30), record.getColumnValueList().get(1).getValue());
+        Assert.assertSame(batch.getColumn(3), record.getColumnValueList().get(3).getColumn());
+    }
+
+    @Test
+    public void testMixedClasses() {
+        RecordBatch batch = new RecordBatch(createColumns(1), 4);
+        batch.setInt(batch.addRow(), 0, 1);
+        batch.addRow();
+        batch.setValue(batch.addRow(), 0, Long.valueOf(3));
+        // The values keep their classes after the column was changed to objects.
+        Assert.assertEquals(RecordBatch.KIND_OBJECT, batch.getKind(0));
+        Assert.assertEquals(Integer.valueOf(1), batch.getValue(0, 0));
+        Assert.assertTrue(batch.isNull(1, 0));
+        Assert.assertEquals(Long.valueOf(3), batch.getValue(2, 0));
+        batch.setDouble(1, 0, 2.5);
+        Assert.assertEquals(Double.valueOf(2.5), batch.getValue(1, 0));
+    }
+
+    @Test
+    public void testRemoveAndTakeRows() {
+        RecordBatch batch = new RecordBatch(createColumns(2), 2);
+        for (int i = 0; i < 5; i++) {
+            int row = batch.addRow();
+            batch.setInt(row, 0, i);
+            if (i != 2) {
+                batch.setValue(row, 1, "v" + i);
+            }
+        }
+        batch.removeRows(new boolean[] {true, false, false, true, false});
+        Assert.assertEquals(3, batch.size());
+        Assert.assertEquals(1, batch.getInt(0, 0));
+        Assert.assertEquals(2, batch.getInt(1, 0));
+        Assert.assertTrue(batch.isNull(1, 1));
+        Assert.assertEquals("v4", batch.getValue(2, 1));
+
+        batch.addRow();
+        batch.removeLastRow();
+        RecordBatch taken = batch.takeRows();
+        Assert.assertEquals(3, taken.size());
+        Assert.assertEquals(0, batch.size());
+        Assert.assertEquals(RecordBatch.KIND_NONE, batch.getKind(0));
+        int row = batch.addRow();
+        batch.setValue(row, 0, "a");
+        Assert.assertTrue(batch.isNull(row, 1));
+        // The taken records are not changed by filling the batch again.
+        Assert.assertEquals(RecordBatch.KIND_INT, taken.getKind(0));
+        Assert.assertEquals(4, taken.getInt(2, 0));
+    }
+}
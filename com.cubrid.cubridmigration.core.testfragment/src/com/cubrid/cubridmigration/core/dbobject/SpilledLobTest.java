@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.dbobject;
+
+import com.cubrid.cubridmigration.core.export.handler.ClobTypeHandler;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpilledLobTest {
+
+    @Test
+    public void testSpillBlob() throws Exception {
+        byte[] data = new byte[20000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        SpilledLob lob = SpilledLob.spill(new ByteArrayInputStream(data));
+        Assert.assertFalse(lob.isCharacter());
+        Assert.assertEquals(data.length, lob.getLength());
+        Assert.assertArrayEquals(data, (byte[]) lob.materialize());
+
+        InputStream in = lob.openStream();
+        Assert.assertEquals(0, in.read());
+        Assert.assertEquals(1, in.read());
+        in.close();
+
+        Record rec = new Record();
+        rec.addColumnValue(new Column(), lob);
+        rec.addColumnValue(new Column(), "text");
+        List<Record> records = new ArrayList<Record>();
+        records.add(rec);
+        records.add(null);
+        SpilledLob.deleteAll(records);
+        try {
+            lob.openStream();
+            Assert.fail("The file should be deleted.");
+        } catch (IOException ex) {
+            Assert.assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void testSpillClob() throws Exception {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < 3000; i++) {
+            sb.append("한글-").append(i);
+        }
+        final String text = sb.toString();
+        ResultSet rs =
+                (ResultSet)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class[] {ResultSet.class},
+                                new InvocationHandler() {
+                                    public Object invoke(Object proxy, Method method, Object[] args)
+                                            throws Throwable {
+                                        if ("getCharacterStream".equals(method.getName())) {
+                                            return new StringReader(text);
+                                        }
+                                        throw new UnsupportedOperationException(method.getName());
+                                    }
+                                });
+        Column column = new Column();
+        column.setName("doc");
+
+        Assert.assertEquals(text, new ClobTypeHandler().getJdbcObject(rs, column, 1));
+
+        Object value = new ClobTypeHandler(1000).getJdbcObject(rs, column, 1);
+        Assert.assertTrue(value instanceof SpilledLob);
+        SpilledLob lob = (SpilledLob) value;
+        Assert.assertTrue(lob.isCharacter());
+        Assert.assertEquals(text.length(), lob.getLength());
+        Assert.assertEquals(text, lob.materialize());
+        Reader reader = lob.openReader();
+        Assert.assertEquals('한', reader.read());
+        reader.close();
+        lob.delete();
+    }
+}
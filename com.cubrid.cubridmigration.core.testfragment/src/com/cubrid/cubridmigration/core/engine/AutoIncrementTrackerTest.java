@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AutoIncrementTrackerTest {
+
+    private static Column createColumn(String name, boolean autoIncrement) {
+        Column column = new Column();
+        column.setName(name);
+        column.setAutoIncrement(autoIncrement);
+        return column;
+    }
+
+    @Test
+    public void testRecordsImported() {
+        Column id = createColumn("id", true);
+        Column name = createColumn("name", false);
+        List<Record> records = new ArrayList<Record>();
+        long[] ids = {3, 17, 5};
+        for (long value : ids) {
+            Record rc = new Record();
+            rc.addColumnValue(id, Long.valueOf(value));
+            rc.addColumnValue(name, "name" + value);
+            records.add(rc);
+        }
+        // The serial generates the value.
+        Record generated = new Record();
+        generated.addColumnValue(id, null);
+        records.add(generated);
+
+        AutoIncrementTracker tracker = new AutoIncrementTracker();
+        tracker.recordsImported("Code", records);
+        Assert.assertEquals(Long.valueOf(17), tracker.getMaxValue("code", "ID"));
+        Assert.assertNull(tracker.getMaxValue("code", "name"));
+        Assert.assertNull(tracker.getMaxValue("other", "id"));
+        Assert.assertTrue(tracker.isTracked("code"));
+
+        // A smaller batch doesn't change the max value.
+        Record rc = new Record();
+        rc.addColumnValue(id, new BigDecimal("10"));
+        records.clear();
+        records.add(rc);
+        tracker.recordsImported("code", records);
+        Assert.assertEquals(Long.valueOf(17), tracker.getMaxValue("code", "id"));
+
+        // The value which is not a number can't be tracked.
+        rc = new Record();
+        rc.addColumnValue(id, "100");
+        records.clear();
+        records.add(rc);
+        tracker.recordsImported("code", records);
+        Assert.assertFalse(tracker.isTracked("CODE"));
+    }
+
+    @Test
+    public void testBatchImported() {
+        Column id = createColumn("id", true);
+        Column name = createColumn("name", false);
+        RecordBatch batch = new RecordBatch(new Column[] {id, name}, 4);
+        int[] ids = {3, 17, 5};
+        for (int value : ids) {
+            int row = batch.addRow();
+            batch.setInt(row, 0, value);
+            batch.setValue(row, 1, "name" + value);
+        }
+        batch.addRow();
+
+        AutoIncrementTracker tracker = new AutoIncrementTracker();
+        tracker.recordsImported("code", batch);
+        Assert.assertEquals(Long.valueOf(17), tracker.getMaxValue("code", "id"));
+        Assert.assertNull(tracker.getMaxValue("code", "name"));
+
+        batch.setValue(3, 0, "100");
+        tracker.recordsImported("code", batch);
+        Assert.assertFalse(tracker.isTracked("code"));
+    }
+}
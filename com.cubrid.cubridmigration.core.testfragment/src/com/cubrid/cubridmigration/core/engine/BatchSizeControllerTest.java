@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchSizeControllerTest {
+
+    @Test
+    public void testAIMD() {
+        BatchSizeController controller = new BatchSizeController(1000, 50, 50000, 1000, 0);
+        Assert.assertEquals(1000, controller.getBatchSize("dba", "t1"));
+        Assert.assertNull(controller.getStats("dba", "t1"));
+
+        // Fast commits: the size grows additively.
+        controller.batchImported("dba", "t1", 1000, 100000, 100);
+        Assert.assertEquals(1250, controller.getBatchSize("dba", "t1"));
+        controller.batchImported("dba", "t1", 1250, 125000, 125);
+        Assert.assertEquals(1500, controller.getBatchSize("dba", "t1"));
+
+        // Slow commits: the size is halved.
+        controller.batchImported("dba", "t2", 1000, 100000, 3000);
+        Assert.assertEquals(500, controller.getBatchSize("dba", "t2"));
+        controller.batchImported("dba", "t2", 500, 50000, 5000);
+        Assert.assertEquals(250, controller.getBatchSize("dba", "t2"));
+        // The size keeps around the size which can be committed in the target latency.
+        for (int i = 0; i < 20; i++) {
+            int size = controller.getBatchSize("dba", "t2");
+            controller.batchImported("dba", "t2", size, size * 100L, size * 10L);
+        }
+        Assert.assertTrue(controller.getBatchSize("dba", "t2") < 400);
+        for (int i = 0; i < 20; i++) {
+            controller.batchImported("dba", "t2", 50, 5000, 5000);
+        }
+        Assert.assertEquals(50, controller.getBatchSize("dba", "t2"));
+        // The other table is not changed.
+        Assert.assertEquals(1500, controller.getBatchSize("dba", "t1"));
+
+        BatchSizeController.BatchStats stats = controller.getStats("dba", "t1");
+        Assert.assertEquals(2, stats.getBatchCount());
+        Assert.assertEquals(10000, stats.getRowsPerSecond());
+        Assert.assertEquals(100, stats.getBytesPerRow());
+        Assert.assertEquals(112, stats.getCommitLatency());
+    }
+
+    @Test
+    public void testBounds() {
+        BatchSizeController controller =
+                new BatchSizeController(1000, 50, 2000, 1000, 1024 * 1024);
+        for (int i = 0; i < 20; i++) {
+            controller.batchImported(null, "narrow", 1000, 10000, 1);
+        }
+        Assert.assertEquals(2000, controller.getBatchSize(null, "narrow"));
+
+        // 64KB rows, the batch is limited to 1MB.
+        controller.batchImported(null, "lob", 100, 100L * 64 * 1024, 10);
+        Assert.assertEquals(50, controller.getBatchSize(null, "lob"));
+        controller.batchImported(null, "wide", 100, 100L * 8 * 1024, 10);
+        Assert.assertEquals(128, controller.getBatchSize(null, "wide"));
+    }
+}
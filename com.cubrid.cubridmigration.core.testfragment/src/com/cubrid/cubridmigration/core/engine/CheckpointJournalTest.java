@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal.UnitCheckpoint;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CheckpointJournalTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("cmt", ".journal");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private static SourceEntryTableConfig createTable(String name) {
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setOwner("dba");
+        setc.setName(name);
+        return setc;
+    }
+
+    @Test
+    public void testKeyCheckpoint() throws Exception {
+        final SourceEntryTableConfig setc = createTable("t\t1");
+        CheckpointJournal journal = CheckpointJournal.open(file.getAbsolutePath(), false);
+        UnitCheckpoint checkpoint = journal.getCheckpoint(setc);
+        checkpoint.setExportedKey(new Object[] {10, "a\\b\nc"});
+        long batch1 = checkpoint.beginBatch();
+        checkpoint.setExportedKey(new Object[] {20, "x"});
+        long batch2 = checkpoint.beginBatch();
+        // The later batch is committed first, the checkpoint can't move.
+        checkpoint.commitBatch(batch2);
+        checkpoint.exportFinished();
+        Assert.assertFalse(journal.isUnitDone(setc));
+        Assert.assertNull(checkpoint.getResumeKey());
+
+        checkpoint.commitBatch(batch1);
+        Assert.assertTrue(journal.isUnitDone(setc));
+        journal.phaseDone(CheckpointJournal.PHASE_SCHEMA);
+        journal.dispose();
+
+        journal = CheckpointJournal.open(file.getAbsolutePath(), true);
+        Assert.assertTrue(journal.isPhaseDone(CheckpointJournal.PHASE_SCHEMA));
+        Assert.assertTrue(journal.isUnitDone(setc));
+        Assert.assertArrayEquals(
+                new Object[] {20, "x"}, journal.getCheckpoint(setc).getResumeKey());
+        journal.dispose();
+
+        // A new migration clears the journal.
+        journal = CheckpointJournal.open(file.getAbsolutePath(), false);
+        journal.dispose();
+        journal = CheckpointJournal.open(file.getAbsolutePath(), true);
+        Assert.assertFalse(journal.isUnitDone(setc));
+        Assert.assertFalse(journal.isPhaseDone(CheckpointJournal.PHASE_SCHEMA));
+        journal.dispose();
+    }
+
+    @Test
+    public void testFailedBatch() throws Exception {
+        final SourceEntryTableConfig setc = createTable("t2");
+        CheckpointJournal journal = CheckpointJournal.open(file.getAbsolutePath(), false);
+        UnitCheckpoint checkpoint = journal.getCheckpoint(setc);
+        checkpoint.startOffset(0);
+        checkpoint.countExportedRow();
+        checkpoint.countExportedRow();
+        long batch1 = checkpoint.beginBatch();
+        checkpoint.countExportedRow();
+        long batch2 = checkpoint.beginBatch();
+        checkpoint.commitBatch(batch1);
+        Assert.assertEquals(2, checkpoint.getResumeOffset());
+        Assert.assertFalse(journal.isUnitUnsafe(setc));
+        checkpoint.failBatch(batch2);
+        checkpoint.exportFinished();
+        Assert.assertFalse(journal.isUnitDone(setc));
+        // The batches after the failed one may be committed, the offset is not a checkpoint.
+        Assert.assertTrue(journal.isUnitUnsafe(setc));
+        Assert.assertEquals(0, checkpoint.getResumeOffset());
+        journal.constraintsDone("t2");
+        journal.tableCreated("t2");
+        journal.saveRanges(setc, Arrays.asList("id < 10", "id >= 10"));
+        journal.dispose();
+
+        journal = CheckpointJournal.open(file.getAbsolutePath(), true);
+        Assert.assertFalse(journal.isUnitDone(setc));
+        Assert.assertTrue(journal.isUnitUnsafe(setc));
+        Assert.assertEquals(0, journal.getCheckpoint(setc).getResumeOffset());
+        Assert.assertTrue(journal.isConstraintsDone("t2"));
+        Assert.assertTrue(journal.isTableCreated("t2"));
+        Assert.assertFalse(journal.isTableCreated("t3"));
+        Assert.assertEquals(Arrays.asList("id < 10", "id >= 10"), journal.getRanges(setc));
+        journal.dispose();
+    }
+
+    @Test
+    public void testUnsafeUnit() throws Exception {
+        final SourceEntryTableConfig noKey = createTable("t3");
+        final SourceEntryTableConfig badKey = createTable("t4");
+        CheckpointJournal journal = CheckpointJournal.open(file.getAbsolutePath(), false);
+        // The records without a key or an offset are marked before they are imported.
+        UnitCheckpoint checkpoint = journal.getCheckpoint(noKey);
+        long batch = checkpoint.beginBatch();
+        Assert.assertTrue(journal.isUnitUnsafe(noKey));
+        checkpoint.commitBatch(batch);
+
+        checkpoint = journal.getCheckpoint(badKey);
+        checkpoint.setExportedKey(new Object[] {1});
+        checkpoint.commitBatch(checkpoint.beginBatch());
+        Assert.assertFalse(journal.isUnitUnsafe(badKey));
+        checkpoint.setExportedKey(new Object[] {new byte[] {1}});
+        checkpoint.commitBatch(checkpoint.beginBatch());
+        Assert.assertTrue(journal.isUnitUnsafe(badKey));
+        Assert.assertNull(checkpoint.getResumeKey());
+        checkpoint.setExportedKey(new Object[] {3});
+        checkpoint.commitBatch(checkpoint.beginBatch());
+        Assert.assertNull(checkpoint.getResumeKey());
+        journal.dispose();
+
+        journal = CheckpointJournal.open(file.getAbsolutePath(), true);
+        Assert.assertTrue(journal.isUnitUnsafe(noKey));
+        Assert.assertTrue(journal.isUnitUnsafe(badKey));
+        Assert.assertNull(journal.getCheckpoint(badKey).getResumeKey());
+        // The target records were deleted, the unit is migrated again.
+        journal.resetUnit(badKey);
+        Assert.assertFalse(journal.isUnitUnsafe(badKey));
+        checkpoint = journal.getCheckpoint(badKey);
+        checkpoint.setExportedKey(new Object[] {5});
+        checkpoint.commitBatch(checkpoint.beginBatch());
+        checkpoint.exportFinished();
+        journal.dispose();
+
+        journal = CheckpointJournal.open(file.getAbsolutePath(), true);
+        Assert.assertTrue(journal.isUnitUnsafe(noKey));
+        Assert.assertFalse(journal.isUnitUnsafe(badKey));
+        Assert.assertTrue(journal.isUnitDone(badKey));
+        Assert.assertArrayEquals(new Object[] {5}, journal.getCheckpoint(badKey).getResumeKey());
+        journal.dispose();
+    }
+
+    @Test
+    public void testEncodeValue() {
+        Timestamp ts = new Timestamp(1000L);
+        ts.setNanos(123456789);
+        Object[] values = {"s", 1, 2L, (short) 3, new BigDecimal("1.50"), ts};
+        for (Object value : values) {
+            Assert.assertEquals(
+                    value, CheckpointJournal.decodeValue(CheckpointJournal.encodeValue(value)));
+        }
+        Assert.assertNull(CheckpointJournal.encodeValue(new byte[] {1}));
+    }
+}
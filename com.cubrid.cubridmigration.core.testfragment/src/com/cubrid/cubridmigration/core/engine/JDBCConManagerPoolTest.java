@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JDBCConManagerPoolTest {
+
+    @Test
+    public void testTargetPool() throws Exception {
+        MigrationConfiguration config = new MigrationConfiguration();
+        config.setExportThreadCount(1);
+        config.setImportThreadCount(1);
+        JDBCConManager cm =
+                new JDBCConManager(config) {
+                    protected Connection newTargetConnection() throws SQLException {
+                        return createMockConnection();
+                    }
+                };
+        Assert.assertEquals(2, cm.getMaxTarPoolSize());
+
+        Connection con1 = cm.getTargetConnection();
+        PreparedStatement stmt1 = cm.prepareTarStatement(con1, "t1", "insert into t1 values(?)");
+        cm.closeTar(con1);
+        // Reused by the same thread with the cached statement
+        Connection con2 = cm.getTargetConnection();
+        Assert.assertSame(con1, con2);
+        Assert.assertSame(
+                stmt1, cm.prepareTarStatement(con2, "t1", "insert into t1 values(?)"));
+        Connection con3 = cm.getTargetConnection();
+        Assert.assertNotSame(con2, con3);
+        cm.discardTar(con3);
+        Assert.assertTrue(con3.isClosed());
+        cm.closeTar(con2);
+
+        long[] status = cm.getTarPoolStatus();
+        Assert.assertEquals(1, status[0]);
+        Assert.assertEquals(2, status[1]);
+        Assert.assertEquals(1, status[4]);
+        Assert.assertEquals(1, status[5]);
+
+        cm.dispose();
+        Assert.assertTrue(con1.isClosed());
+    }
+
+    private static Connection createMockConnection() {
+        return (Connection)
+                Proxy.newProxyInstance(
+                        JDBCConManagerPoolTest.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        new MockConnectionHandler());
+    }
+
+    /** MockConnectionHandler simulates a JDBC connection without database. */
+    private static class MockConnectionHandler implements InvocationHandler {
+        private boolean closed;
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            final String name = method.getName();
+            if ("close".equals(name)) {
+                closed = true;
+            } else if ("isClosed".equals(name)) {
+                return closed;
+            } else if ("getAutoCommit".equals(name)) {
+                return false;
+            } else if ("prepareStatement".equals(name)) {
+                return Proxy.newProxyInstance(
+                        JDBCConManagerPoolTest.class.getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class},
+                        new MockConnectionHandler());
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            return null;
+        }
+    }
+}
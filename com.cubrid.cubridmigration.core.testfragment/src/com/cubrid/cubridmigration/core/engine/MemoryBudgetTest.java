@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MemoryBudgetTest {
+
+    @Test
+    public void testAcquireAndRelease() throws Exception {
+        final MemoryBudget budget = new MemoryBudget(100);
+        Assert.assertEquals(60, budget.acquire(60));
+        // A request larger than the capacity reserves the whole capacity.
+        Assert.assertEquals(100, new MemoryBudget(100).acquire(1000));
+
+        final long[] reserved = new long[1];
+        Thread producer =
+                new Thread() {
+                    public void run() {
+                        reserved[0] = budget.acquire(50);
+                    }
+                };
+        producer.start();
+        producer.join(200);
+        Assert.assertTrue(producer.isAlive());
+
+        budget.release(60);
+        producer.join(5000);
+        Assert.assertFalse(producer.isAlive());
+        Assert.assertEquals(50, reserved[0]);
+        Assert.assertEquals(50, budget.getAvailable());
+    }
+
+    @Test
+    public void testInterrupt() throws Exception {
+        final MemoryBudget budget = new MemoryBudget(10);
+        budget.acquire(10);
+        Thread producer =
+                new Thread() {
+                    public void run() {
+                        budget.acquire(10);
+                    }
+                };
+        producer.start();
+        budget.interrupt();
+        producer.join(5000);
+        Assert.assertFalse(producer.isAlive());
+    }
+
+    @Test
+    public void testEstimateSize() {
+        List<Record> records = new ArrayList<Record>();
+        Record record = new Record();
+        record.addColumnValue(new Column(), "abc");
+        record.addColumnValue(new Column(), new byte[100]);
+        record.addColumnValue(new Column(), null);
+        records.add(record);
+        records.add(null);
+        Assert.assertEquals(48 + 32 * 3 + 46 + 116, MemoryBudget.estimateSize(records));
+    }
+}
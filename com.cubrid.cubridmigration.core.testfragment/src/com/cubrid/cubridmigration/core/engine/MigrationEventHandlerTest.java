@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
+import com.cubrid.cubridmigration.core.engine.event.ImportRecordsEvent;
+import com.cubrid.cubridmigration.core.engine.event.MigrationEvent;
+import com.cubrid.cubridmigration.core.engine.event.MigrationFinishedEvent;
+import com.cubrid.cubridmigration.core.engine.event.MigrationStartEvent;
+import com.cubrid.cubridmigration.core.engine.event.SingleRecordErrorEvent;
+import com.cubrid.cubridmigration.core.engine.event.SpilledRecordErrorsEvent;
+import com.cubrid.cubridmigration.core.engine.report.IMigrationReporter;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MigrationEventHandlerTest {
+
+    private final List<MigrationEvent> monitorEvents =
+            Collections.synchronizedList(new ArrayList<MigrationEvent>());
+    private final List<MigrationEvent> reporterEvents =
+            Collections.synchronizedList(new ArrayList<MigrationEvent>());
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private MigrationEventHandler createHandler() {
+        final MigrationEventHandler[] handler = new MigrationEventHandler[1];
+        handler[0] =
+                new MigrationEventHandler(
+                        new IMigrationMonitor() {
+                            public void finished() {}
+
+                            public void start() {}
+
+                            public void addEvent(MigrationEvent event) {
+                                monitorEvents.add(event);
+                            }
+                        },
+                        new IMigrationReporter() {
+                            public void finished() {}
+
+                            public void addEvent(MigrationEvent event) {
+                                reporterEvents.add(event);
+                            }
+                        },
+                        new IMigrationBroker() {
+                            public void migrationStopped(boolean isBroken) {
+                                handler[0].dispose();
+                                stopped.countDown();
+                            }
+                        });
+        return handler[0];
+    }
+
+    @Test
+    public void testSumUpRecordCounts() throws Exception {
+        MigrationEventHandler handler = createHandler();
+        SourceTableConfig table = new SourceTableConfig();
+        table.setName("t1");
+        table.setTarget("t1");
+        handler.handleEvent(new MigrationStartEvent());
+        for (int i = 0; i < 1000; i++) {
+            handler.handleEvent(new ExportRecordsEvent(table, 10));
+            handler.handleEvent(new ImportRecordsEvent(table, 10));
+        }
+        handler.handleEvent(new ImportRecordsEvent(table, 10, new Exception("error"), null));
+        handler.handleEvent(new MigrationFinishedEvent(false));
+        Assert.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+
+        int exported = 0;
+        int imported = 0;
+        int importEvents = 0;
+        for (MigrationEvent event : reporterEvents) {
+            if (event instanceof ExportRecordsEvent) {
+                exported += ((ExportRecordsEvent) event).getRecordCount();
+            } else if (event instanceof ImportRecordsEvent) {
+                ImportRecordsEvent ev = (ImportRecordsEvent) event;
+                if (ev.isSuccess()) {
+                    imported += ev.getRecordCount();
+                }
+                importEvents++;
+            }
+        }
+        Assert.assertEquals(10000, exported);
+        Assert.assertEquals(10000, imported);
+        Assert.assertTrue(importEvents < 100);
+        Assert.assertTrue(
+                reporterEvents.get(reporterEvents.size() - 1) instanceof MigrationFinishedEvent);
+        Assert.assertEquals(reporterEvents, monitorEvents);
+    }
+
+    @Test
+    public void testSpillRecordErrors() throws Exception {
+        File dir = new File(System.getProperty("java.io.tmpdir"), "cmt_event_test");
+        CUBRIDIOUtils.clearFileOrDir(dir);
+        dir.mkdirs();
+        MigrationEventHandler handler = createHandler();
+        handler.setErrorFilesDir(dir.getAbsolutePath() + File.separator);
+        Table table = new Table();
+        table.setName("t1");
+        Column column = new Column(table);
+        column.setName("c1");
+        handler.handleEvent(new MigrationStartEvent());
+        for (int i = 0; i < 150; i++) {
+            Record record = new Record();
+            record.addColumnValue(column, i);
+            handler.handleEvent(new SingleRecordErrorEvent(record, new Exception("bad" + i)));
+        }
+        handler.handleEvent(new MigrationFinishedEvent(false));
+        Assert.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+
+        int samples = 0;
+        SpilledRecordErrorsEvent spilled = null;
+        for (MigrationEvent event : reporterEvents) {
+            if (event instanceof SingleRecordErrorEvent) {
+                samples++;
+            } else if (event instanceof SpilledRecordErrorsEvent) {
+                spilled = (SpilledRecordErrorsEvent) event;
+            }
+        }
+        Assert.assertEquals(100, samples);
+        Assert.assertNotNull(spilled);
+        Assert.assertEquals("t1", spilled.getTableName());
+        Assert.assertEquals(50, spilled.getErrorCount());
+        List<?> lines = FileUtils.readLines(new File(spilled.getErrorFile()), "utf-8");
+        Assert.assertEquals(50, lines.size());
+        Assert.assertTrue(lines.get(0).toString().contains("[t1]Error:bad100;Values:[c1:100]"));
+        CUBRIDIOUtils.clearFileOrDir(dir);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.executors.BudgetedExecutor;
+import com.cubrid.cubridmigration.core.engine.executors.ImmediateExecutor;
+import com.cubrid.cubridmigration.core.engine.executors.SingleQueueExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MigrationJobRunnerTest {
+
+    @Test
+    public void testSharedImportBudget() throws Exception {
+        final MigrationJobRunner runner = new MigrationJobRunner(2, 4, 2);
+        final TaskBudget budget = runner.getImportBudget();
+        Assert.assertEquals(2, budget.getCapacity());
+        Assert.assertEquals(2, runner.getExportThreadShare());
+
+        final Object job1 = new Object();
+        final Object job2 = new Object();
+        SingleQueueExecutor exe1 = new SingleQueueExecutor(3, false);
+        SingleQueueExecutor exe2 = new SingleQueueExecutor(3, false);
+        BudgetedExecutor budgeted1 = new BudgetedExecutor(exe1, budget, job1);
+        BudgetedExecutor budgeted2 = new BudgetedExecutor(exe2, budget, job2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger done1 = new AtomicInteger();
+        final AtomicInteger done2 = new AtomicInteger();
+        try {
+            for (int i = 0; i < 6; i++) {
+                budgeted1.execute(createTask(running, maxRunning, done1));
+                budgeted2.execute(createTask(running, maxRunning, done2));
+            }
+            long end = System.currentTimeMillis() + 10000;
+            while ((done1.get() < 6 || done2.get() < 6) && System.currentTimeMillis() < end) {
+                Thread.sleep(20);
+            }
+            Assert.assertEquals(6, done1.get());
+            Assert.assertEquals(6, done2.get());
+            Assert.assertTrue(maxRunning.get() <= 2);
+            Assert.assertEquals(0, budget.getUsed(job1));
+            Assert.assertEquals(0, budget.getUsed(job2));
+        } finally {
+            budgeted1.dispose();
+            budgeted2.dispose();
+        }
+    }
+
+    @Test
+    public void testInterruptedTaskRejected() throws Exception {
+        final TaskBudget budget = new MigrationJobRunner(1, 1, 1).getImportBudget();
+        final Object job1 = new Object();
+        Assert.assertTrue(budget.acquire(job1));
+        final BudgetedExecutor budgeted =
+                new BudgetedExecutor(new ImmediateExecutor(), budget, new Object());
+        final AtomicInteger done = new AtomicInteger();
+        final boolean[] interrupted = new boolean[1];
+        Thread waiter =
+                new Thread() {
+                    public void run() {
+                        budgeted.execute(
+                                createTask(new AtomicInteger(), new AtomicInteger(), done));
+                        interrupted[0] = Thread.currentThread().isInterrupted();
+                    }
+                };
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+        waiter.join(5000);
+        Assert.assertFalse(waiter.isAlive());
+        // The task is not run and the interrupt status is kept for the caller.
+        Assert.assertEquals(0, done.get());
+        Assert.assertTrue(interrupted[0]);
+        budget.release(job1);
+    }
+
+    @Test
+    public void testExclusiveRefusedWhileRunning() {
+        Assert.assertTrue(MigrationProcessManager.startRunning(false));
+        try {
+            // An exclusive migration can't start while a shared one is running.
+            Assert.assertFalse(MigrationProcessManager.startRunning(true));
+            Assert.assertTrue(MigrationProcessManager.startRunning(false));
+            MigrationProcessManager.stopRunning(false);
+        } finally {
+            MigrationProcessManager.stopRunning(false);
+        }
+
+        Assert.assertTrue(MigrationProcessManager.startRunning(true));
+        try {
+            // Nothing can start while an exclusive migration is running.
+            Assert.assertFalse(MigrationProcessManager.startRunning(false));
+            Assert.assertFalse(MigrationProcessManager.startRunning(true));
+        } finally {
+            MigrationProcessManager.stopRunning(true);
+        }
+        Assert.assertTrue(MigrationProcessManager.startRunning(true));
+        MigrationProcessManager.stopRunning(true);
+    }
+
+    private static Runnable createTask(
+            final AtomicInteger running, final AtomicInteger maxRunning, final AtomicInteger done) {
+        return new Runnable() {
+            public void run() {
+                int count = running.incrementAndGet();
+                synchronized (maxRunning) {
+                    maxRunning.set(Math.max(maxRunning.get(), count));
+                }
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.incrementAndGet();
+                }
+            }
+        };
+    }
+}
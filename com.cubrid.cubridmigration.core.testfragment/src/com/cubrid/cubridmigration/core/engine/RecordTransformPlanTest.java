@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.connection.ConnParameters;
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.MigrationEvent;
+import com.cubrid.cubridmigration.cubrid.stmt.CUBRIDParameterSetter;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RecordTransformPlanTest {
+
+    private static Table createTable(String name, String... columns) {
+        Table table = new Table();
+        table.setName(name);
+        for (String colName : columns) {
+            Column col = new Column(table);
+            col.setName(colName);
+            col.setJdbcIDOfDataType(Types.VARCHAR);
+            table.addColumn(col);
+        }
+        return table;
+    }
+
+    @Test
+    public void testRecordTransformPlan() {
+        MigrationConfiguration config = new MigrationConfiguration();
+        ConnParameters srcConn =
+                ConnParameters.getConParam(
+                        "src", "", 8080, "", DatabaseType.CUBRID, "", "", "", "", null);
+        srcConn.setCharset("UTF-8");
+        config.setSourceConParams(srcConn);
+        Table st = createTable("src", "id", "name", "memo");
+        Table tt = createTable("tar", "tid", "tname");
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setName("src");
+        setc.setTarget("tar");
+        setc.addColumnConfig("id", "tid", true);
+        setc.addColumnConfig("name", "tname", true);
+        setc.addColumnConfig("memo", "tmemo", true);
+
+        RecordTransformPlan plan =
+                new RecordTransformPlan(config, setc, st, tt, new CUBRIDParameterSetter(config));
+        Assert.assertEquals(3, plan.getColumnCount());
+        Assert.assertSame(st.getColumnByName("name"), plan.getSourceColumn(1));
+        Assert.assertSame(tt.getColumnByName("tname"), plan.getTargetColumn(1));
+        Assert.assertNull(plan.getTargetColumn(2));
+        Assert.assertNotNull(plan.getSetterHandlers()[0]);
+        Assert.assertNull(plan.getSetterHandlers()[2]);
+        Assert.assertEquals(2, plan.getResultSetIndex(1));
+
+        Record record = new Record();
+        record.addColumnValue(st.getColumnByName("id"), 1);
+        record.addColumnValue(st.getColumnByName("name"), "a");
+        Assert.assertEquals(1, plan.indexOf(record.getColumnValueList().get(1), 1));
+        Assert.assertNull(plan.getRecordMap(record));
+
+        // Records built without plan are matched by column name.
+        Column other = new Column();
+        other.setName("memo");
+        record = new Record();
+        record.addColumnValue(other, "b");
+        Assert.assertEquals(2, plan.indexOf(record.getColumnValueList().get(0), 0));
+        other.setName("none");
+        Assert.assertEquals(-1, plan.indexOf(record.getColumnValueList().get(0), 0));
+    }
+
+    @Test
+    public void testResolvedHandlersAndConverters() {
+        MigrationConfiguration config = new MigrationConfiguration();
+        Table st = createTable("src", "id", "name");
+        Table tt = createTable("tar", "tid", "tname");
+        tt.getColumnByName("tname").setDataType("varchar");
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setName("src");
+        setc.setTarget("tar");
+        setc.addColumnConfig("id", "tid", true);
+        setc.addColumnConfig("name", "tname", true);
+        SourceColumnConfig scc = setc.getColumnConfig("name");
+        scc.setNeedTrim(true);
+        scc.setReplaceExpression("a:b");
+
+        RecordTransformPlan plan = new RecordTransformPlan(config, setc, st, tt, null);
+        Assert.assertNotNull(plan.getExportDataHandlers()[0]);
+        Assert.assertNotNull(plan.getExportDataHandlers()[1]);
+        Column name = st.getColumnByName("name");
+        Assert.assertEquals("b", plan.convert(1, null, name, " a "));
+        Assert.assertEquals("c", plan.convert(1, null, name, "c "));
+        Assert.assertNull(plan.convert(1, null, name, null));
+    }
+
+    @Test
+    public void testTransformBatch() {
+        MigrationConfiguration config = new MigrationConfiguration();
+        Table st = createTable("src", "id", "name");
+        Table tt = createTable("tar", "tid", "tname");
+        st.getColumnByName("id").setJdbcIDOfDataType(Types.INTEGER);
+        tt.getColumnByName("tid").setDataType("integer");
+        tt.getColumnByName("tname").setDataType("varchar");
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setName("src");
+        setc.setTarget("tar");
+        setc.addColumnConfig("id", "tid", true);
+        setc.addColumnConfig("name", "tname", true);
+        setc.getColumnConfig("name").setNeedTrim(true);
+        RecordTransformPlan plan = new RecordTransformPlan(config, setc, st, tt, null);
+
+        RecordBatch batch = plan.createRecordBatch(2);
+        Assert.assertTrue(plan.isTransformable(batch));
+        int row = batch.addRow();
+        batch.setInt(row, 0, 7);
+        batch.setValue(row, 1, " a ");
+        row = batch.addRow();
+        batch.setValue(row, 1, "b");
+
+        final List<MigrationEvent> events = new ArrayList<MigrationEvent>();
+        IMigrationEventHandler handler =
+                new IMigrationEventHandler() {
+                    public void handleEvent(MigrationEvent event) {
+                        events.add(event);
+                    }
+
+                    public void dispose() {}
+                };
+        boolean[] failed = new boolean[batch.size()];
+        RecordBatch result = plan.transform(batch, failed, handler);
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertFalse(failed[0] || failed[1]);
+        Assert.assertSame(tt.getColumnByName("tid"), result.getColumn(0));
+        // The int values are copied to the target without being boxed.
+        Assert.assertEquals(RecordBatch.KIND_INT, result.getKind(0));
+        Assert.assertEquals(7, result.getInt(0, 0));
+        Assert.assertTrue(result.isNull(1, 0));
+        Assert.assertEquals("a", result.getValue(0, 1));
+        Assert.assertEquals("b", result.getValue(1, 1));
+
+        // The batches of other columns can't be transformed column by column.
+        Assert.assertFalse(plan.isTransformable(new RecordBatch(new Column[2], 1)));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TaskBudgetTest {
+
+    @Test
+    public void testFairness() throws Exception {
+        final TaskBudget budget = new TaskBudget(2);
+        final Object job1 = new Object();
+        final Object job2 = new Object();
+        Assert.assertTrue(budget.acquire(job1));
+        Assert.assertTrue(budget.acquire(job1));
+        Assert.assertEquals(2, budget.getUsed(job1));
+
+        final List<Object> granted = Collections.synchronizedList(new ArrayList<Object>());
+        Thread waiter1 = waitFor(budget, job1, granted);
+        // Make sure the waiter of job1 is the earlier one.
+        Thread.sleep(100);
+        Thread waiter2 = waitFor(budget, job2, granted);
+        Thread.sleep(100);
+        Assert.assertTrue(granted.isEmpty());
+
+        // job2 holds no slot, so it gets the free slot even it came later.
+        budget.release(job1);
+        waiter2.join(5000);
+        Assert.assertFalse(waiter2.isAlive());
+        Assert.assertTrue(waiter1.isAlive());
+        Assert.assertEquals(job2, granted.get(0));
+
+        budget.release(job1);
+        waiter1.join(5000);
+        Assert.assertFalse(waiter1.isAlive());
+        Assert.assertEquals(job1, granted.get(1));
+        Assert.assertEquals(1, budget.getUsed(job1));
+        Assert.assertEquals(1, budget.getUsed(job2));
+    }
+
+    @Test
+    public void testInterrupt() throws Exception {
+        final TaskBudget budget = new TaskBudget(1);
+        final Object job = new Object();
+        Assert.assertTrue(budget.acquire(job));
+        final boolean[] result = new boolean[] {true};
+        Thread waiter =
+                new Thread() {
+                    public void run() {
+                        result[0] = budget.acquire(job);
+                    }
+                };
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+        waiter.join(5000);
+        Assert.assertFalse(waiter.isAlive());
+        Assert.assertFalse(result[0]);
+        Assert.assertEquals(1, budget.getUsed(job));
+        // Releasing more than reserved is ignored.
+        budget.release(job);
+        budget.release(job);
+        Assert.assertEquals(0, budget.getUsed(job));
+    }
+
+    private static Thread waitFor(
+            final TaskBudget budget, final Object owner, final List<Object> granted) {
+        Thread thread =
+                new Thread() {
+                    public void run() {
+                        if (budget.acquire(owner)) {
+                            granted.add(owner);
+                        }
+                    }
+                };
+        thread.start();
+        return thread;
+    }
+}
@@ -86,4 +86,22 @@ public class SourceEntryTableConfigTest {
         setc.setCondition(null);
         Assert.assertNotNull(setc.getCondition());
     }
+
+    @Test
+    public void testSourceTableRangeConfig() {
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setName("t1");
+        setc.setTarget("t2");
+        setc.addColumnConfig("f1", "f1", true);
+        setc.setCondition("where f2=1 or f2=2;");
+        Assert.assertEquals("f2=1 or f2=2", setc.getConditionBody());
+
+        SourceTableRangeConfig range = new SourceTableRangeConfig(setc, "f1>=100", 1, 3);
+        Assert.assertEquals("t1", range.getName());
+        Assert.assertEquals("t2", range.getTarget());
+        Assert.assertSame(setc, range.getColumnConfig("f1").getParent());
+        Assert.assertEquals("(f2=1 or f2=2) AND f1>=100", range.getCondition());
+        setc.setCondition(null);
+        Assert.assertEquals("f1>=100", range.getCondition());
+    }
 }
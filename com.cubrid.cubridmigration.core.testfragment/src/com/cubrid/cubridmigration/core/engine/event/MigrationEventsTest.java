@@ -160,4 +160,17 @@ public class MigrationEventsTest {
         event = new MigrationFinishedEvent(false);
         Assert.assertTrue(event.toString().length() > 0);
     }
+
+    @Test
+    public void testExportBlockedEvent() {
+        SourceTableConfig sourceTable = new SourceTableConfig();
+        sourceTable.setName("test");
+        ExportBlockedEvent event = new ExportBlockedEvent(sourceTable, 1500, 8);
+        Assert.assertEquals(1500, event.getBlockedTime());
+        Assert.assertEquals(8, event.getMaxPendingBatches());
+        Assert.assertEquals(
+                "Exporting of table[test] was blocked 1500ms by the memory budget,"
+                        + " max pending batches 8.",
+                event.toString());
+    }
 }
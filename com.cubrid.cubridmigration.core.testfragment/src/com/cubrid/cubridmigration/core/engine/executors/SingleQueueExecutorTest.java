@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.executors;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SingleQueueExecutorTest {
+
+    @Test
+    public void testExecuteWithLimitedTasks() throws Exception {
+        final SingleQueueExecutor executor = new SingleQueueExecutor(1, true);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final int total = 10;
+        final CountDownLatch finished = new CountDownLatch(total);
+        Thread producer =
+                new Thread() {
+                    public void run() {
+                        for (int i = 0; i < total; i++) {
+                            executor.execute(
+                                    new Runnable() {
+                                        public void run() {
+                                            try {
+                                                blocker.await();
+                                            } catch (InterruptedException e) {
+                                                return;
+                                            }
+                                            finished.countDown();
+                                        }
+                                    });
+                        }
+                    }
+                };
+        producer.start();
+        producer.join(200);
+        // The producer is blocked because of too many tasks.
+        Assert.assertTrue(producer.isAlive());
+        Assert.assertTrue(executor.isBusy());
+
+        blocker.countDown();
+        Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        producer.join(5000);
+        Assert.assertFalse(producer.isAlive());
+        executor.dispose();
+    }
+
+    @Test
+    public void testExecuteWithMaxTaskCount() throws Exception {
+        final SingleQueueExecutor executor = new SingleQueueExecutor(1, 5);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(7);
+        final int[] submitted = new int[1];
+        Thread producer =
+                new Thread() {
+                    public void run() {
+                        for (int i = 0; i < 7; i++) {
+                            executor.execute(
+                                    new Runnable() {
+                                        public void run() {
+                                            try {
+                                                blocker.await();
+                                            } catch (InterruptedException e) {
+                                                return;
+                                            }
+                                            finished.countDown();
+                                        }
+                                    });
+                            synchronized (submitted) {
+                                submitted[0]++;
+                            }
+                        }
+                    }
+                };
+        producer.start();
+        producer.join(200);
+        // The producer waits after 5 tasks are submitted and not finished.
+        Assert.assertTrue(producer.isAlive());
+        synchronized (submitted) {
+            Assert.assertEquals(5, submitted[0]);
+        }
+
+        blocker.countDown();
+        Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        producer.join(5000);
+        Assert.assertFalse(producer.isAlive());
+        executor.dispose();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer;
+
+import com.cubrid.cubridmigration.core.engine.importer.DataFileAppender.DataBuffer;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DataFileAppenderTest {
+
+    @Test
+    public void testAppendInParallel() throws Exception {
+        final File file = File.createTempFile("cmt_appender", ".txt");
+        file.delete();
+        final DataFileAppender appender = new DataFileAppender();
+        final int threadCount = 4;
+        final int batchCount = 50;
+        final int linesPerBatch = 20;
+        Thread[] threads = new Thread[threadCount];
+        final Exception[] errors = new Exception[1];
+        for (int t = 0; t < threadCount; t++) {
+            final int tid = t;
+            threads[t] =
+                    new Thread() {
+                        public void run() {
+                            try {
+                                for (int b = 0; b < batchCount; b++) {
+                                    DataBuffer data = appender.borrowBuffer();
+                                    for (int i = 0; i < linesPerBatch; i++) {
+                                        data.write((tid + "-" + b + "\n").getBytes("utf-8"));
+                                    }
+                                    appender.append(file.getPath(), data);
+                                    appender.returnBuffer(data);
+                                    if (b == batchCount / 2) {
+                                        appender.close(file.getPath());
+                                    }
+                                }
+                            } catch (Exception ex) {
+                                errors[0] = ex;
+                            }
+                        }
+                    };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.dispose();
+        Assert.assertNull(errors[0]);
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        Set<String> batches = new HashSet<String>();
+        try {
+            String line = reader.readLine();
+            while (line != null) {
+                // The lines of a batch should not be separated by other batches.
+                for (int i = 1; i < linesPerBatch; i++) {
+                    Assert.assertEquals(line, reader.readLine());
+                }
+                Assert.assertTrue(batches.add(line));
+                line = reader.readLine();
+            }
+        } finally {
+            reader.close();
+            file.delete();
+        }
+        Assert.assertEquals(threadCount * batchCount, batches.size());
+    }
+
+    @Test
+    public void testBufferPool() {
+        DataFileAppender appender = new DataFileAppender();
+        DataBuffer data = appender.borrowBuffer();
+        data.write(1);
+        appender.returnBuffer(data);
+        DataBuffer data2 = appender.borrowBuffer();
+        Assert.assertSame(data, data2);
+        Assert.assertEquals(0, data2.size());
+        appender.dispose();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer;
+
+import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LobPackTest {
+
+    private static byte[] read(InputStream in) throws Exception {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[100];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testPackAndUnpack() throws Exception {
+        File dir = File.createTempFile("cmt_lobpack", "");
+        dir.delete();
+        try {
+            byte[] blob = new byte[1000];
+            for (int i = 0; i < blob.length; i++) {
+                blob[i] = (byte) i;
+            }
+            String clob = "clob 中文 value";
+
+            LobPackWriter writer = new LobPackWriter(dir, "t1");
+            Assert.assertEquals(1000, writer.append("1/1/t1.1", blob));
+            Assert.assertEquals(clob.getBytes("utf-8").length, writer.append("1/1/t1.2", clob));
+            writer.close();
+            // Reopened pack appends to the existing segment.
+            writer = new LobPackWriter(dir, "t1");
+            Assert.assertEquals(3, writer.append("1/2/t1.3", new ByteArrayInputStream(blob, 0, 3)));
+            writer.close();
+
+            File[] files = dir.listFiles();
+            Assert.assertEquals(2, files.length);
+
+            LobPackReader reader = new LobPackReader(LobPackWriter.getIndexFile(dir, "t1"));
+            Assert.assertEquals(3, reader.getEntries().size());
+            LobPackReader.Entry entry = reader.getEntry("1/1/t1.2");
+            Assert.assertEquals(1000, entry.getOffset());
+            Assert.assertEquals(clob, new String(read(reader.open(entry)), "utf-8"));
+            Assert.assertArrayEquals(blob, read(reader.open(reader.getEntry("1/1/t1.1"))));
+
+            File target = new File(dir, "unpacked");
+            Assert.assertEquals(3, reader.unpack(target));
+            Assert.assertArrayEquals(blob, read(new FileInputStream(new File(target, "1/1/t1.1"))));
+            byte[] unpacked = read(new FileInputStream(new File(target, "1/1/t1.2")));
+            Assert.assertEquals(clob, new String(unpacked, "utf-8"));
+            Assert.assertEquals(3, new File(target, "1/2/t1.3").length());
+        } finally {
+            CUBRIDIOUtils.clearFileOrDir(dir);
+        }
+    }
+}
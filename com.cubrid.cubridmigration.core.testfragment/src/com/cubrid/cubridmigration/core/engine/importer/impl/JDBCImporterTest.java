@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer.impl;
+
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JDBCImporterTest {
+
+    /** Fails the parts which contain a bad record, like a batch rolled back by the database. */
+    private static class MockBisector extends JDBCImporter.BatchBisector {
+
+        private final Set<Record> badRecords =
+                Collections.newSetFromMap(new IdentityHashMap<Record, Boolean>());
+        private int executeCount;
+
+        protected int importRecords(List<Record> records) throws SQLException {
+            executeCount++;
+            for (Record rec : records) {
+                if (badRecords.contains(rec)) {
+                    throw new SQLException("Unique key violation", "23000", -670);
+                }
+            }
+            return records.size();
+        }
+    }
+
+    private static List<Record> createRecords(int count) {
+        List<Record> records = new ArrayList<Record>();
+        for (int i = 0; i < count; i++) {
+            records.add(new Record());
+        }
+        return records;
+    }
+
+    @Test
+    public void testSingleBadRecord() {
+        List<Record> records = createRecords(8);
+        MockBisector bisector = new MockBisector();
+        bisector.badRecords.add(records.get(3));
+        Assert.assertEquals(7, bisector.bisect(records, 10));
+        Assert.assertEquals(1, bisector.getErrorRecords().size());
+        Assert.assertSame(records.get(3), bisector.getErrorRecords().get(0));
+        Assert.assertNull(bisector.getConnectError());
+        // 2 halves, 2 quarters and 2 single records
+        Assert.assertEquals(6, bisector.executeCount);
+    }
+
+    @Test
+    public void testDepthLimit() {
+        List<Record> records = createRecords(8);
+        MockBisector bisector = new MockBisector();
+        bisector.badRecords.add(records.get(3));
+        Assert.assertEquals(4, bisector.bisect(records, 1));
+        Assert.assertEquals(records.subList(0, 4), bisector.getErrorRecords());
+        Assert.assertEquals(2, bisector.executeCount);
+
+        bisector = new MockBisector();
+        Assert.assertEquals(0, bisector.bisect(records, 0));
+        Assert.assertEquals(8, bisector.getErrorRecords().size());
+        Assert.assertEquals(0, bisector.executeCount);
+    }
+
+    @Test
+    public void testAllRecordsFailed() {
+        List<Record> records = createRecords(5);
+        MockBisector bisector = new MockBisector();
+        bisector.badRecords.addAll(records);
+        Assert.assertEquals(0, bisector.bisect(records, 10));
+        Assert.assertEquals(5, bisector.getErrorRecords().size());
+        Assert.assertTrue(bisector.getErrorRecords().containsAll(records));
+    }
+
+    @Test
+    public void testConnectionCutDown() {
+        List<Record> records = createRecords(4);
+        MockBisector bisector =
+                new MockBisector() {
+                    protected int importRecords(List<Record> records) throws SQLException {
+                        throw new SQLException(
+                                "Cannot communicate with the broker", "08S01", -21003);
+                    }
+                };
+        Assert.assertEquals(0, bisector.bisect(records, 10));
+        Assert.assertNotNull(bisector.getConnectError());
+        Assert.assertEquals(4, bisector.getErrorRecords().size());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.report;
+
+import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
+import com.cubrid.cubridmigration.core.common.PathUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+import junit.framework.Assert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MigrationHistoryIndexTest {
+
+    private File workspace;
+
+    @Before
+    public void before() {
+        workspace =
+                new File(System.getProperty("java.io.tmpdir"), "cmt_his_" + System.nanoTime());
+        PathUtils.initPaths(null, new File(workspace, "tmp").getPath(), workspace.getPath());
+    }
+
+    @After
+    public void after() {
+        CUBRIDIOUtils.clearFileOrDir(workspace);
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        MigrationReport report = createHistory("test.mh");
+        MigrationReport loaded = MigrationReportFileUtils.loadReport("test.mh");
+        Assert.assertEquals(1, loaded.getRecMigResults().size());
+
+        List<MigrationBriefReport> briefs = MigrationHistoryIndex.getBriefs();
+        Assert.assertEquals(1, briefs.size());
+        Assert.assertEquals("test.mh", briefs.get(0).getHistoryFile());
+        Assert.assertEquals("script1", briefs.get(0).getScriptName());
+        Assert.assertEquals(MigrationBriefReport.MS_FAILED, briefs.get(0).getStatus());
+        Assert.assertEquals(100, briefs.get(0).getStartTime());
+
+        MigrationHistoryIndex.addHistory("test.mh", report);
+        Properties index = loadIndex();
+        Assert.assertEquals("1", index.getProperty("test.mh/tables"));
+        List<RecordMigrationResult> tables = MigrationHistoryIndex.getTableSummaries("test.mh");
+        Assert.assertEquals(1, tables.size());
+        Assert.assertNull(tables.get(0).getSrcSchema());
+        Assert.assertEquals("src tbl", tables.get(0).getSource());
+        Assert.assertEquals("tgt", tables.get(0).getTarget());
+        Assert.assertEquals(10, tables.get(0).getTotalCount());
+        Assert.assertEquals(9, tables.get(0).getExpCount());
+        Assert.assertEquals(8, tables.get(0).getImpCount());
+
+        PathUtils.deleteFile(new File(PathUtils.getReportDir() + "test.mh"));
+        Assert.assertTrue(MigrationHistoryIndex.getBriefs().isEmpty());
+        Assert.assertTrue(loadIndex().isEmpty());
+    }
+
+    @Test
+    public void testTableSummariesOfNotIndexedHistory() throws Exception {
+        createHistory("test2.mh");
+        List<RecordMigrationResult> tables = MigrationHistoryIndex.getTableSummaries("test2.mh");
+        Assert.assertEquals(1, tables.size());
+        Assert.assertEquals("1", loadIndex().getProperty("test2.mh/tables"));
+        Assert.assertEquals("script1", loadIndex().getProperty("test2.mh/name"));
+    }
+
+    @Test
+    public void testSaveIndexWithStaleTempFile() throws Exception {
+        // A temporary file left by a broken process doesn't stop the index from being saved.
+        File stale = new File(PathUtils.getReportDir() + MigrationHistoryIndex.INDEX_FILE + ".tmp");
+        PathUtils.createFile(stale);
+        createHistory("test3.mh");
+        Assert.assertEquals(1, MigrationHistoryIndex.getBriefs().size());
+        Assert.assertEquals("script1", loadIndex().getProperty("test3.mh/name"));
+        String[] files = new File(PathUtils.getReportDir()).list();
+        Assert.assertEquals(3, files.length);
+    }
+
+    private static MigrationReport createHistory(String mhFile) throws Exception {
+        MigrationBriefReport brief = new MigrationBriefReport();
+        brief.setScriptName("script1");
+        brief.setStatus(MigrationBriefReport.MS_FAILED);
+        brief.setStartTime(100);
+        brief.setEndTime(200);
+        MigrationReport report = new MigrationReport();
+        report.setBrief(brief);
+        RecordMigrationResult rmr = new RecordMigrationResult();
+        rmr.setSource("src tbl");
+        rmr.setTarget("tgt");
+        rmr.setTotalCount(10);
+        rmr.setExpCount(9);
+        rmr.setImpCount(8);
+        report.getRecMigResults().add(rmr);
+
+        String briefFile = PathUtils.getReportDir() + "test" + MigrationBriefReport.EX_BRIEF;
+        brief.save2BriefFile(briefFile);
+        String reportFile = PathUtils.getReportDir() + "test" + IMigrationReporter.REPORT_FILE_EX;
+        report.save2ReportFile(reportFile);
+        CUBRIDIOUtils.zip(
+                PathUtils.getReportDir() + mhFile, new String[] {briefFile, reportFile}, true);
+        return report;
+    }
+
+    private static Properties loadIndex() throws Exception {
+        Properties index = new Properties();
+        InputStream in =
+                new FileInputStream(PathUtils.getReportDir() + MigrationHistoryIndex.INDEX_FILE);
+        try {
+            index.load(in);
+        } finally {
+            in.close();
+        }
+        return index;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.report;
+
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.EndExpTableEvent;
+import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.Assert;
+import org.junit.Test;
+
+public class MigrationReportEventsTest {
+
+    @Test
+    public void testEstimatedTotalCount() {
+        RecordMigrationResult result = new RecordMigrationResult();
+        result.setSrcSchema("dba");
+        result.setSource("t1");
+        result.setTarget("t1");
+        result.setTotalCount(1000);
+        result.setTotalCountEstimated(true);
+        List<RecordMigrationResult> results = new ArrayList<RecordMigrationResult>();
+        results.add(result);
+        MigrationReport report = new MigrationReport();
+        report.setRecMigResults(results);
+
+        SourceTableConfig stc = new SourceTableConfig();
+        stc.setOwner("dba");
+        stc.setName("t1");
+        stc.setTarget("t1");
+        report.addExpMigRecResult(new ExportRecordsEvent(stc, 950));
+        Assert.assertEquals(1000, result.getTotalCount());
+        Assert.assertTrue(result.isTotalCountEstimated());
+
+        report.addEndExpTableEvent(new EndExpTableEvent(stc));
+        Assert.assertEquals(950, result.getTotalCount());
+        Assert.assertFalse(result.isTotalCountEstimated());
+        Assert.assertEquals(950, result.getExpCount());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.scheduler;
+
+import com.cubrid.cubridmigration.core.engine.executors.PriorityExecutor;
+import com.cubrid.cubridmigration.core.engine.executors.WorkStealingExecutor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TaskGraphTest {
+
+    private static Runnable record(final List<String> done, final String name) {
+        return new Runnable() {
+            public void run() {
+                done.add(name);
+            }
+        };
+    }
+
+    @Test
+    public void testDependencies() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(4);
+        try {
+            final List<String> done = Collections.synchronizedList(new ArrayList<String>());
+            TaskGraph graph = new TaskGraph(executor);
+            TaskGraph.Node dataA = graph.addNode("Data a", null);
+            TaskGraph.Node dataB = graph.addNode("Data b", null);
+            TaskGraph.Node idxA = graph.addNode("Index a", record(done, "Index a"));
+            TaskGraph.Node idxB = graph.addNode("Index b", record(done, "Index b"));
+            TaskGraph.Node fkA = graph.addNode("FK a", record(done, "FK a"));
+            graph.addDependency(idxA, dataA);
+            graph.addDependency(idxB, dataB);
+            graph.addDependency(fkA, idxA);
+            graph.addDependency(fkA, idxB);
+            graph.start();
+
+            // The index of a can be created before the data of b is migrated.
+            graph.finish(dataA);
+            Assert.assertFalse(graph.waitFor(200));
+            Assert.assertEquals(Collections.singletonList("Index a"), done);
+
+            graph.finish(dataB);
+            Assert.assertTrue(graph.waitFor(5000));
+            Assert.assertEquals(3, done.size());
+            Assert.assertEquals("FK a", done.get(2));
+        } finally {
+            executor.dispose();
+        }
+    }
+
+    @Test
+    public void testFinishExternalNodes() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(2);
+        try {
+            final List<String> done = Collections.synchronizedList(new ArrayList<String>());
+            TaskGraph graph = new TaskGraph(executor);
+            TaskGraph.Node data = graph.addNode("Data a", null);
+            // The data is finished before the graph started.
+            graph.finish(data);
+            TaskGraph.Node other = graph.addNode("Data b", null);
+            TaskGraph.Node pk = graph.addNode("PK b", record(done, "PK b"));
+            graph.addDependency(pk, other);
+            graph.start();
+            Assert.assertFalse(graph.waitFor(100));
+
+            graph.finishExternalNodes();
+            Assert.assertTrue(graph.waitFor(5000));
+            Assert.assertEquals(Collections.singletonList("PK b"), done);
+            Assert.assertFalse(graph.isBroken());
+        } finally {
+            executor.dispose();
+        }
+    }
+
+    @Test
+    public void testBroken() throws Exception {
+        WorkStealingExecutor executor = new WorkStealingExecutor(1);
+        executor.interrupt();
+        TaskGraph graph = new TaskGraph(executor);
+        graph.addNode("Index a", record(new ArrayList<String>(), "Index a"));
+        graph.start();
+        Assert.assertTrue(graph.isBroken());
+        Assert.assertFalse(graph.waitFor(100));
+    }
+
+    @Test
+    public void testWeights() throws Exception {
+        PriorityExecutor executor = new PriorityExecutor(1);
+        try {
+            final List<String> done = Collections.synchronizedList(new ArrayList<String>());
+            final CountDownLatch latch = new CountDownLatch(1);
+            TaskGraph graph = new TaskGraph(executor);
+            // The only thread is blocked until all the other tasks are ready.
+            graph.addNode(
+                    "Blocker",
+                    new Runnable() {
+                        public void run() {
+                            try {
+                                latch.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+            List<TaskGraph.Node> data = new ArrayList<TaskGraph.Node>();
+            String[] names = {"Index small", "Index big", "Index medium"};
+            long[] weights = {10, 100000, 500};
+            for (int i = 0; i < names.length; i++) {
+                TaskGraph.Node dn = graph.addNode("Data " + i, null);
+                TaskGraph.Node idx = graph.addNode(names[i], record(done, names[i]), weights[i]);
+                graph.addDependency(idx, dn);
+                data.add(dn);
+            }
+            graph.start();
+            for (TaskGraph.Node dn : data) {
+                graph.finish(dn);
+            }
+            latch.countDown();
+            Assert.assertTrue(graph.waitFor(5000));
+            Assert.assertEquals(Arrays.asList("Index big", "Index medium", "Index small"), done);
+        } finally {
+            executor.dispose();
+        }
+    }
+}
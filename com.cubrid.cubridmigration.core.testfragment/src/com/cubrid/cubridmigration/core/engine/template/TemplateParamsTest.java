@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.template;
+
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import java.io.File;
+import java.io.InputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TemplateParamsTest {
+
+    @Test
+    public void testSaveParams() throws Exception {
+        InputStream is =
+                TemplateParamsTest.class.getResourceAsStream(
+                        "/com/cubrid/cubridmigration/scripts/cmt_template_test.xml");
+        MigrationConfiguration config = MigrationTemplateParser.parse(is);
+        Assert.assertEquals(0, config.getErrorBisectDepth());
+        Assert.assertTrue(config.isAdaptiveBatchSize());
+        Assert.assertEquals(50, config.getMinBatchSize());
+        config.setErrorBisectDepth(6);
+        config.setAdaptiveBatchSize(false);
+        config.setMinBatchSize(20);
+        config.setMaxBatchSize(8000);
+        config.setBatchTargetLatency(500);
+        config.setMaxBatchBytes(1024 * 1024);
+        config.setDdlThreadCount(3);
+        config.setExactRowCount(true);
+        config.setRowCountThreadCount(2);
+
+        File file = File.createTempFile("cmt_template_test_out", ".xml");
+        try {
+            MigrationTemplateParser.save(config, file.getAbsolutePath(), false);
+            config = MigrationTemplateParser.parse(file.getAbsolutePath());
+        } finally {
+            file.delete();
+        }
+        Assert.assertEquals(6, config.getErrorBisectDepth());
+        Assert.assertFalse(config.isAdaptiveBatchSize());
+        Assert.assertEquals(20, config.getMinBatchSize());
+        Assert.assertEquals(8000, config.getMaxBatchSize());
+        Assert.assertEquals(500, config.getBatchTargetLatency());
+        Assert.assertEquals(1024 * 1024, config.getMaxBatchBytes());
+        Assert.assertEquals(3, config.getDdlThreadCount());
+        Assert.assertTrue(config.isExactRowCount());
+        Assert.assertEquals(2, config.getRowCountThreadCount());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CSVChunkReaderTest {
+
+    private static List<String[]> tokenize(String text, char escape) {
+        final List<String[]> result = new ArrayList<String[]>();
+        new CSVTokenizer(',', '"', escape)
+                .tokenize(
+                        text.toCharArray(),
+                        0,
+                        text.length(),
+                        new CSVTokenizer.IRecordHandler() {
+                            public void handleRecord(String[] fields) {
+                                result.add(fields);
+                            }
+                        });
+        return result;
+    }
+
+    @Test
+    public void testTokenize() {
+        List<String[]> result =
+                tokenize("a,\"b,\r\nc\",d\r\n\"e\"\"f\",g\\\"h\n\ni,\"j\\\"k\",", '\\');
+        Assert.assertEquals(4, result.size());
+        Assert.assertArrayEquals(new String[] {"a", "b,\nc", "d"}, result.get(0));
+        Assert.assertArrayEquals(new String[] {"e\"f", "g\"h"}, result.get(1));
+        Assert.assertArrayEquals(new String[] {""}, result.get(2));
+        Assert.assertArrayEquals(new String[] {"i", "j\"k", ""}, result.get(3));
+
+        // The unclosed quoted section at the end is dropped.
+        result = tokenize("a,\"b", '\0');
+        Assert.assertEquals(1, result.size());
+        Assert.assertArrayEquals(new String[] {"a"}, result.get(0));
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        String text = "id,name\r\n1,\"a\r\nb\"\r\n2,\"c,\"\"\n\"\n3,\"d\\\"\n\"\n4,中文\n5,e";
+        File file = File.createTempFile("cmt_chunk", ".csv");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(text.getBytes("UTF-8"));
+            out.close();
+            Assert.assertTrue(CSVChunkReader.isSplittable("utf8", ',', '"', '\\'));
+            Assert.assertFalse(CSVChunkReader.isSplittable("UTF-16", ',', '"', '\\'));
+
+            List<String[]> expected = tokenize(text, '\\');
+            List<String[]> result = new ArrayList<String[]>();
+            List<Long> ends = new ArrayList<Long>();
+            CSVChunkReader reader = new CSVChunkReader(file.getPath(), ',', '"', '\\');
+            try {
+                long start = 0;
+                long end;
+                while ((end = reader.nextChunk(1)) >= 0) {
+                    ends.add(end);
+                    CharBuffer chars =
+                            CSVChunkReader.readChunk(file.getPath(), "UTF-8", start, end);
+                    result.addAll(tokenize(chars.toString(), '\\'));
+                    start = end;
+                }
+            } finally {
+                reader.close();
+            }
+            Assert.assertEquals(6, ends.size());
+            Assert.assertEquals(file.length(), ends.get(ends.size() - 1).longValue());
+            Assert.assertEquals(expected.size(), result.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertTrue(Arrays.equals(expected.get(i), result.get(i)));
+            }
+            Assert.assertArrayEquals(new String[] {"3", "d\"\n"}, result.get(3));
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import com.cubrid.cubridmigration.core.io.InsertStatementParser.InsertStatement;
+import java.math.BigDecimal;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InsertStatementParserTest {
+
+    @Test
+    public void testParse() {
+        InsertStatement insert =
+                InsertStatementParser.parse(
+                        "\n-- comment\nINSERT INTO \"t 1\"(a, \"b\") values (1, 'it''s'),"
+                                + " (-2.5e3, NULL);\n");
+        Assert.assertEquals("\"t 1\"", insert.getTable());
+        Assert.assertEquals(
+                "INSERT INTO \"t 1\" (a, \"b\") VALUES (?, ?)", insert.getParameterizedSQL());
+        Assert.assertEquals(2, insert.getRows().size());
+        Assert.assertEquals(new BigDecimal("1"), insert.getRows().get(0)[0]);
+        Assert.assertEquals("it's", insert.getRows().get(0)[1]);
+        Assert.assertEquals(new BigDecimal("-2.5e3"), insert.getRows().get(1)[0]);
+        Assert.assertNull(insert.getRows().get(1)[1]);
+
+        insert = InsertStatementParser.parse("insert into t values ('a;b')");
+        Assert.assertEquals("INSERT INTO t VALUES (?)", insert.getParameterizedSQL());
+        Assert.assertEquals("a;b", insert.getRows().get(0)[0]);
+    }
+
+    @Test
+    public void testNotSimpleInsert() {
+        Assert.assertNull(InsertStatementParser.parse("INSERT INTO t VALUES (SYSDATE);"));
+        Assert.assertNull(InsertStatementParser.parse("INSERT INTO t VALUES (1), (1, 2);"));
+        Assert.assertNull(InsertStatementParser.parse("INSERT INTO t VALUES ('a);"));
+        Assert.assertNull(InsertStatementParser.parse("INSERT INTO t SELECT * FROM s;"));
+        Assert.assertNull(InsertStatementParser.parse("INSERT INTO t VALUES (1); DROP TABLE t;"));
+        Assert.assertNull(InsertStatementParser.parse("UPDATE t SET a = 1;"));
+
+        Assert.assertEquals("t", InsertStatementParser.getTable("INSERT INTO t VALUES (SYSDATE)"));
+        Assert.assertNull(InsertStatementParser.getTable("INSERT_LOG INTO t VALUES (1)"));
+    }
+}
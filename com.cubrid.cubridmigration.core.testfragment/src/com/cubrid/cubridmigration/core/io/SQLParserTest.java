@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SQLParserTest {
+
+    @Test
+    public void testExecuteSQLFile() throws Exception {
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("INSERT INTO t VALUES (").append(i).append(", 'a;b');\n");
+        }
+        sb.append("/* c; */ -- d;\nSELECT 1 - 1;\nSELECT 2");
+        final List<String> sqls = new ArrayList<String>();
+        SQLParser.executeSQLFile(
+                new StringReader(sb.toString()),
+                100,
+                new SQLParser.ISQLParsingCallback() {
+
+                    public void executeSQLs(List<String> sqlList, long size) {
+                        sqls.addAll(sqlList);
+                    }
+
+                    public boolean isCommitNow(int sqlsSize) {
+                        return sqlsSize >= 100;
+                    }
+                });
+        Assert.assertEquals(10002, sqls.size());
+        Assert.assertEquals("INSERT INTO t VALUES (0, 'a;b');", sqls.get(0));
+        Assert.assertEquals("\nINSERT INTO t VALUES (9999, 'a;b');", sqls.get(9999));
+        Assert.assertEquals("\n/* c; */ -- d;\nSELECT 1 - 1;", sqls.get(10000));
+        Assert.assertEquals("\nSELECT 2", sqls.get(10001));
+    }
+}
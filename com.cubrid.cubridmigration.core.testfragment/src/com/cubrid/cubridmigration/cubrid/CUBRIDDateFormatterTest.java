@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.cubrid;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CUBRIDDateFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd HH:mm:ss.SSS",
+        "yyyy-MM-dd HH:mm:ss",
+        "yyyy-MM-dd",
+        "MM/dd/yyyy",
+        "HH:mm:ss",
+        "HH:mm:ss.SSS",
+        "hh:mm:ss a MM/dd/yyyy",
+        "yyyyMMddHHmm",
+        "MMM dd yyyy hh:mma",
+        "M/d/y h:m:s.S a",
+        "''yyyy-MM-dd''",
+        "yyyy-MM-dd'T'HH:mm:ss''SSSS",
+        "yy-MM-dd",
+        "EEE, dd MMMM yyyy z"
+    };
+
+    private static final TimeZone[] ZONES = {
+        TimeZone.getTimeZone("GMT"),
+        TimeZone.getTimeZone("Asia/Seoul"),
+        TimeZone.getTimeZone("America/New_York"),
+        TimeZone.getTimeZone("Asia/Kolkata"),
+        TimeZone.getTimeZone("Pacific/Chatham"),
+        new SimpleTimeZone(
+                -3 * 3600000,
+                "CUSTOM",
+                Calendar.OCTOBER,
+                1,
+                Calendar.SUNDAY,
+                7200000,
+                Calendar.MARCH,
+                1,
+                Calendar.SUNDAY,
+                7200000)
+    };
+
+    @Test
+    public void testFormat() {
+        Assert.assertEquals(
+                "2026-10-18 12:34:56.789",
+                CUBRIDDateFormatter.getInstance("yyyy-MM-dd HH:mm:ss.SSS")
+                        .format(1792326896789L, TimeZone.getTimeZone("GMT")));
+        Assert.assertEquals(
+                "12:34:56 PM 10/18/2026",
+                CUBRIDDateFormatter.getInstance("hh:mm:ss a MM/dd/yyyy")
+                        .format(1792326896789L, null));
+        Assert.assertSame(
+                CUBRIDDateFormatter.getInstance("yyyy-MM-dd"),
+                CUBRIDDateFormatter.getInstance("yyyy-MM-dd"));
+    }
+
+    @Test
+    public void testSameAsSimpleDateFormat() {
+        Random random = new Random(20261018L);
+        long[] bounds = {-62135769600000L, 253402300800000L, 315532800000L, 4102444800000L};
+        for (int i = 0; i < 20000; i++) {
+            long millis;
+            if (i % 2 == 0) {
+                millis = bounds[2] + (long) (random.nextDouble() * (bounds[3] - bounds[2]));
+            } else {
+                millis = bounds[0] + (long) (random.nextDouble() * (bounds[1] - bounds[0]) * 1.2);
+            }
+            String pattern = PATTERNS[i % PATTERNS.length];
+            TimeZone tz = ZONES[random.nextInt(ZONES.length)];
+            String expected =
+                    CUBRIDTimeUtil.getDateFormat(pattern, Locale.US, tz).format(new Date(millis));
+            Assert.assertEquals(
+                    pattern + " " + millis + " " + tz.getID(),
+                    expected,
+                    CUBRIDDateFormatter.getInstance(pattern).format(millis, tz));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.cubrid.trans;
+
+import com.cubrid.cubridmigration.core.common.DBUtils;
+import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ToCUBRIDDataConverterFacadeTest {
+
+    private static DataTypeInstance getDataType(String name) {
+        DataTypeInstance dti = new DataTypeInstance();
+        dti.setName(name);
+        return dti;
+    }
+
+    @Test
+    public void testConvert() {
+        ToCUBRIDDataConverterFacade facade = ToCUBRIDDataConverterFacade.getIntance();
+        MigrationConfiguration config = new MigrationConfiguration();
+
+        String str = new String("abc");
+        Assert.assertSame(str, facade.convert(str, getDataType("varchar"), config));
+        Long lng = Long.valueOf(123456789L);
+        Assert.assertSame(lng, facade.convert(lng, getDataType("bigint"), config));
+
+        Assert.assertEquals(Long.valueOf(12), facade.convert(12, getDataType("bigint"), config));
+        Assert.assertEquals(
+                Short.valueOf((short) 12), facade.convert(12L, getDataType("smallint"), config));
+        Assert.assertEquals(Double.valueOf(12), facade.convert(12, getDataType("double"), config));
+        Assert.assertEquals(
+                Integer.valueOf(12),
+                facade.convert(new BigDecimal("12.5"), getDataType("integer"), config));
+        Assert.assertEquals("12", facade.convert(12, getDataType("varchar"), config));
+        BigDecimal decimal = new BigDecimal("12.5");
+        Assert.assertSame(decimal, facade.convert(decimal, getDataType("numeric"), config));
+        Assert.assertEquals(
+                new BigDecimal("1.0000000000000000000000000000000000001"),
+                facade.convert(
+                        new BigDecimal("1.00000000000000000000000000000000000005"),
+                        getDataType("numeric"),
+                        config));
+        try {
+            facade.convert(70000, getDataType("smallint"), config);
+            Assert.fail();
+        } catch (RuntimeException ex) {
+            Assert.assertTrue(ex.getMessage().contains("SmallInt"));
+        }
+    }
+
+    @Test
+    public void testConvertDateTime() {
+        ToCUBRIDDataConverterFacade facade = ToCUBRIDDataConverterFacade.getIntance();
+        MigrationConfiguration config = new MigrationConfiguration();
+        Timestamp ts = Timestamp.valueOf("2020-01-02 03:04:05.678");
+        Assert.assertSame(ts, facade.convert(ts, getDataType("datetime"), config));
+
+        String str = DBUtils.getDateFormat().format(ts);
+        Assert.assertEquals(ts, facade.convert(str, getDataType("datetime"), config));
+        Assert.assertEquals(ts.getTime(), DBUtils.parseDate(str).getTime());
+        Assert.assertNull(DBUtils.parseDate("2020-01-02 03:04:05"));
+        Assert.assertNull(DBUtils.parseDate("a:b:c:d"));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.mysql;
+
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
+import com.cubrid.cubridmigration.core.export.DBExportHelper;
+import com.cubrid.cubridmigration.mysql.export.MySQLExportHelper;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import junit.framework.Assert;
+import org.junit.Test;
+
+public class MySQLExportHelperMockTest {
+
+    @Test
+    public void testGetSeekPagedSelectSQL() {
+        MySQLExportHelper helper = new MySQLExportHelper();
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.addColumnConfig("f1", "f1", true);
+        setc.addColumnConfig("f2", "f2", true);
+        setc.addColumnConfig("f3", "f3", true);
+        setc.setName("t1");
+        setc.setTarget("t1");
+        List<String> keys = Arrays.asList("f1", "f2");
+        Assert.assertEquals(
+                "SELECT `f1`,`f2`,`f3` FROM `t1` ORDER BY `f1`,`f2` LIMIT 1000",
+                helper.getSeekPagedSelectSQL(setc, keys, true, 1000));
+        Assert.assertEquals(
+                "SELECT `f1`,`f2`,`f3` FROM `t1` WHERE (`f1`>?) OR (`f1`=? AND `f2`>?)"
+                        + " ORDER BY `f1`,`f2` LIMIT 1000",
+                helper.getSeekPagedSelectSQL(setc, keys, false, 1000));
+
+        setc.setCondition("where f3=1 or f3=2;");
+        Assert.assertEquals(
+                "SELECT `f1`,`f2`,`f3` FROM `t1` WHERE (f3=1 or f3=2)"
+                        + " ORDER BY `f1`,`f2` LIMIT 1000",
+                helper.getSeekPagedSelectSQL(setc, keys, true, 1000));
+        Assert.assertEquals(
+                "SELECT `f1`,`f2`,`f3` FROM `t1` WHERE (f3=1 or f3=2)"
+                        + " AND ((`f1`>?) OR (`f1`=? AND `f2`>?)) ORDER BY `f1`,`f2` LIMIT 1000",
+                helper.getSeekPagedSelectSQL(setc, keys, false, 1000));
+
+        Assert.assertTrue(
+                Arrays.equals(
+                        new Object[] {1, 1, "a"},
+                        DBExportHelper.getSeekParams(new Object[] {1, "a"})));
+    }
+
+    @Test
+    public void testGetKeyRangeConditions() throws Exception {
+        MySQLExportHelper helper = new MySQLExportHelper();
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.setName("t1");
+        final Object[] minMax = new Object[] {1L, 10L};
+        InvocationHandler handler =
+                new InvocationHandler() {
+                    private boolean hasNext = true;
+
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if ("createStatement".equals(name) || "executeQuery".equals(name)) {
+                            return proxy(method.getReturnType(), this);
+                        } else if ("next".equals(name)) {
+                            boolean result = hasNext;
+                            hasNext = false;
+                            return result;
+                        } else if ("getObject".equals(name)) {
+                            return minMax[(Integer) args[0] - 1];
+                        }
+                        return null;
+                    }
+                };
+        Connection conn = (Connection) proxy(Connection.class, handler);
+        Assert.assertEquals(
+                Arrays.asList("`id`<4", "`id`>=4 AND `id`<7", "`id`>=7 AND `id`<10", "`id`>=10"),
+                helper.getKeyRangeConditions(conn, setc, "id", 4));
+    }
+
+    @Test
+    public void testGetJdbcObjectByIndex() throws Exception {
+        MySQLExportHelper helper = new MySQLExportHelper();
+        final Date date = new Date(0);
+        InvocationHandler handler =
+                new InvocationHandler() {
+                    private boolean wasNull;
+
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if ("wasNull".equals(name)) {
+                            return wasNull;
+                        }
+                        // Values can only be read by index.
+                        int index = (Integer) args[0];
+                        wasNull = index == 2;
+                        if ("getString".equals(name) && index == 1) {
+                            return "a";
+                        } else if ("getInt".equals(name) && index == 2) {
+                            return 0;
+                        } else if ("getDate".equals(name) && index == 3) {
+                            return date;
+                        }
+                        throw new UnsupportedOperationException(name);
+                    }
+                };
+        ResultSet rs = (ResultSet) proxy(ResultSet.class, handler);
+        Column varchar = createColumn("VARCHAR", Types.VARCHAR);
+        Assert.assertEquals("a", helper.getJdbcObject(rs, varchar, 1));
+        Assert.assertNull(helper.getJdbcObject(rs, createColumn("SMALLINT", Types.SMALLINT), 2));
+        Assert.assertEquals(date, helper.getJdbcObject(rs, createColumn("DATE", Types.DATE), 3));
+    }
+
+    @Test
+    public void testGetStatisticsRowCounts() throws Exception {
+        MySQLExportHelper helper = new MySQLExportHelper();
+        final Object[][] rows = {
+            {"db1", "t1", 10L}, {"db2", "t1", 20L}, {"db1", "t2", 30L}, {"db1", "t3", 40L},
+            {"db2", "T3", 50L}
+        };
+        InvocationHandler handler =
+                new InvocationHandler() {
+                    private int index = -1;
+
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if ("createStatement".equals(name) || "executeQuery".equals(name)) {
+                            return proxy(method.getReturnType(), this);
+                        } else if ("next".equals(name)) {
+                            return ++index < rows.length;
+                        } else if ("getString".equals(name)) {
+                            return rows[index][(Integer) args[0] - 1];
+                        } else if ("getLong".equals(name)) {
+                            return rows[index][(Integer) args[0] - 1];
+                        } else if ("wasNull".equals(name)) {
+                            return false;
+                        }
+                        return null;
+                    }
+                };
+        Connection conn = (Connection) proxy(Connection.class, handler);
+        Table t1 = createTable("db2", "T1");
+        Table t2 = createTable(null, "t2");
+        Table t3 = createTable("", "t3");
+        Table t4 = createTable("db1", "t4");
+        Map<Table, Long> counts =
+                helper.getStatisticsRowCounts(conn, "", Arrays.asList(t1, t2, t3, t4));
+        Assert.assertEquals(Long.valueOf(20), counts.get(t1));
+        Assert.assertEquals(Long.valueOf(30), counts.get(t2));
+        // t3 is found in two schemas and t4 has no statistics.
+        Assert.assertFalse(counts.containsKey(t3));
+        Assert.assertFalse(counts.containsKey(t4));
+    }
+
+    private static Table createTable(String owner, String name) {
+        Table table = new Table();
+        table.setOwner(owner);
+        table.setName(name);
+        return table;
+    }
+
+    private static Column createColumn(String dataType, int jdbcType) {
+        Column column = new Column();
+        column.setName("c_" + dataType);
+        column.setDataType(dataType);
+        column.setJdbcIDOfDataType(jdbcType);
+        return column;
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(
+                MySQLExportHelperMockTest.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
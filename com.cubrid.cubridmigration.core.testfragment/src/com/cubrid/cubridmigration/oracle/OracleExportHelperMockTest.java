@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.oracle;
+
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
+import com.cubrid.cubridmigration.oracle.export.OracleExportHelper;
+import java.util.Arrays;
+import junit.framework.Assert;
+import org.junit.Test;
+
+public class OracleExportHelperMockTest {
+
+    @Test
+    public void testGetSeekPagedSelectSQL() {
+        OracleExportHelper helper = new OracleExportHelper();
+        SourceEntryTableConfig setc = new SourceEntryTableConfig();
+        setc.addColumnConfig("F1", "f1", true);
+        setc.addColumnConfig("F2", "f2", true);
+        setc.setName("T1");
+        setc.setTarget("t1");
+        setc.setOwner("SCOTT");
+        Assert.assertEquals(
+                "SELECT * FROM (SELECT \"F1\",\"F2\" FROM \"SCOTT\".\"T1\" WHERE (\"F1\">?)"
+                        + " ORDER BY \"F1\") WHERE ROWNUM<=500",
+                helper.getSeekPagedSelectSQL(setc, Arrays.asList("F1"), false, 500));
+    }
+}
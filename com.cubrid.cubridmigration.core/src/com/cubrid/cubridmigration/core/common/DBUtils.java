@@ -39,6 +39,7 @@ import java.io.StringWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.DateFormat;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -103,10 +104,31 @@ public final class DBUtils {
                 "EXTRACT_YEAR,EXTRACT_MONTH,EXTRACT_DAY,EXTRACT_HOUR,EXTRACT_MINUTE,EXTRACT_SECOND");
     }
 
+    private static final ThreadLocal<DateFormat> DATE_FORMAT =
+            new ThreadLocal<DateFormat>() {
+                protected DateFormat initialValue() {
+                    return getDateFormat();
+                }
+            };
+
     public static DateFormat getDateFormat() {
         return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS z", Locale.ENGLISH);
     }
 
+    /**
+     * Parse the string with the format of {@link #getDateFormat()}, the format instance is cached
+     * by threads. The string with less than 3 ':' is not parsed because it never matches.
+     *
+     * @param value to be parsed
+     * @return date or null if the string could not be parsed
+     */
+    public static java.util.Date parseDate(String value) {
+        if (StringUtils.countMatches(value, ":") < 3) {
+            return null;
+        }
+        return DATE_FORMAT.get().parse(value, new ParsePosition(0));
+    }
+
     /**
      * getCubridPartitionExp
      *
@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NameIndexedList is an array list which indexes its elements by their names, the names can be
+ * looked up case-sensitively and case-insensitively without scanning the list.
+ *
+ * <p>The index is updated by add, remove and clear. Any other change of the list invalidates the
+ * index and it is rebuilt by the next lookup. If the name of an element is changed, {@link
+ * #reindex()} should be called. The lookups can be called by several threads, they build the
+ * index in the lock of the list.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ * @param <T> element type
+ */
+public abstract class NameIndexedList<T> extends ArrayList<T> {
+
+    private static final long serialVersionUID = -2310984583640412617L;
+
+    private transient Map<String, List<T>> names;
+    private transient Map<String, List<T>> foldedNames;
+    private transient int indexedModCount;
+
+    public NameIndexedList() {
+        super();
+    }
+
+    public NameIndexedList(Collection<? extends T> c) {
+        super(c);
+    }
+
+    /**
+     * Retrieves the name of the element.
+     *
+     * @param element of the list
+     * @return name, it can be NULL
+     */
+    protected abstract String getName(T element);
+
+    /**
+     * Retrieves the elements which have the name, they are in the order of the list.
+     *
+     * @param name to be looked up
+     * @return the elements
+     */
+    public List<T> getByName(String name) {
+        return lookup(name, false);
+    }
+
+    /**
+     * Retrieves the elements which have the name ignoring case, they are in the order of the list.
+     *
+     * @param name to be looked up
+     * @return the elements
+     */
+    public List<T> getByNameIgnoreCase(String name) {
+        return lookup(name, true);
+    }
+
+    /**
+     * Retrieves the first element which has the name.
+     *
+     * @param name to be looked up
+     * @return NULL if not found
+     */
+    public T getFirstByName(String name) {
+        List<T> result = getByName(name);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Retrieves the first element which has the name ignoring case.
+     *
+     * @param name to be looked up
+     * @return NULL if not found
+     */
+    public T getFirstByNameIgnoreCase(String name) {
+        List<T> result = getByNameIgnoreCase(name);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /** The names of the elements were changed, the index will be rebuilt. */
+    public synchronized void reindex() {
+        names = null;
+        foldedNames = null;
+    }
+
+    /**
+     * Add an element to the end of the list
+     *
+     * @param element to be added
+     * @return true
+     */
+    public synchronized boolean add(T element) {
+        final boolean indexed = isIndexed();
+        super.add(element);
+        if (indexed) {
+            index(element);
+            indexedModCount = modCount;
+        }
+        return true;
+    }
+
+    /**
+     * Remove the element at the position
+     *
+     * @param index of the element
+     * @return the removed element
+     */
+    public synchronized T remove(int index) {
+        final boolean indexed = isIndexed();
+        T element = super.remove(index);
+        if (indexed) {
+            unindex(element);
+            indexedModCount = modCount;
+        }
+        return element;
+    }
+
+    /**
+     * Remove the first occurrence of the element
+     *
+     * @param o element to be removed
+     * @return true if the element was removed
+     */
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /** Remove all of the elements */
+    public synchronized void clear() {
+        super.clear();
+        reindex();
+    }
+
+    /**
+     * Replace the element at the position, the index is rebuilt by the next lookup.
+     *
+     * @param index of the element
+     * @param element new element
+     * @return the old element
+     */
+    public synchronized T set(int index, T element) {
+        T old = super.set(index, element);
+        reindex();
+        return old;
+    }
+
+    /**
+     * Look up the elements by name. If an element's name was changed after it was indexed, the
+     * index is rebuilt.
+     *
+     * @param name to be looked up
+     * @param ignoreCase true if the name is case-insensitive
+     * @return the elements
+     */
+    private synchronized List<T> lookup(String name, boolean ignoreCase) {
+        for (int i = 0; i < 2; i++) {
+            if (!isIndexed()) {
+                buildIndex();
+            }
+            List<T> result = ignoreCase ? foldedNames.get(fold(name)) : names.get(name);
+            if (result == null) {
+                return Collections.emptyList();
+            }
+            if (isValid(result, name, ignoreCase)) {
+                return new ArrayList<T>(result);
+            }
+            reindex();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Retrieves whether the elements still have the name.
+     *
+     * @param elements indexed by the name
+     * @param name to be looked up
+     * @param ignoreCase true if the name is case-insensitive
+     * @return false if the index is stale
+     */
+    private boolean isValid(List<T> elements, String name, boolean ignoreCase) {
+        for (T element : elements) {
+            String elementName = getName(element);
+            if (name == null || elementName == null) {
+                if (name != elementName) {
+                    return false;
+                }
+            } else if (ignoreCase) {
+                if (!name.equalsIgnoreCase(elementName)) {
+                    return false;
+                }
+            } else if (!name.equals(elementName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves whether the index is consistent with the list.
+     *
+     * @return true if the index can be used
+     */
+    private boolean isIndexed() {
+        return names != null && indexedModCount == modCount;
+    }
+
+    /** Build the index of all elements */
+    private void buildIndex() {
+        names = new HashMap<String, List<T>>();
+        foldedNames = new HashMap<String, List<T>>();
+        for (T element : this) {
+            index(element);
+        }
+        indexedModCount = modCount;
+    }
+
+    /**
+     * Add the element into the index
+     *
+     * @param element to be indexed
+     */
+    private void index(T element) {
+        final String name = getName(element);
+        addTo(names, name, element);
+        addTo(foldedNames, fold(name), element);
+    }
+
+    /**
+     * Remove the element from the index
+     *
+     * @param element to be removed
+     */
+    private void unindex(T element) {
+        final String name = getName(element);
+        boolean removed = removeFrom(names, name, element);
+        removed = removeFrom(foldedNames, fold(name), element) && removed;
+        if (!removed) {
+            // The name was changed after it was indexed.
+            reindex();
+        }
+    }
+
+    /**
+     * Add an element into the bucket of the key
+     *
+     * @param map index
+     * @param key of the bucket
+     * @param element to be added
+     */
+    private static <T> void addTo(Map<String, List<T>> map, String key, T element) {
+        List<T> bucket = map.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<T>(1);
+            map.put(key, bucket);
+        }
+        bucket.add(element);
+    }
+
+    /**
+     * Remove an element from the bucket of the key
+     *
+     * @param map index
+     * @param key of the bucket
+     * @param element to be removed
+     * @return false if the element is not in the bucket
+     */
+    private static <T> boolean removeFrom(Map<String, List<T>> map, String key, T element) {
+        List<T> bucket = map.get(key);
+        if (bucket == null) {
+            return false;
+        }
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == element) {
+                bucket.remove(i);
+                if (bucket.isEmpty()) {
+                    map.remove(key);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fold the case of the name in the same way as {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param name to be folded
+     * @return folded name
+     */
+    static String fold(String name) {
+        if (name == null) {
+            return null;
+        }
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
@@ -69,6 +69,19 @@ public final class PathUtils {
     private static String errorsDir;
     private static String handlersDir;
 
+    private static long lastTimeTag;
+
+    /**
+     * Retrieves the current time in milliseconds as the tag of a migration's files and
+     * directories. The tag is unique in the JVM even if migrations start in the same millisecond.
+     *
+     * @return time tag
+     */
+    public static synchronized long nextTimeTag() {
+        lastTimeTag = Math.max(System.currentTimeMillis(), lastTimeTag + 1);
+        return lastTimeTag;
+    }
+
     /**
      * make sure path exist
      *
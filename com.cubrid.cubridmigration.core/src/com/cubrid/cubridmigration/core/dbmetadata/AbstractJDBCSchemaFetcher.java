@@ -58,9 +58,17 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 
@@ -73,8 +81,36 @@ import org.apache.log4j.Logger;
 public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType {
     private static final Logger LOG = LogUtil.getLogger(AbstractJDBCSchemaFetcher.class);
 
+    /** Worker threads (and extra connections) used to fetch schemas and table groups */
+    protected static final int FETCH_THREADS = Integer.getInteger("cmt.meta.fetch.threads", 4);
+
+    /** Tables of a schema are fetched in parallel groups of this size */
+    protected static final int TABLE_GROUP_SIZE = Integer.getInteger("cmt.meta.table.group", 500);
+
     protected DBObjectFactory factory = null;
 
+    /** A unit of metadata fetching which runs on the connection it is given. */
+    protected interface FetchTask {
+        /**
+         * Fetch metadata
+         *
+         * @param conn Connection
+         * @throws SQLException e
+         */
+        void fetch(Connection conn) throws SQLException;
+    }
+
+    /** The worker pools and connections opened by a running fetch, closed if it is canceled. */
+    private static class FetchResources {
+        private boolean canceled;
+        private final List<ExecutorService> pools = new ArrayList<ExecutorService>();
+        private final List<Connection> connections = new ArrayList<Connection>();
+    }
+
+    /** Running fetches by their connection parameters */
+    private final Map<ConnParameters, FetchResources> runningFetches =
+            new IdentityHashMap<ConnParameters, FetchResources>();
+
     /**
      * buildCatalog
      *
@@ -84,7 +120,32 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
      * @return Catalog
      * @throws SQLException e
      */
-    public Catalog buildCatalog(final Connection conn, ConnParameters cp, IBuildSchemaFilter filter)
+    public Catalog buildCatalog(
+            final Connection conn, ConnParameters cp, final IBuildSchemaFilter filter)
+            throws SQLException {
+        synchronized (runningFetches) {
+            runningFetches.put(cp, new FetchResources());
+        }
+        try {
+            return buildCatalogSchemas(conn, cp, filter);
+        } finally {
+            synchronized (runningFetches) {
+                runningFetches.remove(cp);
+            }
+        }
+    }
+
+    /**
+     * Build the catalog and its schemas
+     *
+     * @param conn Connection
+     * @param cp connection parameter
+     * @param filter IBuildSchemaFilter
+     * @return Catalog
+     * @throws SQLException e
+     */
+    private Catalog buildCatalogSchemas(
+            final Connection conn, ConnParameters cp, final IBuildSchemaFilter filter)
             throws SQLException {
         String dbName = cp.getDbName();
         String catalogName;
@@ -114,12 +175,172 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
         if (schemas.isEmpty()) {
             throw new IllegalArgumentException("Invalid schema or no schema specified.");
         }
-        for (String schema : schemas) {
-            buildSchema(conn, catalog, schema, filter);
+        final long start = System.currentTimeMillis();
+        List<FetchTask> tasks = new ArrayList<FetchTask>();
+        for (String schemaName : schemas) {
+            final Schema schema = createSchema(catalog, schemaName);
+            tasks.add(
+                    new FetchTask() {
+                        public void fetch(Connection taskConn) throws SQLException {
+                            buildSchema(taskConn, catalog, schema, filter);
+                        }
+                    });
         }
+        fetch(conn, cp, tasks);
+        LOG.info(
+                "[META]catalog="
+                        + catalogName
+                        + ", schemas="
+                        + schemas.size()
+                        + ", time="
+                        + (System.currentTimeMillis() - start)
+                        + "ms");
         return catalog;
     }
 
+    /**
+     * Run the fetch tasks on the given connection, or on up to {@link #FETCH_THREADS} extra
+     * connections when there are more than one task. Each worker thread opens one connection and
+     * keeps it for all the tasks it picks up.
+     *
+     * @param conn Connection used when the tasks run serially
+     * @param cp ConnParameters used to open the extra connections
+     * @param tasks List<FetchTask>
+     * @throws SQLException e
+     */
+    protected void fetch(Connection conn, final ConnParameters cp, List<FetchTask> tasks)
+            throws SQLException {
+        if (tasks.size() < 2 || FETCH_THREADS < 2 || cp == null) {
+            for (FetchTask task : tasks) {
+                task.fetch(conn);
+            }
+            return;
+        }
+        final Queue<FetchTask> queue = new ConcurrentLinkedQueue<FetchTask>(tasks);
+        final int workers = Math.min(FETCH_THREADS, tasks.size());
+        final ExecutorService pool = Executors.newFixedThreadPool(workers);
+        register(cp, pool, null);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(
+                        pool.submit(
+                                new Callable<Void>() {
+                                    public Void call() throws SQLException {
+                                        Connection workerConn = cp.clone().createConnection();
+                                        try {
+                                            register(cp, null, workerConn);
+                                            FetchTask task;
+                                            while ((task = queue.poll()) != null) {
+                                                task.fetch(workerConn);
+                                            }
+                                        } finally {
+                                            unregister(cp, null, workerConn);
+                                            Closer.close(workerConn);
+                                        }
+                                        return null;
+                                    }
+                                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while fetching metadata", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException(cause);
+        } finally {
+            queue.clear();
+            pool.shutdownNow();
+            unregister(cp, pool, null);
+        }
+    }
+
+    /**
+     * Register the worker pool or connection of the running fetch, so they can be closed by
+     * {@link #cancel(ConnParameters)}.
+     *
+     * @param cp ConnParameters of the fetch
+     * @param pool ExecutorService or NULL
+     * @param conn Connection or NULL
+     * @throws SQLException if the fetch was canceled
+     */
+    private void register(ConnParameters cp, ExecutorService pool, Connection conn)
+            throws SQLException {
+        synchronized (runningFetches) {
+            FetchResources resources = runningFetches.get(cp);
+            if (resources == null) {
+                return;
+            }
+            if (!resources.canceled) {
+                if (pool != null) {
+                    resources.pools.add(pool);
+                }
+                if (conn != null) {
+                    resources.connections.add(conn);
+                }
+                return;
+            }
+        }
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+        Closer.close(conn);
+        throw new SQLException("Fetching metadata was canceled.");
+    }
+
+    /**
+     * Unregister the worker pool or connection which was closed.
+     *
+     * @param cp ConnParameters of the fetch
+     * @param pool ExecutorService or NULL
+     * @param conn Connection or NULL
+     */
+    private void unregister(ConnParameters cp, ExecutorService pool, Connection conn) {
+        synchronized (runningFetches) {
+            FetchResources resources = runningFetches.get(cp);
+            if (resources != null) {
+                resources.pools.remove(pool);
+                resources.connections.remove(conn);
+            }
+        }
+    }
+
+    /**
+     * Cancel the running fetch of the connection parameters: the worker threads are interrupted
+     * and their connections are closed, the workers started later are refused.
+     *
+     * @param cp ConnParameters passed to {@link #buildCatalog(Connection, ConnParameters,
+     *     IBuildSchemaFilter)}
+     */
+    public void cancel(ConnParameters cp) {
+        List<ExecutorService> pools;
+        List<Connection> connections;
+        synchronized (runningFetches) {
+            FetchResources resources = runningFetches.get(cp);
+            if (resources == null) {
+                return;
+            }
+            resources.canceled = true;
+            pools = new ArrayList<ExecutorService>(resources.pools);
+            connections = new ArrayList<Connection>(resources.connections);
+        }
+        for (ExecutorService pool : pools) {
+            pool.shutdownNow();
+        }
+        for (Connection conn : connections) {
+            Closer.close(conn);
+        }
+    }
+
     /**
      * return schema names
      *
@@ -181,23 +402,13 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
     }
 
     /**
-     * Build all schemas
+     * Create a schema and add it to the catalog
      *
-     * @param conn Connection
      * @param catalog Catalog
      * @param schemaName String
-     * @param filter IBuildSchemaFilter
-     * @throws SQLException e
+     * @return Schema
      */
-    private void buildSchema(
-            final Connection conn,
-            final Catalog catalog,
-            String schemaName,
-            IBuildSchemaFilter filter)
-            throws SQLException {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("[IN]buildSchema()");
-        }
+    private Schema createSchema(final Catalog catalog, String schemaName) {
         final Schema schema = factory.createSchema();
         schema.setName(schemaName);
         catalog.addSchema(schema);
@@ -211,6 +422,29 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
         } else {
             schema.setGrantorSchema(false);
         }
+        return schema;
+    }
+
+    /**
+     * Build all schemas
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param filter IBuildSchemaFilter
+     * @throws SQLException e
+     */
+    private void buildSchema(
+            final Connection conn,
+            final Catalog catalog,
+            final Schema schema,
+            IBuildSchemaFilter filter)
+            throws SQLException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[IN]buildSchema()");
+        }
+        StringBuffer timing = new StringBuffer();
+        long start = System.currentTimeMillis();
 
         // Get Tables
         try {
@@ -220,12 +454,14 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
         } catch (Exception e) {
             LOG.error("buildTables", e);
         }
+        start = logPhase(timing, "tables", start);
 
         try {
             buildViews(conn, catalog, schema, filter);
         } catch (Exception e) {
             LOG.error("buildViews", e);
         }
+        start = logPhase(timing, "views", start);
 
         // get procedures
         try {
@@ -233,6 +469,7 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
         } catch (Exception e) {
             LOG.error("buildProcedures", e);
         }
+        start = logPhase(timing, "procedures", start);
 
         // get triggers
         try {
@@ -240,24 +477,46 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
         } catch (Exception e) {
             LOG.error("buildTriggers", e);
         }
+        start = logPhase(timing, "triggers", start);
 
         try {
             buildSequence(conn, catalog, schema, filter);
         } catch (Exception e) {
             LOG.error("buildSequence", e);
         }
+        start = logPhase(timing, "sequence", start);
 
         try {
             buildSynonym(conn, catalog, schema, filter);
         } catch (Exception e) {
             LOG.error("buildSynonym", e);
         }
+        start = logPhase(timing, "synonym", start);
 
         try {
             buildGrant(conn, catalog, schema, filter);
         } catch (Exception e) {
             LOG.error("buildGrant", e);
         }
+        logPhase(timing, "grant", start);
+        LOG.info("[META]schema=" + schema.getName() + ", " + timing);
+    }
+
+    /**
+     * Append the elapsed time of a fetch phase to the timing report.
+     *
+     * @param timing StringBuffer
+     * @param phase name of the phase
+     * @param start start time of the phase
+     * @return the current time, which is the start time of the next phase
+     */
+    private static long logPhase(StringBuffer timing, String phase, long start) {
+        long now = System.currentTimeMillis();
+        if (timing.length() > 0) {
+            timing.append(", ");
+        }
+        timing.append(phase).append('=').append(now - start).append("ms");
+        return now;
     }
 
     protected void buildGrant(
@@ -692,18 +951,15 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
                                     getSchemaName(schema),
                                     table.getName());
 
-            PK primaryKey = null;
+            boolean found = false;
             String primaryKeyName = null;
 
             Map<Integer, String> pkColumns = new HashMap<Integer, String>();
             List<Integer> keySeqs = new ArrayList<Integer>();
             while (rs.next()) {
-                if (primaryKey == null) {
-                    primaryKey = factory.createPK(table);
-                    // add PK
-                    table.setPk(primaryKey);
+                if (!found) {
+                    found = true;
                     primaryKeyName = rs.getString("PK_NAME");
-                    primaryKey.setName(primaryKeyName);
                 }
                 final String columnName = rs.getString("COLUMN_NAME");
                 final int idx = rs.getInt("KEY_SEQ");
@@ -714,31 +970,92 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
                 pkColumns.put(idx, columnName);
                 keySeqs.add(idx);
             }
-            if (primaryKey != null) {
+            if (found) {
                 Collections.sort(keySeqs);
+                List<String> columnNames = new ArrayList<String>();
                 for (Integer key : keySeqs) {
-                    Column col = table.getColumnWithNoCase(pkColumns.get(key));
-                    if (col == null) {
-                        continue;
-                    }
-                    primaryKey.addColumn(col.getName());
+                    columnNames.add(pkColumns.get(key));
                 }
+                setTablePK(table, primaryKeyName, columnNames);
             }
-            // remove primary key from list of indices
-            if (primaryKeyName != null) {
-                final List<Index> indexes = table.getIndexes();
-                for (int i = 0; i < indexes.size(); i++) {
-                    final String indexName = indexes.get(i).getName();
-                    if (primaryKeyName.compareToIgnoreCase(indexName) == 0) {
-                        indexes.remove(i);
-                        break;
-                    }
+        } finally {
+            Closer.close(rs);
+        }
+        setUniquColumnByPK(table);
+    }
+
+    /**
+     * Set the PK of the table, the index of the PK is removed.
+     *
+     * @param table Table
+     * @param primaryKeyName name of the PK
+     * @param columnNames PK columns in key order
+     */
+    protected void setTablePK(final Table table, String primaryKeyName, List<String> columnNames) {
+        PK primaryKey = factory.createPK(table);
+        table.setPk(primaryKey);
+        primaryKey.setName(primaryKeyName);
+        for (String columnName : columnNames) {
+            Column col = table.getColumnWithNoCase(columnName);
+            if (col == null) {
+                continue;
+            }
+            primaryKey.addColumn(col.getName());
+        }
+        // remove primary key from list of indices
+        if (primaryKeyName != null) {
+            final List<Index> indexes = table.getIndexes();
+            for (int i = 0; i < indexes.size(); i++) {
+                final String indexName = indexes.get(i).getName();
+                if (primaryKeyName.compareToIgnoreCase(indexName) == 0) {
+                    table.removeIndex(indexName);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Query the metadata rows of all the tables of a schema with one dictionary query. The only
+     * parameter of the query is the schema name, and its first column is the table name.
+     *
+     * @param conn Connection
+     * @param sql dictionary query
+     * @param schemaName String
+     * @return the other columns of the rows grouped by table name, in the order of the query
+     * @throws SQLException e
+     */
+    protected Map<String, List<String[]>> queryTableRows(
+            final Connection conn, String sql, String schemaName) throws SQLException {
+        Map<String, List<String[]>> result = new HashMap<String, List<String[]>>();
+        ResultSet rs = null; // NOPMD
+        PreparedStatement stmt = null; // NOPMD
+        try {
+            stmt = conn.prepareStatement(sql);
+            stmt.setString(1, schemaName);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[SQL]" + sql + ", 1=" + schemaName);
+            }
+            rs = stmt.executeQuery();
+            final int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                String tableName = rs.getString(1);
+                String[] row = new String[columnCount - 1];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getString(i + 2);
                 }
+                List<String[]> rows = result.get(tableName);
+                if (rows == null) {
+                    rows = new ArrayList<String[]>();
+                    result.put(tableName, rows);
+                }
+                rows.add(row);
             }
         } finally {
             Closer.close(rs);
+            Closer.close(stmt);
         }
-        setUniquColumnByPK(table);
+        return result;
     }
 
     /**
@@ -760,47 +1077,109 @@ public abstract class AbstractJDBCSchemaFetcher implements IDependOnDatabaseType
             LOG.debug("[IN]buildTables()");
         }
         List<String> tableNameList = getAllTableNames(conn, catalog, schema);
+        final List<Table> tables = new ArrayList<Table>(tableNameList.size());
         for (String tableName : tableNameList) {
-            Table table = null;
-            try {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("[VAR]tableName=" + tableName);
-                }
-                // If names format like xxx.xxx means schema name prefixed
-                String tableOwnerName = null;
-                String tablePureName = null;
-                if (tableName != null && tableName.indexOf(".") != -1) {
-                    String[] arr = tableName.split("\\.");
-                    tableOwnerName = arr[0];
-                    tablePureName = arr[1];
-                } else {
-                    tableOwnerName = null;
-                    tablePureName = tableName;
-                }
-                if (filter != null && filter.filter(schema.getName(), tablePureName)) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("[VAR]tableName=" + tableName + ", skipped object");
-                    }
-                    continue;
-                }
-                table = factory.createTable();
-                table.setOwner(tableOwnerName);
-                table.setName(tablePureName);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[VAR]tableName=" + tableName);
+            }
+            // If names format like xxx.xxx means schema name prefixed
+            String tableOwnerName = null;
+            String tablePureName = null;
+            if (tableName != null && tableName.indexOf(".") != -1) {
+                String[] arr = tableName.split("\\.");
+                tableOwnerName = arr[0];
+                tablePureName = arr[1];
+            } else {
+                tableOwnerName = null;
+                tablePureName = tableName;
+            }
+            if (filter != null && filter.filter(schema.getName(), tablePureName)) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("[VAR]tableName=" + table.getName() + ", owner=" + table.getOwner());
+                    LOG.debug("[VAR]tableName=" + tableName + ", skipped object");
                 }
-                table.setSchema(schema);
-
-                buildTableColumns(conn, catalog, schema, table);
-                buildTablePK(conn, catalog, schema, table);
-                buildTableFKs(conn, catalog, schema, table);
-                buildTableIndexes(conn, catalog, schema, table);
-            } catch (Exception ex) {
-                LOG.error("", ex);
+                continue;
             }
-            if (table != null) {
-                schema.addTable(table);
+            Table table = factory.createTable();
+            table.setOwner(tableOwnerName);
+            table.setName(tablePureName);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[VAR]tableName=" + table.getName() + ", owner=" + table.getOwner());
             }
+            table.setSchema(schema);
+            tables.add(table);
+        }
+        prefetchTables(conn, catalog, schema, tables);
+        try {
+            // Schemas fetched in parallel already hold a connection each
+            List<FetchTask> tasks = new ArrayList<FetchTask>();
+            int groupSize = catalog.getSchemas().size() > 1 ? tables.size() : TABLE_GROUP_SIZE;
+            for (int i = 0; i < tables.size(); i += groupSize) {
+                final List<Table> group = tables.subList(i, Math.min(i + groupSize, tables.size()));
+                tasks.add(
+                        new FetchTask() {
+                            public void fetch(Connection taskConn) throws SQLException {
+                                for (Table table : group) {
+                                    buildTable(taskConn, catalog, schema, table);
+                                }
+                            }
+                        });
+            }
+            fetch(conn, catalog.getConnectionParameters(), tasks);
+        } finally {
+            releasePrefetchedTables(schema);
+        }
+        for (Table table : tables) {
+            schema.addTable(table);
+        }
+    }
+
+    /**
+     * Fetch the metadata of all the given tables of a schema with one dictionary query per object
+     * kind, before the tables are built. Dialects which support it should keep the results grouped
+     * by table name until {@link #releasePrefetchedTables(Schema)} is called, and use them in the
+     * per-table build methods.
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param tables tables to be built
+     * @throws SQLException e
+     */
+    protected void prefetchTables(
+            final Connection conn,
+            final Catalog catalog,
+            final Schema schema,
+            final List<Table> tables)
+            throws SQLException {
+        // do nothing
+    }
+
+    /**
+     * Release the metadata fetched by {@link #prefetchTables(Connection, Catalog, Schema, List)}.
+     *
+     * @param schema Schema
+     */
+    protected void releasePrefetchedTables(final Schema schema) {
+        // do nothing
+    }
+
+    /**
+     * Extract Table's columns, PK, FKs and indexes
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param table Table
+     */
+    protected void buildTable(
+            final Connection conn, final Catalog catalog, final Schema schema, final Table table) {
+        try {
+            buildTableColumns(conn, catalog, schema, table);
+            buildTablePK(conn, catalog, schema, table);
+            buildTableFKs(conn, catalog, schema, table);
+            buildTableIndexes(conn, catalog, schema, table);
+        } catch (Exception ex) {
+            LOG.error("", ex);
         }
     }
 
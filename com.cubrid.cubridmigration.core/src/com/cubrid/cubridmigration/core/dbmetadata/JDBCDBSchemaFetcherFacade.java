@@ -59,13 +59,16 @@ public class JDBCDBSchemaFetcherFacade implements IDBSchemaInfoFetcher {
             throw new RuntimeException("One fetching work is running.");
         }
         try {
-            ConnParameters cp = (ConnParameters) ds;
+            final ConnParameters cp = (ConnParameters) ds;
+            DatabaseType dt = cp.getDatabaseType();
+            final AbstractJDBCSchemaFetcher builder = dt.getMetaDataBuilder();
             final Connection conn = cp.createConnection();
-            // Create cancel process
+            // Create cancel process, the worker connections of the builder are closed too.
             cancelRunable =
                     new Runnable() {
 
                         public void run() {
+                            builder.cancel(cp);
                             try {
                                 conn.close();
                             } catch (Exception ex) {
@@ -74,8 +77,6 @@ public class JDBCDBSchemaFetcherFacade implements IDBSchemaInfoFetcher {
                         }
                     };
             try {
-                DatabaseType dt = cp.getDatabaseType();
-                AbstractJDBCSchemaFetcher builder = dt.getMetaDataBuilder();
                 Catalog catalog = builder.buildCatalog(conn, cp, filter);
 
                 if (catalog.getCharset() == null) {
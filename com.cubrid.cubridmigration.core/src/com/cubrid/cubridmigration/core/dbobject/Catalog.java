@@ -62,7 +62,7 @@ public class Catalog implements Serializable {
     public static final String KEY_DB_TIMEZONE = "RDBMS_TIMEZONE";
 
     private String name;
-    private List<Schema> schemas = new ArrayList<Schema>();
+    private List<Schema> schemas = new DBObjectList<Schema>();
 
     private Version version;
     private String host;
@@ -179,6 +179,13 @@ public class Catalog implements Serializable {
      * @return Schema
      */
     public Schema getSchemaByName(String schemaName) {
+        if (schemaName != null && schemas instanceof DBObjectList) {
+            Schema result = ((DBObjectList<Schema>) schemas).getFirstByNameIgnoreCase(schemaName);
+            // The schemas are few, and they may be renamed after added.
+            if (result != null) {
+                return result;
+            }
+        }
         // Default is the first schema.
         for (Schema schema : schemas) {
             if (schemaName == null) {
@@ -206,7 +213,7 @@ public class Catalog implements Serializable {
      */
     public void addSchema(Schema schema) {
         if (schemas == null) {
-            schemas = new ArrayList<Schema>();
+            schemas = new DBObjectList<Schema>();
         }
         if (schema == null) {
             return;
@@ -42,7 +42,20 @@ import java.util.Map;
  * @version 1.0 - 2009-9-17
  */
 public class Record {
-    private List<ColumnValue> columnValueList = new ArrayList<ColumnValue>();
+    private List<ColumnValue> columnValueList;
+
+    public Record() {
+        columnValueList = new ArrayList<ColumnValue>();
+    }
+
+    /**
+     * Create a record with the capacity of column values.
+     *
+     * @param columnCount count of columns
+     */
+    public Record(int columnCount) {
+        columnValueList = new ArrayList<ColumnValue>(columnCount);
+    }
 
     public List<ColumnValue> getColumnValueList() {
         return columnValueList;
@@ -0,0 +1,513 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.dbobject;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * RecordBatch keeps the values of the records column by column. The values of a column are kept in
+ * a primitive array while they are all int, long or double values, else in an object array, and
+ * the NULL values are marked in a bitmap of the column. The batch is handed to the importers as
+ * one unit, and it is also a list of records for the consumers which handle records one by one,
+ * the records are created when they are retrieved.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class RecordBatch extends AbstractList<Record> {
+
+    /** No value of the column was set */
+    public static final int KIND_NONE = 0;
+    /** The values of the column are kept in an int array */
+    public static final int KIND_INT = 1;
+    /** The values of the column are kept in a long array */
+    public static final int KIND_LONG = 2;
+    /** The values of the column are kept in a double array */
+    public static final int KIND_DOUBLE = 3;
+    /** The values of the column are kept in an object array */
+    public static final int KIND_OBJECT = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Column[] columns;
+    private final int[] kinds;
+    private final int[][] ints;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final Object[][] objects;
+    private final long[][] nulls;
+    private int capacity;
+    private int size;
+
+    /**
+     * Create an empty batch
+     *
+     * @param columns the columns of the records, the values of a record are in the same order.
+     * @param capacity initial count of records
+     */
+    public RecordBatch(Column[] columns, int capacity) {
+        this.columns = columns.clone();
+        final int count = columns.length;
+        kinds = new int[count];
+        ints = new int[count][];
+        longs = new long[count][];
+        doubles = new double[count][];
+        objects = new Object[count][];
+        nulls = new long[count][];
+        this.capacity = Math.max(capacity, 1);
+        for (int i = 0; i < count; i++) {
+            nulls[i] = new long[getWordCount(this.capacity)];
+        }
+    }
+
+    /**
+     * Create a batch taking over the values of another batch
+     *
+     * @param source the batch to be taken over
+     */
+    private RecordBatch(RecordBatch source) {
+        columns = source.columns;
+        kinds = source.kinds.clone();
+        ints = source.ints.clone();
+        longs = source.longs.clone();
+        doubles = source.doubles.clone();
+        objects = source.objects.clone();
+        nulls = source.nulls.clone();
+        capacity = source.capacity;
+        size = source.size;
+    }
+
+    /**
+     * Retrieves the count of longs to mark the NULL values of the rows.
+     *
+     * @param rows count of rows
+     * @return count of longs
+     */
+    private static int getWordCount(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    /**
+     * Retrieves the count of columns
+     *
+     * @return count
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Retrieves the column of the values
+     *
+     * @param column index of the column
+     * @return Column
+     */
+    public Column getColumn(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Retrieves how the values of the column are kept
+     *
+     * @param column index of the column
+     * @return one of the KIND_ constants
+     */
+    public int getKind(int column) {
+        return kinds[column];
+    }
+
+    /**
+     * Append a new record, all of its values are NULL.
+     *
+     * @return index of the new record
+     */
+    public int addRow() {
+        if (size == capacity) {
+            grow();
+        }
+        final int row = size++;
+        for (int i = 0; i < columns.length; i++) {
+            nulls[i][row >>> 6] |= 1L << row;
+        }
+        modCount++;
+        return row;
+    }
+
+    /** Remove the last record, it is used when the record could not be read. */
+    public void removeLastRow() {
+        if (size == 0) {
+            return;
+        }
+        final int row = --size;
+        for (int i = 0; i < columns.length; i++) {
+            if (objects[i] != null) {
+                objects[i][row] = null;
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Remove the records marked and keep the order of the others.
+     *
+     * @param removed the records to be removed, the length should not be less than the size.
+     */
+    public void removeRows(boolean[] removed) {
+        int to = 0;
+        for (int from = 0; from < size; from++) {
+            if (removed[from]) {
+                continue;
+            }
+            if (to != from) {
+                for (int i = 0; i < columns.length; i++) {
+                    moveValue(i, from, to);
+                }
+            }
+            to++;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (objects[i] != null) {
+                Arrays.fill(objects[i], to, size, null);
+            }
+        }
+        size = to;
+        modCount++;
+    }
+
+    /**
+     * Move the value of a column from a record to another.
+     *
+     * @param column index of the column
+     * @param from index of the record
+     * @param to index of the record
+     */
+    private void moveValue(int column, int from, int to) {
+        if (isNull(from, column)) {
+            nulls[column][to >>> 6] |= 1L << to;
+            return;
+        }
+        nulls[column][to >>> 6] &= ~(1L << to);
+        switch (kinds[column]) {
+            case KIND_INT:
+                ints[column][to] = ints[column][from];
+                break;
+            case KIND_LONG:
+                longs[column][to] = longs[column][from];
+                break;
+            case KIND_DOUBLE:
+                doubles[column][to] = doubles[column][from];
+                break;
+            default:
+                objects[column][to] = objects[column][from];
+        }
+    }
+
+    /**
+     * Hand the records over to a new batch, and this batch is empty then. The new batch keeps the
+     * arrays, so the records can be handled by other threads while this batch is filled again.
+     *
+     * @return the batch with the records
+     */
+    public RecordBatch takeRows() {
+        RecordBatch result = new RecordBatch(this);
+        for (int i = 0; i < columns.length; i++) {
+            kinds[i] = KIND_NONE;
+            ints[i] = null;
+            longs[i] = null;
+            doubles[i] = null;
+            objects[i] = null;
+            nulls[i] = new long[getWordCount(capacity)];
+        }
+        size = 0;
+        modCount++;
+        return result;
+    }
+
+    /** Double the capacity of the arrays. */
+    private void grow() {
+        capacity = Math.max(capacity * 2, DEFAULT_CAPACITY);
+        for (int i = 0; i < columns.length; i++) {
+            nulls[i] = Arrays.copyOf(nulls[i], getWordCount(capacity));
+            if (ints[i] != null) {
+                ints[i] = Arrays.copyOf(ints[i], capacity);
+            }
+            if (longs[i] != null) {
+                longs[i] = Arrays.copyOf(longs[i], capacity);
+            }
+            if (doubles[i] != null) {
+                doubles[i] = Arrays.copyOf(doubles[i], capacity);
+            }
+            if (objects[i] != null) {
+                objects[i] = Arrays.copyOf(objects[i], capacity);
+            }
+        }
+    }
+
+    /**
+     * Keep the values of the column in an object array from now on.
+     *
+     * @param column index of the column
+     */
+    private void toObjects(int column) {
+        final int kind = kinds[column];
+        if (kind == KIND_OBJECT) {
+            return;
+        }
+        final Object[] values = new Object[capacity];
+        if (kind != KIND_NONE) {
+            for (int row = 0; row < size; row++) {
+                if (!isNull(row, column)) {
+                    values[row] = getValue(row, column);
+                }
+            }
+        }
+        objects[column] = values;
+        ints[column] = null;
+        longs[column] = null;
+        doubles[column] = null;
+        kinds[column] = KIND_OBJECT;
+    }
+
+    /**
+     * Set the value to NULL
+     *
+     * @param row index of the record
+     * @param column index of the column
+     */
+    public void setNull(int row, int column) {
+        nulls[column][row >>> 6] |= 1L << row;
+        if (objects[column] != null) {
+            objects[column][row] = null;
+        }
+    }
+
+    /**
+     * Set an int value
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @param value int
+     */
+    public void setInt(int row, int column, int value) {
+        if (kinds[column] == KIND_NONE) {
+            ints[column] = new int[capacity];
+            kinds[column] = KIND_INT;
+        }
+        if (kinds[column] == KIND_INT) {
+            ints[column][row] = value;
+            nulls[column][row >>> 6] &= ~(1L << row);
+        } else {
+            setObject(row, column, Integer.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a long value
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @param value long
+     */
+    public void setLong(int row, int column, long value) {
+        if (kinds[column] == KIND_NONE) {
+            longs[column] = new long[capacity];
+            kinds[column] = KIND_LONG;
+        }
+        if (kinds[column] == KIND_LONG) {
+            longs[column][row] = value;
+            nulls[column][row >>> 6] &= ~(1L << row);
+        } else {
+            setObject(row, column, Long.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a double value
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @param value double
+     */
+    public void setDouble(int row, int column, double value) {
+        if (kinds[column] == KIND_NONE) {
+            doubles[column] = new double[capacity];
+            kinds[column] = KIND_DOUBLE;
+        }
+        if (kinds[column] == KIND_DOUBLE) {
+            doubles[column][row] = value;
+            nulls[column][row >>> 6] &= ~(1L << row);
+        } else {
+            setObject(row, column, Double.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a value, the Integer, Long and Double values are kept in primitive arrays if the other
+     * values of the column are the same class.
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @param value Object
+     */
+    public void setValue(int row, int column, Object value) {
+        if (value == null) {
+            setNull(row, column);
+        } else if (value.getClass() == Integer.class) {
+            setInt(row, column, ((Integer) value).intValue());
+        } else if (value.getClass() == Long.class) {
+            setLong(row, column, ((Long) value).longValue());
+        } else if (value.getClass() == Double.class) {
+            setDouble(row, column, ((Double) value).doubleValue());
+        } else {
+            setObject(row, column, value);
+        }
+    }
+
+    /**
+     * Set a value to the object array of the column
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @param value not NULL
+     */
+    private void setObject(int row, int column, Object value) {
+        toObjects(column);
+        objects[column][row] = value;
+        nulls[column][row >>> 6] &= ~(1L << row);
+    }
+
+    /**
+     * Retrieves whether the value is NULL
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @return true if it is NULL
+     */
+    public boolean isNull(int row, int column) {
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Retrieves the value of a column of {@link #KIND_INT}
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @return the value, 0 if it is NULL
+     */
+    public int getInt(int row, int column) {
+        return ints[column][row];
+    }
+
+    /**
+     * Retrieves the value of a column of {@link #KIND_LONG}
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @return the value, 0 if it is NULL
+     */
+    public long getLong(int row, int column) {
+        return longs[column][row];
+    }
+
+    /**
+     * Retrieves the value of a column of {@link #KIND_DOUBLE}
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @return the value, 0 if it is NULL
+     */
+    public double getDouble(int row, int column) {
+        return doubles[column][row];
+    }
+
+    /**
+     * Retrieves the value, the primitive values are boxed to the class they were set with.
+     *
+     * @param row index of the record
+     * @param column index of the column
+     * @return the value or NULL
+     */
+    public Object getValue(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+        switch (kinds[column]) {
+            case KIND_INT:
+                return Integer.valueOf(ints[column][row]);
+            case KIND_LONG:
+                return Long.valueOf(longs[column][row]);
+            case KIND_DOUBLE:
+                return Double.valueOf(doubles[column][row]);
+            case KIND_OBJECT:
+                return objects[column][row];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Create a record with the values of the row.
+     *
+     * @param row index of the record
+     * @return Record
+     */
+    public Record get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+        }
+        Record record = new Record(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            record.addColumnValue(columns[i], getValue(row, i));
+        }
+        return record;
+    }
+
+    /**
+     * Retrieves the count of records
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /** Remove all records. */
+    public void clear() {
+        for (int i = 0; i < columns.length; i++) {
+            if (objects[i] != null) {
+                Arrays.fill(objects[i], 0, size, null);
+            }
+        }
+        size = 0;
+        modCount++;
+    }
+}
@@ -54,7 +54,7 @@ public class Schema extends DBObject implements Serializable {
 
     private String createDDL;
 
-    private List<Table> tables = new ArrayList<Table>();
+    private List<Table> tables = new DBObjectList<Table>();
     private List<View> views = new ArrayList<View>();
     private List<Procedure> procedures = new ArrayList<Procedure>();
     private List<Function> functions = new ArrayList<Function>();
@@ -123,8 +123,17 @@ public class Schema extends DBObject implements Serializable {
         return tables;
     }
 
+    /**
+     * Set tables of schema, the tables are copied into a list indexed by name.
+     *
+     * @param tables tables
+     */
     public void setTables(List<Table> tables) {
-        this.tables = tables;
+        if (tables == null || tables instanceof DBObjectList) {
+            this.tables = tables;
+        } else {
+            this.tables = new DBObjectList<Table>(tables);
+        }
     }
 
     public List<View> getViews() {
@@ -162,7 +171,7 @@ public class Schema extends DBObject implements Serializable {
             return;
         }
         if (tables == null) {
-            tables = new ArrayList<Table>();
+            tables = new DBObjectList<Table>();
         }
         tables.add(table);
         table.setSchema(this);
@@ -189,6 +198,9 @@ public class Schema extends DBObject implements Serializable {
      * @return Table
      */
     public Table getTableByName(String tableName) {
+        if (tables instanceof DBObjectList) {
+            return ((DBObjectList<Table>) tables).getFirstByName(tableName);
+        }
         for (Table tbl : tables) {
             if (tbl.getName().equals(tableName)) {
                 return tbl;
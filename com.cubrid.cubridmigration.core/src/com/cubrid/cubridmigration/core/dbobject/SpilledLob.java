@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.dbobject;
+
+import com.cubrid.cubridmigration.core.common.Closer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * A BLOB or CLOB value which is too large to be kept in heap. The value is written to a temporary
+ * file when it is exported and read back as a stream when it is imported. The file should be
+ * deleted after the record was imported.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class SpilledLob {
+
+    /**
+     * The LOB values longer than the threshold (bytes of BLOB or characters of CLOB) are spilled.
+     * It can be changed by the system property "cmt.lob.spill.threshold".
+     */
+    public static final long SPILL_THRESHOLD =
+            Long.getLong("cmt.lob.spill.threshold", 1024 * 1024).longValue();
+
+    private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File file;
+    private final boolean character;
+    private final long length;
+
+    private SpilledLob(File file, boolean character, long length) {
+        this.file = file;
+        this.character = character;
+        this.length = length;
+    }
+
+    /**
+     * Spill a BLOB value to a temporary file, the input stream will be closed.
+     *
+     * @param in the binary stream of the value
+     * @return SpilledLob
+     * @throws IOException when IO error
+     */
+    public static SpilledLob spill(InputStream in) throws IOException {
+        File file = createFile();
+        OutputStream out = null;
+        long length = 0;
+        try {
+            out = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+            byte[] buf = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+                length += len;
+            }
+        } catch (IOException ex) {
+            Closer.close(out);
+            file.delete();
+            throw ex;
+        } finally {
+            Closer.close(in);
+            Closer.close(out);
+        }
+        return new SpilledLob(file, false, length);
+    }
+
+    /**
+     * Spill a CLOB value to a temporary file, the reader will be closed.
+     *
+     * @param head the characters which were read already
+     * @param reader the rest characters of the value
+     * @return SpilledLob
+     * @throws IOException when IO error
+     */
+    public static SpilledLob spill(CharSequence head, Reader reader) throws IOException {
+        File file = createFile();
+        Writer writer = null;
+        long length = head.length();
+        try {
+            writer =
+                    new BufferedWriter(
+                            new OutputStreamWriter(new FileOutputStream(file), CHARSET),
+                            BUFFER_SIZE);
+            writer.append(head);
+            char[] buf = new char[BUFFER_SIZE];
+            int len;
+            while ((len = reader.read(buf)) != -1) {
+                writer.write(buf, 0, len);
+                length += len;
+            }
+        } catch (IOException ex) {
+            Closer.close(writer);
+            file.delete();
+            throw ex;
+        } finally {
+            Closer.close(reader);
+            Closer.close(writer);
+        }
+        return new SpilledLob(file, true, length);
+    }
+
+    /**
+     * Delete the temporary files of the spilled values in the records.
+     *
+     * @param records to be released
+     */
+    public static void deleteAll(List<Record> records) {
+        if (records instanceof RecordBatch) {
+            RecordBatch batch = (RecordBatch) records;
+            for (int col = 0; col < batch.getColumnCount(); col++) {
+                if (batch.getKind(col) != RecordBatch.KIND_OBJECT) {
+                    continue;
+                }
+                for (int row = 0; row < batch.size(); row++) {
+                    if (batch.getValue(row, col) instanceof SpilledLob) {
+                        ((SpilledLob) batch.getValue(row, col)).delete();
+                    }
+                }
+            }
+            return;
+        }
+        for (Record rec : records) {
+            if (rec == null) {
+                continue;
+            }
+            for (Record.ColumnValue cv : rec.getColumnValueList()) {
+                if (cv.getValue() instanceof SpilledLob) {
+                    ((SpilledLob) cv.getValue()).delete();
+                }
+            }
+        }
+    }
+
+    private static File createFile() throws IOException {
+        File file = File.createTempFile("cmt_lob", ".tmp");
+        // In case the record was not imported because of errors or interruption.
+        file.deleteOnExit();
+        return file;
+    }
+
+    /** @return true if it is a CLOB value */
+    public boolean isCharacter() {
+        return character;
+    }
+
+    /** @return bytes of BLOB or characters of CLOB */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Open a new stream of the value, a CLOB value is read as UTF-8 bytes.
+     *
+     * @return InputStream to be closed by the caller
+     * @throws IOException when IO error
+     */
+    public InputStream openStream() throws IOException {
+        return new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+    }
+
+    /**
+     * Open a new reader of the value, a BLOB value is read as UTF-8 characters.
+     *
+     * @return Reader to be closed by the caller
+     * @throws IOException when IO error
+     */
+    public Reader openReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(openStream(), CHARSET), BUFFER_SIZE);
+    }
+
+    /**
+     * Read the whole value into heap, it is only used when the value should be converted to a
+     * non-LOB type.
+     *
+     * @return byte[] of BLOB or String of CLOB
+     * @throws IOException when IO error
+     */
+    public Object materialize() throws IOException {
+        if (character) {
+            Reader reader = openReader();
+            try {
+                StringBuffer sb = new StringBuffer((int) Math.min(length, Integer.MAX_VALUE));
+                char[] buf = new char[BUFFER_SIZE];
+                int len;
+                while ((len = reader.read(buf)) != -1) {
+                    sb.append(buf, 0, len);
+                }
+                return sb.toString();
+            } finally {
+                Closer.close(reader);
+            }
+        }
+        InputStream in = openStream();
+        try {
+            ByteArrayOutputStream out =
+                    new ByteArrayOutputStream((int) Math.min(length, Integer.MAX_VALUE));
+            byte[] buf = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        } finally {
+            Closer.close(in);
+        }
+    }
+
+    /** Delete the temporary file. */
+    public void delete() {
+        file.delete();
+    }
+
+    /**
+     * to String
+     *
+     * @return the description of the spilled value
+     */
+    public String toString() {
+        return (character ? "CLOB" : "BLOB") + "(" + length + ")@" + file.getName();
+    }
+}
@@ -49,6 +49,7 @@ public class Table extends TableOrView {
     private final List<Index> indexes = new ArrayList<Index>();
     private PartitionInfo partitionInfo = null;
     private long tableRowCount;
+    private boolean tableRowCountEstimated;
     private String createSql;
     private boolean isReuseOID = false;
 
@@ -210,6 +211,16 @@ public class Table extends TableOrView {
         return tableRowCount;
     }
 
+    /**
+     * Retrieves whether the row count is read from the statistics of the database instead of
+     * counting the rows.
+     *
+     * @return true if the row count is not exact
+     */
+    public boolean isTableRowCountEstimated() {
+        return tableRowCountEstimated;
+    }
+
     /**
      * removeFKByName
      *
@@ -266,6 +277,10 @@ public class Table extends TableOrView {
         this.tableRowCount = tableRowCount;
     }
 
+    public void setTableRowCountEstimated(boolean tableRowCountEstimated) {
+        this.tableRowCountEstimated = tableRowCountEstimated;
+    }
+
     /**
      * Reset the FKs
      *
@@ -306,4 +321,33 @@ public class Table extends TableOrView {
     public boolean hasPK() {
         return pk != null && CollectionUtils.isNotEmpty(pk.getPkColumns());
     }
+
+    /**
+     * Retrieves the columns which can identify a row uniquely and can be compared in order: the PK
+     * columns, or the columns of the first unique index whose columns are all NOT NULL.
+     *
+     * @return column names or NULL if there is no such key.
+     */
+    public List<String> getUniqueKeyColumns() {
+        if (hasPK()) {
+            return pk.getPkColumns();
+        }
+        for (Index index : indexes) {
+            if (!index.isUnique() || CollectionUtils.isEmpty(index.getColumnNames())) {
+                continue;
+            }
+            boolean isAllNotNull = true;
+            for (String colName : index.getColumnNames()) {
+                Column column = getColumnByName(colName);
+                if (column == null || column.isNullable()) {
+                    isAllNotNull = false;
+                    break;
+                }
+            }
+            if (isAllNotNull) {
+                return index.getColumnNames();
+            }
+        }
+        return null;
+    }
 }
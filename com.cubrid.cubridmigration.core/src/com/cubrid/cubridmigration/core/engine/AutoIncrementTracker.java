@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AutoIncrementTracker keeps the largest value of each auto increment column written to the
+ * target tables, so the serials of the columns can be updated without scanning the tables after
+ * the data migration. The values are tracked before they are imported, so the tracked value is
+ * never smaller than the real max value of the rows written by this migration.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class AutoIncrementTracker {
+
+    private final ConcurrentHashMap<String, AtomicLong> maxValues =
+            new ConcurrentHashMap<String, AtomicLong>();
+
+    private final Set<String> untrackedTables = ConcurrentHashMap.<String>newKeySet();
+
+    /**
+     * Track the values of the auto increment columns in the target records.
+     *
+     * @param table name of the target table
+     * @param records the target records to be imported
+     */
+    public void recordsImported(String table, List<Record> records) {
+        if (records instanceof RecordBatch) {
+            batchImported(table, (RecordBatch) records);
+            return;
+        }
+        Map<String, Long> batchMax = null;
+        for (Record rc : records) {
+            for (Record.ColumnValue cv : rc.getColumnValueList()) {
+                final Column column = cv.getColumn();
+                if (column == null || !column.isAutoIncrement() || cv.getValue() == null) {
+                    continue;
+                }
+                if (!(cv.getValue() instanceof Number)) {
+                    // The value can't be compared, the table should be scanned.
+                    untrackedTables.add(getKey(table, null));
+                    continue;
+                }
+                if (batchMax == null) {
+                    batchMax = new HashMap<String, Long>();
+                }
+                final long value = ((Number) cv.getValue()).longValue();
+                Long max = batchMax.get(column.getName());
+                if (max == null || max.longValue() < value) {
+                    batchMax.put(column.getName(), Long.valueOf(value));
+                }
+            }
+        }
+        if (batchMax == null) {
+            return;
+        }
+        for (Map.Entry<String, Long> entry : batchMax.entrySet()) {
+            update(getKey(table, entry.getKey()), entry.getValue().longValue());
+        }
+    }
+
+    /**
+     * Track the values of the auto increment columns in the target batch column by column.
+     *
+     * @param table name of the target table
+     * @param batch the target records to be imported
+     */
+    private void batchImported(String table, RecordBatch batch) {
+        for (int col = 0; col < batch.getColumnCount(); col++) {
+            final Column column = batch.getColumn(col);
+            if (column == null || !column.isAutoIncrement()) {
+                continue;
+            }
+            final int kind = batch.getKind(col);
+            boolean found = false;
+            long max = Long.MIN_VALUE;
+            for (int row = 0; row < batch.size(); row++) {
+                if (batch.isNull(row, col)) {
+                    continue;
+                }
+                final long value;
+                if (kind == RecordBatch.KIND_INT) {
+                    value = batch.getInt(row, col);
+                } else if (kind == RecordBatch.KIND_LONG) {
+                    value = batch.getLong(row, col);
+                } else if (batch.getValue(row, col) instanceof Number) {
+                    value = ((Number) batch.getValue(row, col)).longValue();
+                } else {
+                    // The value can't be compared, the table should be scanned.
+                    untrackedTables.add(getKey(table, null));
+                    continue;
+                }
+                found = true;
+                max = Math.max(max, value);
+            }
+            if (found) {
+                update(getKey(table, column.getName()), max);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the largest value of the column written to the target table.
+     *
+     * @param table name of the target table
+     * @param column name of the auto increment column
+     * @return NULL if no value was written
+     */
+    public Long getMaxValue(String table, String column) {
+        AtomicLong max = maxValues.get(getKey(table, column));
+        return max == null ? null : Long.valueOf(max.get());
+    }
+
+    /**
+     * Retrieves whether the values of the table's auto increment columns are tracked.
+     *
+     * @param table name of the target table
+     * @return false if some values could not be tracked
+     */
+    public boolean isTracked(String table) {
+        return !untrackedTables.contains(getKey(table, null));
+    }
+
+    /**
+     * Update the max value of the key.
+     *
+     * @param key of the column
+     * @param value the largest value of a batch
+     */
+    private void update(String key, long value) {
+        AtomicLong max = maxValues.get(key);
+        if (max == null) {
+            max = new AtomicLong(Long.MIN_VALUE);
+            AtomicLong old = maxValues.putIfAbsent(key, max);
+            if (old != null) {
+                max = old;
+            }
+        }
+        while (true) {
+            long current = max.get();
+            if (current >= value || max.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The key of the table or the column.
+     *
+     * @param table name
+     * @param column name, NULL for the table
+     * @return key
+     */
+    private static String getKey(String table, String column) {
+        final String name = table.trim().toLowerCase(Locale.US);
+        return column == null ? name : name + "." + column.toLowerCase(Locale.US);
+    }
+}
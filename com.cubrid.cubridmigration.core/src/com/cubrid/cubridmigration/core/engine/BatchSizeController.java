@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BatchSizeController tunes the batch size (commit count) of each source by the measured commit
+ * latency of its batches. The size grows additively while the commits are faster than the target
+ * latency and is halved when they are slower. The bytes of a batch are limited too, so the tables
+ * with large rows get small batches.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class BatchSizeController {
+
+    /** The weight of the latest batch in the moving averages. */
+    private static final double WEIGHT = 0.3;
+
+    /**
+     * BatchStats is the statistics of the batches of a source.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    public static class BatchStats {
+
+        private volatile int batchSize;
+        private long batchCount;
+        private long rows;
+        private long time;
+        private double bytesPerRow;
+        private double latencyPerRow;
+
+        private BatchStats(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        private BatchStats(BatchStats stats) {
+            batchSize = stats.batchSize;
+            batchCount = stats.batchCount;
+            rows = stats.rows;
+            time = stats.time;
+            bytesPerRow = stats.bytesPerRow;
+            latencyPerRow = stats.latencyPerRow;
+        }
+
+        /**
+         * Retrieves the batch size chosen for the next batch.
+         *
+         * @return record count
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Retrieves the count of the measured batches.
+         *
+         * @return batch count
+         */
+        public long getBatchCount() {
+            return batchCount;
+        }
+
+        /**
+         * Retrieves the records imported per second by an importing thread.
+         *
+         * @return 0 if no batch was measured
+         */
+        public long getRowsPerSecond() {
+            return time == 0 ? 0 : rows * 1000 / time;
+        }
+
+        /**
+         * Retrieves the average estimated bytes of a record.
+         *
+         * @return bytes
+         */
+        public long getBytesPerRow() {
+            return Math.round(bytesPerRow);
+        }
+
+        /**
+         * Retrieves the average commit latency of a batch.
+         *
+         * @return time in milliseconds
+         */
+        public long getCommitLatency() {
+            return batchCount == 0 ? 0 : time / batchCount;
+        }
+    }
+
+    private final int initialSize;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long targetLatency;
+    private final long maxBytes;
+    private final Map<String, BatchStats> stats = new ConcurrentHashMap<String, BatchStats>();
+    private final Object lockObj = new Object();
+
+    /**
+     * The bounds are read from the configuration.
+     *
+     * @param config MigrationConfiguration
+     */
+    public BatchSizeController(MigrationConfiguration config) {
+        this(
+                config.getCommitCount(),
+                config.getMinBatchSize(),
+                Math.max(config.getMaxBatchSize(), config.getCommitCount()),
+                config.getBatchTargetLatency(),
+                config.getMaxBatchBytes());
+    }
+
+    public BatchSizeController(
+            int initialSize, int minSize, int maxSize, long targetLatency, long maxBytes) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.initialSize = Math.max(this.minSize, Math.min(this.maxSize, initialSize));
+        this.step = Math.max(this.minSize, this.initialSize / 4);
+        this.targetLatency = Math.max(1, targetLatency);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Retrieves the batch size of the source. It is called for every exported record, so it
+     * doesn't lock.
+     *
+     * @param owner of the source
+     * @param source name
+     * @return record count
+     */
+    public int getBatchSize(String owner, String source) {
+        BatchStats bs = stats.get(getKey(owner, source));
+        return bs == null ? initialSize : bs.batchSize;
+    }
+
+    /**
+     * Retrieves the statistics of the source's batches.
+     *
+     * @param owner of the source
+     * @param source name
+     * @return NULL if no batch of the source was measured
+     */
+    public BatchStats getStats(String owner, String source) {
+        synchronized (lockObj) {
+            BatchStats bs = stats.get(getKey(owner, source));
+            return bs == null || bs.batchCount == 0 ? null : new BatchStats(bs);
+        }
+    }
+
+    /**
+     * A batch of the source was imported and committed, the batch size is tuned by its latency.
+     * The latency is measured per record, so the last smaller batch of a source is measured
+     * correctly too.
+     *
+     * @param owner of the source
+     * @param source name
+     * @param rows record count of the batch
+     * @param bytes estimated size of the batch
+     * @param latency time in milliseconds to import and commit the batch
+     */
+    public void batchImported(String owner, String source, int rows, long bytes, long latency) {
+        if (rows <= 0) {
+            return;
+        }
+        synchronized (lockObj) {
+            final String key = getKey(owner, source);
+            BatchStats bs = stats.get(key);
+            if (bs == null) {
+                bs = new BatchStats(initialSize);
+                stats.put(key, bs);
+            }
+            final double rowBytes = (double) bytes / rows;
+            final double rowLatency = (double) Math.max(0, latency) / rows;
+            if (bs.batchCount == 0) {
+                bs.bytesPerRow = rowBytes;
+                bs.latencyPerRow = rowLatency;
+            } else {
+                bs.bytesPerRow = bs.bytesPerRow * (1 - WEIGHT) + rowBytes * WEIGHT;
+                bs.latencyPerRow = bs.latencyPerRow * (1 - WEIGHT) + rowLatency * WEIGHT;
+            }
+            bs.batchCount++;
+            bs.rows += rows;
+            bs.time += Math.max(0, latency);
+
+            long size = bs.batchSize;
+            if (bs.latencyPerRow * size > targetLatency) {
+                size = size / 2;
+            } else {
+                size = size + step;
+            }
+            if (maxBytes > 0 && bs.bytesPerRow > 0) {
+                size = Math.min(size, (long) (maxBytes / bs.bytesPerRow));
+            }
+            bs.batchSize = (int) Math.max(minSize, Math.min(maxSize, size));
+        }
+    }
+
+    /**
+     * Retrieves the key of the source
+     *
+     * @param owner of the source
+     * @param source name
+     * @return owner.source
+     */
+    private static String getKey(String owner, String source) {
+        return (owner == null ? "" : owner) + "." + source;
+    }
+}
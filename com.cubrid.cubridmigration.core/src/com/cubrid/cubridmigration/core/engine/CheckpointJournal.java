@@ -0,0 +1,743 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.common.Closer;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableRangeConfig;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.log4j.Logger;
+
+/**
+ * CheckpointJournal saves the progress of the data migration into a local file, so a broken
+ * migration can be resumed without migrating the finished tables again. Every line of the file is a
+ * checkpoint: a phase finished, a table(or a key range of it) finished, the key or the row offset
+ * of the last record committed, the key ranges of a split table, a target table created, or the
+ * constraints of a target table created. The batches of a table are imported by several threads, so
+ * the checkpoint of a table only moves when all the batches before it are committed. A unit whose
+ * checkpoint can't be saved, because its records are not read in a stable order, its key can't be
+ * encoded or one of its batches failed, is marked unsafe before its records are committed; the
+ * target records of an unsafe unit should be deleted before it is migrated again from the head,
+ * which is only allowed if its target table was created by the migration.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class CheckpointJournal implements ICanDispose {
+
+    private static final Logger LOG = LogUtil.getLogger(CheckpointJournal.class);
+
+    /** The phase of the objects created before the data, such as tables, views and serials. */
+    public static final String PHASE_SCHEMA = "schema";
+
+    private static final String TYPE_PHASE = "P";
+    private static final String TYPE_DONE = "D";
+    private static final String TYPE_KEY = "K";
+    private static final String TYPE_OFFSET = "O";
+    private static final String TYPE_RANGES = "R";
+    private static final String TYPE_CONSTRAINTS = "C";
+    private static final String TYPE_TABLE = "T";
+    private static final String TYPE_UNSAFE = "U";
+    private static final String TYPE_RESET = "X";
+
+    /**
+     * UnitCheckpoint tracks the batches of a table or a key range of it. The exporting side is
+     * called by the single exporting thread of the unit, and the batches are committed by the
+     * importing threads.
+     */
+    public class UnitCheckpoint {
+
+        private final String unit;
+        private Object[] exportedKey;
+        private long exportedRows = -1;
+        private long nextBatch;
+        private long confirmedBatch;
+        private final Map<Long, Object> batchPositions = new HashMap<Long, Object>();
+        private final Set<Long> committedBatches = new HashSet<Long>();
+        private boolean failed;
+        private boolean exportFinished;
+
+        private UnitCheckpoint(String unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Retrieves the key of the last committed record of the broken migration.
+         *
+         * @return NULL if the unit should be exported from the head
+         */
+        public Object[] getResumeKey() {
+            synchronized (lockObj) {
+                Object position = positions.get(unit);
+                return position instanceof Object[] ? (Object[]) position : null;
+            }
+        }
+
+        /**
+         * Retrieves the count of the records committed by the broken migration.
+         *
+         * @return 0 if the unit should be exported from the head
+         */
+        public long getResumeOffset() {
+            synchronized (lockObj) {
+                Object position = positions.get(unit);
+                return position instanceof Long ? (Long) position : 0L;
+            }
+        }
+
+        /**
+         * Set the key of the last exported record, the array should not be changed before the
+         * next batch is created.
+         *
+         * @param key values of the key columns
+         */
+        public void setExportedKey(Object[] key) {
+            exportedKey = key;
+        }
+
+        /**
+         * The records are exported in a stable order, and the checkpoint is the count of them.
+         *
+         * @param offset the count of the records skipped
+         */
+        public void startOffset(long offset) {
+            exportedRows = offset;
+        }
+
+        /** One more record was read from the source. */
+        public void countExportedRow() {
+            if (exportedRows >= 0) {
+                exportedRows++;
+            }
+        }
+
+        /**
+         * A batch of the exported records will be imported.
+         *
+         * @return the batch number
+         */
+        public long beginBatch() {
+            Object position = null;
+            if (exportedRows >= 0) {
+                position = Long.valueOf(exportedRows);
+            } else if (exportedKey != null) {
+                position = exportedKey.clone();
+            }
+            synchronized (lockObj) {
+                // The unit is marked before the records are imported, so the committed records can
+                // always be found by the resuming migration.
+                if (position == null) {
+                    markUnsafe(unit, "its records are not read in a stable order");
+                }
+                long batch = nextBatch++;
+                batchPositions.put(batch, position);
+                return batch;
+            }
+        }
+
+        /**
+         * The batch was imported and committed.
+         *
+         * @param batch number
+         */
+        public void commitBatch(long batch) {
+            synchronized (lockObj) {
+                committedBatches.add(batch);
+                Object position = null;
+                while (committedBatches.remove(confirmedBatch)) {
+                    Object batchPosition = batchPositions.remove(confirmedBatch);
+                    if (batchPosition != null) {
+                        position = batchPosition;
+                    }
+                    confirmedBatch++;
+                }
+                if (position != null && !failed && !savePosition(unit, position)) {
+                    markUnsafe(unit, "its key can't be encoded");
+                }
+                checkFinished();
+            }
+        }
+
+        /**
+         * The batch was not imported, the checkpoint will not move any more.
+         *
+         * @param batch number
+         */
+        public void failBatch(long batch) {
+            synchronized (lockObj) {
+                failed = true;
+                batchPositions.remove(batch);
+                markUnsafe(unit, "batch " + batch + " failed");
+            }
+        }
+
+        /** All records were exported. */
+        public void exportFinished() {
+            synchronized (lockObj) {
+                exportFinished = true;
+                checkFinished();
+            }
+        }
+
+        /** The unit is finished if all records exported and all batches committed. */
+        private void checkFinished() {
+            if (exportFinished
+                    && !failed
+                    && confirmedBatch == nextBatch
+                    && doneUnits.add(unit)) {
+                write(TYPE_DONE, unit);
+            }
+        }
+    }
+
+    private final Object lockObj = new Object();
+    private final Set<String> phases = new HashSet<String>();
+    private final Set<String> doneUnits = new HashSet<String>();
+    private final Set<String> constraints = new HashSet<String>();
+    private final Set<String> createdTables = new HashSet<String>();
+    private final Set<String> unsafeUnits = new HashSet<String>();
+    private final Map<String, Object> positions = new HashMap<String, Object>();
+    private final Map<String, List<String>> ranges = new HashMap<String, List<String>>();
+    private final Map<String, UnitCheckpoint> checkpoints = new HashMap<String, UnitCheckpoint>();
+    private Writer writer;
+
+    private CheckpointJournal() {}
+
+    /**
+     * Open the journal file.
+     *
+     * @param file full path of the journal
+     * @param resume true if the checkpoints in the file should be loaded, or the file is cleared
+     * @return CheckpointJournal
+     * @throws IOException if the file can't be read or written
+     */
+    public static CheckpointJournal open(String file, boolean resume) throws IOException {
+        CheckpointJournal journal = new CheckpointJournal();
+        File journalFile = new File(file);
+        if (resume && journalFile.exists()) {
+            journal.load(journalFile);
+        }
+        File dir = journalFile.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Can't create directory " + dir);
+        }
+        journal.writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new FileOutputStream(journalFile, resume), "UTF-8"));
+        return journal;
+    }
+
+    /**
+     * Load the checkpoints. A broken line, which may be written when the process was killed, is
+     * ignored.
+     *
+     * @param file journal
+     * @throws IOException if the file can't be read
+     */
+    private void load(File file) throws IOException {
+        BufferedReader reader =
+                new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    loadLine(line.split("\t", -1));
+                } catch (RuntimeException ex) {
+                    LOG.warn("Invalid checkpoint: " + line);
+                }
+            }
+        } finally {
+            Closer.close(reader);
+        }
+    }
+
+    /**
+     * Load a checkpoint
+     *
+     * @param fields of the line
+     */
+    private void loadLine(String[] fields) {
+        if (fields.length < 2) {
+            throw new IllegalArgumentException();
+        }
+        final String type = fields[0];
+        final String name = unescape(fields[1]);
+        if (TYPE_PHASE.equals(type)) {
+            phases.add(name);
+        } else if (TYPE_DONE.equals(type)) {
+            doneUnits.add(name);
+        } else if (TYPE_CONSTRAINTS.equals(type)) {
+            constraints.add(name);
+        } else if (TYPE_TABLE.equals(type)) {
+            createdTables.add(name);
+        } else if (TYPE_OFFSET.equals(type)) {
+            positions.put(name, Long.valueOf(fields[2]));
+        } else if (TYPE_KEY.equals(type)) {
+            Object[] key = new Object[fields.length - 2];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = decodeValue(unescape(fields[i + 2]));
+            }
+            positions.put(name, key);
+        } else if (TYPE_UNSAFE.equals(type)) {
+            unsafeUnits.add(name);
+            positions.remove(name);
+        } else if (TYPE_RESET.equals(type)) {
+            unsafeUnits.remove(name);
+            doneUnits.remove(name);
+            positions.remove(name);
+        } else if (TYPE_RANGES.equals(type)) {
+            List<String> conditions = new ArrayList<String>();
+            for (int i = 2; i < fields.length; i++) {
+                conditions.add(unescape(fields[i]));
+            }
+            ranges.put(name, conditions);
+        } else {
+            throw new IllegalArgumentException(type);
+        }
+    }
+
+    /**
+     * Retrieves whether the phase was finished.
+     *
+     * @param phase name
+     * @return true if finished
+     */
+    public boolean isPhaseDone(String phase) {
+        synchronized (lockObj) {
+            return phases.contains(phase);
+        }
+    }
+
+    /**
+     * Set the phase finished.
+     *
+     * @param phase name
+     */
+    public void phaseDone(String phase) {
+        synchronized (lockObj) {
+            if (phases.add(phase)) {
+                write(TYPE_PHASE, phase);
+            }
+        }
+    }
+
+    /**
+     * Retrieves whether all records of the table(or the key range) were migrated.
+     *
+     * @param stc SourceTableConfig
+     * @return true if finished
+     */
+    public boolean isUnitDone(SourceTableConfig stc) {
+        synchronized (lockObj) {
+            return doneUnits.contains(getUnitKey(stc));
+        }
+    }
+
+    /**
+     * Retrieves whether the table(or the key range) committed records which are not covered by its
+     * checkpoint. The target records of the unsafe unit should be deleted before resuming.
+     *
+     * @param stc SourceTableConfig
+     * @return true if the unit can't be resumed from its checkpoint
+     */
+    public boolean isUnitUnsafe(SourceTableConfig stc) {
+        synchronized (lockObj) {
+            return unsafeUnits.contains(getUnitKey(stc));
+        }
+    }
+
+    /**
+     * Clear the checkpoints of the table(or the key range) after its target records were deleted,
+     * so it will be migrated from the head.
+     *
+     * @param stc SourceTableConfig
+     */
+    public void resetUnit(SourceTableConfig stc) {
+        synchronized (lockObj) {
+            final String unit = getUnitKey(stc);
+            unsafeUnits.remove(unit);
+            doneUnits.remove(unit);
+            positions.remove(unit);
+            checkpoints.remove(unit);
+            write(TYPE_RESET, unit);
+        }
+    }
+
+    /**
+     * Retrieves whether the target table was created by the migration.
+     *
+     * @param target table name
+     * @return true if created
+     */
+    public boolean isTableCreated(String target) {
+        synchronized (lockObj) {
+            return createdTables.contains(target);
+        }
+    }
+
+    /**
+     * Set the target table created by the migration.
+     *
+     * @param target table name
+     */
+    public void tableCreated(String target) {
+        synchronized (lockObj) {
+            if (createdTables.add(target)) {
+                write(TYPE_TABLE, target);
+            }
+        }
+    }
+
+    /**
+     * Retrieves whether the PK, indexes and FKs of the target table were created.
+     *
+     * @param target table name
+     * @return true if created
+     */
+    public boolean isConstraintsDone(String target) {
+        synchronized (lockObj) {
+            return constraints.contains(target);
+        }
+    }
+
+    /**
+     * Set the PK, indexes and FKs of the target table created.
+     *
+     * @param target table name
+     */
+    public void constraintsDone(String target) {
+        synchronized (lockObj) {
+            if (constraints.add(target)) {
+                write(TYPE_CONSTRAINTS, target);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the key ranges of the table split by the broken migration, the same ranges should
+     * be used to resume.
+     *
+     * @param setc SourceEntryTableConfig
+     * @return conditions of the ranges or NULL if the table was not split.
+     */
+    public List<String> getRanges(SourceEntryTableConfig setc) {
+        synchronized (lockObj) {
+            return ranges.get(getUnitKey(setc));
+        }
+    }
+
+    /**
+     * Save the key ranges of the table.
+     *
+     * @param setc SourceEntryTableConfig
+     * @param conditions of the ranges
+     */
+    public void saveRanges(SourceEntryTableConfig setc, List<String> conditions) {
+        synchronized (lockObj) {
+            final String unit = getUnitKey(setc);
+            ranges.put(unit, new ArrayList<String>(conditions));
+            String[] fields = new String[conditions.size() + 1];
+            fields[0] = unit;
+            for (int i = 0; i < conditions.size(); i++) {
+                fields[i + 1] = conditions.get(i);
+            }
+            write(TYPE_RANGES, fields);
+        }
+    }
+
+    /**
+     * Retrieves the checkpoint of the table(or the key range). Only the entry tables have
+     * checkpoints.
+     *
+     * @param stc SourceTableConfig
+     * @return NULL if the source has no checkpoints.
+     */
+    public UnitCheckpoint getCheckpoint(SourceTableConfig stc) {
+        if (!(stc instanceof SourceEntryTableConfig)) {
+            return null;
+        }
+        synchronized (lockObj) {
+            final String unit = getUnitKey(stc);
+            UnitCheckpoint result = checkpoints.get(unit);
+            if (result == null) {
+                result = new UnitCheckpoint(unit);
+                checkpoints.put(unit, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Retrieves the name of the unit in the journal.
+     *
+     * @param stc SourceTableConfig
+     * @return owner.name or owner.name#range index
+     */
+    public static String getUnitKey(SourceTableConfig stc) {
+        StringBuffer buf = new StringBuffer();
+        buf.append(stc.getOwner() == null ? "" : stc.getOwner()).append('.').append(stc.getName());
+        if (stc instanceof SourceTableRangeConfig) {
+            buf.append('#').append(((SourceTableRangeConfig) stc).getRangeIndex());
+        }
+        return buf.toString();
+    }
+
+    /** Close the journal file */
+    public void dispose() {
+        synchronized (lockObj) {
+            Closer.close(writer);
+            writer = null;
+        }
+    }
+
+    /**
+     * Mark the unit unsafe, its checkpoint will not be saved any more. It should be called in the
+     * synchronized block of lockObj.
+     *
+     * @param unit name
+     * @param reason why the checkpoint can't be saved
+     */
+    private void markUnsafe(String unit, String reason) {
+        if (!unsafeUnits.add(unit)) {
+            return;
+        }
+        positions.remove(unit);
+        write(TYPE_UNSAFE, unit);
+        LOG.warn(
+                "The checkpoint of "
+                        + unit
+                        + " can't be saved because "
+                        + reason
+                        + ", it will be migrated again from the head if the migration is resumed"
+                        + " and its target table was created by the migration.");
+    }
+
+    /**
+     * Save the position of the last committed record. It should be called in the synchronized
+     * block of lockObj.
+     *
+     * @param unit name
+     * @param position Long offset or Object[] key
+     * @return false if the position can't be saved
+     */
+    private boolean savePosition(String unit, Object position) {
+        if (unsafeUnits.contains(unit)) {
+            return true;
+        }
+        if (position instanceof Long) {
+            positions.put(unit, position);
+            write(TYPE_OFFSET, unit, position.toString());
+            return true;
+        }
+        Object[] key = (Object[]) position;
+        String[] fields = new String[key.length + 1];
+        fields[0] = unit;
+        for (int i = 0; i < key.length; i++) {
+            fields[i + 1] = encodeValue(key[i]);
+            if (fields[i + 1] == null) {
+                return false;
+            }
+        }
+        positions.put(unit, key);
+        write(TYPE_KEY, fields);
+        return true;
+    }
+
+    /**
+     * Write a line into the journal. It should be called in the synchronized block of lockObj.
+     *
+     * @param type of the checkpoint
+     * @param fields of the checkpoint
+     */
+    private void write(String type, String... fields) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            StringBuffer buf = new StringBuffer(type);
+            for (String field : fields) {
+                buf.append('\t').append(escape(field));
+            }
+            buf.append('\n');
+            writer.write(buf.toString());
+            writer.flush();
+        } catch (IOException ex) {
+            LOG.error("Writing checkpoints error, the following checkpoints will be lost.", ex);
+            Closer.close(writer);
+            writer = null;
+        }
+    }
+
+    /**
+     * Encode a key value with its type.
+     *
+     * @param value of a key column
+     * @return NULL if the type is not supported.
+     */
+    static String encodeValue(Object value) {
+        if (value instanceof String) {
+            return "s:" + value;
+        } else if (value instanceof Integer) {
+            return "i:" + value;
+        } else if (value instanceof Long) {
+            return "l:" + value;
+        } else if (value instanceof Short) {
+            return "h:" + value;
+        } else if (value instanceof BigDecimal) {
+            return "n:" + value;
+        } else if (value instanceof BigInteger) {
+            return "b:" + value;
+        } else if (value instanceof Timestamp) {
+            Timestamp ts = (Timestamp) value;
+            return "t:" + ts.getTime() + "," + ts.getNanos();
+        } else if (value instanceof java.sql.Date) {
+            return "d:" + ((java.sql.Date) value).getTime();
+        } else if (value instanceof Time) {
+            return "m:" + ((Time) value).getTime();
+        }
+        return null;
+    }
+
+    /**
+     * Decode a key value encoded by {@link #encodeValue(Object)}.
+     *
+     * @param text encoded value
+     * @return the key value
+     */
+    static Object decodeValue(String text) {
+        if (text.length() < 2 || text.charAt(1) != ':') {
+            throw new IllegalArgumentException(text);
+        }
+        final String value = text.substring(2);
+        switch (text.charAt(0)) {
+            case 's':
+                return value;
+            case 'i':
+                return Integer.valueOf(value);
+            case 'l':
+                return Long.valueOf(value);
+            case 'h':
+                return Short.valueOf(value);
+            case 'n':
+                return new BigDecimal(value);
+            case 'b':
+                return new BigInteger(value);
+            case 't':
+                int comma = value.indexOf(',');
+                Timestamp ts = new Timestamp(Long.parseLong(value.substring(0, comma)));
+                ts.setNanos(Integer.parseInt(value.substring(comma + 1)));
+                return ts;
+            case 'd':
+                return new java.sql.Date(Long.parseLong(value));
+            case 'm':
+                return new Time(Long.parseLong(value));
+            default:
+                throw new IllegalArgumentException(text);
+        }
+    }
+
+    /**
+     * Escape the characters which split the fields and lines.
+     *
+     * @param text to be escaped
+     * @return escaped text
+     */
+    private static String escape(String text) {
+        StringBuffer buf = new StringBuffer(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '\\') {
+                buf.append("\\\\");
+            } else if (ch == '\t') {
+                buf.append("\\t");
+            } else if (ch == '\n') {
+                buf.append("\\n");
+            } else if (ch == '\r') {
+                buf.append("\\r");
+            } else {
+                buf.append(ch);
+            }
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Restore the text escaped by {@link #escape(String)}.
+     *
+     * @param text escaped text
+     * @return original text
+     */
+    private static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuffer buf = new StringBuffer(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch != '\\' || i == text.length() - 1) {
+                buf.append(ch);
+                continue;
+            }
+            char next = text.charAt(++i);
+            if (next == 't') {
+                buf.append('\t');
+            } else if (next == 'n') {
+                buf.append('\n');
+            } else if (next == 'r') {
+                buf.append('\r');
+            } else {
+                buf.append(next);
+            }
+        }
+        return buf.toString();
+    }
+}
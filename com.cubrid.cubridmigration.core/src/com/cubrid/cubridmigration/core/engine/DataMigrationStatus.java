@@ -41,6 +41,11 @@ public class DataMigrationStatus {
     private long totalExpCount = 0;
     private long totalImpCount = 0;
     private boolean expDoneFlag = false;
+    private boolean dataMigrated = false;
+    private int unfinishedExpParts = 1;
+    private long blockedTime = 0;
+    private int pendingBatches = 0;
+    private int maxPendingBatches = 0;
 
     public String getSource() {
         return source;
@@ -83,4 +88,66 @@ public class DataMigrationStatus {
     public void setExpDoneFlag(boolean expDoneFlag) {
         this.expDoneFlag = expDoneFlag;
     }
+
+    public boolean isDataMigrated() {
+        return dataMigrated;
+    }
+
+    public void setDataMigrated(boolean dataMigrated) {
+        this.dataMigrated = dataMigrated;
+    }
+
+    public void setExpPartCount(int expPartCount) {
+        this.unfinishedExpParts = expPartCount;
+    }
+
+    /**
+     * Add the exporting parts which are found during exporting, such as the chunks of a CSV file.
+     *
+     * @param count of parts
+     */
+    public void addExpPartCount(int count) {
+        this.unfinishedExpParts += count;
+    }
+
+    /**
+     * Mark one exporting part(a key range of the table, or the whole table) finished.
+     *
+     * @return true if all parts are finished
+     */
+    public boolean finishExpPart() {
+        unfinishedExpParts--;
+        return unfinishedExpParts <= 0;
+    }
+
+    /**
+     * Add the time(ms) of the exporting threads blocked by the memory budget
+     *
+     * @param time to be added
+     */
+    public void addBlockedTime(long time) {
+        this.blockedTime += time;
+    }
+
+    public long getBlockedTime() {
+        return blockedTime;
+    }
+
+    /**
+     * Change the count of the batches exported but not imported yet.
+     *
+     * @param delta 1 if a batch was exported, -1 if a batch was imported
+     */
+    public void changePendingBatches(int delta) {
+        pendingBatches += delta;
+        maxPendingBatches = Math.max(maxPendingBatches, pendingBatches);
+    }
+
+    public int getPendingBatches() {
+        return pendingBatches;
+    }
+
+    public int getMaxPendingBatches() {
+        return maxPendingBatches;
+    }
 }
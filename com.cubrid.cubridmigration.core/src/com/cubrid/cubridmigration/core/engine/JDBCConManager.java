@@ -31,102 +31,309 @@
 package com.cubrid.cubridmigration.core.engine;
 
 import com.cubrid.cubridmigration.core.common.Closer;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.connection.ConnParameters;
 import com.cubrid.cubridmigration.core.connection.IConnHelper;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.event.ConnPoolStatusEvent;
 import com.cubrid.cubridmigration.core.engine.exception.JDBCConnectErrorException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.apache.log4j.Logger;
 
 /**
  * JDBCConnectionManager is a JDBC connection pool.
  *
+ * <p>Target connections are pooled: a returned connection is kept idle and handed out again to
+ * the next caller, the thread which used it last is preferred. Each pooled connection owns a small
+ * cache of prepared statements, so the importing workers do not prepare the same INSERT again for
+ * every batch.
+ *
  * @author Kevin Cao
  * @version 1.0 - 2011-8-3 created by Kevin Cao
  */
 public class JDBCConManager implements ICanDispose {
 
-    // private static final Logger LOG = LogUtil.getLogger(JDBCConManager.class);
+    private static final Logger LOG = LogUtil.getLogger(JDBCConManager.class);
+
+    // Idle connections which were not used in this time will be closed.
+    private static final long IDLE_TIMEOUT = 5 * 60 * 1000L;
+    // Idle connections which were not used in this time will be validated before reusing.
+    private static final long VALIDATION_INTERVAL = 30 * 1000L;
+    // Max time to wait for a free connection when the pool is exhausted.
+    private static final long MAX_WAIT_TIME = 10 * 60 * 1000L;
+    // Max prepared statements cached by one connection.
+    private static final int MAX_CACHED_STATEMENTS = 64;
 
     protected final MigrationConfiguration config;
-    // Thread safe
-    // private final List<Connection> sourceConnections = new ArrayList<Connection>();
-    // Thread safe
-    // private final List<Connection> targetConnections = new ArrayList<Connection>();
-    // Thread safe
-    // private final List<Connection> inUseSrcConnections = new ArrayList<Connection>();
-    // Thread safe
-    // private final List<Connection> inUseTarConnections = new ArrayList<Connection>();
-
-    // private final Object tarLock = new Object();
-    // private final Object srcLock = new Object();
+
+    private final LinkedList<PooledConnection> idleTarConnections =
+            new LinkedList<PooledConnection>();
+    private final Map<Connection, PooledConnection> allTarConnections =
+            new IdentityHashMap<Connection, PooledConnection>();
+    private final ThreadLocal<Connection> lastTarConnection = new ThreadLocal<Connection>();
+    private final Object tarLock = new Object();
+    private final int maxTarPoolSize;
+    private int creatingTarConnections;
+
+    private long tarPoolHits;
+    private long tarPoolMisses;
+    private long tarPoolWaits;
+    private long tarPoolWaitTime;
+    private long tarPoolEvicted;
+    private long tarStatementHits;
 
     protected boolean isDisposed = false;
 
     public JDBCConManager(MigrationConfiguration config2) {
         this.config = config2;
+        // Every exporting thread has its own importing thread pool.
+        this.maxTarPoolSize =
+                Math.max(1, config2.getImportThreadCount())
+                                * Math.max(1, config2.getExportThreadCount())
+                        + 1;
     }
 
     /**
-     * Retrieves a target JDBC connection
+     * Retrieves a target JDBC connection from the pool. If all connections are in use and the pool
+     * is full, the caller will be blocked until another connection is returned.
      *
      * @return Connection
      */
     public Connection getTargetConnection() {
-        if (isDisposed) {
-            throw new JDBCConnectErrorException("Disposed.");
+        PooledConnection pc = null;
+        synchronized (tarLock) {
+            long waitStart = 0;
+            while (true) {
+                if (isDisposed) {
+                    throw new JDBCConnectErrorException("Disposed.");
+                }
+                evictIdleTarConnections();
+                pc = pollIdleTarConnection();
+                if (pc != null) {
+                    tarPoolHits++;
+                    break;
+                }
+                if (allTarConnections.size() + creatingTarConnections < maxTarPoolSize) {
+                    tarPoolMisses++;
+                    creatingTarConnections++;
+                    break;
+                }
+                final long now = System.currentTimeMillis();
+                if (waitStart == 0) {
+                    waitStart = now;
+                    tarPoolWaits++;
+                } else if (now - waitStart >= MAX_WAIT_TIME) {
+                    tarPoolWaitTime += now - waitStart;
+                    throw new JDBCConnectErrorException(
+                            "Timeout to wait for a free target connection.");
+                }
+                try {
+                    tarLock.wait(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JDBCConnectErrorException(e);
+                }
+            }
+            if (waitStart > 0) {
+                tarPoolWaitTime += System.currentTimeMillis() - waitStart;
+            }
+            if (pc != null) {
+                pc.leased = true;
+            }
         }
+        if (pc == null) {
+            pc = createTarConnection();
+        } else if (!validateTarConnection(pc)) {
+            discardTar(pc.conn);
+            return getTargetConnection();
+        }
+        lastTarConnection.set(pc.conn);
+        return pc.conn;
+    }
+
+    /**
+     * Create a new target connection and put it into the pool, the slot should be reserved by
+     * increasing creatingTarConnections.
+     *
+     * @return new pooled connection
+     */
+    private PooledConnection createTarConnection() {
+        Connection tc = null;
         try {
-            ConnParameters cp = config.getTargetConParams().clone();
-            IConnHelper chelper = DatabaseType.CUBRID.getConHelper();
-            Connection tc = chelper.createConnection(cp); // NOPMD
-            return tc;
+            tc = newTargetConnection();
         } catch (Exception e) {
             throw new JDBCConnectErrorException(e);
+        } finally {
+            synchronized (tarLock) {
+                creatingTarConnections--;
+                if (tc != null) {
+                    PooledConnection pc = new PooledConnection(tc);
+                    pc.leased = true;
+                    allTarConnections.put(tc, pc);
+                }
+                tarLock.notifyAll();
+            }
+        }
+        synchronized (tarLock) {
+            return allTarConnections.get(tc);
         }
-        //		synchronized (tarLock) {
-        //			try {
-        //				Connection tc;
-        //				if (targetConnections.isEmpty()) {
-        //					ConnParameters cp = config.getTargetConParams().clone();
-        //					IConnHelper chelper = DatabaseType.CUBRID.getConHelper();
-        //					tc = chelper.createConnection(cp); //NOPMD
-        //				} else {
-        //					tc = targetConnections.get(0);
-        //					targetConnections.remove(tc);
-        //					if (!testCubridConnection(tc)) {
-        //						ConnParameters cp = config.getTargetConParams().clone();
-        //						IConnHelper chelper = DatabaseType.CUBRID.getConHelper();
-        //						tc = chelper.createConnection(cp); //NOPMD
-        //					}
-        //				}
-        //				inUseTarConnections.add(tc);
-        //				return tc;
-        //			} catch (Exception e) {
-        //				throw new JDBCConnectErrorException(e);
-        //			}
-        //		}
     }
 
-    //	/**
-    //	 * Test the validation of cubrid connection
-    //	 *
-    //	 * @param con cubrid connection
-    //	 * @return true if connection is valid.
-    //	 */
-    //	private boolean testCubridConnection(Connection con) {
-    //		Statement stmt = null;
-    //		try {
-    //			stmt = con.createStatement();
-    //			stmt.execute("select * from db_root");
-    //			return true;
-    //		} catch (SQLException e) {
-    //			return false;
-    //		} finally {
-    //			Closer.close(stmt);
-    //		}
-    //
-    //	}
+    /**
+     * Create a new physical target connection.
+     *
+     * @return Connection
+     * @throws SQLException ex
+     */
+    protected Connection newTargetConnection() throws SQLException {
+        ConnParameters cp = config.getTargetConParams().clone();
+        IConnHelper chelper = DatabaseType.CUBRID.getConHelper();
+        return chelper.createConnection(cp); // NOPMD
+    }
+
+    /**
+     * Retrieves the idle connection used by current thread last time, or the most recently used
+     * one. Should be called in tarLock.
+     *
+     * @return idle connection or null
+     */
+    private PooledConnection pollIdleTarConnection() {
+        if (idleTarConnections.isEmpty()) {
+            return null;
+        }
+        Connection last = lastTarConnection.get();
+        if (last != null) {
+            for (Iterator<PooledConnection> it = idleTarConnections.iterator(); it.hasNext(); ) {
+                PooledConnection pc = it.next();
+                if (pc.conn == last) {
+                    it.remove();
+                    return pc;
+                }
+            }
+        }
+        return idleTarConnections.removeLast();
+    }
+
+    /** Close the connections which were idle too long. Should be called in tarLock. */
+    private void evictIdleTarConnections() {
+        final long now = System.currentTimeMillis();
+        for (Iterator<PooledConnection> it = idleTarConnections.iterator(); it.hasNext(); ) {
+            PooledConnection pc = it.next();
+            if (now - pc.lastUsedTime < IDLE_TIMEOUT) {
+                continue;
+            }
+            it.remove();
+            allTarConnections.remove(pc.conn);
+            tarPoolEvicted++;
+            pc.close();
+        }
+        // Connections closed by callers directly will never be returned.
+        for (Iterator<PooledConnection> it = allTarConnections.values().iterator();
+                it.hasNext(); ) {
+            PooledConnection pc = it.next();
+            if (pc.leased && pc.isClosed()) {
+                it.remove();
+                tarPoolEvicted++;
+                pc.close();
+            }
+        }
+    }
+
+    /**
+     * Test the validation of a pooled connection which has been idle for a while.
+     *
+     * @param pc pooled connection
+     * @return true if connection is valid.
+     */
+    private boolean validateTarConnection(PooledConnection pc) {
+        if (pc.isClosed()) {
+            return false;
+        }
+        if (System.currentTimeMillis() - pc.lastUsedTime < VALIDATION_INTERVAL) {
+            return true;
+        }
+        Statement stmt = null;
+        try {
+            stmt = pc.conn.createStatement();
+            stmt.execute("select 1 from db_root");
+            return true;
+        } catch (SQLException e) {
+            return false;
+        } finally {
+            Closer.close(stmt);
+        }
+    }
+
+    /**
+     * Retrieves a prepared statement of the target connection. The statements are cached by the
+     * connection with the key, the cached statement will be returned if its SQL is not changed.
+     * The statement should not be closed by callers, call {@link #closeTarStatement} if it is
+     * broken.
+     *
+     * @param conn target connection retrieved by {@link #getTargetConnection()}
+     * @param key cache key, such as the target table's name
+     * @param sql SQL to be prepared
+     * @return PreparedStatement
+     * @throws SQLException ex
+     */
+    public PreparedStatement prepareTarStatement(Connection conn, String key, String sql)
+            throws SQLException {
+        PooledConnection pc;
+        synchronized (tarLock) {
+            pc = allTarConnections.get(conn);
+        }
+        if (pc == null) {
+            return conn.prepareStatement(sql);
+        }
+        CachedStatement cs = pc.statements.get(key);
+        if (cs != null && cs.sql.equals(sql)) {
+            pc.statementHits++;
+            return cs.stmt;
+        }
+        if (cs != null) {
+            pc.statements.remove(key);
+            Closer.close(cs.stmt);
+        }
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        pc.statements.put(key, new CachedStatement(sql, stmt));
+        return stmt;
+    }
+
+    /**
+     * Close a statement retrieved by {@link #prepareTarStatement}, it will be removed from cache.
+     *
+     * @param conn target connection
+     * @param stmt statement
+     */
+    public void closeTarStatement(Connection conn, PreparedStatement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        PooledConnection pc;
+        synchronized (tarLock) {
+            pc = allTarConnections.get(conn);
+        }
+        if (pc != null) {
+            for (Iterator<CachedStatement> it = pc.statements.values().iterator();
+                    it.hasNext(); ) {
+                if (it.next().stmt == stmt) {
+                    it.remove();
+                }
+            }
+        }
+        Closer.close(stmt);
+    }
 
     /**
      * Retrieves a source JDBC connection
@@ -189,7 +396,7 @@ public class JDBCConManager implements ICanDispose {
     }
 
     /**
-     * Close connection
+     * Return a target connection to the pool. The uncommitted transaction will be rolled back.
      *
      * @param conn Connection
      */
@@ -197,49 +404,185 @@ public class JDBCConManager implements ICanDispose {
         if (conn == null) {
             return;
         }
-        if (isDisposed) {
+        PooledConnection pc;
+        synchronized (tarLock) {
+            pc = allTarConnections.get(conn);
+        }
+        if (pc == null) {
+            Closer.close(conn);
             return;
         }
-        Closer.close(conn);
-        //		synchronized (tarLock) {
-        //			try {
-        //				inUseTarConnections.remove(conn);
-        //				targetConnections.add(conn);
-        //			} catch (Exception ex) {
-        //				LOG.error("", ex);
-        //			}
-        //		}
+        boolean reusable = !isDisposed && !pc.isClosed();
+        if (reusable) {
+            try {
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+            } catch (SQLException e) {
+                reusable = false;
+            }
+        }
+        synchronized (tarLock) {
+            pc.leased = false;
+            if (reusable && !isDisposed) {
+                pc.lastUsedTime = System.currentTimeMillis();
+                idleTarConnections.addLast(pc);
+            } else {
+                allTarConnections.remove(conn);
+                tarPoolEvicted++;
+                reusable = false;
+            }
+            tarLock.notifyAll();
+        }
+        if (!reusable) {
+            pc.close();
+        }
+    }
+
+    /**
+     * Close a broken target connection and remove it from the pool.
+     *
+     * @param conn Connection
+     */
+    public void discardTar(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        PooledConnection pc;
+        synchronized (tarLock) {
+            pc = allTarConnections.remove(conn);
+            if (pc != null) {
+                tarPoolEvicted++;
+            }
+            tarLock.notifyAll();
+        }
+        if (pc == null) {
+            Closer.close(conn);
+        } else {
+            pc.close();
+        }
+    }
+
+    /**
+     * Retrieves the status of target connection pool.
+     *
+     * @return hits, misses, waits, total wait time(ms), evicted connections and cached statements
+     *     hits.
+     */
+    public long[] getTarPoolStatus() {
+        synchronized (tarLock) {
+            long stmtHits = 0;
+            for (PooledConnection pc : allTarConnections.values()) {
+                stmtHits += pc.statementHits;
+            }
+            return new long[] {
+                tarPoolHits,
+                tarPoolMisses,
+                tarPoolWaits,
+                tarPoolWaitTime,
+                tarPoolEvicted,
+                stmtHits + tarStatementHits
+            };
+        }
+    }
+
+    public int getMaxTarPoolSize() {
+        return maxTarPoolSize;
     }
 
     /** Release all connections */
     public void releaseAll() {
-        //		synchronized (tarLock) {
-        //			List<Connection> cons = new ArrayList<Connection>();
-        //			cons.addAll(targetConnections);
-        //			cons.addAll(inUseTarConnections);
-        //			targetConnections.clear();
-        //			inUseTarConnections.clear();
-        //
-        //			for (Connection conn : cons) {
-        //				Closer.close(conn);
-        //			}
-        //		}
-
-        //		synchronized (srcLock) {
-        //			List<Connection> cons = new ArrayList<Connection>(sourceConnections);
-        //			cons.addAll(inUseSrcConnections);
-        //			sourceConnections.clear();
-        //			inUseSrcConnections.clear();
-        //
-        //			for (Connection conn : cons) {
-        //				Closer.close(conn);
-        //			}
-        //		}
+        List<PooledConnection> cons = new ArrayList<PooledConnection>();
+        synchronized (tarLock) {
+            cons.addAll(idleTarConnections);
+            for (PooledConnection pc : idleTarConnections) {
+                allTarConnections.remove(pc.conn);
+            }
+            idleTarConnections.clear();
+            tarLock.notifyAll();
+        }
+        // The connections in use will be closed when they are returned.
+        for (PooledConnection pc : cons) {
+            pc.close();
+        }
     }
 
     /** Dispose */
     public void dispose() {
         isDisposed = true;
         releaseAll();
+        LOG.info(new ConnPoolStatusEvent(maxTarPoolSize, getTarPoolStatus()));
+    }
+
+    /**
+     * CachedStatement is a prepared statement cached by a pooled connection.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private static class CachedStatement {
+        private final String sql;
+        private final PreparedStatement stmt;
+
+        CachedStatement(String sql, PreparedStatement stmt) {
+            this.sql = sql;
+            this.stmt = stmt;
+        }
+    }
+
+    /**
+     * PooledConnection holds a target connection and its cached statements.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private class PooledConnection {
+        private final Connection conn;
+        private boolean leased;
+        private long lastUsedTime = System.currentTimeMillis();
+        private long statementHits;
+
+        private final Map<String, CachedStatement> statements =
+                new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                        if (size() <= MAX_CACHED_STATEMENTS) {
+                            return false;
+                        }
+                        Closer.close(eldest.getValue().stmt);
+                        return true;
+                    }
+                };
+
+        PooledConnection(Connection conn) {
+            this.conn = conn;
+        }
+
+        /**
+         * Retrieves whether the connection was closed.
+         *
+         * @return true if closed
+         */
+        private boolean isClosed() {
+            try {
+                return conn.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        /** Close cached statements and the connection */
+        private void close() {
+            synchronized (tarLock) {
+                tarStatementHits += statementHits;
+                statementHits = 0;
+            }
+            for (CachedStatement cs : statements.values()) {
+                Closer.close(cs.stmt);
+            }
+            statements.clear();
+            Closer.close(conn);
+        }
     }
 }
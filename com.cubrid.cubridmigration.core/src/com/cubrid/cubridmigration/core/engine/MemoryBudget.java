@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * MemoryBudget limits the bytes of the data which were exported but not imported yet. The
+ * exporting threads will be blocked until the importing threads release enough bytes.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class MemoryBudget implements ICanDispose, ICanInterrupt {
+
+    private static final int RECORD_OVERHEAD = 48;
+    private static final int VALUE_OVERHEAD = 32;
+    private static final int OBJECT_SIZE = 16;
+
+    private final long capacity;
+    private final Object lockObj = new Object();
+    private long available;
+    private boolean interrupted;
+
+    public MemoryBudget(long capacity) {
+        this.capacity = capacity;
+        this.available = capacity;
+    }
+
+    /**
+     * Reserve bytes from the budget, the current thread will be blocked until there is enough
+     * bytes. A request larger than the capacity reserves the whole capacity.
+     *
+     * @param bytes to be reserved
+     * @return the bytes reserved which should be released later
+     */
+    public long acquire(long bytes) {
+        final long reserved = Math.max(0, Math.min(bytes, capacity));
+        synchronized (lockObj) {
+            while (available < reserved && !interrupted) {
+                try {
+                    lockObj.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            available -= reserved;
+            return reserved;
+        }
+    }
+
+    /**
+     * Release the bytes reserved before.
+     *
+     * @param bytes reserved by {@link #acquire(long)}
+     */
+    public void release(long bytes) {
+        if (bytes <= 0) {
+            return;
+        }
+        synchronized (lockObj) {
+            available += bytes;
+            lockObj.notifyAll();
+        }
+    }
+
+    /** Stop blocking the exporting threads when migration finished. */
+    public void dispose() {
+        interrupt();
+    }
+
+    /** Stop blocking the exporting threads. */
+    public void interrupt() {
+        synchronized (lockObj) {
+            interrupted = true;
+            lockObj.notifyAll();
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the bytes not reserved.
+     *
+     * @return bytes, it is negative if the budget was interrupted with too many reserved bytes
+     */
+    public long getAvailable() {
+        synchronized (lockObj) {
+            return available;
+        }
+    }
+
+    /**
+     * Estimate the heap bytes used by the records.
+     *
+     * @param records to be estimated
+     * @return bytes
+     */
+    public static long estimateSize(List<Record> records) {
+        if (records instanceof RecordBatch) {
+            return estimateSize((RecordBatch) records);
+        }
+        long size = 0;
+        for (Record record : records) {
+            if (record == null) {
+                continue;
+            }
+            size += RECORD_OVERHEAD;
+            for (Record.ColumnValue cv : record.getColumnValueList()) {
+                size += VALUE_OVERHEAD + estimateSize(cv.getValue());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the heap bytes used by a record batch, the primitive values are kept in arrays.
+     *
+     * @param batch RecordBatch
+     * @return bytes
+     */
+    private static long estimateSize(RecordBatch batch) {
+        final int rows = batch.size();
+        long size = 0;
+        for (int col = 0; col < batch.getColumnCount(); col++) {
+            if (batch.getKind(col) != RecordBatch.KIND_OBJECT) {
+                size += 8L * rows;
+                continue;
+            }
+            for (int row = 0; row < rows; row++) {
+                size += 8 + estimateSize(batch.getValue(row, col));
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the heap bytes used by a value.
+     *
+     * @param value of a column
+     * @return bytes
+     */
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return OBJECT_SIZE + ((byte[]) value).length;
+        } else if (value instanceof char[]) {
+            return OBJECT_SIZE + 2L * ((char[]) value).length;
+        } else if (value instanceof BigDecimal) {
+            return 64;
+        }
+        return OBJECT_SIZE;
+    }
+}
@@ -30,14 +30,24 @@
  */
 package com.cubrid.cubridmigration.core.engine;
 
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.exception.BreakMigrationException;
+import com.cubrid.cubridmigration.core.engine.executors.BudgetedExecutor;
 import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
 import com.cubrid.cubridmigration.core.engine.executors.ImmediateExecutor;
 import com.cubrid.cubridmigration.core.engine.executors.MultiQueueExecutor;
+import com.cubrid.cubridmigration.core.engine.executors.PriorityExecutor;
 import com.cubrid.cubridmigration.core.engine.executors.SingleQueueExecutor;
 import com.cubrid.cubridmigration.cubrid.stmt.CUBRIDParameterSetter;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import org.apache.log4j.Logger;
 
 /**
  * MigrationResourceManager responses to manage the resources used by migration process.
@@ -49,21 +59,27 @@ import java.util.List;
  */
 public class MigrationContext {
 
+    private static final Logger LOG = LogUtil.getLogger(MigrationContext.class);
+
     private final List<IRunnableExecutor> executors = new ArrayList<IRunnableExecutor>();
     // private final Map<String, IRunnableExecutor> mergeDataFileExe = new HashMap<String,
     // IRunnableExecutor>();
     private final List<ICanDispose> tobeDisposed = new ArrayList<ICanDispose>();
+    private final Map<SourceTableConfig, RecordTransformPlan> transformPlans =
+            new IdentityHashMap<SourceTableConfig, RecordTransformPlan>();
     private final MigrationConfiguration config;
     private final IMigrationEventHandler eventsHandler;
 
     private IRunnableExecutor mergeTaskExe;
     private IRunnableExecutor dbObjectExe;
+    private IRunnableExecutor constraintTaskExe;
     private IRunnableExecutor exportRecExe;
     private IRunnableExecutor importRecordExecutor;
     private CUBRIDParameterSetter paramSetter;
     private JDBCConManager connManager;
     private MigrationStatusManager statusMgr;
     private MigrationDirAndFilesManager dirAndFilesMgr;
+    private CheckpointJournal checkpointJournal;
 
     private MigrationContext(MigrationConfiguration config, IMigrationEventHandler eventsHandler) {
         this.config = config;
@@ -80,6 +96,22 @@ public class MigrationContext {
      */
     public static MigrationContext buildContext(
             MigrationConfiguration config, IMigrationEventHandler eventsHandler) {
+        return buildContext(config, eventsHandler, null);
+    }
+
+    /**
+     * Build migration context which shares the threads and the memory with the other migrations
+     * of the runner.
+     *
+     * @param config MigrationConfiguration
+     * @param eventsHandler IMigrationEventHandler
+     * @param runner MigrationJobRunner, null means the migration runs alone
+     * @return MigrationContext
+     */
+    public static MigrationContext buildContext(
+            MigrationConfiguration config,
+            IMigrationEventHandler eventsHandler,
+            MigrationJobRunner runner) {
         final MigrationContext context = new MigrationContext(config, eventsHandler);
 
         context.setParamSetter(new CUBRIDParameterSetter(config));
@@ -95,22 +127,74 @@ public class MigrationContext {
         msm.setWarningCommitCount(Math.max(config.getCommitCount() / 10, 500));
         msm.setAlertFreeMemory(maxMemory / 5);
         msm.setAlertCommitCount(Math.max(config.getCommitCount() / 100, 100));
+        // The data exported but not imported can use a third of the heap at most.
+        final int share = runner == null ? 1 : runner.getMaxRunningJobs();
+        final MemoryBudget memoryBudget = new MemoryBudget(maxMemory / 3 / share);
+        msm.setMemoryBudget(memoryBudget);
+        if (config.isAdaptiveBatchSize()) {
+            msm.setBatchSizeController(new BatchSizeController(config));
+        }
+        context.addTobeDisposed(memoryBudget);
         context.setStatusMgr(msm);
 
-        context.setExportRecExe(new SingleQueueExecutor(config.getExportThreadCount(), true));
-        context.setImportRecordExecutor(
-                new MultiQueueExecutor(config.getImportThreadCount(), true));
+        if (runner == null) {
+            context.setExportRecExe(new SingleQueueExecutor(config.getExportThreadCount(), true));
+            context.setImportRecordExecutor(
+                    new MultiQueueExecutor(config.getImportThreadCount(), true));
+        } else {
+            // The export tasks submit their chunks to the same executor, so they can't wait for
+            // the shared budget without the risk of a deadlock, the thread count is limited.
+            int exportThreads =
+                    Math.min(config.getExportThreadCount(), runner.getExportThreadShare());
+            context.setExportRecExe(new SingleQueueExecutor(Math.max(1, exportThreads), true));
+            TaskBudget importBudget = runner.getImportBudget();
+            int importThreads = Math.min(config.getImportThreadCount(), importBudget.getCapacity());
+            context.setImportRecordExecutor(
+                    new BudgetedExecutor(
+                            new MultiQueueExecutor(Math.max(1, importThreads), true),
+                            importBudget,
+                            context));
+        }
 
         context.setMergeTaskExe(new SingleQueueExecutor(1, false));
 
         context.setDbObjectExe(new ImmediateExecutor());
+        // The PKs, indexes and FKs are built by the DDL threads, the default value is the import
+        // thread count.
+        final int ddlThreads = config.getDdlThreadCount();
+        context.setConstraintTaskExe(
+                new PriorityExecutor(ddlThreads > 0 ? ddlThreads : config.getImportThreadCount()));
 
         MigrationDirAndFilesManager dirAndFilesMgr = new MigrationDirAndFilesManager(config);
         dirAndFilesMgr.initialize();
         context.setDirAndFilesMgr(dirAndFilesMgr);
+        // Only the data committed into the target database can be resumed.
+        if (config.getCheckpointFile() != null && config.targetIsOnline()) {
+            context.setCheckpointJournal(openCheckpointJournal(config));
+        }
         return context;
     }
 
+    /**
+     * Open the journal of checkpoints.
+     *
+     * @param config MigrationConfiguration
+     * @return NULL if the journal can't be opened and the migration is not resumed.
+     */
+    private static CheckpointJournal openCheckpointJournal(MigrationConfiguration config) {
+        try {
+            return CheckpointJournal.open(
+                    config.getCheckpointFile(), config.isResumeFromCheckpoint());
+        } catch (IOException ex) {
+            if (config.isResumeFromCheckpoint()) {
+                throw new BreakMigrationException(
+                        "Can't open checkpoints journal " + config.getCheckpointFile(), ex);
+            }
+            LOG.error("Can't open checkpoints journal " + config.getCheckpointFile(), ex);
+            return null;
+        }
+    }
+
     /**
      * Add a resource should be disposed by resource manager
      *
@@ -157,6 +241,14 @@ public class MigrationContext {
         return dbObjectExe;
     }
 
+    public IRunnableExecutor getConstraintTaskExe() {
+        return constraintTaskExe;
+    }
+
+    public CheckpointJournal getCheckpointJournal() {
+        return checkpointJournal;
+    }
+
     public MigrationDirAndFilesManager getDirAndFilesMgr() {
         return dirAndFilesMgr;
     }
@@ -177,6 +269,44 @@ public class MigrationContext {
         return paramSetter;
     }
 
+    /**
+     * Retrieves the record transform plan of the source table. The plan is compiled at the first
+     * time and shared by the exporting and importing tasks of the table.
+     *
+     * @param stc SourceTableConfig
+     * @return RecordTransformPlan
+     */
+    public RecordTransformPlan getTransformPlan(SourceTableConfig stc) {
+        synchronized (transformPlans) {
+            RecordTransformPlan plan = transformPlans.get(stc);
+            if (plan == null) {
+                plan = compileTransformPlan(config, stc, paramSetter);
+                transformPlans.put(stc, plan);
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Compile the record transform plan of the source table.
+     *
+     * @param config MigrationConfiguration
+     * @param stc SourceTableConfig
+     * @param paramSetter CUBRIDParameterSetter, it may be NULL if the target is not online
+     * @return RecordTransformPlan
+     */
+    public static RecordTransformPlan compileTransformPlan(
+            MigrationConfiguration config,
+            SourceTableConfig stc,
+            CUBRIDParameterSetter paramSetter) {
+        final Table st = config.getSrcTableSchema(stc.getOwner(), stc.getName());
+        final Table tt =
+                config.targetIsFile()
+                        ? config.getTargetTableSchema(stc.getTarget())
+                        : config.getTargetTableSchema(stc.getTargetOwner(), stc.getTarget());
+        return new RecordTransformPlan(config, stc, st, tt, paramSetter);
+    }
+
     public MigrationStatusManager getStatusMgr() {
         return statusMgr;
     }
@@ -214,6 +344,16 @@ public class MigrationContext {
         this.dbObjectExe = dbObjectExecutor;
     }
 
+    /**
+     * Set the executor of the PK, index and FK tasks which run while the data is being migrated.
+     *
+     * @param constraintExecutor IRunnableExecutor
+     */
+    protected void setConstraintTaskExe(IRunnableExecutor constraintExecutor) {
+        this.constraintTaskExe = constraintExecutor;
+        addTobeDisposed(constraintExecutor);
+    }
+
     /**
      * Set export records executor
      *
@@ -262,6 +402,13 @@ public class MigrationContext {
      *
      * @param dirAndFilesMgr MigrationDirAndFilesManager
      */
+    protected void setCheckpointJournal(CheckpointJournal checkpointJournal) {
+        this.checkpointJournal = checkpointJournal;
+        if (checkpointJournal != null) {
+            addTobeDisposed(checkpointJournal);
+        }
+    }
+
     protected void setDirAndFilesMgr(MigrationDirAndFilesManager dirAndFilesMgr) {
         this.dirAndFilesMgr = dirAndFilesMgr;
         addTobeDisposed(dirAndFilesMgr);
@@ -32,14 +32,20 @@ package com.cubrid.cubridmigration.core.engine;
 
 import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
 import com.cubrid.cubridmigration.core.common.PathUtils;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.exception.BreakMigrationException;
+import com.cubrid.cubridmigration.core.engine.importer.LobPackWriter;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
 
 /**
  * MigrationDirAndFilesManager provides the directories and file names in the migration process.
@@ -48,6 +54,7 @@ import org.apache.commons.lang.StringUtils;
  * @version 1.0 - 2013-6-25 created by Kevin Cao
  */
 public class MigrationDirAndFilesManager implements ICanDispose {
+    private static final Logger LOG = LogUtil.getLogger(MigrationDirAndFilesManager.class);
 
     /**
      * DataFileInfo reserves data file name and how many records are in the file
@@ -135,6 +142,7 @@ public class MigrationDirAndFilesManager implements ICanDispose {
 
     private final Map<String, DataFileInfo> dataFiles = new HashMap<String, DataFileInfo>();
     private Map<String, LobDirPath> lobDirPaths = new ConcurrentHashMap<String, LobDirPath>();
+    private final Map<String, LobPackWriter> lobPacks = new HashMap<String, LobPackWriter>();
 
     public MigrationDirAndFilesManager(MigrationConfiguration config) {
         this.config = config;
@@ -143,16 +151,11 @@ public class MigrationDirAndFilesManager implements ICanDispose {
     /** Initialize before migration started. */
     public void initialize() {
         // Temporary dir
-        long cmtTimeStamp = System.currentTimeMillis();
-        String tempFilePath = PathUtils.getBaseTempDir();
-        if (StringUtils.isEmpty(tempFilePath)) {
-            tempFilePath =
-                    PathUtils.getBaseTempDir()
-                            + File.separatorChar
-                            + cmtTimeStamp
-                            + File.separatorChar;
-        }
-        privateTempDir = tempFilePath;
+        long cmtTimeStamp = PathUtils.nextTimeTag();
+        // Every migration has its own directory under the base temporary directory, because the
+        // directory will be removed when the migration finished.
+        String tempFilePath = StringUtils.defaultString(PathUtils.getBaseTempDir());
+        privateTempDir = tempFilePath + File.separatorChar + cmtTimeStamp + File.separatorChar;
         File tempDir = new File(privateTempDir);
         if (!tempDir.exists() && !tempDir.mkdirs()) {
             throw new BreakMigrationException("Invalid path:" + privateTempDir);
@@ -213,6 +216,45 @@ public class MigrationDirAndFilesManager implements ICanDispose {
         return lobDirPaths.get(key).getLobDirDepth();
     }
 
+    /**
+     * Retrieves the LOB pack of a table, it will be opened if it is not opened or closed.
+     *
+     * @param lobDir LOB directory of the table
+     * @param tableName String
+     * @return LobPackWriter
+     * @throws IOException when the pack can not be opened
+     */
+    public LobPackWriter getLobPack(String lobDir, String tableName) throws IOException {
+        synchronized (lobPacks) {
+            LobPackWriter pack = lobPacks.get(lobDir);
+            if (pack == null) {
+                pack = new LobPackWriter(new File(lobDir), tableName);
+                lobPacks.put(lobDir, pack);
+            }
+            return pack;
+        }
+    }
+
+    /**
+     * Close the LOB pack of a table if it is opened.
+     *
+     * @param lobDir LOB directory of the table
+     */
+    public void closeLobPack(String lobDir) {
+        LobPackWriter pack;
+        synchronized (lobPacks) {
+            pack = lobPacks.remove(lobDir);
+        }
+        if (pack == null) {
+            return;
+        }
+        try {
+            pack.close();
+        } catch (IOException e) {
+            LOG.error("Close LOB pack error:" + lobDir, e);
+        }
+    }
+
     /**
      * One migration process has his private temporary directory.
      *
@@ -337,6 +379,13 @@ public class MigrationDirAndFilesManager implements ICanDispose {
 
     /** Dispose, remove useless directories. */
     public void dispose() {
+        List<String> lobDirs;
+        synchronized (lobPacks) {
+            lobDirs = new ArrayList<String>(lobPacks.keySet());
+        }
+        for (String lobDir : lobDirs) {
+            closeLobPack(lobDir);
+        }
         // Remove privateTempDir
         CUBRIDIOUtils.clearFileOrDir(privateTempDir);
         // Remove privateErrorDir
@@ -30,34 +30,107 @@
  */
 package com.cubrid.cubridmigration.core.engine;
 
+import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.event.IMigrationErrorEvent;
+import com.cubrid.cubridmigration.core.engine.event.ImportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationCanceledEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationErrorEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationFinishedEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationStartEvent;
 import com.cubrid.cubridmigration.core.engine.event.SingleRecordErrorEvent;
+import com.cubrid.cubridmigration.core.engine.event.SpilledRecordErrorsEvent;
 import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
 import com.cubrid.cubridmigration.core.engine.executors.SingleQueueExecutor;
 import com.cubrid.cubridmigration.core.engine.report.IMigrationReporter;
+import com.cubrid.cubridmigration.cubrid.CUBRIDTimeUtil;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.log4j.Logger;
 
 /**
  * MigrationEventHandler responses to handle the events and errors of migration process.
  *
+ * <p>The exported and imported record counts of a table are summed up and sent as one event per
+ * time window. Only the first single record errors of a table are sent to the reporter, the
+ * others are written into an error file by the handler thread. The monitor and the reporter have
+ * their own threads, so a slow reporter doesn't hold up the monitor. The queues of the events are
+ * bounded, the threads migrating data wait if the events can't be handled in time.
+ *
  * @author Kevin Cao
  * @version 1.0 - 2011-8-3 created by Kevin Cao
  */
 public class MigrationEventHandler implements IMigrationEventHandler {
 
     private static final Logger LOG = LogUtil.getLogger(MigrationEventHandler.class);
+
+    /**
+     * The time window (ms) to sum up the record counts of a table, it can be changed by the system
+     * property "cmt.event.coalesce.window".
+     */
+    private static final long COALESCE_WINDOW =
+            Long.getLong("cmt.event.coalesce.window", 1000L).longValue();
+
+    /**
+     * The count of single record errors of a table to be reported, it can be changed by the system
+     * property "cmt.event.error.samples".
+     */
+    private static final int ERROR_SAMPLES =
+            Integer.getInteger("cmt.event.error.samples", 100).intValue();
+
+    /**
+     * The maximum count of the events waiting to be handled, it can be changed by the system
+     * property "cmt.event.queue.size".
+     */
+    private static final int QUEUE_SIZE =
+            Math.max(1, Integer.getInteger("cmt.event.queue.size", 1000).intValue());
+
+    private static final String RECORD_ERRORS_FILE = "record_errors.txt";
+
     private final IMigrationMonitor monitor;
     private final IMigrationReporter reporter;
     private final IMigrationBroker breaker;
     private final IRunnableExecutor handlerExecutor = new SingleQueueExecutor(1, false);
+    private final IRunnableExecutor monitorExecutor = new SingleQueueExecutor(1, QUEUE_SIZE);
+    private final IRunnableExecutor reporterExecutor = new SingleQueueExecutor(1, QUEUE_SIZE);
+    /**
+     * The handler queue is bounded by the slots taken before the counter lock. The handler thread
+     * sends events to itself, so it can't wait for its own queue.
+     */
+    private final Semaphore handlerSlots = new Semaphore(QUEUE_SIZE);
+    private final ScheduledExecutorService flushExecutor =
+            Executors.newSingleThreadScheduledExecutor();
     private MigrationFinishedEvent mfe = null;
 
+    private final Object counterLock = new Object();
+    private final Map<SourceTableConfig, RecordsCounter> exportCounters =
+            new LinkedHashMap<SourceTableConfig, RecordsCounter>();
+    private final Map<SourceTableConfig, RecordsCounter> importCounters =
+            new LinkedHashMap<SourceTableConfig, RecordsCounter>();
+
+    private final Map<String, AtomicLong> recordErrors =
+            new ConcurrentHashMap<String, AtomicLong>();
+    private String errorFilesDir;
+    private PrintWriter pwRecordErrors;
+    private boolean spilledErrorsReported;
+    private boolean disposed;
+
     /**
      * Constructor
      *
@@ -72,6 +145,27 @@ public class MigrationEventHandler implements IMigrationEventHandler {
         this.monitor = migrationMonitor;
         this.reporter = migraionReporter;
         this.breaker = breaker;
+        flushExecutor.scheduleWithFixedDelay(
+                new Runnable() {
+                    public void run() {
+                        synchronized (counterLock) {
+                            flushCounters();
+                        }
+                    }
+                },
+                COALESCE_WINDOW,
+                COALESCE_WINDOW,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Set the directory of the error file. If it is not set, all single record errors will be
+     * reported.
+     *
+     * @param errorFilesDir directory with separator
+     */
+    public void setErrorFilesDir(String errorFilesDir) {
+        this.errorFilesDir = errorFilesDir;
     }
 
     /**
@@ -80,16 +174,320 @@ public class MigrationEventHandler implements IMigrationEventHandler {
      * @param event MigrationEvent
      */
     public void handleEvent(final MigrationEvent event) {
-        handlerExecutor.execute(new EventHandlerRunnable(event));
+        handleEvent(event, true);
+    }
+
+    /**
+     * Add event to handle list.
+     *
+     * @param event MigrationEvent
+     * @param bounded true if the caller should wait while the handler queue is full
+     */
+    private void handleEvent(final MigrationEvent event, boolean bounded) {
+        if (sumUp(event)) {
+            return;
+        }
+        final boolean slotAcquired = bounded && acquireHandlerSlot();
+        if (spill(event, slotAcquired)) {
+            return;
+        }
+        synchronized (counterLock) {
+            // The summed record counts should be handled before the following events.
+            flushCounters();
+            if (event instanceof MigrationFinishedEvent) {
+                reportSpilledErrors();
+            }
+            executeHandler(new EventHandlerRunnable(event), slotAcquired);
+        }
+    }
+
+    /**
+     * Wait for a free slot of the handler queue.
+     *
+     * @return false if the thread was interrupted, the event is still handled without a slot.
+     */
+    private boolean acquireHandlerSlot() {
+        try {
+            handlerSlots.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Run the task by the handler thread and free the slot of the queue after it finished.
+     *
+     * @param task to be run
+     * @param slotAcquired true if a slot was taken for the task
+     */
+    private void executeHandler(final Runnable task, boolean slotAcquired) {
+        if (!slotAcquired) {
+            handlerExecutor.execute(task);
+            return;
+        }
+        try {
+            handlerExecutor.execute(
+                    new Runnable() {
+                        public void run() {
+                            try {
+                                task.run();
+                            } finally {
+                                handlerSlots.release();
+                            }
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            handlerSlots.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Sum up the count of exported or imported records.
+     *
+     * @param event MigrationEvent
+     * @return true if the event was summed up
+     */
+    private boolean sumUp(MigrationEvent event) {
+        final Map<SourceTableConfig, RecordsCounter> counters;
+        final SourceTableConfig table;
+        final int count;
+        if (event instanceof ExportRecordsEvent) {
+            ExportRecordsEvent ev = (ExportRecordsEvent) event;
+            counters = exportCounters;
+            table = ev.getSourceTable();
+            count = ev.getRecordCount();
+        } else if (event instanceof ImportRecordsEvent
+                && ((ImportRecordsEvent) event).isSuccess()) {
+            ImportRecordsEvent ev = (ImportRecordsEvent) event;
+            counters = importCounters;
+            table = ev.getSourceTable();
+            count = ev.getRecordCount();
+        } else {
+            return false;
+        }
+        if (table == null || count <= 0) {
+            return false;
+        }
+        synchronized (counterLock) {
+            RecordsCounter counter = counters.get(table);
+            if (counter != null && counter.count > Integer.MAX_VALUE - count) {
+                flushCounters();
+                counter = null;
+            }
+            if (counter == null) {
+                counter = new RecordsCounter();
+                counters.put(table, counter);
+            }
+            counter.count += count;
+            counter.lastTime = event.getEventTime();
+        }
+        return true;
+    }
+
+    /** Send the summed record counts to handle. It should be called in the lock of counters. */
+    private void flushCounters() {
+        for (Map.Entry<SourceTableConfig, RecordsCounter> entry : exportCounters.entrySet()) {
+            RecordsCounter counter = entry.getValue();
+            handlerExecutor.execute(
+                    new EventHandlerRunnable(
+                            new ExportRecordsEvent(
+                                    entry.getKey(), counter.count, counter.lastTime)));
+        }
+        exportCounters.clear();
+        for (Map.Entry<SourceTableConfig, RecordsCounter> entry : importCounters.entrySet()) {
+            RecordsCounter counter = entry.getValue();
+            handlerExecutor.execute(
+                    new EventHandlerRunnable(
+                            new ImportRecordsEvent(
+                                    entry.getKey(), counter.count, counter.lastTime)));
+        }
+        importCounters.clear();
+    }
+
+    /**
+     * Send the single record error to be written into the error file if its table has reported
+     * enough errors.
+     *
+     * @param event MigrationEvent
+     * @param slotAcquired true if a slot of the handler queue was taken for the event
+     * @return true if the error will be written into file
+     */
+    private boolean spill(MigrationEvent event, boolean slotAcquired) {
+        if (!(event instanceof SingleRecordErrorEvent) || errorFilesDir == null) {
+            return false;
+        }
+        SingleRecordErrorEvent ev = (SingleRecordErrorEvent) event;
+        String tableName = ev.getTableName();
+        String key = tableName == null ? "" : tableName;
+        AtomicLong errors = recordErrors.get(key);
+        if (errors == null) {
+            recordErrors.putIfAbsent(key, new AtomicLong());
+            errors = recordErrors.get(key);
+        }
+        if (errors.incrementAndGet() <= ERROR_SAMPLES) {
+            return false;
+        }
+        final String error = ev.toString();
+        final Date time = ev.getEventTime();
+        executeHandler(
+                new Runnable() {
+                    public void run() {
+                        writeRecordError(time, error);
+                    }
+                },
+                slotAcquired);
+        return true;
+    }
+
+    /**
+     * Write the single record error into the error file. It should be called by the handler thread.
+     *
+     * @param time of the error
+     * @param error message
+     */
+    private void writeRecordError(Date time, String error) {
+        try {
+            if (pwRecordErrors == null) {
+                pwRecordErrors =
+                        new PrintWriter(
+                                new BufferedWriter(
+                                        new OutputStreamWriter(
+                                                new FileOutputStream(
+                                                        errorFilesDir + RECORD_ERRORS_FILE, true),
+                                                IMigrationReporter.UTF_8)));
+            }
+            pwRecordErrors.append(CUBRIDTimeUtil.defaultFormatMilin(time));
+            pwRecordErrors.append(" ").append(error).append("\r\n");
+        } catch (IOException ex) {
+            LOG.error("", ex);
+        }
+    }
+
+    /**
+     * Report the count of single record errors written into the error file. It should be called in
+     * the lock of counters.
+     */
+    private void reportSpilledErrors() {
+        if (spilledErrorsReported) {
+            return;
+        }
+        spilledErrorsReported = true;
+        handlerExecutor.execute(
+                new Runnable() {
+                    public void run() {
+                        if (pwRecordErrors != null) {
+                            pwRecordErrors.flush();
+                        }
+                    }
+                });
+        for (Map.Entry<String, AtomicLong> entry : recordErrors.entrySet()) {
+            long spilled = entry.getValue().get() - ERROR_SAMPLES;
+            if (spilled <= 0) {
+                continue;
+            }
+            String tableName = entry.getKey().length() == 0 ? null : entry.getKey();
+            handlerExecutor.execute(
+                    new EventHandlerRunnable(
+                            new SpilledRecordErrorsEvent(
+                                    tableName, spilled, errorFilesDir + RECORD_ERRORS_FILE)));
+        }
+    }
+
+    /**
+     * Send the event to the monitor.
+     *
+     * @param event MigrationEvent
+     * @param start true if the monitor should be started before
+     */
+    private void toMonitor(final MigrationEvent event, final boolean start) {
+        monitorExecutor.execute(
+                new Runnable() {
+                    public void run() {
+                        try {
+                            if (start) {
+                                monitor.start();
+                            }
+                            monitor.addEvent(event);
+                        } catch (Throwable ex) {
+                            LOG.error("", ex);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Send the event to the reporter.
+     *
+     * @param event MigrationEvent
+     */
+    private void toReporter(final MigrationEvent event) {
+        reporterExecutor.execute(
+                new Runnable() {
+                    public void run() {
+                        try {
+                            reporter.addEvent(event);
+                        } catch (Throwable ex) {
+                            LOG.error("", ex);
+                        }
+                    }
+                });
+    }
+
+    /** Wait until the monitor and the reporter have handled all events sent to them. */
+    private void waitForMonitorAndReporter() {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Runnable countDown =
+                new Runnable() {
+                    public void run() {
+                        latch.countDown();
+                    }
+                };
+        monitorExecutor.execute(countDown);
+        reporterExecutor.execute(countDown);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /** Dispose and release resources */
     public void dispose() {
+        synchronized (counterLock) {
+            if (disposed) {
+                return;
+            }
+            disposed = true;
+        }
+        flushExecutor.shutdown();
+        waitForMonitorAndReporter();
+        handlerExecutor.execute(
+                new Runnable() {
+                    public void run() {
+                        Closer.close(pwRecordErrors);
+                    }
+                });
         monitor.finished();
         reporter.finished();
+        monitorExecutor.dispose();
+        reporterExecutor.dispose();
         handlerExecutor.dispose();
     }
 
+    /**
+     * The summed record count of a table
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private static class RecordsCounter {
+        private int count;
+        private Date lastTime;
+    }
+
     /**
      * EventHandlerRunnable responses to handle events.
      *
@@ -113,7 +511,7 @@ public class MigrationEventHandler implements IMigrationEventHandler {
                     return;
                 }
                 if (event instanceof MigrationCanceledEvent) {
-                    reporter.addEvent(event);
+                    toReporter(event);
                     return;
                 }
                 if (event instanceof IMigrationErrorEvent) {
@@ -125,33 +523,34 @@ public class MigrationEventHandler implements IMigrationEventHandler {
                 }
                 if (event instanceof MigrationErrorEvent) {
                     MigrationErrorEvent ee = (MigrationErrorEvent) event;
-                    monitor.addEvent(event);
-                    reporter.addEvent(event);
+                    toMonitor(event, false);
+                    toReporter(event);
                     if (ee.isFatalError()) {
-                        handleEvent(new MigrationFinishedEvent(true));
+                        handleEvent(new MigrationFinishedEvent(true), false);
                     }
                     return;
                 }
                 if (event instanceof MigrationFinishedEvent) {
                     // Only receives the first MigrationFinishedEvent.
                     mfe = (MigrationFinishedEvent) event;
-                    monitor.addEvent(event);
-                    reporter.addEvent(event);
+                    toMonitor(event, false);
+                    toReporter(event);
+                    waitForMonitorAndReporter();
                     breaker.migrationStopped(mfe.isBroken());
                     return;
                 }
                 if (event instanceof MigrationStartEvent) {
-                    monitor.start();
                     mfe = null;
-                    monitor.addEvent(event);
-                    reporter.addEvent(event);
+                    toMonitor(event, true);
+                    toReporter(event);
                     return;
                 }
                 // Single record error doesn't be sent to monitor
-                if (!(event instanceof SingleRecordErrorEvent)) {
-                    monitor.addEvent(event);
+                if (!(event instanceof SingleRecordErrorEvent)
+                        && !(event instanceof SpilledRecordErrorsEvent)) {
+                    toMonitor(event, false);
                 }
-                reporter.addEvent(event);
+                toReporter(event);
             } catch (Throwable ex) {
                 LOG.error("", ex);
             }
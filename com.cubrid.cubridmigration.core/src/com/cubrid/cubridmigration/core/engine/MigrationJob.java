@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.report.IMigrationReporter;
+
+/**
+ * MigrationJob is a migration submitted to the MigrationJobRunner.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class MigrationJob implements IMigrationBroker {
+
+    public static final int STATUS_QUEUED = 0;
+    public static final int STATUS_RUNNING = 1;
+    public static final int STATUS_FINISHED = 2;
+    public static final int STATUS_BROKEN = 3;
+    public static final int STATUS_CANCELED = 4;
+
+    private final MigrationJobRunner runner;
+    private final MigrationConfiguration config;
+    private final IMigrationMonitor monitor;
+    private final IMigrationReporter reporter;
+
+    private final Object lockObj = new Object();
+    private MigrationProcessManager processManager;
+    private int status = STATUS_QUEUED;
+
+    MigrationJob(
+            MigrationJobRunner runner,
+            MigrationConfiguration config,
+            IMigrationMonitor monitor,
+            IMigrationReporter reporter) {
+        this.runner = runner;
+        this.config = config;
+        this.monitor = monitor;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Start the migration.
+     *
+     * @return false if the job was canceled or the migration can't start
+     */
+    boolean start() {
+        MigrationProcessManager mpm;
+        synchronized (lockObj) {
+            if (status != STATUS_QUEUED) {
+                return false;
+            }
+            try {
+                mpm =
+                        MigrationProcessManager.getInstance(
+                                config, monitor, reporter, runner, this);
+            } catch (RuntimeException ex) {
+                setStatus(STATUS_BROKEN);
+                throw ex;
+            }
+            processManager = mpm;
+            setStatus(STATUS_RUNNING);
+        }
+        mpm.startMigration();
+        return true;
+    }
+
+    /**
+     * Called when the migration stopped.
+     *
+     * @param isBroken true if migration is not finished correctly.
+     */
+    public void migrationStopped(boolean isBroken) {
+        synchronized (lockObj) {
+            if (status != STATUS_RUNNING) {
+                return;
+            }
+            setStatus(isBroken ? STATUS_BROKEN : STATUS_FINISHED);
+        }
+        runner.jobStopped(this);
+    }
+
+    /** Cancel the job if it is queued, or interrupt it if it is running. */
+    public void cancel() {
+        MigrationProcessManager mpm;
+        synchronized (lockObj) {
+            if (status == STATUS_QUEUED) {
+                if (runner.dequeue(this)) {
+                    setStatus(STATUS_CANCELED);
+                }
+                return;
+            }
+            if (status != STATUS_RUNNING) {
+                return;
+            }
+            mpm = processManager;
+        }
+        mpm.interruptMigration();
+    }
+
+    /** Wait until the job is done. */
+    public void waitFor() {
+        synchronized (lockObj) {
+            while (!isDone()) {
+                try {
+                    lockObj.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves whether the job is finished, broken or canceled.
+     *
+     * @return true if the job is done
+     */
+    public boolean isDone() {
+        synchronized (lockObj) {
+            return status > STATUS_RUNNING;
+        }
+    }
+
+    /**
+     * Change the status and wake up the threads waiting for the job.
+     *
+     * @param status new status
+     */
+    private void setStatus(int status) {
+        this.status = status;
+        lockObj.notifyAll();
+    }
+
+    public int getStatus() {
+        synchronized (lockObj) {
+            return status;
+        }
+    }
+
+    public MigrationConfiguration getConfig() {
+        return config;
+    }
+
+    public IMigrationMonitor getMonitor() {
+        return monitor;
+    }
+
+    public IMigrationReporter getReporter() {
+        return reporter;
+    }
+}
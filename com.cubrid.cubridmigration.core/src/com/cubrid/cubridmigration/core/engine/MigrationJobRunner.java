@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.report.IMigrationReporter;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * MigrationJobRunner runs several independent migrations in the JVM at the same time. The jobs
+ * more than the limit will wait in the queue and start in the submitted order. The jobs share the
+ * import threads of the runner fairly, and every job gets a share of the export threads and the
+ * memory for the records not imported.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class MigrationJobRunner {
+
+    private final int maxRunningJobs;
+    private final int exportThreadShare;
+    private final TaskBudget importBudget;
+
+    private final Object lockObj = new Object();
+    private final LinkedList<MigrationJob> queue = new LinkedList<MigrationJob>();
+    private final List<MigrationJob> jobs = new ArrayList<MigrationJob>();
+    private int runningCount;
+
+    /**
+     * Constructor
+     *
+     * @param maxRunningJobs the count of the migrations can run at the same time
+     * @param exportThreads the export threads of all running migrations
+     * @param importThreads the import threads of all running migrations
+     */
+    public MigrationJobRunner(int maxRunningJobs, int exportThreads, int importThreads) {
+        this.maxRunningJobs = Math.max(1, maxRunningJobs);
+        this.exportThreadShare = Math.max(1, exportThreads / this.maxRunningJobs);
+        this.importBudget = new TaskBudget(importThreads);
+    }
+
+    /**
+     * Submit a migration, it will start when there is a free place.
+     *
+     * @param config MigrationConfiguration
+     * @param monitor IMigrationMonitor
+     * @param reporter IMigrationReporter
+     * @return MigrationJob
+     */
+    public MigrationJob submit(
+            MigrationConfiguration config,
+            IMigrationMonitor monitor,
+            IMigrationReporter reporter) {
+        MigrationJob job = new MigrationJob(this, config, monitor, reporter);
+        synchronized (lockObj) {
+            jobs.add(job);
+            queue.add(job);
+        }
+        startJobs();
+        return job;
+    }
+
+    /** Start the jobs in the queue while the count of the running jobs is under the limit. */
+    private void startJobs() {
+        while (true) {
+            MigrationJob job;
+            synchronized (lockObj) {
+                if (runningCount >= maxRunningJobs || queue.isEmpty()) {
+                    return;
+                }
+                job = queue.removeFirst();
+                runningCount++;
+            }
+            if (!job.start()) {
+                synchronized (lockObj) {
+                    runningCount--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by the job when it stopped, the next job in the queue will start.
+     *
+     * @param job MigrationJob
+     */
+    void jobStopped(MigrationJob job) {
+        synchronized (lockObj) {
+            runningCount--;
+        }
+        startJobs();
+    }
+
+    /**
+     * Remove the job from the queue if it was not started.
+     *
+     * @param job MigrationJob
+     * @return true if it was removed
+     */
+    boolean dequeue(MigrationJob job) {
+        synchronized (lockObj) {
+            return queue.remove(job);
+        }
+    }
+
+    /**
+     * Retrieves all the jobs submitted.
+     *
+     * @return the jobs in the submitted order
+     */
+    public List<MigrationJob> getJobs() {
+        synchronized (lockObj) {
+            return new ArrayList<MigrationJob>(jobs);
+        }
+    }
+
+    /** Cancel the queued jobs and stop the running jobs. */
+    public void cancelAll() {
+        List<MigrationJob> all = getJobs();
+        // Cancel the queued jobs at first, so they won't start when the running jobs stopped.
+        for (MigrationJob job : all) {
+            if (job.getStatus() == MigrationJob.STATUS_QUEUED) {
+                job.cancel();
+            }
+        }
+        for (MigrationJob job : all) {
+            job.cancel();
+        }
+    }
+
+    /** Wait until all the submitted jobs are done. */
+    public void waitForAll() {
+        for (MigrationJob job : getJobs()) {
+            job.waitFor();
+        }
+    }
+
+    public int getMaxRunningJobs() {
+        return maxRunningJobs;
+    }
+
+    public int getExportThreadShare() {
+        return exportThreadShare;
+    }
+
+    public TaskBudget getImportBudget() {
+        return importBudget;
+    }
+}
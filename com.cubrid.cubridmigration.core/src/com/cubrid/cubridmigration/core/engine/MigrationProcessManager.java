@@ -98,13 +98,12 @@ public class MigrationProcessManager {
             final IMigrationEventHandler eventsHandler = context.getEventsHandler();
             try {
                 // Initialize
-                if (isRunning()) {
+                if (!setRunning(true)) {
                     // Record start time
                     eventsHandler.handleEvent(new MigrationStartEvent());
                     eventsHandler.handleEvent(new MigrationCanceledEvent());
                     throw new BreakMigrationException("Migration canceled");
                 }
-                setRunning(true);
                 eventsHandler.handleEvent(new MigrationStartEvent());
 
                 MigrationTasksScheduler scheduler = buildTaskScheduler();
@@ -120,7 +119,8 @@ public class MigrationProcessManager {
         }
     }
 
-    private static boolean isRunning = false;
+    private static int runningCount = 0;
+    private static boolean exclusiveRunning = false;
     private static final Object RUNNING_LOCK = new Object();
 
     /**
@@ -133,33 +133,101 @@ public class MigrationProcessManager {
      */
     public static MigrationProcessManager getInstance(
             MigrationConfiguration config, IMigrationMonitor monitor, IMigrationReporter reporter) {
+        return getInstance(config, monitor, reporter, null, null);
+    }
+
+    /**
+     * MigrationProcessManager create a new process manager which runs with other migrations at the
+     * same time and shares the budget of the runner.
+     *
+     * @param config MigrationConfiguration
+     * @param monitor IMigrationMonitor
+     * @param reporter IMigrationReporter
+     * @param runner MigrationJobRunner, null means the migration should run exclusively
+     * @param stoppedListener will be called when the migration stopped, it can be null
+     * @return MigrationProcessManager
+     */
+    public static MigrationProcessManager getInstance(
+            MigrationConfiguration config,
+            IMigrationMonitor monitor,
+            IMigrationReporter reporter,
+            MigrationJobRunner runner,
+            IMigrationBroker stoppedListener) {
         MigrationProcessManager mpm = new MigrationProcessManager();
+        mpm.exclusive = runner == null;
+        mpm.stoppedListener = stoppedListener;
         MigrationEventHandler eh =
                 new MigrationEventHandler(monitor, reporter, new MigrationBroker(mpm));
-        MigrationContext context = MigrationContext.buildContext(config, eh);
+        MigrationContext context = MigrationContext.buildContext(config, eh, runner);
+        eh.setErrorFilesDir(context.getDirAndFilesMgr().getErrorFilesDir());
         mpm.setContext(context);
         return mpm;
     }
 
     /**
-     * Retrieve whether the migration process is running.
+     * Retrieve whether any migration process is running.
      *
      * @return true if it is running.
      */
     public static boolean isRunning() {
         synchronized (RUNNING_LOCK) {
-            return isRunning;
+            return runningCount > 0;
         }
     }
 
     /**
-     * Set migration process status
+     * Set migration process status. An exclusive migration can't start when other migrations are
+     * running, and no migration can start when an exclusive one is running.
      *
      * @param running true if is running
+     * @return false if the migration can't start
+     */
+    private boolean setRunning(boolean running) {
+        synchronized (RUNNING_LOCK) {
+            if (running == this.running) {
+                return true;
+            }
+            if (running && !startRunning(exclusive)) {
+                return false;
+            }
+            if (!running) {
+                stopRunning(exclusive);
+            }
+            this.running = running;
+            return true;
+        }
+    }
+
+    /**
+     * Count a migration which starts running.
+     *
+     * @param exclusive true if the migration should run exclusively
+     * @return false if the migration can't start because of the running migrations
+     */
+    static boolean startRunning(boolean exclusive) {
+        synchronized (RUNNING_LOCK) {
+            if (exclusiveRunning || (exclusive && runningCount > 0)) {
+                return false;
+            }
+            runningCount++;
+            if (exclusive) {
+                exclusiveRunning = true;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Count a migration which stopped running.
+     *
+     * @param exclusive true if the migration ran exclusively
      */
-    private static void setRunning(boolean running) {
+    static void stopRunning(boolean exclusive) {
         synchronized (RUNNING_LOCK) {
-            isRunning = running;
+            runningCount--;
+            if (exclusive) {
+                exclusiveRunning = false;
+            }
         }
     }
 
@@ -169,6 +237,12 @@ public class MigrationProcessManager {
 
     private final Object threadLock = new Object();
 
+    private boolean exclusive = true;
+
+    private boolean running;
+
+    private IMigrationBroker stoppedListener;
+
     private MigrationProcessManager() {
         // Private constructor
     }
@@ -193,6 +267,7 @@ public class MigrationProcessManager {
             exp.setConnManager(context.getConnManager());
             exp.setEventHandler(context.getEventsHandler());
             exp.setStatusManager(context.getStatusMgr());
+            exp.setContext(context);
             exporter = exp;
         } else if (config.sourceIsXMLDump()) {
             MYSQLDumpXMLExporter exp = new MYSQLDumpXMLExporter();
@@ -240,8 +315,31 @@ public class MigrationProcessManager {
     public void interruptMigration() {
         context.getEventsHandler().handleEvent(new MigrationFinishedEvent(true));
         // waiting for stopping.
-        while (mainThread != null) {
-            ThreadUtils.threadSleep(1000, null);
+        waitForStopped();
+    }
+
+    /**
+     * Retrieve whether this migration process is running.
+     *
+     * @return true if it was started and not stopped yet.
+     */
+    public boolean isMigrationRunning() {
+        synchronized (threadLock) {
+            return mainThread != null;
+        }
+    }
+
+    /** Wait until this migration process stopped. */
+    public void waitForStopped() {
+        synchronized (threadLock) {
+            while (mainThread != null) {
+                try {
+                    threadLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
         }
     }
 
@@ -270,8 +368,12 @@ public class MigrationProcessManager {
                 mainThread.interrupt();
             } finally {
                 mainThread = null;
+                threadLock.notifyAll();
             }
         }
+        if (stoppedListener != null) {
+            stoppedListener.migrationStopped(isBroken);
+        }
     }
 
     /** Start migration process. */
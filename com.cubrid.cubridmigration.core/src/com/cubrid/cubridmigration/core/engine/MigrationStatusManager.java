@@ -62,6 +62,14 @@ public class MigrationStatusManager {
 
     private long totalImportTaskCount;
 
+    private MemoryBudget memoryBudget;
+
+    private DataMigratedListener dataMigratedListener;
+
+    private BatchSizeController batchSizeController;
+
+    private final AutoIncrementTracker autoIncrementTracker = new AutoIncrementTracker();
+
     /**
      * add a source's exported record count
      *
@@ -190,7 +198,7 @@ public class MigrationStatusManager {
      * @param expName String
      * @param currentCount int
      * @param commitCount int
-     * @return 0:continue; 1:commit; 2:waiting.
+     * @return 0:continue; 1:commit.
      */
     public int isCommitNow(String expName, int currentCount, int commitCount) {
         // According to commit count settings
@@ -202,19 +210,63 @@ public class MigrationStatusManager {
             if (rt.freeMemory() <= warningFreeMemory) {
                 return currentCount >= warningCommitCount ? STATUS_COMMIT : STATUS_CONTINUE;
             } else if (rt.freeMemory() <= alertFreeMemory) {
-                return currentCount >= alertCommitCount ? STATUS_COMMIT : STATUS_WAITING;
+                // Commit small batches, the memory budget will block the exporting threads.
+                return currentCount >= alertCommitCount ? STATUS_COMMIT : STATUS_CONTINUE;
             }
         }
         return currentCount >= commitCount ? STATUS_COMMIT : STATUS_CONTINUE;
     }
 
     /**
-     * Set all of the records from source is exported
+     * Retrieves the commit count of the source, it is tuned by the batch size controller.
+     *
+     * @param owner of the object
+     * @param source name
+     * @param commitCount of the configuration
+     * @return the commit count of the source
+     */
+    public int getCommitCount(String owner, String source, int commitCount) {
+        BatchSizeController controller = batchSizeController;
+        return controller == null ? commitCount : controller.getBatchSize(owner, source);
+    }
+
+    /**
+     * A batch of the source was imported and committed.
      *
      * @param owner of the object
      * @param source name
+     * @param rows record count of the batch
+     * @param bytes estimated size of the batch
+     * @param latency time in milliseconds to import the batch
      */
-    public void setExpFinished(String owner, String source) {
+    public void batchImported(String owner, String source, int rows, long bytes, long latency) {
+        BatchSizeController controller = batchSizeController;
+        if (controller != null) {
+            controller.batchImported(owner, source, rows, bytes, latency);
+        }
+    }
+
+    /**
+     * Retrieves the statistics of the source's batches.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return NULL if the batch size is not tuned or no batch was imported
+     */
+    public BatchSizeController.BatchStats getBatchStats(String owner, String source) {
+        BatchSizeController controller = batchSizeController;
+        return controller == null ? null : controller.getStats(owner, source);
+    }
+
+    /**
+     * Set how many parts(key ranges) of the source will be exported separately. The source will be
+     * finished after all of its parts are finished.
+     *
+     * @param owner of the object
+     * @param source name
+     * @param count of parts
+     */
+    public void setExpPartCount(String owner, String source, int count) {
         synchronized (lockObj) {
             String src = (owner == null ? "" : owner) + "." + source;
             DataMigrationStatus dms = dataMigrationStatus.get(src);
@@ -223,8 +275,204 @@ public class MigrationStatusManager {
                 dms.setSource(src);
                 dataMigrationStatus.put(src, dms);
             }
+            dms.setExpPartCount(count);
+        }
+    }
+
+    /**
+     * Add parts of the source which will be exported separately.
+     *
+     * @param owner of the object
+     * @param source name
+     * @param count of parts
+     */
+    public void addExpPartCount(String owner, String source, int count) {
+        synchronized (lockObj) {
+            getDataMigrationStatus(owner, source).addExpPartCount(count);
+        }
+    }
+
+    /**
+     * Set one part of the source is exported, all of the records from source is exported if all
+     * parts are finished.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return true if all parts of the source are exported
+     */
+    public boolean setExpFinished(String owner, String source) {
+        synchronized (lockObj) {
+            String src = (owner == null ? "" : owner) + "." + source;
+            DataMigrationStatus dms = dataMigrationStatus.get(src);
+            if (dms == null) {
+                dms = new DataMigrationStatus();
+                dms.setSource(src);
+                dataMigrationStatus.put(src, dms);
+            }
+            if (!dms.finishExpPart()) {
+                return false;
+            }
             dms.setExpDoneFlag(true);
+            if (!isDataMigrated(dms)) {
+                return true;
+            }
+        }
+        fireDataMigrated(owner, source);
+        return true;
+    }
+
+    /**
+     * Reserve memory for a batch of exported data before it is handed to the importing threads.
+     * The current thread is blocked until the memory budget has enough bytes.
+     *
+     * @param owner of the object
+     * @param source name
+     * @param bytes estimated size of the batch
+     * @return the reserved bytes, it should be released after the batch imported
+     */
+    public long reserveMemory(String owner, String source, long bytes) {
+        long reserved = 0;
+        long blocked = 0;
+        if (memoryBudget != null) {
+            final long start = System.currentTimeMillis();
+            reserved = memoryBudget.acquire(bytes);
+            blocked = System.currentTimeMillis() - start;
         }
+        synchronized (lockObj) {
+            DataMigrationStatus dms = getDataMigrationStatus(owner, source);
+            dms.addBlockedTime(blocked);
+            dms.changePendingBatches(1);
+        }
+        return reserved;
+    }
+
+    /**
+     * Release the memory reserved by a batch after it was imported.
+     *
+     * @param owner of the object
+     * @param source name
+     * @param reserved bytes returned by {@link #reserveMemory(String, String, long)}
+     */
+    public void releaseMemory(String owner, String source, long reserved) {
+        if (memoryBudget != null) {
+            memoryBudget.release(reserved);
+        }
+        synchronized (lockObj) {
+            DataMigrationStatus dms = getDataMigrationStatus(owner, source);
+            dms.changePendingBatches(-1);
+            if (!isDataMigrated(dms)) {
+                return;
+            }
+        }
+        fireDataMigrated(owner, source);
+    }
+
+    /**
+     * Retrieves whether all records of the source are exported and imported, it returns true only
+     * once for a source. It should be called in the synchronized block of lockObj.
+     *
+     * @param dms DataMigrationStatus
+     * @return true if the data of the source was migrated just now
+     */
+    private boolean isDataMigrated(DataMigrationStatus dms) {
+        if (!dms.isExpDoneFlag() || dms.getPendingBatches() > 0 || dms.isDataMigrated()) {
+            return false;
+        }
+        dms.setDataMigrated(true);
+        return true;
+    }
+
+    /**
+     * Notify the listener that all records of the source were migrated.
+     *
+     * @param owner of the object
+     * @param source name
+     */
+    private void fireDataMigrated(String owner, String source) {
+        DataMigratedListener listener = dataMigratedListener;
+        if (listener != null) {
+            listener.dataMigrated(owner, source);
+        }
+    }
+
+    /**
+     * Retrieves the count of batches exported but not imported yet.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return batch count
+     */
+    public int getPendingBatches(String owner, String source) {
+        synchronized (lockObj) {
+            String src = (owner == null ? "" : owner) + "." + source;
+            DataMigrationStatus dms = dataMigrationStatus.get(src);
+            return dms == null ? 0 : dms.getPendingBatches();
+        }
+    }
+
+    /**
+     * Retrieves the time(ms) of the exporting threads blocked by the memory budget.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return time in milliseconds
+     */
+    public long getBlockedTime(String owner, String source) {
+        synchronized (lockObj) {
+            String src = (owner == null ? "" : owner) + "." + source;
+            DataMigrationStatus dms = dataMigrationStatus.get(src);
+            return dms == null ? 0 : dms.getBlockedTime();
+        }
+    }
+
+    /**
+     * Retrieves the largest count of batches exported but not imported yet.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return batch count
+     */
+    public int getMaxPendingBatches(String owner, String source) {
+        synchronized (lockObj) {
+            String src = (owner == null ? "" : owner) + "." + source;
+            DataMigrationStatus dms = dataMigrationStatus.get(src);
+            return dms == null ? 0 : dms.getMaxPendingBatches();
+        }
+    }
+
+    /**
+     * Retrieves the status of the source, create a new one if it is not existed. It should be
+     * called in the synchronized block of lockObj.
+     *
+     * @param owner of the object
+     * @param source name
+     * @return DataMigrationStatus
+     */
+    private DataMigrationStatus getDataMigrationStatus(String owner, String source) {
+        String src = (owner == null ? "" : owner) + "." + source;
+        DataMigrationStatus dms = dataMigrationStatus.get(src);
+        if (dms == null) {
+            dms = new DataMigrationStatus();
+            dms.setSource(src);
+            dataMigrationStatus.put(src, dms);
+        }
+        return dms;
+    }
+
+    public void setDataMigratedListener(DataMigratedListener dataMigratedListener) {
+        this.dataMigratedListener = dataMigratedListener;
+    }
+
+    public AutoIncrementTracker getAutoIncrementTracker() {
+        return autoIncrementTracker;
+    }
+
+    public void setBatchSizeController(BatchSizeController batchSizeController) {
+        this.batchSizeController = batchSizeController;
+    }
+
+    public void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
     }
 
     public void setHasOOMRisk(boolean hasOOMRisk) {
@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceSQLTableConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.SingleRecordErrorEvent;
+import com.cubrid.cubridmigration.core.engine.exception.UserDefinedHandlerException;
+import com.cubrid.cubridmigration.core.export.DBExportHelper;
+import com.cubrid.cubridmigration.core.export.IExportDataHandler;
+import com.cubrid.cubridmigration.core.trans.ColumnValueConverter;
+import com.cubrid.cubridmigration.core.trans.DBTransformHelper;
+import com.cubrid.cubridmigration.cubrid.stmt.CUBRIDParameterSetter;
+import com.cubrid.cubridmigration.cubrid.stmt.handler.SetterHandler;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * RecordTransformPlan is compiled once per source table configuration. It resolves the source
+ * columns, target columns, export data handlers, value converters and parameter setters of the
+ * exporting columns into arrays aligned with the exporting column order, so the records can be
+ * exported and transformed without looking up columns, handlers or conversion rules per value.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class RecordTransformPlan {
+
+    private final SourceTableConfig stc;
+    private final Table sourceTable;
+    private final Table targetTable;
+
+    private final SourceColumnConfig[] columnConfigs;
+    private final Column[] sourceColumns;
+    private final Column[] targetColumns;
+    private final SetterHandler[] setterHandlers;
+    private final IExportDataHandler[] exportDataHandlers;
+    private final ColumnValueConverter[] converters;
+    private final Map<String, Integer> sourceColumnIndexes = new HashMap<String, Integer>();
+    private final boolean hasUserDataHandler;
+    private final boolean selectedByColumns;
+
+    public RecordTransformPlan(
+            MigrationConfiguration config,
+            SourceTableConfig stc,
+            Table sourceTable,
+            Table targetTable,
+            CUBRIDParameterSetter paramSetter) {
+        final DBTransformHelper transformHelper = config.getDBTransformHelper();
+        final DBExportHelper exportHelper = config.getSourceDBType().getExportHelper();
+        this.stc = stc;
+        this.sourceTable = sourceTable;
+        this.targetTable = targetTable;
+        final List<SourceColumnConfig> expColConfs = stc.getColumnConfigList();
+        final int len = expColConfs.size();
+        columnConfigs = expColConfs.toArray(new SourceColumnConfig[len]);
+        sourceColumns = new Column[len];
+        targetColumns = new Column[len];
+        setterHandlers = new SetterHandler[len];
+        exportDataHandlers = new IExportDataHandler[len];
+        converters = new ColumnValueConverter[len];
+        boolean hasHandler = false;
+        for (int i = 0; i < len; i++) {
+            final SourceColumnConfig scc = columnConfigs[i];
+            if (!sourceColumnIndexes.containsKey(scc.getName())) {
+                sourceColumnIndexes.put(scc.getName(), i);
+            }
+            sourceColumns[i] =
+                    sourceTable == null ? null : sourceTable.getColumnByName(scc.getName());
+            targetColumns[i] =
+                    targetTable == null ? null : targetTable.getColumnByName(scc.getTarget());
+            if (paramSetter != null && targetColumns[i] != null) {
+                setterHandlers[i] = paramSetter.getHandler(targetColumns[i]);
+            }
+            if (exportHelper != null && sourceColumns[i] != null) {
+                exportDataHandlers[i] = exportHelper.getExportDataHandler(sourceColumns[i]);
+            }
+            if (transformHelper != null && targetColumns[i] != null) {
+                converters[i] =
+                        transformHelper.getColumnValueConverter(config, scc, targetColumns[i]);
+            }
+            hasHandler = hasHandler || StringUtils.isNotBlank(scc.getUserDataHandler());
+        }
+        hasUserDataHandler = hasHandler;
+        // The columns of user's SQL may be not in the order of the exporting columns.
+        selectedByColumns = !(stc instanceof SourceSQLTableConfig);
+    }
+
+    public SourceTableConfig getSourceTableConfig() {
+        return stc;
+    }
+
+    public Table getSourceTable() {
+        return sourceTable;
+    }
+
+    public Table getTargetTable() {
+        return targetTable;
+    }
+
+    /**
+     * Retrieves the count of exporting columns
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnConfigs.length;
+    }
+
+    /**
+     * Retrieves the source column of the exporting column
+     *
+     * @param index of the exporting column
+     * @return source column, it may be NULL if it is not found in source table
+     */
+    public Column getSourceColumn(int index) {
+        return sourceColumns[index];
+    }
+
+    /**
+     * Retrieves the target column of the exporting column
+     *
+     * @param index of the exporting column
+     * @return target column, it may be NULL if it is not found in target table
+     */
+    public Column getTargetColumn(int index) {
+        return targetColumns[index];
+    }
+
+    /**
+     * Retrieves the index of the exporting column in the result set of the selection SQL.
+     *
+     * @param index of the exporting column
+     * @return 1-based index or 0 if the value should be read by column name
+     */
+    public int getResultSetIndex(int index) {
+        return selectedByColumns ? index + 1 : 0;
+    }
+
+    /**
+     * Retrieves the column configuration of the exporting column
+     *
+     * @param index of the exporting column
+     * @return SourceColumnConfig
+     */
+    public SourceColumnConfig getColumnConfig(int index) {
+        return columnConfigs[index];
+    }
+
+    /**
+     * Retrieves the parameter setters of the target columns
+     *
+     * @return handlers, the element may be NULL if the target column is not found
+     */
+    public SetterHandler[] getSetterHandlers() {
+        return setterHandlers;
+    }
+
+    /**
+     * Retrieves the handlers which read the values of the source columns from result sets
+     *
+     * @return handlers, the element is NULL if the source column or its data type is unknown
+     */
+    public IExportDataHandler[] getExportDataHandlers() {
+        return exportDataHandlers;
+    }
+
+    /**
+     * Retrieves the exporting column index of the record's column value. The records exported by
+     * plan have the same column order with the plan, otherwise the index is found by column name.
+     *
+     * @param cv column value of record
+     * @param position of the column value in record
+     * @return index or -1 if the column is not an exporting column
+     */
+    public int indexOf(Record.ColumnValue cv, int position) {
+        if (position < sourceColumns.length
+                && sourceColumns[position] != null
+                && sourceColumns[position] == cv.getColumn()) {
+            return position;
+        }
+        Integer index = sourceColumnIndexes.get(cv.getColumn().getName());
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Retrieves the map used by user defined data handlers.
+     *
+     * @param record source record
+     * @return column name to value map, or NULL if no user defined data handler was configured.
+     */
+    public Map<String, Object> getRecordMap(Record record) {
+        return hasUserDataHandler ? record.getColumnValueMap() : null;
+    }
+
+    /**
+     * Convert the source value to the target value of the exporting column
+     *
+     * @param index of the exporting column
+     * @param recordMap retrieved by {@link #getRecordMap(Record)}
+     * @param srcColumn the column of the source value
+     * @param srcValue source value
+     * @return target value
+     */
+    public Object convert(
+            int index, Map<String, Object> recordMap, Column srcColumn, Object srcValue) {
+        return converters[index].convert(recordMap, srcColumn, srcValue);
+    }
+
+    /**
+     * Create a batch to keep the values of the exporting columns
+     *
+     * @param capacity initial count of records
+     * @return RecordBatch
+     */
+    public RecordBatch createRecordBatch(int capacity) {
+        return new RecordBatch(sourceColumns, capacity);
+    }
+
+    /**
+     * Retrieves whether the batch can be transformed by {@link #transform(RecordBatch, boolean[],
+     * IMigrationEventHandler)}: its columns are the exporting columns and all of them have target
+     * columns.
+     *
+     * @param batch source records
+     * @return true if the batch can be transformed column by column
+     */
+    public boolean isTransformable(RecordBatch batch) {
+        if (batch.getColumnCount() != sourceColumns.length) {
+            return false;
+        }
+        for (int i = 0; i < sourceColumns.length; i++) {
+            if (sourceColumns[i] == null
+                    || batch.getColumn(i) != sourceColumns[i]
+                    || targetColumns[i] == null
+                    || converters[i] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Transform the source records column by column. The primitive values which are not changed by
+     * the conversion are copied without being boxed.
+     *
+     * @param batch source records accepted by {@link #isTransformable(RecordBatch)}
+     * @param failed to mark the records which could not be transformed, the errors are handled by
+     *     the event handler.
+     * @param eventHandler IMigrationEventHandler
+     * @return target records, the values of the failed records should not be used.
+     */
+    public RecordBatch transform(
+            RecordBatch batch, boolean[] failed, IMigrationEventHandler eventHandler) {
+        final int rows = batch.size();
+        final RecordBatch result = new RecordBatch(targetColumns, rows);
+        for (int row = 0; row < rows; row++) {
+            result.addRow();
+        }
+        List<Map<String, Object>> recordMaps = null;
+        if (hasUserDataHandler) {
+            recordMaps = new ArrayList<Map<String, Object>>(rows);
+            for (int row = 0; row < rows; row++) {
+                recordMaps.add(batch.get(row).getColumnValueMap());
+            }
+        }
+        for (int col = 0; col < converters.length; col++) {
+            final int kind = batch.getKind(col);
+            if (isIdentity(col, kind)) {
+                copyColumn(batch, result, col, kind, failed);
+                continue;
+            }
+            for (int row = 0; row < rows; row++) {
+                if (failed[row] || batch.isNull(row, col)) {
+                    continue;
+                }
+                final Object srcValue = batch.getValue(row, col);
+                try {
+                    Map<String, Object> recordMap = recordMaps == null ? null : recordMaps.get(row);
+                    Object targetValue =
+                            converters[col].convert(recordMap, sourceColumns[col], srcValue);
+                    result.setValue(row, col, targetValue);
+                } catch (UserDefinedHandlerException ex) {
+                    result.setValue(row, col, srcValue);
+                    eventHandler.handleEvent(new SingleRecordErrorEvent(batch.get(row), ex));
+                } catch (Exception ex) {
+                    failed[row] = true;
+                    eventHandler.handleEvent(new SingleRecordErrorEvent(batch.get(row), ex));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves whether the primitive values of the column are passed to the target as they are.
+     *
+     * @param index of the exporting column
+     * @param kind how the values are kept in the batch
+     * @return true if the values need not to be converted
+     */
+    private boolean isIdentity(int index, int kind) {
+        final Class<?> valueClass;
+        if (kind == RecordBatch.KIND_INT) {
+            valueClass = Integer.class;
+        } else if (kind == RecordBatch.KIND_LONG) {
+            valueClass = Long.class;
+        } else if (kind == RecordBatch.KIND_DOUBLE) {
+            valueClass = Double.class;
+        } else {
+            return false;
+        }
+        return converters[index].isIdentity(sourceColumns[index], valueClass);
+    }
+
+    /**
+     * Copy the primitive values of the column to the target records.
+     *
+     * @param batch source records
+     * @param result target records
+     * @param col index of the column
+     * @param kind how the values are kept in the batch
+     * @param failed the records which should be skipped
+     */
+    private static void copyColumn(
+            RecordBatch batch, RecordBatch result, int col, int kind, boolean[] failed) {
+        for (int row = 0; row < batch.size(); row++) {
+            if (failed[row] || batch.isNull(row, col)) {
+                continue;
+            }
+            if (kind == RecordBatch.KIND_INT) {
+                result.setInt(row, col, batch.getInt(row, col));
+            } else if (kind == RecordBatch.KIND_LONG) {
+                result.setLong(row, col, batch.getLong(row, col));
+            } else {
+                result.setDouble(row, col, batch.getDouble(row, col));
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TaskBudget limits the count of tasks running at the same time for all migrations sharing it,
+ * so the threads and the connections busy in the JVM don't exceed the budget. A free slot is
+ * given to the waiting migration which holds the fewest slots, the earlier one first, so a
+ * migration with many tasks can't starve the others.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class TaskBudget {
+
+    private final int capacity;
+    private final Object lockObj = new Object();
+    private final Map<Object, Integer> usedByOwner = new HashMap<Object, Integer>();
+    private final List<Waiter> waiters = new ArrayList<Waiter>();
+    private int used;
+    private long ticket;
+
+    public TaskBudget(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Reserve a slot for the owner, the current thread will be blocked until the slot is given.
+     *
+     * @param owner the migration which runs the task
+     * @return false if the thread was interrupted and no slot was reserved
+     */
+    public boolean acquire(Object owner) {
+        synchronized (lockObj) {
+            final Waiter waiter = new Waiter(owner, ticket++);
+            waiters.add(waiter);
+            try {
+                while (used >= capacity || getNextWaiter() != waiter) {
+                    lockObj.wait();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiters.remove(waiter);
+                // The next waiter may be able to run now.
+                lockObj.notifyAll();
+            }
+            used++;
+            usedByOwner.put(owner, getUsed(owner) + 1);
+            return true;
+        }
+    }
+
+    /**
+     * Release the slot reserved before.
+     *
+     * @param owner the migration which runs the task
+     */
+    public void release(Object owner) {
+        synchronized (lockObj) {
+            int count = getUsed(owner);
+            if (count <= 0) {
+                return;
+            }
+            used--;
+            if (count == 1) {
+                usedByOwner.remove(owner);
+            } else {
+                usedByOwner.put(owner, count - 1);
+            }
+            lockObj.notifyAll();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the slots reserved by the owner.
+     *
+     * @param owner the migration
+     * @return count of slots
+     */
+    public int getUsed(Object owner) {
+        synchronized (lockObj) {
+            Integer count = usedByOwner.get(owner);
+            return count == null ? 0 : count.intValue();
+        }
+    }
+
+    /**
+     * The waiter of the owner holding the fewest slots, the earlier one first.
+     *
+     * @return Waiter
+     */
+    private Waiter getNextWaiter() {
+        Waiter result = null;
+        int resultUsed = 0;
+        for (Waiter waiter : waiters) {
+            int ownerUsed = getUsed(waiter.owner);
+            if (result == null
+                    || ownerUsed < resultUsed
+                    || (ownerUsed == resultUsed && waiter.ticket < result.ticket)) {
+                result = waiter;
+                resultUsed = ownerUsed;
+            }
+        }
+        return result;
+    }
+
+    /** A thread waiting for a slot */
+    private static class Waiter {
+        private final Object owner;
+        private final long ticket;
+
+        Waiter(Object owner, long ticket) {
+            this.owner = owner;
+            this.ticket = ticket;
+        }
+    }
+}
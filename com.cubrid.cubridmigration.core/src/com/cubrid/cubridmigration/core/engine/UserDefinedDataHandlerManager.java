@@ -37,8 +37,8 @@ import java.io.File;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 
@@ -56,7 +56,8 @@ public final class UserDefinedDataHandlerManager {
     private static final UserDefinedDataHandlerManager MANAGER =
             new UserDefinedDataHandlerManager();
 
-    private final Map<String, Object> handlerMap = new HashMap<String, Object>();
+    // Shared by all migrations running in the JVM
+    private final Map<String, Object> handlerMap = new ConcurrentHashMap<String, Object>();
 
     private UserDefinedDataHandlerManager() {
         //
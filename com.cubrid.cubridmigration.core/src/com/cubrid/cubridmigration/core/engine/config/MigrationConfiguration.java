@@ -45,6 +45,7 @@ import com.cubrid.cubridmigration.core.dbmetadata.IDBSchemaInfoFetcher;
 import com.cubrid.cubridmigration.core.dbmetadata.IDBSource;
 import com.cubrid.cubridmigration.core.dbobject.Catalog;
 import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.DBObjectList;
 import com.cubrid.cubridmigration.core.dbobject.FK;
 import com.cubrid.cubridmigration.core.dbobject.Function;
 import com.cubrid.cubridmigration.core.dbobject.Grant;
@@ -74,9 +75,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
 import org.apache.commons.collections.CollectionUtils;
@@ -148,15 +151,16 @@ public class MigrationConfiguration {
     private boolean deleteTempFile = true;
 
     private boolean exportNoSupportObjects = true;
-    private final List<String> expFunctions = new ArrayList<String>();
+    private final Set<String> expFunctions = new LinkedHashSet<String>();
 
-    private final List<String> expProcedures = new ArrayList<String>();
+    private final Set<String> expProcedures = new LinkedHashSet<String>();
     private final List<SourceGrantConfig> expGrants = new ArrayList<SourceGrantConfig>();
     private final List<SourceSynonymConfig> expSynonyms = new ArrayList<SourceSynonymConfig>();
     private final List<SourceSequenceConfig> expSerials = new ArrayList<SourceSequenceConfig>();
     private final List<SourceSQLTableConfig> expSQLTables = new ArrayList<SourceSQLTableConfig>();
-    private final List<SourceEntryTableConfig> expTables = new ArrayList<SourceEntryTableConfig>();
-    private final List<String> expTriggers = new ArrayList<String>();
+    private final SourceTableConfigList<SourceEntryTableConfig> expTables =
+            new SourceTableConfigList<SourceEntryTableConfig>();
+    private final Set<String> expTriggers = new LinkedHashSet<String>();
     private final List<SourceViewConfig> expViews = new ArrayList<SourceViewConfig>();
     private String fileRepositroyPath;
     private final List<SourceCSVConfig> csvFiles = new ArrayList<SourceCSVConfig>();
@@ -179,6 +183,7 @@ public class MigrationConfiguration {
     private String targetFilePrefix;
     private String targetCharSet = "UTF-8";
     private String targetLOBRootPath = "";
+    private boolean packLobFiles;
     private boolean addUserSchema;
     private boolean splitSchema;
     private boolean targetDBAGroup;
@@ -199,6 +204,7 @@ public class MigrationConfiguration {
 
     // default is utf-8
     private String sourceFileEncoding;
+    private boolean batchSQLInserts;
     private String sourceFileName;
     private String sourceFileTimeZone;
     private String sourceFileVersion;
@@ -209,7 +215,7 @@ public class MigrationConfiguration {
     private List<Schema> targetSchemaList = new ArrayList<Schema>();
 
     private String targetDBVersion;
-    private final List<Table> targetTables = new ArrayList<Table>();
+    private final DBObjectList<Table> targetTables = new DBObjectList<Table>();
     private final List<View> targetViews = new ArrayList<View>();
     private final List<Sequence> targetSequences = new ArrayList<Sequence>();
     private final List<Synonym> targetSynonyms = new ArrayList<Synonym>();
@@ -226,6 +232,15 @@ public class MigrationConfiguration {
     private final Map<String, String> otherParams = new HashMap<String, String>();
 
     private int pageFetchCount = 1000;
+    private int errorBisectDepth = 0;
+    private int ddlThreadCount = 0;
+    private boolean exactRowCount = false;
+    private int rowCountThreadCount = 0;
+    private boolean adaptiveBatchSize = true;
+    private int minBatchSize = 50;
+    private int maxBatchSize = 50000;
+    private long batchTargetLatency = 1000;
+    private long maxBatchBytes = 16L * 1024 * 1024;
     private int reportLevel = RPT_LEVEL_INFO;
 
     private boolean implicitEstimate = false;
@@ -242,6 +257,10 @@ public class MigrationConfiguration {
 
     private boolean isTarSchemaDuplicate = false;
 
+    // The checkpoints journal of data migration, they are not saved into the script.
+    private String checkpointFile;
+    private boolean resumeFromCheckpoint;
+
     /**
      * Add a CSV file to exporting list.
      *
@@ -299,9 +318,7 @@ public class MigrationConfiguration {
         if (srcCatalog != null) {
             throw new RuntimeException("Source database was specified.");
         }
-        if (expFunctions.indexOf(name) < 0) {
-            expFunctions.add(name);
-        }
+        expFunctions.add(name);
     }
 
     /**
@@ -313,9 +330,7 @@ public class MigrationConfiguration {
         if (srcCatalog != null) {
             throw new RuntimeException("Source database was specified.");
         }
-        if (expProcedures.indexOf(name) < 0) {
-            expProcedures.add(name);
-        }
+        expProcedures.add(name);
     }
 
     /**
@@ -503,9 +518,7 @@ public class MigrationConfiguration {
         if (srcCatalog != null) {
             throw new RuntimeException("Source database was specified.");
         }
-        if (expTriggers.indexOf(name) < 0) {
-            expTriggers.add(name);
-        }
+        expTriggers.add(name);
     }
 
     /**
@@ -630,21 +643,15 @@ public class MigrationConfiguration {
             }
             for (Function fun : sourceDBSchema.getFunctions()) {
                 String funName = prefix + fun.getName();
-                if (expFunctions.indexOf(funName) < 0) {
-                    expFunctions.add(funName);
-                }
+                expFunctions.add(funName);
             }
             for (Procedure pro : sourceDBSchema.getProcedures()) {
                 String proName = prefix + pro.getName();
-                if (expProcedures.indexOf(proName) < 0) {
-                    expProcedures.add(proName);
-                }
+                expProcedures.add(proName);
             }
             for (Trigger tri : sourceDBSchema.getTriggers()) {
                 String triName = prefix + tri.getName();
-                if (expTriggers.indexOf(triName) < 0) {
-                    expTriggers.add(triName);
-                }
+                expTriggers.add(triName);
             }
         }
         // Reset again after building finished.
@@ -1110,7 +1117,7 @@ public class MigrationConfiguration {
                     setc.setCreatePK(isReset);
                     setc.setMigrateData(isReset);
                     setc.setReplace(isReset);
-                    setc.setEnableExpOpt(srcTable.getPk() != null);
+                    setc.setEnableExpOpt(srcTable.getUniqueKeyColumns() != null);
                 } else if (sourceDBSchema.getTargetSchemaName() != null) {
                     if (!sourceDBSchema.getTargetSchemaName().equals(setc.getTargetOwner())) {
                         setc.setTargetOwner(sourceDBSchema.getTargetSchemaName());
@@ -1555,6 +1562,7 @@ public class MigrationConfiguration {
                 Table tt = getTargetTableSchema(scc.getTarget());
                 scc.setTarget(targetName);
                 tt.setName(targetName);
+                targetTables.reindex();
             }
         } else if (oldCnt > 1 && newCnt == 0) {
             Table tblInTar = tschema.getTableByName(targetName);
@@ -1635,6 +1643,7 @@ public class MigrationConfiguration {
         final int newRef = getTargetRefedCount(newTarget);
         if (oldRef == 1 && newRef == 0) {
             tt.setName(newTarget);
+            targetTables.reindex();
         } else if (oldRef > 1 && newRef == 0) {
             Table tt2 = getDBTransformHelper().createCUBRIDTable(stc, st, this);
             tt2.setName(newTarget);
@@ -2222,18 +2231,16 @@ public class MigrationConfiguration {
      */
     public SourceEntryTableConfig getExpEntryTableCfg(String schema, String tableName) {
         SourceEntryTableConfig result = null;
-        for (SourceEntryTableConfig setc : expTables) {
-            if (setc.getName().equals(tableName)) {
-                if (schema == null) {
-                    return setc;
-                }
-                if (schema.equalsIgnoreCase((setc.getOwner()))) {
-                    return setc;
-                }
-                if (setc.getOwner() == null) {
-                    result = setc;
-                    break;
-                }
+        for (SourceEntryTableConfig setc : expTables.getByName(tableName)) {
+            if (schema == null) {
+                return setc;
+            }
+            if (schema.equalsIgnoreCase((setc.getOwner()))) {
+                return setc;
+            }
+            if (setc.getOwner() == null) {
+                result = setc;
+                break;
             }
         }
         return result;
@@ -2282,7 +2289,7 @@ public class MigrationConfiguration {
      * @return String
      */
     public String getExpFunctionCfg(String name) {
-        return expFunctions.indexOf(name) < 0 ? null : name;
+        return expFunctions.contains(name) ? name : null;
     }
 
     /**
@@ -2346,7 +2353,7 @@ public class MigrationConfiguration {
      * @return String
      */
     public String getExpProcedureCfg(String name) {
-        return expProcedures.indexOf(name) < 0 ? null : name;
+        return expProcedures.contains(name) ? name : null;
     }
 
     /**
@@ -2556,7 +2563,7 @@ public class MigrationConfiguration {
      * @return trigger name
      */
     public String getExpTriggerCfg(String name) {
-        return expTriggers.indexOf(name) < 0 ? null : name;
+        return expTriggers.contains(name) ? name : null;
     }
 
     public List<SourceViewConfig> getExpViewCfg() {
@@ -2653,6 +2660,89 @@ public class MigrationConfiguration {
         return pageFetchCount;
     }
 
+    /**
+     * How many times a failed import batch may be split into halves to find the bad records.
+     *
+     * @return the depth, 0 means the whole failed batch is written to the error records
+     */
+    public int getErrorBisectDepth() {
+        return errorBisectDepth;
+    }
+
+    /**
+     * The count of the threads which create the PKs, indexes and FKs of the online target.
+     *
+     * @return the thread count, 0 means the import thread count is used
+     */
+    public int getDdlThreadCount() {
+        return ddlThreadCount;
+    }
+
+    /**
+     * Whether the rows of all tables are counted by SELECT COUNT, otherwise the row counts of the
+     * tables without conditions are estimated by the statistics of the source database.
+     *
+     * @return true if the row counts should be exact
+     */
+    public boolean isExactRowCount() {
+        return exactRowCount;
+    }
+
+    /**
+     * The count of the connections which count the rows of the source tables in parallel.
+     *
+     * @return the connection count, 0 means the export thread count is used
+     */
+    public int getRowCountThreadCount() {
+        return rowCountThreadCount;
+    }
+
+    /**
+     * Whether the commit count of each table is tuned by the commit latency of its batches.
+     *
+     * @return false if the commit count is fixed
+     */
+    public boolean isAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * The smallest commit count of a table when the commit count is tuned.
+     *
+     * @return record count
+     */
+    public int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    /**
+     * The largest commit count of a table when the commit count is tuned, the commit count of the
+     * configuration is used if it is larger.
+     *
+     * @return record count
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The commit latency of a batch which the tuned commit count aims at.
+     *
+     * @return time in milliseconds
+     */
+    public long getBatchTargetLatency() {
+        return batchTargetLatency;
+    }
+
+    /**
+     * The largest estimated size of a batch when the commit count is tuned.
+     *
+     * @return bytes, 0 means no limit
+     */
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
     public int getReportLevel() {
         return reportLevel;
     }
@@ -2721,6 +2811,16 @@ public class MigrationConfiguration {
         return DatabaseType.getDatabaseTypeByID(sourceType);
     }
 
+    /**
+     * Whether the simple INSERT statements of the SQL files are executed as parameterized batches,
+     * and the batches of different tables are imported by different threads.
+     *
+     * @return true if the INSERT statements are batched
+     */
+    public boolean isBatchSQLInserts() {
+        return batchSQLInserts;
+    }
+
     /** @return the sourceFileEncoding */
     public String getSourceFileEncoding() {
         return sourceFileEncoding == null ? "" : sourceFileEncoding;
@@ -3125,6 +3225,16 @@ public class MigrationConfiguration {
         return targetLOBRootPath;
     }
 
+    /**
+     * Whether the LOB values of an unload file target are appended to a few pack files per table
+     * instead of one file per value.
+     *
+     * @return true if the LOB files are packed
+     */
+    public boolean isPackLobFiles() {
+        return packLobFiles;
+    }
+
     public boolean isAddUserSchema() {
         return addUserSchema;
     }
@@ -3408,12 +3518,7 @@ public class MigrationConfiguration {
      * @return TargetTable
      */
     public Table getTargetTableSchema(String name) {
-        for (Table tt : this.targetTables) {
-            if (tt.getName().equals(name)) {
-                return tt;
-            }
-        }
-        return null;
+        return targetTables.getFirstByName(name);
     }
 
     /**
@@ -3429,8 +3534,8 @@ public class MigrationConfiguration {
 
         //		Schema targetSchema = verUtil.getSchemaMapping().get(owner);
 
-        for (Table tt : this.targetTables) {
-            if (tt.getName().equalsIgnoreCase(name) && tt.getOwner().equalsIgnoreCase(owner)) {
+        for (Table tt : targetTables.getByNameIgnoreCase(name)) {
+            if (tt.getOwner().equalsIgnoreCase(owner)) {
                 return tt;
             }
         }
@@ -4311,6 +4416,49 @@ public class MigrationConfiguration {
         this.pageFetchCount = pageFetchCount;
     }
 
+    /** @param errorBisectDepth the errorBisectDepth to set, negative value is taken as 0 */
+    public void setErrorBisectDepth(int errorBisectDepth) {
+        this.errorBisectDepth = Math.max(0, errorBisectDepth);
+    }
+
+    /** @param ddlThreadCount the ddlThreadCount to set, negative value is taken as 0 */
+    public void setDdlThreadCount(int ddlThreadCount) {
+        this.ddlThreadCount = Math.max(0, ddlThreadCount);
+    }
+
+    public void setExactRowCount(boolean exactRowCount) {
+        this.exactRowCount = exactRowCount;
+    }
+
+    /** @param rowCountThreadCount the rowCountThreadCount to set, negative value is taken as 0 */
+    public void setRowCountThreadCount(int rowCountThreadCount) {
+        this.rowCountThreadCount = Math.max(0, rowCountThreadCount);
+    }
+
+    public void setAdaptiveBatchSize(boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+    }
+
+    /** @param minBatchSize the minBatchSize to set, it is 1 at least */
+    public void setMinBatchSize(int minBatchSize) {
+        this.minBatchSize = Math.max(1, minBatchSize);
+    }
+
+    /** @param maxBatchSize the maxBatchSize to set, it is 1 at least */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /** @param batchTargetLatency the batchTargetLatency to set, it is 1 at least */
+    public void setBatchTargetLatency(long batchTargetLatency) {
+        this.batchTargetLatency = Math.max(1, batchTargetLatency);
+    }
+
+    /** @param maxBatchBytes the maxBatchBytes to set, negative value is taken as 0 */
+    public void setMaxBatchBytes(long maxBatchBytes) {
+        this.maxBatchBytes = Math.max(0, maxBatchBytes);
+    }
+
     public void setReportLevel(int reportLevel) {
         this.reportLevel = reportLevel;
     }
@@ -4323,6 +4471,10 @@ public class MigrationConfiguration {
         }
     }
 
+    public void setBatchSQLInserts(boolean batchSQLInserts) {
+        this.batchSQLInserts = batchSQLInserts;
+    }
+
     /** @param sourceFileEncoding the sourceFileEncoding to set */
     public void setSourceFileEncoding(String sourceFileEncoding) {
         this.sourceFileEncoding = sourceFileEncoding;
@@ -4562,6 +4714,10 @@ public class MigrationConfiguration {
         this.targetLOBRootPath = this.targetLOBRootPath + "/";
     }
 
+    public void setPackLobFiles(boolean packLobFiles) {
+        this.packLobFiles = packLobFiles;
+    }
+
     public void setAddUserSchema(boolean addSchema) {
         this.addUserSchema = addSchema;
     }
@@ -4872,4 +5028,31 @@ public class MigrationConfiguration {
             return getSourceConParams().getConUser();
         }
     }
+
+    public String getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    /**
+     * Set the journal file of the checkpoints, the progress of the data migration will be saved
+     * into it if the target is online.
+     *
+     * @param checkpointFile the full path of the file, null means no checkpoints.
+     */
+    public void setCheckpointFile(String checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
+    public boolean isResumeFromCheckpoint() {
+        return resumeFromCheckpoint;
+    }
+
+    /**
+     * Set whether the migration resumes from the checkpoints of the journal file.
+     *
+     * @param resumeFromCheckpoint false means the journal will be cleared
+     */
+    public void setResumeFromCheckpoint(boolean resumeFromCheckpoint) {
+        this.resumeFromCheckpoint = resumeFromCheckpoint;
+    }
 }
@@ -95,6 +95,15 @@ public class SourceColumnConfig extends SourceConfig {
         return result == null ? oldValue : result;
     }
 
+    /**
+     * Retrieves whether any value of the column should be replaced
+     *
+     * @return true if the replacement expression is not empty
+     */
+    public boolean hasValueReplacement() {
+        return !valueReplace.isEmpty();
+    }
+
     /**
      * Set the column configuration's value replacement expression. The expression should be a
      * special format string as follows: oldvalue1:newvalue;oldvalue2:newvalue2 ...
@@ -32,7 +32,9 @@ package com.cubrid.cubridmigration.core.engine.config;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
 
 /**
  * SourceTableConfig
@@ -191,6 +193,22 @@ public class SourceEntryTableConfig extends SourceTableConfig {
         this.condition = condition;
     }
 
+    /**
+     * Retrieves the condition without the leading "WHERE" and the ending ";".
+     *
+     * @return condition or empty string
+     */
+    public String getConditionBody() {
+        String result = StringUtils.trimToEmpty(getCondition());
+        if (result.endsWith(";")) {
+            result = result.substring(0, result.length() - 1).trim();
+        }
+        if (result.toLowerCase(Locale.US).matches("(?s)where[\\s(].*")) {
+            result = result.substring(5).trim();
+        }
+        return result;
+    }
+
     /**
      * Reset the FK configurations
      *
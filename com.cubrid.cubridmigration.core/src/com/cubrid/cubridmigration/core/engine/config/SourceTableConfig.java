@@ -302,4 +302,27 @@ public class SourceTableConfig {
     public void setChangeTableName(boolean isChangeTableName) {
         this.isChangeTableName = isChangeTableName;
     }
+
+    /**
+     * Copy the table level settings and share the column configurations of the source, the parent
+     * of the columns will not be changed.
+     *
+     * @param src SourceTableConfig
+     */
+    protected void copyFrom(SourceTableConfig src) {
+        name = src.name;
+        owner = src.owner;
+        comment = src.comment;
+        target = src.target;
+        targetOwner = src.targetOwner;
+        createNewSchema = src.createNewSchema;
+        createNewTable = src.createNewTable;
+        migrateData = src.migrateData;
+        replace = src.replace;
+        isChangeTableName = src.isChangeTableName;
+        sqlBefore = src.sqlBefore;
+        sqlAfter = src.sqlAfter;
+        columns.clear();
+        columns.addAll(src.columns);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.config;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * SourceTableRangeConfig is a key range of a source entry table. The ranges of a big table can be
+ * exported by different threads, they share the column configurations with the table and add the
+ * range condition to the table's condition.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class SourceTableRangeConfig extends SourceEntryTableConfig {
+
+    private final SourceEntryTableConfig table;
+    private final String rangeCondition;
+    private final int rangeIndex;
+    private final int rangeCount;
+
+    public SourceTableRangeConfig(
+            SourceEntryTableConfig table, String rangeCondition, int rangeIndex, int rangeCount) {
+        this.table = table;
+        this.rangeCondition = rangeCondition;
+        this.rangeIndex = rangeIndex;
+        this.rangeCount = rangeCount;
+        copyFrom(table);
+        setCreatePK(table.isCreatePK());
+        setCreatePartition(table.isCreatePartition());
+        setEnableExpOpt(table.isEnableExpOpt());
+        setStartFromTargetMax(table.isStartFromTargetMax());
+    }
+
+    /**
+     * Retrieves the table's condition and the range condition.
+     *
+     * @return condition
+     */
+    public String getCondition() {
+        String tableCondition = table.getConditionBody();
+        if (StringUtils.isBlank(tableCondition)) {
+            return rangeCondition;
+        }
+        return "(" + tableCondition + ") AND " + rangeCondition;
+    }
+
+    public SourceEntryTableConfig getTable() {
+        return table;
+    }
+
+    public String getRangeCondition() {
+        return rangeCondition;
+    }
+
+    public int getRangeIndex() {
+        return rangeIndex;
+    }
+
+    public int getRangeCount() {
+        return rangeCount;
+    }
+}
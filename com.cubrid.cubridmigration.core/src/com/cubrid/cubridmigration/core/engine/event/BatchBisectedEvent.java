@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.event;
+
+import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+
+/**
+ * BatchBisectedEvent will be fired when a failed batch was imported again by bisecting, it reports
+ * how many records of the batch were salvaged.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class BatchBisectedEvent extends MigrationEvent {
+
+    private final SourceTableConfig sourceTable;
+    private final int batchCount;
+    private final int salvagedCount;
+
+    public BatchBisectedEvent(SourceTableConfig stc, int batchCount, int salvagedCount) {
+        sourceTable = stc;
+        this.batchCount = batchCount;
+        this.salvagedCount = salvagedCount;
+    }
+
+    public SourceTableConfig getSourceTable() {
+        return sourceTable;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    public int getSalvagedCount() {
+        return salvagedCount;
+    }
+
+    public int getIsolatedCount() {
+        return batchCount - salvagedCount;
+    }
+
+    /**
+     * To String
+     *
+     * @return String
+     */
+    public String toString() {
+        StringBuffer sb = new StringBuffer();
+        sb.append("Failed batch of table[")
+                .append(sourceTable.getName())
+                .append("] bisected: ")
+                .append(salvagedCount)
+                .append(" of ")
+                .append(batchCount)
+                .append(" records salvaged, ")
+                .append(getIsolatedCount())
+                .append(" records isolated.");
+        return sb.toString();
+    }
+
+    /**
+     * The event's importance level
+     *
+     * @return level
+     */
+    public int getLevel() {
+        return 2;
+    }
+}
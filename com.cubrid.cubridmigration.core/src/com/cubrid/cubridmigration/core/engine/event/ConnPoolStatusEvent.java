@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.event;
+
+/**
+ * ConnPoolStatusEvent reports the usage of target connection pool after the data was migrated.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class ConnPoolStatusEvent extends MigrationEvent {
+
+    private final int maxPoolSize;
+    private final long hits;
+    private final long misses;
+    private final long waits;
+    private final long waitTime;
+    private final long evicted;
+    private final long statementHits;
+
+    /**
+     * Constructor
+     *
+     * @param maxPoolSize max size of the pool
+     * @param status the pool status retrieved by JDBCConManager.getTarPoolStatus()
+     */
+    public ConnPoolStatusEvent(int maxPoolSize, long[] status) {
+        this.maxPoolSize = maxPoolSize;
+        this.hits = status[0];
+        this.misses = status[1];
+        this.waits = status[2];
+        this.waitTime = status[3];
+        this.evicted = status[4];
+        this.statementHits = status[5];
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getWaits() {
+        return waits;
+    }
+
+    public long getWaitTime() {
+        return waitTime;
+    }
+
+    public long getEvicted() {
+        return evicted;
+    }
+
+    public long getStatementHits() {
+        return statementHits;
+    }
+
+    /**
+     * To String
+     *
+     * @return String
+     */
+    public String toString() {
+        StringBuffer sb = new StringBuffer("Target connection pool(max ");
+        sb.append(maxPoolSize)
+                .append("): ")
+                .append(hits)
+                .append(" hits, ")
+                .append(misses)
+                .append(" misses, ")
+                .append(waits)
+                .append(" waits(")
+                .append(waitTime)
+                .append("ms), ")
+                .append(evicted)
+                .append(" evicted, ")
+                .append(statementHits)
+                .append(" statements reused.");
+        return sb.toString();
+    }
+
+    /**
+     * The event's importance level
+     *
+     * @return level
+     */
+    public int getLevel() {
+        return 2;
+    }
+}
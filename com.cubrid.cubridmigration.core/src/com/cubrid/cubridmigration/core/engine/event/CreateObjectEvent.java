@@ -58,6 +58,8 @@ public class CreateObjectEvent extends MigrationEvent implements IMigrationError
 
     private final boolean isSuccess;
 
+    private long buildTime = -1;
+
     public DBObject getDbObject() {
         return dbObject;
     }
@@ -73,6 +75,17 @@ public class CreateObjectEvent extends MigrationEvent implements IMigrationError
         isSuccess = true;
     }
 
+    /**
+     * Create an instance with success flag and the time of building the object
+     *
+     * @param dbObject DBObject
+     * @param buildTime the time(ms) of executing the DDL
+     */
+    public CreateObjectEvent(DBObject dbObject, long buildTime) {
+        this(dbObject);
+        this.buildTime = buildTime;
+    }
+
     /**
      * Create an instance with failure flag
      *
@@ -137,10 +150,23 @@ public class CreateObjectEvent extends MigrationEvent implements IMigrationError
             sb.append(" unsuccessfully." + " Detail:" + error.getMessage());
             return isAlterSQL ? "Alter" + sb.toString() : "Create " + sb.toString();
         }
-        sb.append(" successfully.");
+        sb.append(" successfully");
+        if (buildTime >= 0) {
+            sb.append(" in ").append(buildTime).append("ms");
+        }
+        sb.append(".");
         return isAlterSQL ? "Alter " + sb.toString() : "Create " + sb.toString();
     }
 
+    /**
+     * Retrieves the time(ms) of executing the DDL.
+     *
+     * @return -1 if it is not measured
+     */
+    public long getBuildTime() {
+        return buildTime;
+    }
+
     /**
      * Get error
      *
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.event;
+
+import com.cubrid.cubridmigration.core.engine.config.SourceCSVConfig;
+
+/**
+ * ExportCSVChunkEvent is raised after a chunk of a big CSV file was parsed.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class ExportCSVChunkEvent extends MigrationEvent {
+
+    private final SourceCSVConfig sourceCSV;
+    private final int chunk;
+    private final long start;
+    private final long end;
+    private final long recordCount;
+
+    public ExportCSVChunkEvent(
+            SourceCSVConfig sourceCSV, int chunk, long start, long end, long recordCount) {
+        this.sourceCSV = sourceCSV;
+        this.chunk = chunk;
+        this.start = start;
+        this.end = end;
+        this.recordCount = recordCount;
+    }
+
+    public SourceCSVConfig getSourceCSV() {
+        return sourceCSV;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * To String
+     *
+     * @return String
+     */
+    public String toString() {
+        return new StringBuffer()
+                .append("Exported ")
+                .append(recordCount)
+                .append(" records from chunk ")
+                .append(chunk)
+                .append(" [")
+                .append(start)
+                .append(", ")
+                .append(end)
+                .append(") of CSV file [")
+                .append(sourceCSV.getName())
+                .append("] successfully.")
+                .toString();
+    }
+
+    /**
+     * The event's importance level
+     *
+     * @return level
+     */
+    public int getLevel() {
+        return 2;
+    }
+}
@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.core.engine.event;
 
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import java.util.Date;
 
 /**
  * MigrationCreateObjectEvent Description
@@ -48,6 +49,19 @@ public class ExportRecordsEvent extends MigrationEvent {
         this.recordCount = recordCount;
     }
 
+    /**
+     * Constructor of the event which sums up the exported records of a table.
+     *
+     * @param tt SourceTableConfig
+     * @param recordCount the count of exported records
+     * @param eventTime the time of the last summed event
+     */
+    public ExportRecordsEvent(SourceTableConfig tt, int recordCount, Date eventTime) {
+        super(eventTime);
+        sourceTable = tt;
+        this.recordCount = recordCount;
+    }
+
     public SourceTableConfig getSourceTable() {
         return sourceTable;
     }
@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.core.engine.event;
 
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import java.util.Date;
 
 /**
  * MigrationCreateObjectEvent Description
@@ -54,6 +55,22 @@ public class ImportRecordsEvent extends MigrationEvent implements IMigrateDataEr
         this.errorFile = null;
     }
 
+    /**
+     * Constructor of the event which sums up the imported records of a table.
+     *
+     * @param tt SourceTableConfig
+     * @param recordCount the count of imported records
+     * @param eventTime the time of the last summed event
+     */
+    public ImportRecordsEvent(SourceTableConfig tt, int recordCount, Date eventTime) {
+        super(eventTime);
+        sourceTable = tt;
+        this.recordCount = recordCount;
+        this.success = true;
+        this.error = null;
+        this.errorFile = null;
+    }
+
     public ImportRecordsEvent(
             SourceTableConfig tt, int recordCount, Exception error, String errorFile) {
         sourceTable = tt;
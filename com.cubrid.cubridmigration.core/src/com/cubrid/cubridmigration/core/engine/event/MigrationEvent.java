@@ -41,7 +41,20 @@ import java.util.Date;
  */
 public abstract class MigrationEvent {
 
-    private final Date eventTime = new Date();
+    private final Date eventTime;
+
+    public MigrationEvent() {
+        eventTime = new Date();
+    }
+
+    /**
+     * Constructor of the events which summarize other events happened before.
+     *
+     * @param eventTime Date
+     */
+    protected MigrationEvent(Date eventTime) {
+        this.eventTime = (Date) eventTime.clone();
+    }
 
     /**
      * Retrieves the event time.
@@ -55,6 +55,20 @@ public class SingleRecordErrorEvent extends MigrationEvent {
         return error;
     }
 
+    /**
+     * Retrieves the name of the table which the record belongs to.
+     *
+     * @return table name or null if it is unknown
+     */
+    public String getTableName() {
+        List<ColumnValue> columnValueList = record.getColumnValueList();
+        if (columnValueList.isEmpty()) {
+            return null;
+        }
+        TableOrView tb = columnValueList.get(0).getColumn().getTableOrView();
+        return tb == null ? null : tb.getName();
+    }
+
     /**
      * To String
      *
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.executors;
+
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.engine.TaskBudget;
+import org.apache.log4j.Logger;
+
+/**
+ * BudgetedExecutor runs the tasks by another executor, and every task reserves a slot of the
+ * budget shared by the migrations of the JVM before it runs.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class BudgetedExecutor implements IRunnableExecutor {
+
+    private static final Logger LOG = LogUtil.getLogger(BudgetedExecutor.class);
+
+    private final IRunnableExecutor executor;
+    private final TaskBudget budget;
+    private final Object owner;
+
+    /**
+     * Constructor
+     *
+     * @param executor runs the tasks
+     * @param budget shared by migrations
+     * @param owner the migration which owns the executor
+     */
+    public BudgetedExecutor(IRunnableExecutor executor, TaskBudget budget, Object owner) {
+        this.executor = executor;
+        this.budget = budget;
+        this.owner = owner;
+    }
+
+    /**
+     * Add task to the executor.
+     *
+     * @param task is the migration task to be executed.
+     */
+    public void execute(final Runnable task) {
+        executor.execute(
+                new Runnable() {
+                    public void run() {
+                        if (!budget.acquire(owner)) {
+                            // The migration is being stopped, the task is rejected.
+                            Thread.currentThread().interrupt();
+                            LOG.warn(
+                                    "Task "
+                                            + task
+                                            + " was rejected because the thread was interrupted"
+                                            + " while waiting for the shared budget.");
+                            return;
+                        }
+                        try {
+                            task.run();
+                        } finally {
+                            budget.release(owner);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Retrieves whether the executor is busy now.
+     *
+     * @return true if has tasks not executed
+     */
+    public boolean isBusy() {
+        return executor.isBusy();
+    }
+
+    /** Interrupt */
+    public void interrupt() {
+        executor.interrupt();
+    }
+
+    /** Dispose */
+    public void dispose() {
+        executor.dispose();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.executors;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PriorityExecutor runs the tasks in a fixed thread pool, and the waiting tasks are picked up by
+ * their priorities instead of the submitting order. The tasks which are not {@link
+ * IPrioritizedTask} have priority 0, the tasks with the same priority run in the submitting
+ * order.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class PriorityExecutor implements IRunnableExecutor {
+
+    /** The task waiting in the queue */
+    private class QueuedTask implements Runnable, Comparable<QueuedTask> {
+        private final Runnable task;
+        private final long priority;
+        private final long sequence;
+
+        QueuedTask(Runnable task) {
+            this.task = task;
+            this.priority =
+                    task instanceof IPrioritizedTask ? ((IPrioritizedTask) task).getPriority() : 0;
+            this.sequence = sequenceGenerator.getAndIncrement();
+        }
+
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                synchronized (lockObj) {
+                    unfinishedTaskCount--;
+                }
+            }
+        }
+
+        public int compareTo(QueuedTask other) {
+            if (priority != other.priority) {
+                return priority > other.priority ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong sequenceGenerator = new AtomicLong();
+
+    private final Object lockObj = new Object();
+
+    private long unfinishedTaskCount;
+
+    private boolean interrupted;
+
+    public PriorityExecutor(int threadSize) {
+        final int size = Math.max(1, threadSize);
+        executor =
+                new ThreadPoolExecutor(
+                        size,
+                        size,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new PriorityBlockingQueue<Runnable>());
+        // The threads are created before the first task, otherwise the first tasks are not queued
+        // and don't follow the priorities.
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Add task to the executor.
+     *
+     * @param tk is the migration task to be executed.
+     */
+    public void execute(Runnable tk) {
+        synchronized (lockObj) {
+            if (interrupted) {
+                throw new RuntimeException("Interrupted.");
+            }
+            unfinishedTaskCount++;
+        }
+        executor.execute(new QueuedTask(tk));
+    }
+
+    /**
+     * The executor is busy
+     *
+     * @return true if has tasks not finished
+     */
+    public boolean isBusy() {
+        synchronized (lockObj) {
+            return !interrupted && unfinishedTaskCount > 0;
+        }
+    }
+
+    /** Interrupted */
+    public void interrupt() {
+        synchronized (lockObj) {
+            interrupted = true;
+        }
+        executor.shutdownNow();
+    }
+
+    /** Release threads pool. */
+    public void dispose() {
+        executor.shutdown();
+    }
+}
@@ -30,7 +30,6 @@
  */
 package com.cubrid.cubridmigration.core.engine.executors;
 
-import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -50,6 +49,8 @@ public class SingleQueueExecutor implements IRunnableExecutor {
 
     protected long taskCount;
 
+    protected long finishedTaskCount;
+
     protected Object lockObj = new Object();
 
     protected boolean interrupted;
@@ -60,6 +61,17 @@ public class SingleQueueExecutor implements IRunnableExecutor {
         executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(threadSize);
     }
 
+    /**
+     * Constructor, the caller of execute will wait if there are too many tasks not finished.
+     *
+     * @param threadSize the count of threads
+     * @param maxTaskCount the maximum count of the tasks not finished
+     */
+    public SingleQueueExecutor(int threadSize, int maxTaskCount) {
+        this(threadSize, true);
+        poolSize = Math.max(1, maxTaskCount);
+    }
+
     /** Release threads pool. */
     public void dispose() {
         executor.shutdown();
@@ -77,12 +89,48 @@ public class SingleQueueExecutor implements IRunnableExecutor {
                 if (interrupted) {
                     throw new RuntimeException("Interrupted.");
                 }
-                ThreadUtils.threadSleep(200, null);
+                waitForFinishedTask(0);
             }
             if (interrupted) {
                 throw new RuntimeException("Interrupted.");
             }
-            executor.execute(tk);
+            executor.execute(wrapTask(tk));
+        }
+    }
+
+    /**
+     * Wrap the task to notify the threads waiting for a finished task.
+     *
+     * @param tk the task to be executed
+     * @return Runnable
+     */
+    protected Runnable wrapTask(final Runnable tk) {
+        return new Runnable() {
+            public void run() {
+                try {
+                    tk.run();
+                } finally {
+                    synchronized (lockObj) {
+                        finishedTaskCount++;
+                        lockObj.notifyAll();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Wait until a task is finished or the executor is interrupted. It should be called in the
+     * synchronized block of lockObj.
+     *
+     * @param timeout the maximum time(ms) to wait, 0 means no timeout.
+     */
+    protected void waitForFinishedTask(long timeout) {
+        try {
+            lockObj.wait(timeout);
+        } catch (InterruptedException e) {
+            interrupted = true;
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -92,12 +140,15 @@ public class SingleQueueExecutor implements IRunnableExecutor {
      * @return True if there are too many tasks in queue.
      */
     protected boolean tooManyTasks() {
-        return (taskCount - executor.getCompletedTaskCount()) > poolSize;
+        return (taskCount - finishedTaskCount) > poolSize;
     }
 
     /** Interrupted */
     public void interrupt() {
-        interrupted = true;
+        synchronized (lockObj) {
+            interrupted = true;
+            lockObj.notifyAll();
+        }
         executor.shutdownNow();
     }
 
@@ -110,6 +161,8 @@ public class SingleQueueExecutor implements IRunnableExecutor {
         if (interrupted) {
             return false;
         }
-        return ((taskCount - executor.getCompletedTaskCount()) != 0);
+        synchronized (lockObj) {
+            return taskCount != finishedTaskCount;
+        }
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.executors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * WorkStealingExecutor runs the tasks in a work-stealing thread pool. The tasks submitted by the
+ * running tasks are picked up by any idle thread, so it fits the tasks which make other tasks
+ * ready when they finish.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class WorkStealingExecutor implements IRunnableExecutor {
+
+    private final ExecutorService executor;
+
+    private final Object lockObj = new Object();
+
+    private long unfinishedTaskCount;
+
+    private boolean interrupted;
+
+    public WorkStealingExecutor(int threadSize) {
+        executor = Executors.newWorkStealingPool(Math.max(1, threadSize));
+    }
+
+    /**
+     * Add task to the executor.
+     *
+     * @param tk is the migration task to be executed.
+     */
+    public void execute(final Runnable tk) {
+        synchronized (lockObj) {
+            if (interrupted) {
+                throw new RuntimeException("Interrupted.");
+            }
+            unfinishedTaskCount++;
+        }
+        executor.execute(
+                new Runnable() {
+                    public void run() {
+                        try {
+                            tk.run();
+                        } finally {
+                            synchronized (lockObj) {
+                                unfinishedTaskCount--;
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * The executor is busy
+     *
+     * @return true if has tasks not finished
+     */
+    public boolean isBusy() {
+        synchronized (lockObj) {
+            return !interrupted && unfinishedTaskCount > 0;
+        }
+    }
+
+    /** Interrupted */
+    public void interrupt() {
+        synchronized (lockObj) {
+            interrupted = true;
+        }
+        executor.shutdownNow();
+    }
+
+    /** Release threads pool. */
+    public void dispose() {
+        executor.shutdown();
+    }
+}
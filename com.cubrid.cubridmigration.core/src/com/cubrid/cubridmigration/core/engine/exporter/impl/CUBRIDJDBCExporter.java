@@ -32,9 +32,11 @@ package com.cubrid.cubridmigration.core.engine.exporter.impl;
 
 import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.dbobject.PK;
-import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal.UnitCheckpoint;
 import com.cubrid.cubridmigration.core.engine.RecordExportedListener;
+import com.cubrid.cubridmigration.core.engine.RecordTransformPlan;
 import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
@@ -212,8 +214,8 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
         Connection conn = connManager.getSourceConnection(); // NOPMD
         try {
             newRecsHandler.startExportTable(setc.getName());
-            List<Record> records = new ArrayList<Record>();
-            List<SourceColumnConfig> expColConfs = setc.getColumnConfigList();
+            final RecordTransformPlan plan = getTransformPlan(setc);
+            RecordBatch records = plan.createRecordBatch(config.getCommitCount());
 
             String startSQL = getPagingSQL(setc, spCols, true);
             String noStartSQL = getPagingSQL(setc, spCols, false);
@@ -247,7 +249,7 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
                 getResultSet(finalSQL, params.toArray(new Object[] {}), joc);
                 // Start handle result set.
                 handleResultSet(
-                        joc, setc, sTable, expColConfs, records, newRecsHandler, expStatus, spCols);
+                        joc, setc, sTable, plan, records, newRecsHandler, expStatus, spCols);
                 // If end fetching.
                 if (isEndFetching(expStatus)) {
                     break;
@@ -256,6 +258,11 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
             if (!records.isEmpty()) {
                 newRecsHandler.processRecords(setc.getName(), records);
             }
+            // The records have no checkpoints, the unit is marked unsafe by its first batch.
+            UnitCheckpoint checkpoint = getCheckpoint(setc);
+            if (checkpoint != null && !interrupted) {
+                checkpoint.exportFinished();
+            }
         } finally {
             newRecsHandler.endExportTable(setc.getName());
             connManager.closeSrc(conn);
@@ -473,7 +480,7 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
      * @param joc JDBCObjContainer
      * @param stc SourceTableConfig
      * @param sTable Source Table
-     * @param expColConfs List<SourceColumnConfig> of Source Table
+     * @param plan RecordTransformPlan of Source Table
      * @param records data cache
      * @param newRecordProcessor processor
      * @param expStatus ExportingStatus. In method, some properties will be changed.
@@ -483,8 +490,8 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
             JDBCObjContainer joc,
             SourceEntryTableConfig stc,
             Table sTable,
-            List<SourceColumnConfig> expColConfs,
-            List<Record> records,
+            RecordTransformPlan plan,
+            RecordBatch records,
             RecordExportedListener newRecordProcessor,
             ExportingStatus expStatus,
             String[] spCols) {
@@ -512,11 +519,9 @@ public class CUBRIDJDBCExporter extends JDBCExporter {
                 }
 
                 thisTimeRecords++;
-                Record record = createNewRecord(sTable, expColConfs, rs);
-                if (record == null) {
+                if (!createNewRecord(sTable, plan, rs, records)) {
                     continue;
                 }
-                records.add(record);
                 handleCommit(stc, newRecordProcessor, sTable, records);
             }
             expStatus.changeRsSizeAndCountTotal(thisTimeRecords);
@@ -35,24 +35,30 @@ import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.PK;
 import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal.UnitCheckpoint;
 import com.cubrid.cubridmigration.core.engine.JDBCConManager;
+import com.cubrid.cubridmigration.core.engine.MigrationContext;
 import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
 import com.cubrid.cubridmigration.core.engine.RecordExportedListener;
+import com.cubrid.cubridmigration.core.engine.RecordTransformPlan;
 import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
 import com.cubrid.cubridmigration.core.engine.event.LobMigrationErrorEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationErrorEvent;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.engine.exporter.MigrationExporter;
 import com.cubrid.cubridmigration.core.export.DBExportHelper;
+import com.cubrid.cubridmigration.core.export.IExportDataHandler;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.log4j.Logger;
@@ -104,6 +110,7 @@ public class JDBCExporter extends MigrationExporter {
 
     protected JDBCConManager connManager;
     protected MigrationStatusManager msm;
+    protected MigrationContext context;
 
     //	public JDBCExporter() {
     //	}
@@ -138,41 +145,49 @@ public class JDBCExporter extends MigrationExporter {
     }
 
     /**
-     * Create a new record with target table columns configurations and source values
+     * Read a new record with the source values into the batch. The record is removed from the
+     * batch if its values could not be read.
      *
      * @param st source table
-     * @param expCols source table's export columns
+     * @param plan record transform plan of the source table
      * @param rs result set
-     * @return new record object
+     * @param batch the records to be committed
+     * @return true if the record was read
      */
-    protected Record createNewRecord(Table st, List<SourceColumnConfig> expCols, ResultSet rs) {
+    protected boolean createNewRecord(
+            Table st, RecordTransformPlan plan, ResultSet rs, RecordBatch batch) {
         Column sCol = null;
-        Record record = new Record();
+        final int columnCount = plan.getColumnCount();
+        final int row = batch.addRow();
         try {
             final DBExportHelper srcDBExportHelper = getSrcDBExportHelper();
-            for (int ci = 1; ci <= expCols.size(); ci++) {
-                SourceColumnConfig cc = expCols.get(ci - 1);
-                sCol = st.getColumnByName(cc.getName());
-                Object value = srcDBExportHelper.getJdbcObject(rs, sCol);
-
-                if (value instanceof LobMigrationErrorEvent) {
-                    LobMigrationErrorEvent LobError = (LobMigrationErrorEvent) value;
-                    String lobWarning =
-                            "[LOB WARNING]  table: "
-                                    + st.getName()
-                                    + "  column: "
-                                    + (sCol != null ? sCol.getName() : "")
-                                    + "  pk:"
-                                    + getPkValues(st, record);
-
-                    LOG.warn(lobWarning, LobError.getError());
-                    eventHandler.handleEvent(
-                            new MigrationErrorEvent(
-                                    new NormalMigrationException(lobWarning, LobError.getError())));
+            final IExportDataHandler[] handlers = plan.getExportDataHandlers();
+            for (int ci = 0; ci < columnCount; ci++) {
+                sCol = plan.getSourceColumn(ci);
+                if (sCol == null) {
+                    throw new RuntimeException("Column can't be null.");
                 }
-                record.addColumnValue(sCol, value);
+                final int rsIndex = plan.getResultSetIndex(ci);
+                srcDBExportHelper.readJdbcValue(handlers[ci], rs, sCol, rsIndex, batch, row, ci);
+                if (batch.getKind(ci) != RecordBatch.KIND_OBJECT
+                        || !(batch.getValue(row, ci) instanceof LobMigrationErrorEvent)) {
+                    continue;
+                }
+                LobMigrationErrorEvent LobError = (LobMigrationErrorEvent) batch.getValue(row, ci);
+                String lobWarning =
+                        "[LOB WARNING]  table: "
+                                + st.getName()
+                                + "  column: "
+                                + (sCol != null ? sCol.getName() : "")
+                                + "  pk:"
+                                + getPkValues(st, batch.get(row));
+
+                LOG.warn(lobWarning, LobError.getError());
+                eventHandler.handleEvent(
+                        new MigrationErrorEvent(
+                                new NormalMigrationException(lobWarning, LobError.getError())));
             }
-            return record;
+            return true;
         } catch (NormalMigrationException e) {
             LOG.error("[RECORD ERROR]", e);
             eventHandler.handleEvent(new MigrationErrorEvent(e));
@@ -186,7 +201,7 @@ public class JDBCExporter extends MigrationExporter {
                                             + "  column: "
                                             + (sCol != null ? sCol.getName() : "")
                                             + "  pk:"
-                                            + getPkValues(st, record),
+                                            + getPkValues(st, batch.get(row)),
                                     e)));
         } catch (Exception e) {
             LOG.error("[RECORD ERROR]", e);
@@ -198,10 +213,11 @@ public class JDBCExporter extends MigrationExporter {
                                             + "  column: "
                                             + (sCol != null ? sCol.getName() : "")
                                             + "  pk:"
-                                            + getPkValues(st, record),
+                                            + getPkValues(st, batch.get(row)),
                                     e)));
         }
-        return null;
+        batch.removeLastRow();
+        return false;
     }
 
     /**
@@ -221,8 +237,8 @@ public class JDBCExporter extends MigrationExporter {
         }
 
         for (String tablePkColumn : tablePkColumns) {
-            String value = columnValueMap.get(tablePkColumn).toString();
-            pkValue.append(" " + value);
+            // The values which were not read yet are NULL.
+            pkValue.append(" " + columnValueMap.get(tablePkColumn));
         }
 
         return pkValue.toString();
@@ -244,15 +260,30 @@ public class JDBCExporter extends MigrationExporter {
         if (sTable == null) {
             throw new NormalMigrationException("Table " + stc.getName() + " was not found.");
         }
+        if (stc instanceof SourceEntryTableConfig) {
+            SourceEntryTableConfig setc = (SourceEntryTableConfig) stc;
+            List<String> keyColumns = getSeekKeyColumns(setc, sTable);
+            if (keyColumns != null) {
+                exportTableRecordsBySeeking(setc, sTable, keyColumns, newRecordProcessor);
+                return;
+            }
+        }
         final PK srcPK = sTable.getPk();
         Connection conn = connManager.getSourceConnection(); // NOPMD
         try {
             final DBExportHelper expHelper = getSrcDBExportHelper();
             PK pk = expHelper.supportFastSearchWithPK(conn) ? srcPK : null;
             newRecordProcessor.startExportTable(stc.getName());
-            List<Record> records = new ArrayList<Record>();
-            List<SourceColumnConfig> expColConfs = stc.getColumnConfigList();
+            final RecordTransformPlan plan = getTransformPlan(stc);
+            RecordBatch records = plan.createRecordBatch(config.getCommitCount());
+            final UnitCheckpoint checkpoint = getCheckpoint(stc);
             long totalExported = 0L;
+            // The offset can be a checkpoint only if the records are ordered by the PK, or the
+            // unit is marked unsafe by its first batch and migrated again from the head.
+            if (checkpoint != null && pk != null) {
+                totalExported = checkpoint.getResumeOffset();
+                checkpoint.startOffset(totalExported);
+            }
             long intPageCount = config.getPageFetchCount();
             String sql = expHelper.getSelectSQL(stc);
             while (true) {
@@ -260,7 +291,8 @@ public class JDBCExporter extends MigrationExporter {
                     return;
                 }
                 long realPageCount = intPageCount;
-                if (!config.isImplicitEstimate()) {
+                // The estimated row count can't tell where the table ends.
+                if (!config.isImplicitEstimate() && !sTable.isTableRowCountEstimated()) {
                     realPageCount =
                             Math.min(sTable.getTableRowCount() - totalExported, intPageCount);
                 }
@@ -274,25 +306,211 @@ public class JDBCExporter extends MigrationExporter {
                                 pagesql,
                                 stc,
                                 sTable,
-                                expColConfs,
+                                plan,
                                 records,
-                                newRecordProcessor);
+                                newRecordProcessor,
+                                checkpoint);
                 totalExported = totalExported + recordCountOfQuery;
                 // Stop fetching condition: no result;less then fetching count;great then total
-                // count
-                if (isLatestPage(sTable, totalExported, recordCountOfQuery)) {
+                // count;the SQL is not paged(all records were fetched)
+                if (!isWithPageQueryParamSQL(sql, pagesql)
+                        || isLatestPage(sTable, totalExported, recordCountOfQuery)) {
                     break;
                 }
             }
             if (!records.isEmpty()) {
                 newRecordProcessor.processRecords(stc.getName(), records);
             }
+            if (checkpoint != null && !interrupted) {
+                checkpoint.exportFinished();
+            }
         } finally {
             newRecordProcessor.endExportTable(stc.getName());
             connManager.closeSrc(conn);
         }
     }
 
+    /**
+     * Retrieves the key columns for seek paging. The key should be the PK or a NOT NULL unique
+     * index, and all of its columns should be exported.
+     *
+     * @param setc SourceEntryTableConfig
+     * @param sTable source table
+     * @return key columns or NULL if seek paging is not available.
+     */
+    protected List<String> getSeekKeyColumns(SourceEntryTableConfig setc, Table sTable) {
+        if (!setc.isEnableExpOpt() || !getSrcDBExportHelper().supportSeekPaging()) {
+            return null;
+        }
+        List<String> keyColumns = sTable.getUniqueKeyColumns();
+        if (keyColumns == null || getKeyIndexes(setc.getColumnConfigList(), keyColumns) == null) {
+            return null;
+        }
+        return keyColumns;
+    }
+
+    /**
+     * Retrieves the positions of key columns in the exporting columns.
+     *
+     * @param expColConfs exporting columns
+     * @param keyColumns key columns
+     * @return 1-based positions or NULL if some key column will not be exported.
+     */
+    private static int[] getKeyIndexes(
+            List<SourceColumnConfig> expColConfs, List<String> keyColumns) {
+        int[] result = new int[keyColumns.size()];
+        for (int i = 0; i < result.length; i++) {
+            for (int j = 0; j < expColConfs.size(); j++) {
+                if (expColConfs.get(j).getName().equalsIgnoreCase(keyColumns.get(i))) {
+                    result[i] = j + 1;
+                    break;
+                }
+            }
+            if (result[i] == 0) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Export source data records by seek paging: every page starts after the key of the last
+     * record of previous page, so the cost of a page does not depend on how deep it is.
+     *
+     * @param setc source table configuration
+     * @param sTable source table
+     * @param keyColumns key columns to order and seek records
+     * @param newRecordProcessor to process new records
+     */
+    protected void exportTableRecordsBySeeking(
+            SourceEntryTableConfig setc,
+            Table sTable,
+            List<String> keyColumns,
+            RecordExportedListener newRecordProcessor) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[IN]exportTableRecordsBySeeking(" + keyColumns + ")");
+        }
+        Connection conn = connManager.getSourceConnection(); // NOPMD
+        try {
+            final DBExportHelper expHelper = getSrcDBExportHelper();
+            newRecordProcessor.startExportTable(setc.getName());
+            List<SourceColumnConfig> expColConfs = setc.getColumnConfigList();
+            final int[] keyIndexes = getKeyIndexes(expColConfs, keyColumns);
+            final RecordTransformPlan plan = getTransformPlan(setc);
+            RecordBatch records = plan.createRecordBatch(config.getCommitCount());
+            final long pageSize = config.getPageFetchCount();
+            final String firstSQL =
+                    expHelper.getSeekPagedSelectSQL(setc, keyColumns, true, pageSize);
+            final String nextSQL =
+                    expHelper.getSeekPagedSelectSQL(setc, keyColumns, false, pageSize);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[SQL]SEEK PAGINATED=" + nextSQL);
+            }
+            final UnitCheckpoint checkpoint = getCheckpoint(setc);
+            // NULL means starting from head.
+            Object[] lastKey = checkpoint == null ? null : checkpoint.getResumeKey();
+            if (lastKey != null && lastKey.length != keyIndexes.length) {
+                lastKey = null;
+            }
+            JDBCObjContainer joc = new JDBCObjContainer();
+            joc.setConn(conn);
+            while (true) {
+                if (interrupted) {
+                    return;
+                }
+                if (lastKey == null) {
+                    getResultSet(firstSQL, null, joc);
+                } else {
+                    getResultSet(nextSQL, DBExportHelper.getSeekParams(lastKey), joc);
+                }
+                Object[] currentKey = new Object[keyIndexes.length];
+                long recordCountOfQuery =
+                        handleSeekResultSet(
+                                joc,
+                                setc,
+                                sTable,
+                                plan,
+                                records,
+                                newRecordProcessor,
+                                keyIndexes,
+                                currentKey,
+                                checkpoint);
+                if (recordCountOfQuery > 0) {
+                    lastKey = currentKey;
+                }
+                if (recordCountOfQuery < pageSize) {
+                    break;
+                }
+            }
+            if (!records.isEmpty()) {
+                newRecordProcessor.processRecords(setc.getName(), records);
+            }
+            if (checkpoint != null && !interrupted) {
+                checkpoint.exportFinished();
+            }
+        } finally {
+            newRecordProcessor.endExportTable(setc.getName());
+            connManager.closeSrc(conn);
+        }
+    }
+
+    /**
+     * Handle the result set of a seek page and remember the key of the last record.
+     *
+     * @param joc JDBCObjContainer with executed result set
+     * @param stc SourceTableConfig
+     * @param sTable Source Table
+     * @param plan RecordTransformPlan of Source Table
+     * @param records data cache
+     * @param newRecsHandler processor
+     * @param keyIndexes 1-based positions of key columns in the result set
+     * @param currentKey to return the key values of the last record
+     * @param checkpoint of the table, it can be NULL
+     * @return how many records were handled.
+     */
+    private long handleSeekResultSet(
+            JDBCObjContainer joc,
+            SourceTableConfig stc,
+            Table sTable,
+            RecordTransformPlan plan,
+            RecordBatch records,
+            RecordExportedListener newRecsHandler,
+            int[] keyIndexes,
+            Object[] currentKey,
+            UnitCheckpoint checkpoint) {
+        try {
+            long totalExported = 0;
+            ResultSet rs = joc.getRs();
+            if (rs == null) {
+                return totalExported;
+            }
+            while (nextRecord(rs)) {
+                if (interrupted) {
+                    return totalExported;
+                }
+                totalExported++;
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    try {
+                        currentKey[i] = rs.getObject(keyIndexes[i]);
+                    } catch (SQLException e) {
+                        throw new NormalMigrationException("Get current key error.", e);
+                    }
+                }
+                if (checkpoint != null) {
+                    checkpoint.setExportedKey(currentKey);
+                }
+                if (!createNewRecord(sTable, plan, rs, records)) {
+                    continue;
+                }
+                handleCommit(stc, newRecsHandler, sTable, records);
+            }
+            return totalExported;
+        } finally {
+            Closer.close(joc.getRs());
+            Closer.close(joc.getStmt());
+        }
+    }
+
     /**
      * When new record was exported, CMT should make a choice to commit or continue or waiting for
      * more free memory.
@@ -300,30 +518,25 @@ public class JDBCExporter extends MigrationExporter {
      * @param stc SourceTableConfig
      * @param newRecordProcessor RecordExportedListener
      * @param sTable Table
-     * @param records List<Record> Notice:it will be cleared after committed.
+     * @param records List<Record> Notice:it will be cleared or handed over after committed.
      */
     protected void handleCommit(
             SourceTableConfig stc,
             RecordExportedListener newRecordProcessor,
             Table sTable,
             List<Record> records) {
-        // Watching memory to avoid out of memory errors
-        int status = MigrationStatusManager.STATUS_WAITING;
-        int counter = 0;
-        while (true) {
-            status = msm.isCommitNow(sTable.getName(), records.size(), config.getCommitCount());
-            if (status == MigrationStatusManager.STATUS_WAITING) {
-                ThreadUtils.threadSleep(1000, null);
-                counter++;
-            } else {
-                break;
-            }
-            if (counter >= 10) {
-                status = MigrationStatusManager.STATUS_COMMIT;
-                break;
-            }
+        // Watching memory to avoid out of memory errors, the records will be blocked by the memory
+        // budget when they are processed.
+        int commitCount =
+                msm.getCommitCount(stc.getOwner(), stc.getName(), config.getCommitCount());
+        int status = msm.isCommitNow(sTable.getName(), records.size(), commitCount);
+        if (MigrationStatusManager.STATUS_COMMIT != status) {
+            return;
         }
-        if (MigrationStatusManager.STATUS_COMMIT == status) {
+        if (records instanceof RecordBatch) {
+            // The batch is handed over to the importer as one unit, and filled again from empty.
+            newRecordProcessor.processRecords(stc.getName(), ((RecordBatch) records).takeRows());
+        } else {
             newRecordProcessor.processRecords(stc.getName(), records);
             // After records processed, clear it.
             records.clear();
@@ -337,9 +550,10 @@ public class JDBCExporter extends MigrationExporter {
      * @param sql String
      * @param stc SourceTableConfig
      * @param sTable Source Table
-     * @param expColConfs List<SourceColumnConfig> of Source Table
+     * @param plan RecordTransformPlan of Source Table
      * @param records data cache
      * @param newRecsHandler processor
+     * @param checkpoint of the table, it can be NULL
      * @return how many records were handled.
      */
     protected long handleSQL(
@@ -347,9 +561,10 @@ public class JDBCExporter extends MigrationExporter {
             String sql,
             SourceTableConfig stc,
             Table sTable,
-            List<SourceColumnConfig> expColConfs,
-            List<Record> records,
-            RecordExportedListener newRecsHandler) {
+            RecordTransformPlan plan,
+            RecordBatch records,
+            RecordExportedListener newRecsHandler,
+            UnitCheckpoint checkpoint) {
         JDBCObjContainer joc = new JDBCObjContainer();
         joc.setConn(conn);
         try {
@@ -364,11 +579,12 @@ public class JDBCExporter extends MigrationExporter {
                     return totalExported;
                 }
                 totalExported++;
-                Record record = createNewRecord(sTable, expColConfs, joc.getRs());
-                if (record == null) {
+                if (checkpoint != null) {
+                    checkpoint.countExportedRow();
+                }
+                if (!createNewRecord(sTable, plan, joc.getRs(), records)) {
                     continue;
                 }
-                records.add(record);
                 handleCommit(stc, newRecsHandler, sTable, records);
             }
             return totalExported;
@@ -440,6 +656,17 @@ public class JDBCExporter extends MigrationExporter {
         return joc;
     }
 
+    /**
+     * Retrieves the checkpoint of the table if the migration saves checkpoints.
+     *
+     * @param stc SourceTableConfig
+     * @return NULL if no checkpoint
+     */
+    protected UnitCheckpoint getCheckpoint(SourceTableConfig stc) {
+        CheckpointJournal journal = context == null ? null : context.getCheckpointJournal();
+        return journal == null ? null : journal.getCheckpoint(stc);
+    }
+
     /**
      * Retrieves the source DB export helper
      *
@@ -453,6 +680,23 @@ public class JDBCExporter extends MigrationExporter {
         this.connManager = connManager;
     }
 
+    public void setContext(MigrationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Retrieves the record transform plan of the source table.
+     *
+     * @param stc SourceTableConfig
+     * @return RecordTransformPlan
+     */
+    protected RecordTransformPlan getTransformPlan(SourceTableConfig stc) {
+        if (context == null) {
+            return MigrationContext.compileTransformPlan(config, stc, null);
+        }
+        return context.getTransformPlan(stc);
+    }
+
     public void setStatusManager(MigrationStatusManager msm) {
         this.msm = msm;
     }
@@ -474,6 +718,8 @@ public class JDBCExporter extends MigrationExporter {
 
         return recordCountOfCurrentPage == 0
                 || recordCountOfCurrentPage < config.getPageFetchCount()
-                || (!config.isImplicitEstimate() && exportedRecords >= sTable.getTableRowCount());
+                || (!config.isImplicitEstimate()
+                        && !sTable.isTableRowCountEstimated()
+                        && exportedRecords >= sTable.getTableRowCount());
     }
 }
@@ -32,7 +32,6 @@ package com.cubrid.cubridmigration.core.engine.exporter.impl;
 
 import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
 import com.cubrid.cubridmigration.core.engine.RecordExportedListener;
-import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
 import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
@@ -133,26 +132,9 @@ public class PerformMYSQLXMLDataReader extends DefaultHandler {
         } else if (TAG_ROW.equals(qName) && null != sourceTable && null != recordMapCache) {
             recordMapCache.add(recordMap);
             // Watching memory to avoid out of memory errors
-            int status = MigrationStatusManager.STATUS_WAITING;
-            int counter = 0;
-            while (true) {
-                status =
-                        statusManager.isCommitNow(
-                                sourceTable.getName(),
-                                recordMapCache.size(),
-                                config.getCommitCount());
-                if (status == MigrationStatusManager.STATUS_WAITING) {
-                    ThreadUtils.threadSleep(1000, null);
-                    counter++;
-                } else {
-                    break;
-                }
-                // If waiting for 10 seconds, the data will be committed right now.
-                if (counter >= 10) {
-                    status = MigrationStatusManager.STATUS_COMMIT;
-                    break;
-                }
-            }
+            int status =
+                    statusManager.isCommitNow(
+                            sourceTable.getName(), recordMapCache.size(), config.getCommitCount());
             if (status == MigrationStatusManager.STATUS_COMMIT) {
                 createNewTask();
                 recordMapCache = new ArrayList<List<String[]>>();
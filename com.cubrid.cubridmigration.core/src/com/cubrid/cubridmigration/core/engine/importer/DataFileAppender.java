@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer;
+
+import com.cubrid.cubridmigration.core.common.Closer;
+import com.cubrid.cubridmigration.core.common.PathUtils;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.engine.ICanDispose;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.log4j.Logger;
+
+/**
+ * DataFileAppender appends the batches of records to their final data files through file
+ * channels. Each batch is written as a whole, so the batches of several importing threads can be
+ * appended to the same file. The batches of different files are written in parallel.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class DataFileAppender implements ICanDispose {
+
+    private static final Logger LOG = LogUtil.getLogger(DataFileAppender.class);
+
+    // The larger buffers are not pooled to avoid holding too much heap.
+    private static final int MAX_POOLED_BUFFER_SIZE = 8 * 1024 * 1024;
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * DataBuffer holds the content of a batch before it is appended.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    public static class DataBuffer extends ByteArrayOutputStream {
+
+        public DataBuffer(int size) {
+            super(size);
+        }
+
+        /**
+         * Write the content to the channel.
+         *
+         * @param channel FileChannel
+         * @throws IOException when IO error
+         */
+        void writeTo(FileChannel channel) throws IOException {
+            ByteBuffer bb = ByteBuffer.wrap(buf, 0, count);
+            while (bb.hasRemaining()) {
+                channel.write(bb);
+            }
+        }
+    }
+
+    private final Map<String, FileChannel> channels = new HashMap<String, FileChannel>();
+    private final ConcurrentLinkedQueue<DataBuffer> bufferPool =
+            new ConcurrentLinkedQueue<DataBuffer>();
+
+    /**
+     * Retrieves an empty buffer from the pool.
+     *
+     * @return DataBuffer
+     */
+    public DataBuffer borrowBuffer() {
+        DataBuffer buffer = bufferPool.poll();
+        return buffer == null ? new DataBuffer(DEFAULT_BUFFER_SIZE) : buffer;
+    }
+
+    /**
+     * Return the buffer to the pool.
+     *
+     * @param buffer DataBuffer
+     */
+    public void returnBuffer(DataBuffer buffer) {
+        if (buffer == null || buffer.size() > MAX_POOLED_BUFFER_SIZE) {
+            return;
+        }
+        buffer.reset();
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * Append the content of the buffer to the end of the file, the file will be created if it is
+     * not existed.
+     *
+     * @param fileName full name of the data file
+     * @param buffer DataBuffer
+     * @throws IOException when IO error
+     */
+    public void append(String fileName, DataBuffer buffer) throws IOException {
+        while (true) {
+            FileChannel channel = getChannel(fileName);
+            synchronized (channel) {
+                // The channel was closed by another thread, open it again.
+                if (!channel.isOpen()) {
+                    continue;
+                }
+                buffer.writeTo(channel);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Close the channel of the file, it will be opened again if more data are appended.
+     *
+     * @param fileName full name of the data file
+     */
+    public void close(String fileName) {
+        FileChannel channel;
+        synchronized (channels) {
+            channel = channels.remove(fileName);
+        }
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            Closer.close(channel);
+        }
+    }
+
+    /** Close all channels. */
+    public void dispose() {
+        List<String> fileNames;
+        synchronized (channels) {
+            fileNames = new ArrayList<String>(channels.keySet());
+        }
+        for (String fileName : fileNames) {
+            close(fileName);
+        }
+        bufferPool.clear();
+    }
+
+    /**
+     * Retrieves the channel of the file, open it if it is not opened.
+     *
+     * @param fileName full name of the data file
+     * @return FileChannel
+     * @throws IOException when IO error
+     */
+    private FileChannel getChannel(String fileName) throws IOException {
+        synchronized (channels) {
+            FileChannel channel = channels.get(fileName);
+            if (channel == null) {
+                File file = new File(fileName);
+                if (!file.exists()) {
+                    PathUtils.createFile(file);
+                }
+                channel =
+                        FileChannel.open(
+                                file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                channels.put(fileName, channel);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("[VAR]opened data file=" + fileName);
+                }
+            }
+            return channel;
+        }
+    }
+}
@@ -157,7 +157,15 @@ public interface IMigrationImporter {
      *
      * @param stc SourceTableConfig
      * @param records List<Record>
-     * @return success count
+     * @return success count, -1 if the records were not imported because of errors.
      */
     public int importRecords(SourceTableConfig stc, List<Record> records);
+
+    /**
+     * Retrieves whether the batch of the last records imported by the current thread failed, even
+     * if the records were imported by bisecting the batch or retrying the lost connection.
+     *
+     * @return true if the batch failed
+     */
+    public boolean isLastBatchFailed();
 }
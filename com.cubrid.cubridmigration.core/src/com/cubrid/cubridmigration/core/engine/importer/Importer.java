@@ -52,11 +52,32 @@ public abstract class Importer implements IMigrationImporter {
     protected final IMigrationEventHandler eventHandler;
     protected final MigrationContext mrManager;
 
+    /** Whether the batch of the last records imported by the thread failed. */
+    private final ThreadLocal<Boolean> batchFailed = new ThreadLocal<Boolean>();
+
     public Importer(MigrationContext mrManager) {
         this.mrManager = mrManager;
         this.eventHandler = mrManager.getEventsHandler();
     }
 
+    /**
+     * Retrieves whether the batch of the last records imported by the current thread failed.
+     *
+     * @return true if the batch failed
+     */
+    public boolean isLastBatchFailed() {
+        return Boolean.TRUE.equals(batchFailed.get());
+    }
+
+    /**
+     * Set whether the batch of the records being imported by the current thread failed.
+     *
+     * @param failed true if the batch failed
+     */
+    protected void setBatchFailed(boolean failed) {
+        batchFailed.set(Boolean.valueOf(failed));
+    }
+
     /**
      * Should be called when create database objects successfully;
      *
@@ -66,6 +87,16 @@ public abstract class Importer implements IMigrationImporter {
         eventHandler.handleEvent(new CreateObjectEvent(obj));
     }
 
+    /**
+     * Should be called when create database objects successfully, and the DDL was timed.
+     *
+     * @param obj database object
+     * @param buildTime the time(ms) of executing the DDL
+     */
+    protected void createObjectSuccess(DBObject obj, long buildTime) {
+        eventHandler.handleEvent(new CreateObjectEvent(obj, buildTime));
+    }
+
     /**
      * Should be called when create database objects failed;
      *
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer;
+
+import com.cubrid.cubridmigration.core.common.Closer;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LobPackReader reads the LOB values packed by {@link LobPackWriter}. The loaddb command refers
+ * to each LOB value by its file, so the pack should be unpacked to the LOB directory of the table
+ * before loading:
+ *
+ * <pre>
+ * java -cp ... com.cubrid.cubridmigration.core.engine.importer.LobPackReader table.lobidx [dir]
+ * </pre>
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class LobPackReader {
+
+    /**
+     * Entry of a LOB value in the pack
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    public static class Entry {
+        private final String name;
+        private final int segment;
+        private final long offset;
+        private final long length;
+
+        Entry(String name, int segment, long offset, long length) {
+            this.name = name;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSegment() {
+            return segment;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getLength() {
+            return length;
+        }
+    }
+
+    private final File dir;
+    private final String packName;
+    private final List<Entry> entries = new ArrayList<Entry>();
+    private final Map<String, Entry> entryMap = new HashMap<String, Entry>();
+
+    /**
+     * Read the index of the pack
+     *
+     * @param indexFile the index file of the pack
+     * @throws IOException when the index can not be read or is broken
+     */
+    public LobPackReader(File indexFile) throws IOException {
+        final String fileName = indexFile.getName();
+        if (!fileName.endsWith(LobPackWriter.INDEX_FILE_EXT)) {
+            throw new IOException("Invalid LOB index file:" + indexFile);
+        }
+        this.dir = indexFile.getAbsoluteFile().getParentFile();
+        this.packName =
+                fileName.substring(0, fileName.length() - LobPackWriter.INDEX_FILE_EXT.length());
+        BufferedReader reader =
+                new BufferedReader(new InputStreamReader(new FileInputStream(indexFile), "utf-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.length() == 0) {
+                    continue;
+                }
+                String[] items = line.split("\t");
+                if (items.length != 4) {
+                    throw new IOException("Invalid LOB index line:" + line);
+                }
+                Entry entry =
+                        new Entry(
+                                items[0],
+                                Integer.parseInt(items[1]),
+                                Long.parseLong(items[2]),
+                                Long.parseLong(items[3]));
+                entries.add(entry);
+                entryMap.put(entry.getName(), entry);
+            }
+        } catch (NumberFormatException ex) {
+            throw new IOException("Invalid LOB index file:" + indexFile, ex);
+        } finally {
+            Closer.close(reader);
+        }
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Retrieves the entry by the name
+     *
+     * @param name relative path of the LOB file
+     * @return Entry or null if not found
+     */
+    public Entry getEntry(String name) {
+        return entryMap.get(name);
+    }
+
+    /**
+     * Open the content of the entry, the stream should be closed by the caller.
+     *
+     * @param entry Entry
+     * @return InputStream
+     * @throws IOException when IO error
+     */
+    public InputStream open(Entry entry) throws IOException {
+        final FileChannel channel =
+                FileChannel.open(
+                        LobPackWriter.getSegmentFile(dir, packName, entry.getSegment()).toPath(),
+                        StandardOpenOption.READ);
+        channel.position(entry.getOffset());
+        final long end = entry.getOffset() + entry.getLength();
+        return new InputStream() {
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+            }
+
+            public int read(byte[] b, int off, int len) throws IOException {
+                long remaining = end - channel.position();
+                if (remaining <= 0) {
+                    return -1;
+                }
+                ByteBuffer bb = ByteBuffer.wrap(b, off, (int) Math.min(len, remaining));
+                return channel.read(bb);
+            }
+
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     * Restore the LOB files of the pack, the segments are read sequentially.
+     *
+     * @param targetDir the LOB directory of the table
+     * @return count of the restored files
+     * @throws IOException when IO error
+     */
+    public int unpack(File targetDir) throws IOException {
+        FileChannel channel = null;
+        int segment = -1;
+        try {
+            for (Entry entry : entries) {
+                if (entry.getSegment() != segment) {
+                    Closer.close(channel);
+                    segment = entry.getSegment();
+                    channel =
+                            FileChannel.open(
+                                    LobPackWriter.getSegmentFile(dir, packName, segment).toPath(),
+                                    StandardOpenOption.READ);
+                }
+                File file = new File(targetDir, entry.getName());
+                File parent = file.getParentFile();
+                if (!parent.exists() && !parent.mkdirs()) {
+                    throw new IOException("Invalid path:" + parent);
+                }
+                FileChannel target =
+                        FileChannel.open(
+                                file.toPath(),
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+                try {
+                    long done = 0;
+                    while (done < entry.getLength()) {
+                        long size =
+                                channel.transferTo(
+                                        entry.getOffset() + done, entry.getLength() - done, target);
+                        if (size <= 0) {
+                            throw new IOException("Broken LOB pack:" + entry.getName());
+                        }
+                        done += size;
+                    }
+                } finally {
+                    target.close();
+                }
+            }
+        } finally {
+            Closer.close(channel);
+        }
+        return entries.size();
+    }
+
+    /**
+     * Unpack a LOB pack: LobPackReader &lt;index file&gt; [target directory]. The files are
+     * restored to the directory of the index file by default.
+     *
+     * @param args arguments
+     * @throws IOException when IO error
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: LobPackReader <index file> [target directory]");
+            return;
+        }
+        File indexFile = new File(args[0]);
+        File targetDir =
+                args.length > 1 ? new File(args[1]) : indexFile.getAbsoluteFile().getParentFile();
+        int count = new LobPackReader(indexFile).unpack(targetDir);
+        System.out.println(count + " LOB files were restored to " + targetDir);
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.importer;
+
+import com.cubrid.cubridmigration.core.common.Closer;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LobPackWriter appends the LOB values of a table to a few segment files instead of writing one
+ * file per value. Each value is recorded in the index file of the table with its entry name, the
+ * segment number, the offset and the length. The entry name is the path of the LOB file relative
+ * to the table's LOB directory, {@link LobPackReader} restores the LOB files with these names
+ * before the unload files are loaded.
+ *
+ * <p>Index file format, one line per value: entry name, segment, offset, length separated by tab.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class LobPackWriter {
+
+    public static final String INDEX_FILE_EXT = ".lobidx";
+    public static final String SEGMENT_FILE_EXT = ".lobpack";
+    public static final Charset CLOB_CHARSET = Charset.forName("utf-8");
+
+    private static final long MAX_SEGMENT_SIZE =
+            Long.getLong("cmt.lob.segment.size", 1024L * 1024 * 1024);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Retrieves the segment file of a pack
+     *
+     * @param dir directory of the pack
+     * @param name name of the pack
+     * @param segment segment number
+     * @return File
+     */
+    public static File getSegmentFile(File dir, String name, int segment) {
+        return new File(dir, name + "." + segment + SEGMENT_FILE_EXT);
+    }
+
+    /**
+     * Retrieves the index file of a pack
+     *
+     * @param dir directory of the pack
+     * @param name name of the pack
+     * @return File
+     */
+    public static File getIndexFile(File dir, String name) {
+        return new File(dir, name + INDEX_FILE_EXT);
+    }
+
+    /**
+     * SegmentOutput buffers the bytes of a value and writes them to the segment channel.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private class SegmentOutput extends OutputStream {
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+            position++;
+        }
+
+        public void write(byte[] b, int off, int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int size = Math.min(remaining, buffer.remaining());
+                buffer.put(b, offset, size);
+                offset += size;
+                remaining -= size;
+                position += size;
+            }
+        }
+
+        // The encoders flush after each CLOB value, the buffer is only drained when it is full.
+        public void flush() {
+            // do nothing
+        }
+
+        /**
+         * Write the buffered bytes to the segment channel
+         *
+         * @throws IOException e
+         */
+        void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private final File dir;
+    private final String name;
+    private final SegmentOutput out = new SegmentOutput();
+    private final Writer index;
+
+    private FileChannel channel;
+    private int segment;
+    private long position;
+
+    /**
+     * Open the pack, the values will be appended to the last segment if the pack exists.
+     *
+     * @param dir directory of the pack
+     * @param name name of the pack, the table name is used.
+     * @throws IOException when the files can not be opened
+     */
+    public LobPackWriter(File dir, String name) throws IOException {
+        this.dir = dir;
+        this.name = name;
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Invalid path:" + dir);
+        }
+        while (getSegmentFile(dir, name, segment + 1).exists()) {
+            segment++;
+        }
+        openSegment();
+        index =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new FileOutputStream(getIndexFile(dir, name), true), "utf-8"));
+    }
+
+    /**
+     * Open the current segment file for appending
+     *
+     * @throws IOException e
+     */
+    private void openSegment() throws IOException {
+        channel =
+                FileChannel.open(
+                        getSegmentFile(dir, name, segment).toPath(),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+        position = channel.size();
+    }
+
+    /**
+     * Append a LOB value to the pack
+     *
+     * @param entryName relative path of the LOB file
+     * @param data InputStream, byte[], String or SpilledLob
+     * @return the length of the value in bytes
+     * @throws IOException when IO error
+     */
+    public synchronized long append(String entryName, Object data) throws IOException {
+        if (position >= MAX_SEGMENT_SIZE) {
+            out.drain();
+            channel.close();
+            segment++;
+            openSegment();
+        }
+        final long offset = position;
+        if (data instanceof InputStream) {
+            copy((InputStream) data);
+        } else if (data instanceof byte[]) {
+            copy(new ByteArrayInputStream((byte[]) data));
+        } else if (data instanceof SpilledLob) {
+            SpilledLob lob = (SpilledLob) data;
+            if (lob.isCharacter()) {
+                copy(lob.openReader());
+            } else {
+                copy(lob.openStream());
+            }
+        } else if (data instanceof String) {
+            copy(new StringReader((String) data));
+        } else {
+            throw new IllegalArgumentException(
+                    "Error data type, real data type: "
+                            + data.getClass()
+                            + " type ,expected InputSteam, byte[], String or SpilledLob");
+        }
+        final long length = position - offset;
+        index.write(entryName);
+        index.write('\t');
+        index.write(String.valueOf(segment));
+        index.write('\t');
+        index.write(String.valueOf(offset));
+        index.write('\t');
+        index.write(String.valueOf(length));
+        index.write('\n');
+        return length;
+    }
+
+    /**
+     * Copy the stream to the segment and close it
+     *
+     * @param in InputStream
+     * @throws IOException e
+     */
+    private void copy(InputStream in) throws IOException {
+        try {
+            byte[] buf = new byte[8192];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+        } finally {
+            Closer.close(in);
+        }
+    }
+
+    /**
+     * Copy the characters to the segment as UTF-8 and close the reader
+     *
+     * @param reader Reader
+     * @throws IOException e
+     */
+    private void copy(Reader reader) throws IOException {
+        try {
+            Writer writer = new OutputStreamWriter(out, CLOB_CHARSET);
+            char[] buf = new char[8192];
+            int len;
+            while ((len = reader.read(buf)) != -1) {
+                writer.write(buf, 0, len);
+            }
+            writer.flush();
+        } finally {
+            Closer.close(reader);
+        }
+    }
+
+    /**
+     * Retrieves the current segment file, the values will be appended to it.
+     *
+     * @return File
+     */
+    public synchronized File getCurrentSegmentFile() {
+        return getSegmentFile(dir, name, segment);
+    }
+
+    /**
+     * Flush the buffered values and close the pack.
+     *
+     * @throws IOException when IO error
+     */
+    public synchronized void close() throws IOException {
+        try {
+            out.drain();
+            channel.close();
+        } finally {
+            index.close();
+        }
+    }
+}
@@ -32,23 +32,28 @@ package com.cubrid.cubridmigration.core.engine.importer.impl;
 
 import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.common.DBUtils;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.FK;
 import com.cubrid.cubridmigration.core.dbobject.Grant;
 import com.cubrid.cubridmigration.core.dbobject.Index;
 import com.cubrid.cubridmigration.core.dbobject.PK;
 import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Schema;
 import com.cubrid.cubridmigration.core.dbobject.Sequence;
 import com.cubrid.cubridmigration.core.dbobject.Synonym;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbobject.View;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal;
 import com.cubrid.cubridmigration.core.engine.JDBCConManager;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.RecordTransformPlan;
 import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.event.BatchBisectedEvent;
 import com.cubrid.cubridmigration.core.engine.event.ImportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.event.SingleRecordErrorEvent;
 import com.cubrid.cubridmigration.core.engine.exception.JDBCConnectErrorException;
@@ -56,7 +61,6 @@ import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException
 import com.cubrid.cubridmigration.core.engine.exception.UserDefinedHandlerException;
 import com.cubrid.cubridmigration.core.engine.importer.ErrorRecords2SQLFileWriter;
 import com.cubrid.cubridmigration.core.engine.importer.Importer;
-import com.cubrid.cubridmigration.core.trans.DBTransformHelper;
 import com.cubrid.cubridmigration.cubrid.CUBRIDSQLHelper;
 import com.cubrid.cubridmigration.cubrid.stmt.CUBRIDParameterSetter;
 import java.sql.Connection;
@@ -64,8 +68,11 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import org.apache.log4j.Logger;
 
 /**
  * OnlineImporter responses to import database objects to target through JDBC driver.
@@ -75,6 +82,8 @@ import java.util.Map;
  */
 public class JDBCImporter extends Importer {
 
+    private static final Logger LOG = LogUtil.getLogger(JDBCImporter.class);
+
     private final JDBCConManager connectionManager;
     private final MigrationConfiguration config;
     private final CUBRIDParameterSetter parameterSetter;
@@ -123,6 +132,11 @@ public class JDBCImporter extends Importer {
             createObjectFailed(table, e);
             return;
         }
+        // Only the tables created by the migration can be cleared to resume.
+        CheckpointJournal journal = mrManager.getCheckpointJournal();
+        if (journal != null) {
+            journal.tableCreated(table.getName().trim().toLowerCase(Locale.US));
+        }
     }
 
     /**
@@ -177,8 +191,9 @@ public class JDBCImporter extends Importer {
                                 config.isAddUserSchema());
         pk.setDDL(ddl);
         try {
+            final long start = System.currentTimeMillis();
             executeDDL(ddl);
-            createObjectSuccess(pk);
+            createObjectSuccess(pk, System.currentTimeMillis() - start);
         } catch (RuntimeException e) {
             createObjectFailed(pk, e);
         }
@@ -199,8 +214,9 @@ public class JDBCImporter extends Importer {
                                 config.isAddUserSchema());
         fk.setDDL(ddl);
         try {
+            final long start = System.currentTimeMillis();
             executeDDL(ddl);
-            createObjectSuccess(fk);
+            createObjectSuccess(fk, System.currentTimeMillis() - start);
         } catch (RuntimeException e) {
             createObjectFailed(fk, e);
         }
@@ -222,8 +238,9 @@ public class JDBCImporter extends Importer {
                                 config.isAddUserSchema());
         index.setDDL(ddl);
         try {
+            final long start = System.currentTimeMillis();
             executeDDL(ddl);
-            createObjectSuccess(index);
+            createObjectSuccess(index, System.currentTimeMillis() - start);
         } catch (RuntimeException e) {
             createObjectFailed(index, e);
         }
@@ -282,10 +299,11 @@ public class JDBCImporter extends Importer {
      *
      * @param stc Table
      * @param records List<Record>
-     * @return success count
+     * @return success count, -1 if the records were not imported because of errors.
      */
     public int importRecords(SourceTableConfig stc, List<Record> records) {
         int retryCount = 0;
+        setBatchFailed(false);
         mrManager.getStatusMgr().addImpCount(stc.getOwner(), stc.getName(), records.size());
         while (true) {
             try {
@@ -293,14 +311,15 @@ public class JDBCImporter extends Importer {
             } catch (JDBCConnectErrorException ex) {
                 if (retryCount < 3) {
                     retryCount++;
+                    setBatchFailed(true);
                     ThreadUtils.threadSleep(2000, eventHandler);
                 } else {
                     eventHandler.handleEvent(new ImportRecordsEvent(stc, records.size(), ex, null));
-                    return 0;
+                    return -1;
                 }
             } catch (Exception e) {
                 eventHandler.handleEvent(new ImportRecordsEvent(stc, records.size(), e, null));
-                return 0;
+                return -1;
             }
         }
     }
@@ -311,7 +330,7 @@ public class JDBCImporter extends Importer {
      * @param ex the exception raised.
      * @return true:need retry.
      */
-    private boolean isConnectionCutDown(SQLException ex) {
+    static boolean isConnectionCutDown(SQLException ex) {
         String message = ex.getMessage();
         return message.indexOf("Connection or Statement might be closed") >= 0
                 || message.indexOf("Cannot communicate with the broker") >= 0
@@ -365,39 +384,33 @@ public class JDBCImporter extends Importer {
         // Auto commit is false by default.
         Connection conn = connectionManager.getTargetConnection(); // NOPMD
         PreparedStatement stmt = null; // NOPMD
+        boolean isConnBroken = false;
         int result = 0;
         try {
             // get target table
-            final Table tt = config.getTargetTableSchema(stc.getTargetOwner(), stc.getTarget());
-            if (tt == null) {
+            final RecordTransformPlan plan = mrManager.getTransformPlan(stc);
+            if (plan.getTargetTable() == null) {
                 return 0;
             }
             String sql = getTargetInsertDML(stc);
+            final String stmtKey = stc.getTargetOwner() + "." + stc.getTarget();
+            // The target records added to the batch, they are imported again if the batch failed.
+            List<Record> batchRecords = Collections.emptyList();
             try {
-                stmt = conn.prepareStatement(sql);
-
-                for (Record rc : records) {
-                    if (rc == null) {
-                        continue;
-                    }
-                    try {
-                        Record trec = createTargetRecord(stc, tt, rc);
-                        parameterSetter.setRecord2Statement(trec, stmt);
-                        stmt.addBatch();
-                    } catch (SQLException ex) {
-                        if (isConnectionCutDown(ex)) {
-                            throw new JDBCConnectErrorException(ex);
-                        }
-                        eventHandler.handleEvent(new SingleRecordErrorEvent(rc, ex));
-                    } catch (Exception ex) {
-                        eventHandler.handleEvent(new SingleRecordErrorEvent(rc, ex));
-                    }
-                }
-                int[] exers = stmt.executeBatch();
-                DBUtils.commit(conn);
-                for (int rs : exers) {
-                    result += rs;
+                stmt = connectionManager.prepareTarStatement(conn, stmtKey, sql);
+                // The cached statement may be reused, make sure nothing is left in its batch.
+                stmt.clearBatch();
+                if (records instanceof RecordBatch
+                        && plan.isTransformable((RecordBatch) records)) {
+                    batchRecords = addBatch2Statement(plan, (RecordBatch) records, stmt);
+                } else {
+                    batchRecords = addRecords2Statement(plan, records, stmt);
                 }
+                mrManager
+                        .getStatusMgr()
+                        .getAutoIncrementTracker()
+                        .recordsImported(stc.getTarget(), batchRecords);
+                result = executeBatch(conn, stmt);
                 if (result != records.size()) {
                     eventHandler.handleEvent(
                             new ImportRecordsEvent(
@@ -411,9 +424,27 @@ public class JDBCImporter extends Importer {
                 }
             } catch (SQLException ex) {
                 if (isConnectionCutDown(ex)) {
+                    isConnBroken = true;
                     throw new JDBCConnectErrorException(ex);
                 }
+                setBatchFailed(true);
                 DBUtils.rollback(conn);
+                // The statement may be left in a bad state, it will be prepared again next time.
+                connectionManager.closeTarStatement(conn, stmt);
+                final int depth = config.getErrorBisectDepth();
+                if (depth > 0 && batchRecords.size() > 1) {
+                    BatchBisector bisector = new StatementBisector(conn, stmtKey, sql, plan);
+                    result = bisector.bisect(batchRecords, depth);
+                    isConnBroken = bisector.getConnectError() != null;
+                    reportBisectResult(
+                            stc,
+                            records.size(),
+                            batchRecords.size(),
+                            result,
+                            bisector.getErrorRecords(),
+                            ex);
+                    return result;
+                }
                 // If SQL has errors, write the records to a SQL files.
                 String file = null;
                 if (config.isWriteErrorRecords()) {
@@ -422,7 +453,7 @@ public class JDBCImporter extends Importer {
                         if (rc == null) {
                             continue;
                         }
-                        Record trec = createTargetRecord(stc, tt, rc);
+                        Record trec = createTargetRecord(plan, rc);
                         if (trec != null) {
                             errorRecords.add(trec);
                         }
@@ -430,47 +461,331 @@ public class JDBCImporter extends Importer {
                     file = errorRecordsWriter.writeSQLRecords(stc, errorRecords);
                 }
                 eventHandler.handleEvent(new ImportRecordsEvent(stc, records.size(), ex, file));
+            } catch (JDBCConnectErrorException ex) {
+                isConnBroken = true;
+                throw ex;
             }
         } finally {
-            Closer.close(stmt);
-            connectionManager.closeTar(conn);
+            if (isConnBroken) {
+                connectionManager.discardTar(conn);
+            } else {
+                connectionManager.closeTar(conn);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Transform the source records one by one and add them to the batch of the statement.
+     *
+     * @param plan RecordTransformPlan
+     * @param records source records
+     * @param stmt PreparedStatement
+     * @return the target records added to the batch
+     * @throws SQLException when SQL error
+     */
+    private List<Record> addRecords2Statement(
+            RecordTransformPlan plan, List<Record> records, PreparedStatement stmt)
+            throws SQLException {
+        final List<Record> batchRecords = new ArrayList<Record>(records.size());
+        for (Record rc : records) {
+            if (rc == null) {
+                continue;
+            }
+            try {
+                Record trec = createTargetRecord(plan, rc);
+                setRecord2Statement(plan, trec, stmt);
+                stmt.addBatch();
+                batchRecords.add(trec);
+            } catch (SQLException ex) {
+                if (isConnectionCutDown(ex)) {
+                    throw new JDBCConnectErrorException(ex);
+                }
+                eventHandler.handleEvent(new SingleRecordErrorEvent(rc, ex));
+            } catch (Exception ex) {
+                eventHandler.handleEvent(new SingleRecordErrorEvent(rc, ex));
+            }
+        }
+        return batchRecords;
+    }
+
+    /**
+     * Transform the source batch column by column and add its records to the batch of the
+     * statement.
+     *
+     * @param plan RecordTransformPlan
+     * @param batch source records
+     * @param stmt PreparedStatement
+     * @return the target records added to the batch
+     * @throws SQLException when SQL error
+     */
+    private List<Record> addBatch2Statement(
+            RecordTransformPlan plan, RecordBatch batch, PreparedStatement stmt)
+            throws SQLException {
+        final boolean[] failed = new boolean[batch.size()];
+        final RecordBatch targetBatch = plan.transform(batch, failed, eventHandler);
+        boolean hasFailed = false;
+        for (int row = 0; row < failed.length; row++) {
+            if (failed[row]) {
+                hasFailed = true;
+                continue;
+            }
+            try {
+                parameterSetter.setRecord2Statement(
+                        targetBatch, row, plan.getSetterHandlers(), stmt);
+                stmt.addBatch();
+            } catch (SQLException ex) {
+                if (isConnectionCutDown(ex)) {
+                    throw new JDBCConnectErrorException(ex);
+                }
+                failed[row] = true;
+                hasFailed = true;
+                eventHandler.handleEvent(new SingleRecordErrorEvent(batch.get(row), ex));
+            } catch (Exception ex) {
+                failed[row] = true;
+                hasFailed = true;
+                eventHandler.handleEvent(new SingleRecordErrorEvent(batch.get(row), ex));
+            }
+        }
+        if (hasFailed) {
+            targetBatch.removeRows(failed);
+        }
+        return targetBatch;
+    }
+
+    /**
+     * Set the target record to the parameters of the insert statement.
+     *
+     * @param plan RecordTransformPlan
+     * @param trec target record
+     * @param stmt PreparedStatement
+     * @throws SQLException when SQL error
+     */
+    private void setRecord2Statement(RecordTransformPlan plan, Record trec, PreparedStatement stmt)
+            throws SQLException {
+        if (trec.getColumnValueList().size() == plan.getColumnCount()) {
+            // All columns were transformed in the order of the plan.
+            parameterSetter.setRecord2Statement(trec, plan.getSetterHandlers(), stmt);
+        } else {
+            parameterSetter.setRecord2Statement(trec, stmt);
+        }
+    }
+
+    /**
+     * Execute the batch of the statement and commit it.
+     *
+     * @param conn Connection
+     * @param stmt PreparedStatement
+     * @return the count of records inserted
+     * @throws SQLException when SQL error
+     */
+    private int executeBatch(Connection conn, PreparedStatement stmt) throws SQLException {
+        int[] exers = stmt.executeBatch();
+        DBUtils.commit(conn);
+        int result = 0;
+        for (int rs : exers) {
+            result += rs;
         }
         return result;
     }
 
     /**
-     * Create a target record by source record
+     * Report the result of a failed batch which was imported again by bisecting.
      *
      * @param stc SourceTableConfig
-     * @param tt Target Table
+     * @param total count of the source records
+     * @param executed count of the records which reached the failed batch, the others failed when
+     *     they were added to it
+     * @param salvaged count of the records imported
+     * @param errorRecords the target records which still failed
+     * @param ex the error of the whole batch
+     */
+    private void reportBisectResult(
+            SourceTableConfig stc,
+            int total,
+            int executed,
+            int salvaged,
+            List<Record> errorRecords,
+            SQLException ex) {
+        LOG.info(
+                "[BISECT]"
+                        + stc.getTarget()
+                        + " salvaged "
+                        + salvaged
+                        + " of "
+                        + executed
+                        + " records from the failed batch");
+        eventHandler.handleEvent(new BatchBisectedEvent(stc, executed, salvaged));
+        if (salvaged > 0) {
+            eventHandler.handleEvent(new ImportRecordsEvent(stc, salvaged));
+        }
+        if (total > executed) {
+            eventHandler.handleEvent(
+                    new ImportRecordsEvent(
+                            stc,
+                            total - executed,
+                            new NormalMigrationException(ERROR_RECORD_MSG),
+                            null));
+        }
+        if (salvaged == executed) {
+            return;
+        }
+        String file = null;
+        if (config.isWriteErrorRecords() && !errorRecords.isEmpty()) {
+            file = errorRecordsWriter.writeSQLRecords(stc, errorRecords);
+        }
+        eventHandler.handleEvent(new ImportRecordsEvent(stc, executed - salvaged, ex, file));
+    }
+
+    /**
+     * Import the records of a failed batch again by splitting it into halves. The halves which
+     * failed again are split until the depth limit was reached or only one record was left, then
+     * their records are taken as error records.
+     */
+    abstract static class BatchBisector {
+
+        private final List<Record> errorRecords = new ArrayList<Record>();
+        private SQLException connectError;
+
+        /**
+         * Import a part of the records and commit it, the part should be rolled back if it failed.
+         *
+         * @param records target records
+         * @return the count of records imported
+         * @throws SQLException when SQL error
+         */
+        protected abstract int importRecords(List<Record> records) throws SQLException;
+
+        /** @return the records which failed after the batch was split */
+        List<Record> getErrorRecords() {
+            return errorRecords;
+        }
+
+        /** @return the connection error which stopped the bisecting, or NULL */
+        SQLException getConnectError() {
+            return connectError;
+        }
+
+        /**
+         * Split the failed records into halves and import them.
+         *
+         * @param records target records which failed together
+         * @param depth how many times the records can be split
+         * @return the count of records imported
+         */
+        int bisect(List<Record> records, int depth) {
+            if (depth <= 0 || records.size() <= 1) {
+                errorRecords.addAll(records);
+                return 0;
+            }
+            final int mid = records.size() / 2;
+            return importPart(records.subList(0, mid), depth - 1)
+                    + importPart(records.subList(mid, records.size()), depth - 1);
+        }
+
+        /**
+         * Import a part of the failed records, split it again if it failed.
+         *
+         * @param records target records
+         * @param depth how many times the records can be split
+         * @return the count of records imported
+         */
+        private int importPart(List<Record> records, int depth) {
+            if (connectError != null) {
+                // The committed parts can not be retried with the connection, give up the others.
+                errorRecords.addAll(records);
+                return 0;
+            }
+            try {
+                return importRecords(records);
+            } catch (SQLException ex) {
+                if (isConnectionCutDown(ex)) {
+                    connectError = ex;
+                    errorRecords.addAll(records);
+                    return 0;
+                }
+                return bisect(records, depth);
+            }
+        }
+    }
+
+    /** Bisect the failed batch with the insert statement of the table. */
+    private class StatementBisector extends BatchBisector {
+
+        private final Connection conn;
+        private final String stmtKey;
+        private final String sql;
+        private final RecordTransformPlan plan;
+
+        StatementBisector(Connection conn, String stmtKey, String sql, RecordTransformPlan plan) {
+            this.conn = conn;
+            this.stmtKey = stmtKey;
+            this.sql = sql;
+            this.plan = plan;
+        }
+
+        /**
+         * Import a part of the records with the cached statement.
+         *
+         * @param records target records
+         * @return the count of records imported
+         * @throws SQLException when SQL error
+         */
+        protected int importRecords(List<Record> records) throws SQLException {
+            PreparedStatement stmt = null; // NOPMD
+            try {
+                stmt = connectionManager.prepareTarStatement(conn, stmtKey, sql);
+                stmt.clearBatch();
+                for (Record trec : records) {
+                    setRecord2Statement(plan, trec, stmt);
+                    stmt.addBatch();
+                }
+                return executeBatch(conn, stmt);
+            } catch (SQLException ex) {
+                if (!isConnectionCutDown(ex)) {
+                    DBUtils.rollback(conn);
+                    connectionManager.closeTarStatement(conn, stmt);
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Create a target record by source record, the target values are ordered as the columns of the
+     * plan which are the parameters of the insert DML.
+     *
+     * @param plan RecordTransformPlan
      * @param rrec source record
      * @return Target record
      */
-    private Record createTargetRecord(SourceTableConfig stc, Table tt, Record rrec) {
-        Record trec = new Record();
-        Map<String, Object> recordMap = rrec.getColumnValueMap();
-        DBTransformHelper dbHelper = config.getDBTransformHelper();
+    private Record createTargetRecord(RecordTransformPlan plan, Record rrec) {
+        final int columnCount = plan.getColumnCount();
+        final Column[] srcColumns = new Column[columnCount];
+        final Object[] srcValues = new Object[columnCount];
+        final boolean[] exported = new boolean[columnCount];
+        int position = 0;
         for (Record.ColumnValue cv : rrec.getColumnValueList()) {
-            SourceColumnConfig scc = stc.getColumnConfig(cv.getColumn().getName());
-            if (scc == null) {
+            int index = plan.indexOf(cv, position++);
+            if (index < 0) {
                 continue;
             }
-            Column targetColumn = tt.getColumnByName(scc.getTarget());
-            if (targetColumn == null) {
+            srcColumns[index] = cv.getColumn();
+            srcValues[index] = cv.getValue();
+            exported[index] = true;
+        }
+        Record trec = new Record(columnCount);
+        Map<String, Object> recordMap = plan.getRecordMap(rrec);
+        for (int i = 0; i < columnCount; i++) {
+            Column targetColumn = plan.getTargetColumn(i);
+            if (!exported[i] || targetColumn == null) {
                 continue;
             }
             Object targetValue;
             try {
-                targetValue =
-                        dbHelper.convertValueToTargetDBValue(
-                                config,
-                                recordMap,
-                                scc,
-                                cv.getColumn(),
-                                targetColumn,
-                                cv.getValue());
+                targetValue = plan.convert(i, recordMap, srcColumns[i], srcValues[i]);
             } catch (UserDefinedHandlerException ex) {
-                targetValue = cv.getValue();
+                targetValue = srcValues[i];
                 eventHandler.handleEvent(new SingleRecordErrorEvent(rrec, ex));
             }
             trec.addColumnValue(targetColumn, targetValue);
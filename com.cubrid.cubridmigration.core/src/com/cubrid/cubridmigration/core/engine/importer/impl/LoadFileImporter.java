@@ -41,6 +41,7 @@ import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
 import com.cubrid.cubridmigration.core.engine.event.ImportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
+import com.cubrid.cubridmigration.core.engine.importer.DataFileAppender.DataBuffer;
 import com.cubrid.cubridmigration.core.engine.task.FileMergeRunnable;
 import com.cubrid.cubridmigration.core.engine.task.RunnableResultHandler;
 import com.cubrid.cubridmigration.cubrid.Data2StrTranslator;
@@ -64,7 +65,7 @@ public class LoadFileImporter extends OfflineImporter {
      * @version 1.0 - 2013-3-5 created by Kevin Cao
      */
     private static class CurrentDataFileInfo {
-        String fileHeader;
+        String fileTableBaseName;
         String fileFullName;
         String fileTableFullName;
         int currentFileNO = 1;
@@ -77,9 +78,8 @@ public class LoadFileImporter extends OfflineImporter {
                 String owner,
                 String name,
                 String ext) {
-            this.fileHeader = header;
             this.fileExt = ext;
-            this.fileTableFullName =
+            this.fileTableBaseName =
                     header
                             + File.separator
                             + owner
@@ -90,14 +90,14 @@ public class LoadFileImporter extends OfflineImporter {
                             + "_"
                             + owner
                             + "_"
-                            + name
-                            + ext;
+                            + name;
+            this.fileTableFullName = fileTableBaseName + ext;
             this.fileFullName = fileFullName;
         }
 
         /** Create next file. */
         public void nextFile() {
-            final StringBuffer sb = new StringBuffer(fileHeader);
+            final StringBuffer sb = new StringBuffer(fileTableBaseName);
             currentFileNO++;
             sb.append("_").append(currentFileNO);
             fileTableFullName = sb.append(fileExt).toString();
@@ -171,24 +171,7 @@ public class LoadFileImporter extends OfflineImporter {
             String fileName, final SourceTableConfig stc, final int impCount, final int expCount) {
         synchronized (lockObj) {
             MigrationDirAndFilesManager mdfm = mrManager.getDirAndFilesMgr();
-            String schemaName =
-                    config.getSrcCatalog().getDatabaseType().isSupportMultiSchema()
-                            ? stc.getOwner()
-                            : config.getSrcConnOwner();
-
-            if (!tableFiles.containsKey(schemaName + stc.getName())) {
-                tableFiles.put(
-                        schemaName + stc.getName(),
-                        new CurrentDataFileInfo(
-                                config.getTargetDataFileName(schemaName),
-                                mdfm.getMergeFilesDir(),
-                                config.getTargetFilePrefix(),
-                                schemaName,
-                                stc.getName(),
-                                config.getDataFileExt()));
-            }
-
-            CurrentDataFileInfo es = tableFiles.get(schemaName + stc.getName());
+            CurrentDataFileInfo es = getCurrentDataFileInfo(stc);
 
             // If the target file is full.
             if (mdfm.isDataFileFull(es.fileTableFullName)) {
@@ -245,6 +228,85 @@ public class LoadFileImporter extends OfflineImporter {
         }
     }
 
+    /**
+     * Append the data of records to the data file. The data of CSV files and one table one file
+     * are appended to the file of the table, others are appended to the data file of the schema.
+     *
+     * @param data the content to be appended.
+     * @param stc source table configuration.
+     * @param impCount the count of records in data.
+     * @param expCount exported record count
+     */
+    protected void handleData(
+            DataBuffer data, final SourceTableConfig stc, final int impCount, final int expCount) {
+        final boolean isTableFile = config.isOneTableOneFile() || config.targetIsCSV();
+        final String targetFile;
+        synchronized (lockObj) {
+            MigrationDirAndFilesManager mdfm = mrManager.getDirAndFilesMgr();
+            CurrentDataFileInfo es = getCurrentDataFileInfo(stc);
+            if (!isTableFile) {
+                targetFile = es.fileFullName;
+            } else if (mdfm.isDataFileFull(es.fileTableFullName)) {
+                dataFileAppender.close(es.fileTableFullName);
+                es.nextFile();
+                targetFile = es.fileTableFullName;
+            } else {
+                targetFile = es.fileTableFullName;
+            }
+            mdfm.addDataFile(targetFile, impCount);
+        }
+        final MigrationStatusManager sm = mrManager.getStatusMgr();
+        try {
+            dataFileAppender.append(targetFile, data);
+        } catch (IOException ex) {
+            LOGGER.error("", ex);
+            sm.addImpCount(stc.getOwner(), stc.getName(), expCount);
+            eventHandler.handleEvent(
+                    new ImportRecordsEvent(
+                            stc, impCount, new NormalMigrationException(ex.getMessage()), null));
+            return;
+        }
+        eventHandler.handleEvent(new ImportRecordsEvent(stc, impCount));
+        sm.addImpCount(stc.getOwner(), stc.getName(), expCount);
+        final long totalEc = sm.getExpCount(stc.getOwner(), stc.getName());
+        final long totalIc = sm.getImpCount(stc.getOwner(), stc.getName());
+        if (!sm.getExpFlag(stc.getOwner(), stc.getName()) || totalEc != totalIc) {
+            return;
+        }
+        // It is the last batch of the table.
+        unloadFileUtil.closeLobPack(mrManager.getTransformPlan(stc).getTargetTable());
+        if (isTableFile) {
+            dataFileAppender.close(targetFile);
+        }
+    }
+
+    /**
+     * Retrieves the data file information of the table, it should be called in the synchronized
+     * block of lockObj.
+     *
+     * @param stc source table configuration.
+     * @return CurrentDataFileInfo
+     */
+    private CurrentDataFileInfo getCurrentDataFileInfo(SourceTableConfig stc) {
+        String schemaName =
+                config.getSrcCatalog().getDatabaseType().isSupportMultiSchema()
+                        ? stc.getOwner()
+                        : config.getSrcConnOwner();
+        CurrentDataFileInfo es = tableFiles.get(schemaName + stc.getName());
+        if (es == null) {
+            es =
+                    new CurrentDataFileInfo(
+                            config.getTargetDataFileName(schemaName),
+                            mrManager.getDirAndFilesMgr().getMergeFilesDir(),
+                            config.getTargetFilePrefix(),
+                            schemaName,
+                            stc.getName(),
+                            config.getDataFileExt());
+            tableFiles.put(schemaName + stc.getName(), es);
+        }
+        return es;
+    }
+
     /**
      * Send Schema file to server loadDB command.
      *
@@ -42,12 +42,14 @@ import com.cubrid.cubridmigration.core.dbobject.Index;
 import com.cubrid.cubridmigration.core.dbobject.PK;
 import com.cubrid.cubridmigration.core.dbobject.Record;
 import com.cubrid.cubridmigration.core.dbobject.Record.ColumnValue;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Schema;
 import com.cubrid.cubridmigration.core.dbobject.Sequence;
 import com.cubrid.cubridmigration.core.dbobject.Synonym;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbobject.View;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.RecordTransformPlan;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
@@ -58,9 +60,10 @@ import com.cubrid.cubridmigration.core.engine.exception.BreakMigrationException;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.engine.exception.UserDefinedHandlerException;
 import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
+import com.cubrid.cubridmigration.core.engine.importer.DataFileAppender;
+import com.cubrid.cubridmigration.core.engine.importer.DataFileAppender.DataBuffer;
 import com.cubrid.cubridmigration.core.engine.importer.Importer;
 import com.cubrid.cubridmigration.core.engine.task.RunnableResultHandler;
-import com.cubrid.cubridmigration.core.trans.DBTransformHelper;
 import com.cubrid.cubridmigration.cubrid.CUBRIDSQLHelper;
 import com.cubrid.cubridmigration.cubrid.Data2StrTranslator;
 import java.io.BufferedWriter;
@@ -68,6 +71,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
@@ -114,17 +118,20 @@ public abstract class OfflineImporter extends Importer {
      */
     protected interface ImportFileWriter {
         /**
-         * Write data to a CSV file
+         * Write data to the output stream with the format of the data file
          *
          * @param stc SourceTableConfig
          * @param records List<Record> records
-         * @param file File
+         * @param out OutputStream
          * @param tt Table
          * @return total count
          * @throws Exception ex
          */
         int writeData(
-                final SourceTableConfig stc, final List<Record> records, File file, final Table tt)
+                final SourceTableConfig stc,
+                final List<Record> records,
+                OutputStream out,
+                final Table tt)
                 throws Exception;
     }
 
@@ -140,22 +147,24 @@ public abstract class OfflineImporter extends Importer {
          *
          * @param stc SourceTableConfig
          * @param records List<Record>
-         * @param file File
+         * @param out OutputStream
          * @param tt Table
          * @return total count
-         * @throws FileNotFoundException ex
          * @throws UnsupportedEncodingException ex
          * @throws IOException ex
          */
         public int writeData(
-                final SourceTableConfig stc, final List<Record> records, File file, final Table tt)
-                throws FileNotFoundException, UnsupportedEncodingException, IOException {
+                final SourceTableConfig stc,
+                final List<Record> records,
+                OutputStream out,
+                final Table tt)
+                throws UnsupportedEncodingException, IOException {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("[IN]writeData()");
             }
             Writer pw =
                     new BufferedWriter(
-                            new PrintWriter(file, config.getTargetCharSet()),
+                            new OutputStreamWriter(out, config.getTargetCharSet()),
                             CUBRIDIOUtils.DEFAULT_MEMORY_CACHE_SIZE);
             try {
                 String header = getDataFileHeader(stc);
@@ -165,15 +174,10 @@ public abstract class OfflineImporter extends Importer {
                 pw.write(header);
                 // The template LOB files path in local.
                 List<String> lobFiles = new ArrayList<String>();
+                RecordStringReader reader = new RecordStringReader(stc, tt, records, lobFiles);
                 int total = 0;
-                for (Record re : records) {
-                    if (re == null) {
-                        continue;
-                    }
-                    String res =
-                            unloadFileUtil.getRecordString(
-                                    re.getColumnValueList(),
-                                    getRecordString(stc, tt, re, lobFiles));
+                for (int row = 0; row < reader.size(); row++) {
+                    String res = unloadFileUtil.getRecordString(reader.getRecordString(row));
                     if (res == null) {
                         continue;
                     }
@@ -207,29 +211,29 @@ public abstract class OfflineImporter extends Importer {
          *
          * @param stc SourceTableConfig
          * @param records List<Record> records
-         * @param file File
+         * @param out OutputStream
          * @param tt Table
          * @return total count
          * @throws Exception ex
          */
         public int writeData(
-                final SourceTableConfig stc, final List<Record> records, File file, final Table tt)
+                final SourceTableConfig stc,
+                final List<Record> records,
+                OutputStream out,
+                final Table tt)
                 throws Exception {
             CSVWriter writer =
                     new CSVWriter(
-                            new OutputStreamWriter(
-                                    new FileOutputStream(file), config.getTargetCharSet()),
+                            new OutputStreamWriter(out, config.getTargetCharSet()),
                             config.getCsvSettings().getSeparateChar(),
                             config.getCsvSettings().getQuoteChar(),
                             config.getCsvSettings().getEscapeChar());
             try {
                 List<String> lobFiles = new ArrayList<String>();
+                RecordStringReader reader = new RecordStringReader(stc, tt, records, lobFiles);
                 int total = 0;
-                for (Record re : records) {
-                    if (re == null) {
-                        continue;
-                    }
-                    List<String> res = getRecordString(stc, tt, re, lobFiles);
+                for (int row = 0; row < reader.size(); row++) {
+                    List<String> res = reader.getRecordString(row);
                     if (res == null) {
                         continue;
                     }
@@ -256,28 +260,29 @@ public abstract class OfflineImporter extends Importer {
          *
          * @param stc SourceTableConfig
          * @param records List<Record> records
-         * @param file File
+         * @param out OutputStream
          * @param tt Table
          * @return total count
          * @throws Exception ex
          */
         public int writeData(
-                final SourceTableConfig stc, final List<Record> records, File file, final Table tt)
+                final SourceTableConfig stc,
+                final List<Record> records,
+                OutputStream out,
+                final Table tt)
                 throws Exception {
             WorkbookSettings workbookSettings = new WorkbookSettings();
             workbookSettings.setEncoding(config.getTargetCharSet());
-            WritableWorkbook workbook = Workbook.createWorkbook(file, workbookSettings);
+            WritableWorkbook workbook = Workbook.createWorkbook(out, workbookSettings);
             WritableSheet sheet = workbook.createSheet(tt.getName(), 0);
 
             try {
                 List<String> lobFiles = new ArrayList<String>();
+                RecordStringReader reader = new RecordStringReader(stc, tt, records, lobFiles);
                 int total = 0;
                 int fail = 0;
-                for (Record re : records) {
-                    if (re == null) {
-                        continue;
-                    }
-                    List<String> res = getRecordString(stc, tt, re, lobFiles);
+                for (int row = 0; row < reader.size(); row++) {
+                    List<String> res = reader.getRecordString(row);
                     if (res == null) {
                         continue;
                     }
@@ -321,23 +326,28 @@ public abstract class OfflineImporter extends Importer {
          *
          * @param stc SourceTableConfig
          * @param records List<Record> records
-         * @param file File
+         * @param out OutputStream
          * @param tt Table
          * @return total count
          * @throws Exception ex
          */
         public int writeData(
-                final SourceTableConfig stc, final List<Record> records, File file, final Table tt)
+                final SourceTableConfig stc,
+                final List<Record> records,
+                OutputStream out,
+                final Table tt)
                 throws Exception {
             Writer pw =
                     new BufferedWriter(
-                            new PrintWriter(file, config.getTargetCharSet()),
+                            new OutputStreamWriter(out, config.getTargetCharSet()),
                             CUBRIDIOUtils.DEFAULT_MEMORY_CACHE_SIZE);
             try {
                 List<String> lobFiles = new ArrayList<String>();
+                RecordStringReader reader = new RecordStringReader(stc, tt, records, lobFiles);
                 int total = 0;
-                for (Record re : records) {
-                    if (re == null) {
+                for (int row = 0; row < reader.size(); row++) {
+                    List<String> values = reader.getRecordString(row);
+                    if (CollectionUtils.isEmpty(values)) {
                         continue;
                     }
                     StringBuffer sb =
@@ -345,9 +355,9 @@ public abstract class OfflineImporter extends Importer {
                                     .append(stc.getTarget())
                                     .append("\"(");
                     boolean isFirst = true;
-                    for (ColumnValue cv : re.getColumnValueList()) {
+                    for (Column column : reader.getColumns(row)) {
                         // Find target column configuration
-                        SourceColumnConfig tColCfg = stc.getColumnConfig(cv.getColumn().getName());
+                        SourceColumnConfig tColCfg = stc.getColumnConfig(column.getName());
                         if (tColCfg == null) {
                             continue;
                         }
@@ -359,10 +369,6 @@ public abstract class OfflineImporter extends Importer {
                         sb.append('"').append(tColCfg.getTarget()).append('"');
                     }
                     sb.append(")VALUES(");
-                    List<String> values = getRecordString(stc, tt, re, lobFiles);
-                    if (CollectionUtils.isEmpty(values)) {
-                        continue;
-                    }
                     isFirst = true;
                     for (String vv : values) {
                         if (isFirst) {
@@ -385,12 +391,108 @@ public abstract class OfflineImporter extends Importer {
         }
     }
 
+    /**
+     * RecordStringReader retrieves the strings of the target values of the records one by one. The
+     * record batches are transformed column by column before they are read.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    protected class RecordStringReader {
+        private final SourceTableConfig stc;
+        private final Table tt;
+        private final List<Record> records;
+        private final List<String> lobFiles;
+        private RecordBatch targetBatch;
+        private boolean[] failed;
+
+        RecordStringReader(
+                SourceTableConfig stc, Table tt, List<Record> records, List<String> lobFiles) {
+            this.stc = stc;
+            this.tt = tt;
+            this.records = records;
+            this.lobFiles = lobFiles;
+            if (records instanceof RecordBatch) {
+                final RecordTransformPlan plan = mrManager.getTransformPlan(stc);
+                final RecordBatch batch = (RecordBatch) records;
+                if (plan.isTransformable(batch)) {
+                    failed = new boolean[batch.size()];
+                    targetBatch = plan.transform(batch, failed, eventHandler);
+                }
+            }
+        }
+
+        /**
+         * Retrieves the count of records
+         *
+         * @return size
+         */
+        int size() {
+            return records.size();
+        }
+
+        /**
+         * Retrieves the source columns of the record
+         *
+         * @param row index of the record
+         * @return columns
+         */
+        List<Column> getColumns(int row) {
+            List<Column> result = new ArrayList<Column>();
+            if (records instanceof RecordBatch) {
+                final RecordBatch batch = (RecordBatch) records;
+                for (int i = 0; i < batch.getColumnCount(); i++) {
+                    result.add(batch.getColumn(i));
+                }
+                return result;
+            }
+            for (ColumnValue cv : records.get(row).getColumnValueList()) {
+                result.add(cv.getColumn());
+            }
+            return result;
+        }
+
+        /**
+         * Retrieves the strings of the target values of the record
+         *
+         * @param row index of the record
+         * @return NULL if the record is NULL or it could not be transformed
+         */
+        List<String> getRecordString(int row) {
+            if (targetBatch == null) {
+                final Record re = records.get(row);
+                if (re == null) {
+                    return null;
+                }
+                return OfflineImporter.this.getRecordString(stc, tt, re, lobFiles);
+            }
+            if (failed[row]) {
+                return null;
+            }
+            try {
+                List<String> dataList = new ArrayList<String>(targetBatch.getColumnCount());
+                for (int col = 0; col < targetBatch.getColumnCount(); col++) {
+                    String fileStr = unloadFileUtil.stringValueOf(targetBatch, row, col, lobFiles);
+                    dataList.add(replaceLOBPath(stc, fileStr, lobFiles));
+                }
+                return dataList;
+            } catch (Exception ex) {
+                eventHandler.handleEvent(new SingleRecordErrorEvent(records.get(row), ex));
+            }
+            return null;
+        }
+    }
+
     private final ImportFileWriter importFileWriter;
 
+    // Appends the data of records to the data files directly.
+    protected final DataFileAppender dataFileAppender = new DataFileAppender();
+
     public OfflineImporter(MigrationContext mrManager) {
         super(mrManager);
         this.config = mrManager.getConfig();
         cmTaskService = mrManager.getMergeTaskExe();
+        mrManager.addTobeDisposed(dataFileAppender);
         if (config.targetIsCSV()) {
             importFileWriter = new CSVFileWriter();
         } else if (config.targetIsXLS()) {
@@ -421,6 +523,17 @@ public abstract class OfflineImporter extends Importer {
     protected abstract void handleDataFile(
             String fileName, final SourceTableConfig stc, final int impCount, int expCount);
 
+    /**
+     * Append the data of records to the data file of the table.
+     *
+     * @param data the content to be appended.
+     * @param stc source table configuration.
+     * @param impCount the count of records in data.
+     * @param expCount Exported record count this time
+     */
+    protected abstract void handleData(
+            DataBuffer data, final SourceTableConfig stc, final int impCount, int expCount);
+
     /**
      * Send schema file and data file to server for loadDB command.
      *
@@ -563,6 +676,27 @@ public abstract class OfflineImporter extends Importer {
         };
     }
 
+    /**
+     * Replace the LOB file path place holder in the value string if there are LOB files.
+     *
+     * @param stc SourceTableConfig
+     * @param fileStr the string of the value
+     * @param lobFiles the LOB files to be uploaded
+     * @return the string with the LOB directory of the table
+     */
+    private String replaceLOBPath(SourceTableConfig stc, String fileStr, List<String> lobFiles) {
+        if (CollectionUtils.isEmpty(lobFiles)) {
+            return fileStr;
+        }
+        String lobDir = config.getTargetLOBRootPath();
+        if (StringUtils.isBlank(lobDir)) {
+            lobDir = getLOBDir(stc.getTarget());
+        } else {
+            lobDir = lobDir + "lob/" + stc.getTarget() + "/";
+        }
+        return fileStr.replace(Data2StrTranslator.LOBFILEPATH, lobDir);
+    }
+
     /**
      * Retrieves the string for load DB command of record.
      *
@@ -576,44 +710,28 @@ public abstract class OfflineImporter extends Importer {
             SourceTableConfig stc, Table tt, Record re, List<String> lobFiles) {
         try {
             List<String> dataList = new ArrayList<String>();
-            // get target table
-            Map<String, Object> recordMap = re.getColumnValueMap();
+            final RecordTransformPlan plan = mrManager.getTransformPlan(stc);
+            Map<String, Object> recordMap = plan.getRecordMap(re);
+            int position = 0;
             for (Record.ColumnValue cv : re.getColumnValueList()) {
-                SourceColumnConfig scc = stc.getColumnConfig(cv.getColumn().getName());
-                if (scc == null) {
+                int index = plan.indexOf(cv, position++);
+                if (index < 0) {
                     throw new NormalMigrationException("Column not found.");
                 }
-                Column targetColumn = tt.getColumnByName(scc.getTarget());
+                Column targetColumn = plan.getTargetColumn(index);
                 if (targetColumn == null) {
                     throw new NormalMigrationException("Column not found.");
                 }
-                DBTransformHelper dbHelper = config.getDBTransformHelper();
                 Object targetValue;
                 try {
-                    targetValue =
-                            dbHelper.convertValueToTargetDBValue(
-                                    config,
-                                    recordMap,
-                                    scc,
-                                    cv.getColumn(),
-                                    targetColumn,
-                                    cv.getValue());
+                    targetValue = plan.convert(index, recordMap, cv.getColumn(), cv.getValue());
                 } catch (UserDefinedHandlerException ex) {
                     targetValue = cv.getValue();
                     eventHandler.handleEvent(new SingleRecordErrorEvent(re, ex));
                 }
 
                 String fileStr = unloadFileUtil.stringValueOf(targetValue, targetColumn, lobFiles);
-                if (CollectionUtils.isNotEmpty(lobFiles)) {
-                    String lobDir = config.getTargetLOBRootPath();
-                    if (StringUtils.isBlank(lobDir)) {
-                        lobDir = getLOBDir(stc.getTarget());
-                    } else {
-                        lobDir = lobDir + "lob/" + stc.getTarget() + "/";
-                    }
-                    fileStr = fileStr.replace(Data2StrTranslator.LOBFILEPATH, lobDir);
-                }
-                dataList.add(fileStr);
+                dataList.add(replaceLOBPath(stc, fileStr, lobFiles));
             }
             return dataList;
         } catch (Exception ex) {
@@ -639,21 +757,15 @@ public abstract class OfflineImporter extends Importer {
      * @return success count
      */
     public int importRecords(final SourceTableConfig stc, final List<Record> records) {
-        String tmpDataFileName = getRandomTempFileName() + config.getDataFileExt();
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("[VAR]tmpDataFileName=" + tmpDataFileName);
-        }
-        File file = new File(tmpDataFileName);
+        DataBuffer data = dataFileAppender.borrowBuffer();
         int successCnt;
         try {
-            final Table tt = config.getTargetTableSchema(stc.getTarget());
+            final Table tt = mrManager.getTransformPlan(stc).getTargetTable();
             if (null == tt) {
                 throw new NormalMigrationException(
                         "Target Table " + stc.getTarget() + " not found.");
             }
-            PathUtils.createFile(file);
-            // Cache to get better performance
-            successCnt = importFileWriter.writeData(stc, records, file, tt);
+            successCnt = importFileWriter.writeData(stc, records, data, tt);
             if (successCnt != records.size()) {
                 eventHandler.handleEvent(
                         new ImportRecordsEvent(
@@ -665,9 +777,28 @@ public abstract class OfflineImporter extends Importer {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("[VAR]successCnt=" + successCnt);
             }
-            handleDataFile(tmpDataFileName, stc, successCnt, records.size());
+            if (config.targetIsXLS()) {
+                // The XLS workbooks can not be appended, they are merged by the merging tasks.
+                String tmpDataFileName = getRandomTempFileName() + config.getDataFileExt();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("[VAR]tmpDataFileName=" + tmpDataFileName);
+                }
+                File file = new File(tmpDataFileName);
+                PathUtils.createFile(file);
+                OutputStream os = new FileOutputStream(file);
+                try {
+                    data.writeTo(os);
+                } finally {
+                    os.close();
+                }
+                handleDataFile(tmpDataFileName, stc, successCnt, records.size());
+            } else {
+                handleData(data, stc, successCnt, records.size());
+            }
         } catch (Exception ex) {
             throw new BreakMigrationException(ex);
+        } finally {
+            dataFileAppender.returnBuffer(data);
         }
         return successCnt;
     }
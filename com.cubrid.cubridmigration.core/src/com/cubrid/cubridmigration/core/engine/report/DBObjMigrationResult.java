@@ -50,11 +50,16 @@ public class DBObjMigrationResult implements Serializable {
     private boolean succeed = false;
     private String ddl;
     private String error;
+    private long buildTime = -1;
 
     public String getDdl() {
         return ddl;
     }
 
+    public long getBuildTime() {
+        return buildTime;
+    }
+
     public String getError() {
         return error;
     }
@@ -79,6 +84,10 @@ public class DBObjMigrationResult implements Serializable {
         this.ddl = ddl;
     }
 
+    public void setBuildTime(long buildTime) {
+        this.buildTime = buildTime;
+    }
+
     public void setError(String error) {
         this.error = error;
     }
@@ -37,6 +37,10 @@ import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.dbobject.DBObject;
 import com.cubrid.cubridmigration.core.dbobject.View;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.event.BatchBisectedEvent;
+import com.cubrid.cubridmigration.core.engine.event.BatchSizeEvent;
+import com.cubrid.cubridmigration.core.engine.event.EndExpTableEvent;
+import com.cubrid.cubridmigration.core.engine.event.ExportBlockedEvent;
 import com.cubrid.cubridmigration.core.engine.event.CreateObjectEvent;
 import com.cubrid.cubridmigration.core.engine.event.ExportCSVEvent;
 import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
@@ -100,7 +104,7 @@ public abstract class DefaultMigrationReporter implements IMigrationReporter {
 
     public DefaultMigrationReporter(MigrationConfiguration config, int startMode) {
         this.config = config;
-        long timeTag = System.currentTimeMillis();
+        long timeTag = PathUtils.nextTimeTag();
         fileName = timeTag + HIS_FILE_EX;
 
         final MigrationBriefReport brief = new MigrationBriefReport();
@@ -183,6 +187,7 @@ public abstract class DefaultMigrationReporter implements IMigrationReporter {
                 DBObjMigrationResult dbor = report.getDBObjResult(ev.getDbObject());
                 dbor.setSucceed(true);
                 dbor.setDdl(ev.getDbObject().getDDL());
+                dbor.setBuildTime(ev.getBuildTime());
                 if (ev.getDbObject().getObjType() == DBObject.OBJ_TYPE_VIEW) {
                     String viewAlterDDL = ((View) ev.getDbObject()).getAlterDDL();
                     if (!viewAlterDDL.equals(CUBRIDSQLHelper.SQL_NULL)) {
@@ -212,6 +217,14 @@ public abstract class DefaultMigrationReporter implements IMigrationReporter {
         } else if (event instanceof ImportRecordsEvent) {
             ImportRecordsEvent ev = (ImportRecordsEvent) event;
             report.addImpMigRecResult(ev);
+        } else if (event instanceof EndExpTableEvent) {
+            report.addEndExpTableEvent((EndExpTableEvent) event);
+        } else if (event instanceof BatchSizeEvent) {
+            report.addBatchSizeEvent((BatchSizeEvent) event);
+        } else if (event instanceof BatchBisectedEvent) {
+            report.addBatchBisectedEvent((BatchBisectedEvent) event);
+        } else if (event instanceof ExportBlockedEvent) {
+            report.addExportBlockedEvent((ExportBlockedEvent) event);
         } else if (event instanceof MigrationNoSupportEvent) {
             MigrationNoSupportEvent ev = (MigrationNoSupportEvent) event;
             DBObject dbObject = ev.getDbObject();
@@ -344,6 +357,7 @@ public abstract class DefaultMigrationReporter implements IMigrationReporter {
                         PathUtils.getReportDir() + renameObjFile
                     };
             CUBRIDIOUtils.zip(PathUtils.getReportDir() + fileName, inputFiles, true);
+            MigrationHistoryIndex.addHistory(fileName, report);
         } catch (Exception e) {
             LOG.error("", e);
         }
@@ -373,11 +387,7 @@ public abstract class DefaultMigrationReporter implements IMigrationReporter {
     /** Load the report information of migration history */
     public void loadMigrationHistory() {
         try {
-            String mhFull = MigrationReportFileUtils.extractReport(fileName);
-            if (mhFull == null) {
-                throw new IllegalArgumentException("Invalid migration history file:" + fileName);
-            }
-            report = MigrationReport.loadFromReportFile(mhFull);
+            report = MigrationReportFileUtils.loadReport(fileName);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -40,6 +40,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -145,11 +146,11 @@ public class MigrationBriefReport {
             throw new IllegalArgumentException("Invalid migration history file.");
         }
         setHistoryFile(hisFile);
-        String briefFile = MigrationReportFileUtils.extractBrief(hisFile);
+        InputStream briefStream = MigrationReportFileUtils.openEntry(hisFile, EX_BRIEF);
         // If brief file is exists in the ZIP file
-        if (briefFile != null) {
-            // Extract brief file from report file
-            loadFromBriefFile(briefFile);
+        if (briefStream != null) {
+            // Read brief file from report file directly
+            loadFromBriefStream(briefStream);
             return;
         }
         // If is old version report file: Transfer old version to new version
@@ -235,8 +236,17 @@ public class MigrationBriefReport {
      * @throws IOException ex
      */
     public void loadFromBriefFile(String briefFile) throws FileNotFoundException, IOException {
+        loadFromBriefStream(new FileInputStream(briefFile));
+    }
+
+    /**
+     * Load brief information from the content of a .brief file, the stream will be closed.
+     *
+     * @param inStream of the .brief file
+     * @throws IOException ex
+     */
+    public void loadFromBriefStream(InputStream inStream) throws IOException {
         Properties pro = new Properties();
-        final FileInputStream inStream = new FileInputStream(briefFile);
         try {
             pro.load(inStream);
             setScriptName(pro.getProperty("name"));
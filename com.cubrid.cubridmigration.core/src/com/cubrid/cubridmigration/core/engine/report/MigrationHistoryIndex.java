@@ -0,0 +1,398 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.report;
+
+import com.cubrid.cubridmigration.core.common.PathUtils;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
+
+/**
+ * MigrationHistoryIndex keeps the brief information and the table summaries of all the migration
+ * history files in one small file of the report directory, so the histories can be listed without
+ * opening every *.mh file. An entry is rebuilt when the length or the modified time of its *.mh
+ * file is changed.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public abstract class MigrationHistoryIndex {
+
+    private static final Logger LOG = LogUtil.getLogger(MigrationHistoryIndex.class);
+
+    public static final String INDEX_FILE = "history.index";
+
+    // The file name of the history can't include '/'
+    private static final char KEY_SEPARATOR = '/';
+    private static final String STAMP = "stamp";
+    private static final String TABLES = "tables";
+    private static final String TABLE = "table.";
+
+    private static final Object LOCK = new Object();
+
+    /**
+     * Retrieves the brief information of all the migration histories in the report directory,
+     * only the histories which are not indexed are read from their *.mh files.
+     *
+     * @return the brief information of the histories
+     */
+    public static List<MigrationBriefReport> getBriefs() {
+        synchronized (LOCK) {
+            List<MigrationBriefReport> result = new ArrayList<MigrationBriefReport>();
+            File[] hisFiles = listHistoryFiles();
+            Properties index = loadIndex();
+            boolean changed = removeDeletedHistories(index, hisFiles);
+            for (File hf : hisFiles) {
+                MigrationBriefReport brief = null;
+                if (isIndexed(index, hf)) {
+                    brief = getBrief(index, hf.getName());
+                }
+                if (brief == null) {
+                    brief = new MigrationBriefReport();
+                    try {
+                        brief.loadFromHistoryFile(hf.getName());
+                    } catch (Exception ex) {
+                        LOG.error("", ex);
+                        continue;
+                    }
+                    removeHistory(index, hf.getName());
+                    putBrief(index, hf, brief);
+                    changed = true;
+                }
+                result.add(brief);
+            }
+            if (changed) {
+                saveIndex(index);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Retrieves the data migration summaries of the tables in the migration history, the report
+     * in the *.mh file is read only if the history is not indexed.
+     *
+     * @param mhFile name of the history file, not the full name.
+     * @return the summaries including source, target, total, exported and imported count.
+     * @throws IOException if the history file is invalid
+     */
+    public static List<RecordMigrationResult> getTableSummaries(String mhFile) throws IOException {
+        synchronized (LOCK) {
+            File hf = new File(PathUtils.getReportDir() + mhFile);
+            Properties index = loadIndex();
+            if (isIndexed(index, hf) && index.getProperty(key(mhFile, TABLES)) != null) {
+                List<RecordMigrationResult> tables = getTables(index, mhFile);
+                if (tables != null) {
+                    return tables;
+                }
+            }
+            MigrationBriefReport brief = new MigrationBriefReport();
+            brief.loadFromHistoryFile(mhFile);
+            MigrationReport report = MigrationReportFileUtils.loadReport(mhFile);
+            removeHistory(index, mhFile);
+            putBrief(index, hf, brief);
+            putTables(index, mhFile, report.getRecMigResults());
+            saveIndex(index);
+            return report.getRecMigResults();
+        }
+    }
+
+    /**
+     * Index the migration history when the history file is saved.
+     *
+     * @param mhFile name of the history file, not the full name.
+     * @param report of the migration
+     */
+    public static void addHistory(String mhFile, MigrationReport report) {
+        synchronized (LOCK) {
+            File hf = new File(PathUtils.getReportDir() + mhFile);
+            Properties index = loadIndex();
+            removeHistory(index, mhFile);
+            MigrationBriefReport brief = report.getBrief();
+            brief.setHistoryFile(mhFile);
+            putBrief(index, hf, brief);
+            putTables(index, mhFile, report.getRecMigResults());
+            saveIndex(index);
+        }
+    }
+
+    /**
+     * List the history files in the report directory
+     *
+     * @return *.mh files
+     */
+    private static File[] listHistoryFiles() {
+        File[] hisFiles =
+                new File(PathUtils.getReportDir())
+                        .listFiles(
+                                new FilenameFilter() {
+
+                                    public boolean accept(File dir, String name) {
+                                        return name.toLowerCase(Locale.US)
+                                                .endsWith(IMigrationReporter.HIS_FILE_EX);
+                                    }
+                                });
+        return hisFiles == null ? new File[0] : hisFiles;
+    }
+
+    /**
+     * Load the index file, the index is empty if the file can't be read.
+     *
+     * @return index
+     */
+    private static Properties loadIndex() {
+        Properties index = new Properties();
+        File file = new File(PathUtils.getReportDir() + INDEX_FILE);
+        if (!file.exists()) {
+            return index;
+        }
+        try {
+            InputStream in = new FileInputStream(file);
+            try {
+                index.load(in);
+            } finally {
+                in.close();
+            }
+        } catch (Exception ex) {
+            LOG.warn("Migration history index will be rebuilt.", ex);
+            index.clear();
+        }
+        return index;
+    }
+
+    /**
+     * Save the index into a temporary file and replace the index file with it, so the readers in
+     * other processes never see a partial index. Each writer uses its own temporary file, so the
+     * processes saving the index at the same time don't write into the same file.
+     *
+     * @param index to be saved
+     */
+    private static void saveIndex(Properties index) {
+        File file = new File(PathUtils.getReportDir() + INDEX_FILE);
+        File tmpFile = null;
+        try {
+            File dir = file.getAbsoluteFile().getParentFile();
+            if (!PathUtils.checkPathExist(dir)) {
+                throw new IOException("Create directory failed:" + dir.getPath());
+            }
+            tmpFile = File.createTempFile(INDEX_FILE, ".tmp", dir);
+            OutputStream os = new FileOutputStream(tmpFile);
+            try {
+                index.store(os, null);
+            } finally {
+                os.close();
+            }
+            if (!tmpFile.renameTo(file)) {
+                PathUtils.deleteFile(file);
+                if (!tmpFile.renameTo(file)) {
+                    throw new IOException("Can't replace file " + file.getName());
+                }
+            }
+        } catch (IOException ex) {
+            LOG.warn("Migration history index can't be saved.", ex);
+            if (tmpFile != null && tmpFile.exists()) {
+                PathUtils.deleteFile(tmpFile);
+            }
+        }
+    }
+
+    /**
+     * Remove the histories whose files were deleted from the index.
+     *
+     * @param index to be cleaned
+     * @param hisFiles existing history files
+     * @return true if the index was changed
+     */
+    private static boolean removeDeletedHistories(Properties index, File[] hisFiles) {
+        Set<String> names = new HashSet<String>();
+        for (File hf : hisFiles) {
+            names.add(hf.getName());
+        }
+        boolean changed = false;
+        for (String key : index.stringPropertyNames()) {
+            int pos = key.indexOf(KEY_SEPARATOR);
+            if (pos < 0 || !names.contains(key.substring(0, pos))) {
+                index.remove(key);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Remove the history from the index.
+     *
+     * @param index to be cleaned
+     * @param mhFile history file name
+     */
+    private static void removeHistory(Properties index, String mhFile) {
+        String prefix = key(mhFile, "");
+        for (String key : index.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @param index Properties
+     * @param hf history file
+     * @return true if the history was indexed and its file is not changed after that.
+     */
+    private static boolean isIndexed(Properties index, File hf) {
+        return getStamp(hf).equals(index.getProperty(key(hf.getName(), STAMP)));
+    }
+
+    /**
+     * @param hf history file
+     * @return the stamp of the file's current version
+     */
+    private static String getStamp(File hf) {
+        return hf.length() + ":" + hf.lastModified();
+    }
+
+    /**
+     * @param mhFile history file name
+     * @param name of the property
+     * @return the key of the property in the index
+     */
+    private static String key(String mhFile, String name) {
+        return mhFile + KEY_SEPARATOR + name;
+    }
+
+    /**
+     * Read the brief from the index
+     *
+     * @param index Properties
+     * @param mhFile history file name
+     * @return null if the brief in index is invalid
+     */
+    private static MigrationBriefReport getBrief(Properties index, String mhFile) {
+        try {
+            MigrationBriefReport brief = new MigrationBriefReport();
+            brief.setHistoryFile(mhFile);
+            brief.setScriptName(index.getProperty(key(mhFile, "name")));
+            String output = index.getProperty(key(mhFile, "output"));
+            brief.setOutputDir(StringUtils.isEmpty(output) ? null : output);
+            brief.setStartMode(Integer.parseInt(index.getProperty(key(mhFile, "launcher"))));
+            brief.setStatus(Integer.parseInt(index.getProperty(key(mhFile, "status"))));
+            brief.setStartTime(Long.parseLong(index.getProperty(key(mhFile, "start"))));
+            brief.setEndTime(Long.parseLong(index.getProperty(key(mhFile, "end"))));
+            brief.setSourceType(Integer.parseInt(index.getProperty(key(mhFile, "source"))));
+            return brief;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Put the brief into the index with the stamp of the history file.
+     *
+     * @param index Properties
+     * @param hf history file
+     * @param brief MigrationBriefReport
+     */
+    private static void putBrief(Properties index, File hf, MigrationBriefReport brief) {
+        String mhFile = hf.getName();
+        index.setProperty(key(mhFile, STAMP), getStamp(hf));
+        index.setProperty(key(mhFile, "name"), StringUtils.defaultString(brief.getScriptName()));
+        index.setProperty(key(mhFile, "output"), StringUtils.defaultString(brief.getOutputDir()));
+        index.setProperty(key(mhFile, "launcher"), Integer.toString(brief.getStartMode()));
+        index.setProperty(key(mhFile, "status"), Integer.toString(brief.getStatus()));
+        index.setProperty(key(mhFile, "start"), Long.toString(brief.getStartTime()));
+        index.setProperty(key(mhFile, "end"), Long.toString(brief.getEndTime()));
+        index.setProperty(key(mhFile, "source"), Integer.toString(brief.getSourceType()));
+    }
+
+    /**
+     * Read the table summaries from the index
+     *
+     * @param index Properties
+     * @param mhFile history file name
+     * @return null if the summaries in index are invalid
+     */
+    private static List<RecordMigrationResult> getTables(Properties index, String mhFile) {
+        try {
+            int count = Integer.parseInt(index.getProperty(key(mhFile, TABLES)));
+            List<RecordMigrationResult> result = new ArrayList<RecordMigrationResult>(count);
+            for (int i = 0; i < count; i++) {
+                String[] values = index.getProperty(key(mhFile, TABLE + i)).split("\t", -1);
+                RecordMigrationResult rmr = new RecordMigrationResult();
+                rmr.setTotalCount(Long.parseLong(values[0]));
+                rmr.setExpCount(Long.parseLong(values[1]));
+                rmr.setImpCount(Long.parseLong(values[2]));
+                rmr.setSrcSchema(StringUtils.isEmpty(values[3]) ? null : values[3]);
+                rmr.setSource(values[4]);
+                rmr.setTarget(values[5]);
+                result.add(rmr);
+            }
+            return result;
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Put the table summaries into the index
+     *
+     * @param index Properties
+     * @param mhFile history file name
+     * @param tables the data migration results
+     */
+    private static void putTables(
+            Properties index, String mhFile, List<RecordMigrationResult> tables) {
+        index.setProperty(key(mhFile, TABLES), Integer.toString(tables.size()));
+        for (int i = 0; i < tables.size(); i++) {
+            RecordMigrationResult rmr = tables.get(i);
+            StringBuffer sb = new StringBuffer();
+            sb.append(rmr.getTotalCount()).append('\t');
+            sb.append(rmr.getExpCount()).append('\t');
+            sb.append(rmr.getImpCount()).append('\t');
+            sb.append(StringUtils.defaultString(rmr.getSrcSchema())).append('\t');
+            sb.append(StringUtils.defaultString(rmr.getSource())).append('\t');
+            sb.append(StringUtils.defaultString(rmr.getTarget()));
+            index.setProperty(key(mhFile, TABLE + i), sb.toString());
+        }
+    }
+}
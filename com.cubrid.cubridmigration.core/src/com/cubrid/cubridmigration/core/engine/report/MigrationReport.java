@@ -50,6 +50,10 @@ import com.cubrid.cubridmigration.core.engine.config.SourceSequenceConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceSynonymConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceViewConfig;
+import com.cubrid.cubridmigration.core.engine.event.BatchBisectedEvent;
+import com.cubrid.cubridmigration.core.engine.event.BatchSizeEvent;
+import com.cubrid.cubridmigration.core.engine.event.EndExpTableEvent;
+import com.cubrid.cubridmigration.core.engine.event.ExportBlockedEvent;
 import com.cubrid.cubridmigration.core.engine.event.ExportCSVEvent;
 import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.event.ImportCSVEvent;
@@ -189,6 +193,68 @@ public class MigrationReport implements Serializable {
         }
     }
 
+    /**
+     * All records of the table are exported, the estimated total count is replaced by the exported
+     * count.
+     *
+     * @param event EndExpTableEvent
+     */
+    public void addEndExpTableEvent(EndExpTableEvent event) {
+        RecordMigrationResult result =
+                getRecMigResults(
+                        event.getSourceTable().getOwner(),
+                        event.getSourceTable().getName(),
+                        event.getSourceTable().getTarget());
+        if (result.isTotalCountEstimated()) {
+            result.setTotalCount(result.getExpCount());
+            result.setTotalCountEstimated(false);
+        }
+    }
+
+    /**
+     * Set the batch size tuned for the table
+     *
+     * @param event BatchSizeEvent
+     */
+    public void addBatchSizeEvent(BatchSizeEvent event) {
+        RecordMigrationResult result =
+                getRecMigResults(
+                        event.getSourceTable().getOwner(),
+                        event.getSourceTable().getName(),
+                        event.getSourceTable().getTarget());
+        result.setBatchSize(event.getStats().getBatchSize());
+    }
+
+    /**
+     * Set the time of the table's exporting threads blocked by the memory budget
+     *
+     * @param event ExportBlockedEvent
+     */
+    public void addExportBlockedEvent(ExportBlockedEvent event) {
+        RecordMigrationResult result =
+                getRecMigResults(
+                        event.getSourceTable().getOwner(),
+                        event.getSourceTable().getName(),
+                        event.getSourceTable().getTarget());
+        result.setBlockedTime(event.getBlockedTime());
+        result.setMaxPendingBatches(event.getMaxPendingBatches());
+    }
+
+    /**
+     * Add the records salvaged and isolated by bisecting a failed batch of the table
+     *
+     * @param event BatchBisectedEvent
+     */
+    public void addBatchBisectedEvent(BatchBisectedEvent event) {
+        RecordMigrationResult result =
+                getRecMigResults(
+                        event.getSourceTable().getOwner(),
+                        event.getSourceTable().getName(),
+                        event.getSourceTable().getTarget());
+        result.setSalvagedCount(result.getSalvagedCount() + event.getSalvagedCount());
+        result.setIsolatedCount(result.getIsolatedCount() + event.getIsolatedCount());
+    }
+
     /**
      * add Import Migration Record Result
      *
@@ -599,6 +665,7 @@ public class MigrationReport implements Serializable {
                 Table table = config.getSrcTableSchema(stc.getOwner(), stc.getName());
                 if (table != null) {
                     result.setTotalCount(table.getTableRowCount());
+                    result.setTotalCountEstimated(table.isTableRowCountEstimated());
                 }
             }
             recMigResults.add(result);
@@ -618,6 +685,8 @@ public class MigrationReport implements Serializable {
                 Table srcTableSchema = config.getSrcTableSchema(sstc.getOwner(), sstc.getName());
                 result.setTotalCount(
                         srcTableSchema == null ? 0 : srcTableSchema.getTableRowCount());
+                result.setTotalCountEstimated(
+                        srcTableSchema != null && srcTableSchema.isTableRowCountEstimated());
             }
             recMigResults.add(result);
         }
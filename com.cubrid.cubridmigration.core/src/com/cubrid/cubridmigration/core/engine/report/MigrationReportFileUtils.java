@@ -32,8 +32,14 @@ package com.cubrid.cubridmigration.core.engine.report;
 
 import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
 import com.cubrid.cubridmigration.core.common.PathUtils;
+import java.beans.XMLDecoder;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * MigrationReportFileUtils
@@ -137,4 +143,67 @@ public abstract class MigrationReportFileUtils {
                 IMigrationReporter.RENAME_FILE_EX,
                 getReportTempDir(mhFile));
     }
+
+    /**
+     * Open the file in the *.mh file for reading without extracting the *.mh file, only the
+     * central directory of the ZIP file and the entry to be read are accessed.
+     *
+     * @param mhFile *.mh
+     * @param toBeRead the name or the extend name of the file in the *.mh file
+     * @return the input stream of the file, the *.mh file will be closed with the stream. Null if
+     *     the file is not in the *.mh file.
+     * @throws IOException ex
+     */
+    public static InputStream openEntry(String mhFile, String toBeRead) throws IOException {
+        final ZipFile zipFile = new ZipFile(PathUtils.getReportDir() + mhFile);
+        boolean opened = false;
+        try {
+            Enumeration<? extends ZipEntry> en = zipFile.entries();
+            while (en.hasMoreElements()) {
+                ZipEntry zipEntry = en.nextElement();
+                final String zipName = zipEntry.getName();
+                if (zipEntry.isDirectory()
+                        || !zipName.equals(toBeRead) && !zipName.endsWith(toBeRead)) {
+                    continue;
+                }
+                InputStream result =
+                        new FilterInputStream(zipFile.getInputStream(zipEntry)) {
+                            public void close() throws IOException {
+                                try {
+                                    super.close();
+                                } finally {
+                                    zipFile.close();
+                                }
+                            }
+                        };
+                opened = true;
+                return result;
+            }
+            return null;
+        } finally {
+            if (!opened) {
+                zipFile.close();
+            }
+        }
+    }
+
+    /**
+     * Load the *.report file in the *.mh file without extracting it.
+     *
+     * @param mhFile *.mh
+     * @return the report
+     * @throws IOException if the *.mh file is invalid
+     */
+    public static MigrationReport loadReport(String mhFile) throws IOException {
+        InputStream in = openEntry(mhFile, IMigrationReporter.REPORT_FILE_EX);
+        if (in == null) {
+            throw new IOException("Invalid migration history file:" + mhFile);
+        }
+        XMLDecoder xe = new XMLDecoder(in);
+        try {
+            return (MigrationReport) xe.readObject();
+        } finally {
+            xe.close();
+        }
+    }
 }
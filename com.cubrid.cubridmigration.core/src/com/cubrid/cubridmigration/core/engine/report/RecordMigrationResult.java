@@ -51,9 +51,16 @@ public class RecordMigrationResult implements Serializable {
     private long endImportTime;
 
     private long totalCount;
+    private boolean totalCountEstimated;
     private long expCount;
     private long impCount;
 
+    private int batchSize;
+    private long salvagedCount;
+    private long isolatedCount;
+    private long blockedTime;
+    private int maxPendingBatches;
+
     public String getSource() {
         return source;
     }
@@ -134,6 +141,62 @@ public class RecordMigrationResult implements Serializable {
         this.srcSchema = srcSchema;
     }
 
+    /**
+     * Whether the total count is estimated by the statistics of the source database, it is
+     * replaced by the exported count when all records of the table are exported.
+     *
+     * @return true if the total count is estimated
+     */
+    public boolean isTotalCountEstimated() {
+        return totalCountEstimated;
+    }
+
+    public void setTotalCountEstimated(boolean totalCountEstimated) {
+        this.totalCountEstimated = totalCountEstimated;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSalvagedCount() {
+        return salvagedCount;
+    }
+
+    public void setSalvagedCount(long salvagedCount) {
+        this.salvagedCount = salvagedCount;
+    }
+
+    public long getIsolatedCount() {
+        return isolatedCount;
+    }
+
+    public void setIsolatedCount(long isolatedCount) {
+        this.isolatedCount = isolatedCount;
+    }
+
+    /** @return the time(ms) of the exporting threads blocked by the memory budget */
+    public long getBlockedTime() {
+        return blockedTime;
+    }
+
+    public void setBlockedTime(long blockedTime) {
+        this.blockedTime = blockedTime;
+    }
+
+    /** @return the largest count of batches exported but not imported yet */
+    public int getMaxPendingBatches() {
+        return maxPendingBatches;
+    }
+
+    public void setMaxPendingBatches(int maxPendingBatches) {
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
     /** @return true if the migration has error */
     public boolean isDataMigrationHasError() {
         return getTotalCount() != getExpCount() || getExpCount() != getImpCount();
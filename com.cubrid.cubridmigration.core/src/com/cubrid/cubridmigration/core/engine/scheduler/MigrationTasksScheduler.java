@@ -30,9 +30,18 @@
  */
 package com.cubrid.cubridmigration.core.engine.scheduler;
 
+import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.common.PathUtils;
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.dbobject.FK;
 import com.cubrid.cubridmigration.core.dbobject.Schema;
+import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.AutoIncrementTracker;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal;
+import com.cubrid.cubridmigration.core.engine.DataMigratedListener;
+import com.cubrid.cubridmigration.core.engine.JDBCConManager;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
 import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.UserDefinedDataHandlerManager;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
@@ -44,18 +53,28 @@ import com.cubrid.cubridmigration.core.engine.config.SourceSQLTableConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceSequenceConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceSynonymConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableRangeConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceViewConfig;
+import com.cubrid.cubridmigration.core.engine.event.ConnPoolStatusEvent;
 import com.cubrid.cubridmigration.core.engine.exception.BreakMigrationException;
 import com.cubrid.cubridmigration.core.engine.task.IMigrationTask;
 import com.cubrid.cubridmigration.core.engine.task.MigrationTaskFactory;
+import com.cubrid.cubridmigration.cubrid.CUBRIDSQLHelper;
 import java.io.File;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
 
 /**
  * MigrationTasksScheduler responses to schedule migration tasks.
@@ -65,10 +84,17 @@ import org.apache.commons.lang.StringUtils;
  */
 public class MigrationTasksScheduler {
 
+    private static final Logger LOG = LogUtil.getLogger(MigrationTasksScheduler.class);
+
+    /** The minimum record count of a key range when splitting a big table. */
+    private static final long MIN_RANGE_RECORDS = 100000L;
+
     private final int USERSCHEMA_VERSION = 112;
 
     protected MigrationTaskFactory taskFactory;
     protected MigrationContext context;
+    // True if the migration is resumed from the checkpoints of a broken migration.
+    private boolean resumed;
 
     public MigrationTasksScheduler() {}
 
@@ -76,6 +102,9 @@ public class MigrationTasksScheduler {
     public void schedule() {
         // Execute SQL tasks
         MigrationConfiguration config = context.getConfig();
+        if (context.getCheckpointJournal() != null && config.isResumeFromCheckpoint()) {
+            checkResumable(config);
+        }
         if (config.sourceIsSQL()) {
             List<String> files = config.getSqlFiles();
             for (String file : files) {
@@ -89,32 +118,29 @@ public class MigrationTasksScheduler {
         initUserDefinedHandlers();
 
         PathUtils.changeLocalFilePath(config);
-        clearTargetDB();
-        createSchema();
-        createTables();
-        createViews();
-        if (config.targetIsOnline()
-                && Integer.parseInt(config.getTargetDBVersion()) < USERSCHEMA_VERSION) {
-            createNoSupportSynonyms();
-        } else {
-            createSynonyms();
-        }
-        createSerials();
-
-        executeUserSQLs();
-        boolean constrainsCreated = false;
         // If HA mode, the constraints should be created firstly.
-        if (config.targetIsOnline() && config.isCreateConstrainsBeforeData()) {
-            constrainsCreated = true;
-            createPKs();
+        final boolean constrainsCreated =
+                config.targetIsOnline() && config.isCreateConstrainsBeforeData();
+        CheckpointJournal journal = context.getCheckpointJournal();
+        if (journal != null && journal.isPhaseDone(CheckpointJournal.PHASE_SCHEMA)) {
+            LOG.info("Objects were created before, resume from the data migration.");
+            resumed = true;
+        } else {
+            createObjectsBeforeData(constrainsCreated);
+            if (journal != null) {
+                journal.phaseDone(CheckpointJournal.PHASE_SCHEMA);
+            }
         }
-        createRecords();
-
-        if (!constrainsCreated) {
-            createPKs();
+        if (config.targetIsOnline()) {
+            createRecordsAndConstraints(!constrainsCreated);
+        } else {
+            createRecords();
+            if (!constrainsCreated) {
+                createPKs();
+            }
+            createIndexes();
+            createFKs();
         }
-        createIndexes();
-        createFKs();
         executeUserSQLs2();
         updateAutoIncColumnsCurrentValue();
         // Export functions/procedures/triggers to a txt file
@@ -146,12 +172,40 @@ public class MigrationTasksScheduler {
         clearObjectsDir();
     }
 
+    /**
+     * Clear the target and create the objects before the data migration.
+     *
+     * @param createPKs true if the PKs should be created before the data
+     */
+    private void createObjectsBeforeData(boolean createPKs) {
+        MigrationConfiguration config = context.getConfig();
+        clearTargetDB();
+        createSchema();
+        createTables();
+        createViews();
+        if (config.targetIsOnline()
+                && Integer.parseInt(config.getTargetDBVersion()) < USERSCHEMA_VERSION) {
+            createNoSupportSynonyms();
+        } else {
+            createSynonyms();
+        }
+        createSerials();
+
+        executeUserSQLs();
+        if (createPKs) {
+            createPKs();
+        }
+    }
+
     /** Update auto_increment columns current values */
     private void updateAutoIncColumnsCurrentValue() {
         if (!context.getConfig().targetIsOnline()) {
             return;
         }
-        executeTask(taskFactory.createUpdateAiColumnsCurValTask(context.getConfig()));
+        // The rows written by the broken migration or the user SQLs were not tracked.
+        AutoIncrementTracker tracker =
+                resumed || hasUserSQLs() ? null : context.getStatusMgr().getAutoIncrementTracker();
+        executeTask(taskFactory.createUpdateAiColumnsCurValTask(context.getConfig(), tracker));
     }
 
     /** Initialize the user defined data handlers. */
@@ -210,7 +264,22 @@ public class MigrationTasksScheduler {
         await();
     }
 
-    /** Clear target database */
+    /**
+     * Retrieves whether some SQLs are executed before or after the data migration.
+     *
+     * @return true if the user SQLs are configured
+     */
+    private boolean hasUserSQLs() {
+        for (SourceEntryTableConfig setc : context.getConfig().getExpEntryTableCfg()) {
+            if (StringUtils.isNotBlank(setc.getSqlBefore())
+                    || StringUtils.isNotBlank(setc.getSqlAfter())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+        /** Clear target database */
     private void clearTargetDB() {
         MigrationConfiguration config = context.getConfig();
         if (config.targetIsFile()) {
@@ -391,8 +460,21 @@ public class MigrationTasksScheduler {
         await();
     }
 
-    /** Schedule export table record tasks. */
+    /** Schedule export table record tasks and wait for them. */
     protected void createRecords() {
+        if (!scheduleRecords()) {
+            return;
+        }
+        await();
+        fireConnPoolStatus();
+    }
+
+    /**
+     * Schedule export table record tasks without waiting for them.
+     *
+     * @return false if no data to be migrated
+     */
+    protected boolean scheduleRecords() {
         MigrationConfiguration config = context.getConfig();
         boolean isMigData = false;
         List<SourceEntryTableConfig> entryTables = config.getExpEntryTableCfg();
@@ -407,15 +489,37 @@ public class MigrationTasksScheduler {
         isMigData = isMigData || !csvs.isEmpty();
         // If no data to be migrated, return
         if (!isMigData) {
-            return;
+            return false;
         }
         if (config.sourceIsOnline()) {
             // schedule exporting tasks
-            for (SourceTableConfig table : entryTables) {
-                if (!table.isMigrateData()) {
+            CheckpointJournal journal = context.getCheckpointJournal();
+            for (SourceEntryTableConfig table : entryTables) {
+                if (!table.isMigrateData() || isDataMigrated(table)) {
                     continue;
                 }
-                executeTask2(taskFactory.createExportTableRecordsTask(table));
+                if (journal != null) {
+                    deleteUnsafeRecords(table);
+                }
+                List<SourceTableRangeConfig> ranges = splitTable(table);
+                if (ranges.isEmpty()) {
+                    executeTask2(taskFactory.createExportTableRecordsTask(table));
+                    continue;
+                }
+                if (journal != null) {
+                    // The ranges finished by the broken migration are skipped.
+                    Iterator<SourceTableRangeConfig> it = ranges.iterator();
+                    while (it.hasNext()) {
+                        if (journal.isUnitDone(it.next())) {
+                            it.remove();
+                        }
+                    }
+                }
+                context.getStatusMgr()
+                        .setExpPartCount(table.getOwner(), table.getName(), ranges.size());
+                for (SourceTableRangeConfig range : ranges) {
+                    executeTask2(taskFactory.createExportTableRecordsTask(range));
+                }
             }
             for (SourceTableConfig table : sqlTables) {
                 if (!table.isMigrateData()) {
@@ -430,7 +534,475 @@ public class MigrationTasksScheduler {
                 executeTask(taskFactory.createExportCSVTask(csv));
             }
         }
-        await();
+        return true;
+    }
+
+    /** Report the status of the target connection pool after the data migrated. */
+    private void fireConnPoolStatus() {
+        if (context.getConfig().targetIsOnline()) {
+            JDBCConManager cm = context.getConnManager();
+            context.getEventsHandler()
+                    .handleEvent(
+                            new ConnPoolStatusEvent(cm.getMaxTarPoolSize(), cm.getTarPoolStatus()));
+        }
+    }
+
+    /**
+     * Schedule export table record tasks, and create the PKs, indexes and FKs of a table as soon
+     * as its data is migrated instead of waiting for the data of all tables. The FKs of a table are
+     * created after the tables it references are ready too.
+     *
+     * @param createPKs false if the PKs were created before the data
+     */
+    protected void createRecordsAndConstraints(boolean createPKs) {
+        final TaskGraph graph = new TaskGraph(context.getConstraintTaskExe());
+        final Map<String, List<TaskGraph.Node>> dataNodes = buildConstraintGraph(graph, createPKs);
+        MigrationStatusManager msm = context.getStatusMgr();
+        msm.setDataMigratedListener(
+                new DataMigratedListener() {
+                    public void dataMigrated(String owner, String source) {
+                        List<TaskGraph.Node> nodes = dataNodes.get(getSourceKey(owner, source));
+                        if (nodes == null) {
+                            return;
+                        }
+                        for (TaskGraph.Node node : nodes) {
+                            graph.finish(node);
+                        }
+                    }
+                });
+        try {
+            graph.start();
+            boolean isMigData = scheduleRecords();
+            waitForGraph(graph);
+            await();
+            if (isMigData) {
+                fireConnPoolStatus();
+            }
+        } finally {
+            msm.setDataMigratedListener(null);
+        }
+    }
+
+    /**
+     * Build the graph: data of the table -> PK -> indexes -> FKs, and the FKs depend on the indexes
+     * of the referenced tables. The DDL of a table runs one by one, and the DDL of the biggest
+     * tables is started first when several tables are ready.
+     *
+     * @param graph TaskGraph
+     * @param createPKs false if the PKs were created before the data
+     * @return the data nodes, the key is the source table
+     */
+    private Map<String, List<TaskGraph.Node>> buildConstraintGraph(
+            TaskGraph graph, boolean createPKs) {
+        MigrationConfiguration config = context.getConfig();
+        final CheckpointJournal journal = context.getCheckpointJournal();
+        Map<String, List<TaskGraph.Node>> dataNodes = new HashMap<String, List<TaskGraph.Node>>();
+        // The key is the lower case name of the target table.
+        Map<String, List<TaskGraph.Node>> tableDataNodes =
+                new HashMap<String, List<TaskGraph.Node>>();
+        Map<String, List<SourceEntryTableConfig>> newTables =
+                new LinkedHashMap<String, List<SourceEntryTableConfig>>();
+        for (SourceEntryTableConfig setc : config.getExpEntryTableCfg()) {
+            final String target = setc.getTarget().trim().toLowerCase(Locale.US);
+            if (setc.isMigrateData() && !isDataMigrated(setc)) {
+                TaskGraph.Node node =
+                        graph.addNode("Data " + setc.getOwner() + "." + setc.getName(), null);
+                getNodes(dataNodes, getSourceKey(setc.getOwner(), setc.getName())).add(node);
+                getNodes(tableDataNodes, target).add(node);
+            }
+            if (!setc.isCreateNewTable()
+                    || (journal != null && journal.isConstraintsDone(target))) {
+                continue;
+            }
+            List<SourceEntryTableConfig> sources = newTables.get(target);
+            if (sources == null) {
+                sources = new ArrayList<SourceEntryTableConfig>();
+                newTables.put(target, sources);
+            }
+            sources.add(setc);
+        }
+        // PK and indexes
+        Map<String, TaskGraph.Node> indexNodes = new HashMap<String, TaskGraph.Node>();
+        Map<String, Long> weights = new HashMap<String, Long>();
+        for (Map.Entry<String, List<SourceEntryTableConfig>> entry : newTables.entrySet()) {
+            final String target = entry.getKey();
+            final long weight = getEstimatedRowCount(entry.getValue());
+            weights.put(target, weight);
+            List<TaskGraph.Node> prev = getNodes(tableDataNodes, target);
+            if (createPKs) {
+                final List<IMigrationTask> pkTasks = new ArrayList<IMigrationTask>();
+                List<String> names = new ArrayList<String>();
+                for (SourceEntryTableConfig setc : entry.getValue()) {
+                    final String name = setc.getOwner() + "." + target;
+                    if (!setc.isCreatePK() || names.indexOf(name) >= 0) {
+                        continue;
+                    }
+                    names.add(name);
+                    pkTasks.add(taskFactory.createExportPKTask(setc));
+                }
+                if (!pkTasks.isEmpty()) {
+                    TaskGraph.Node pkNode =
+                            graph.addNode(
+                                    "PK " + target,
+                                    new Runnable() {
+                                        public void run() {
+                                            for (IMigrationTask task : pkTasks) {
+                                                ((Runnable) task).run();
+                                            }
+                                        }
+                                    },
+                                    weight);
+                    addDependencies(graph, pkNode, prev);
+                    prev = Collections.singletonList(pkNode);
+                }
+            }
+            TaskGraph.Node indexNode =
+                    graph.addNode(
+                            "Index " + target,
+                            (Runnable) taskFactory.createExportIndexTask(entry.getValue().get(0)),
+                            weight);
+            addDependencies(graph, indexNode, prev);
+            indexNodes.put(target, indexNode);
+        }
+        // FKs
+        for (Map.Entry<String, List<SourceEntryTableConfig>> entry : newTables.entrySet()) {
+            final String target = entry.getKey();
+            SourceEntryTableConfig setc = entry.getValue().get(0);
+            final Runnable fkTask = (Runnable) taskFactory.createExportFKTask(setc);
+            TaskGraph.Node fkNode =
+                    graph.addNode(
+                            "FK " + target,
+                            new Runnable() {
+                                public void run() {
+                                    fkTask.run();
+                                    if (journal != null) {
+                                        journal.constraintsDone(target);
+                                    }
+                                }
+                            },
+                            weights.get(target));
+            graph.addDependency(fkNode, indexNodes.get(target));
+            Table tt = config.getTargetTableSchema(setc.getTarget());
+            if (tt == null) {
+                continue;
+            }
+            for (FK fk : tt.getFks()) {
+                if (fk.getReferencedTableName() == null) {
+                    continue;
+                }
+                String refTable = fk.getReferencedTableName().trim().toLowerCase(Locale.US);
+                TaskGraph.Node refNode = indexNodes.get(refTable);
+                if (refNode == null) {
+                    addDependencies(graph, fkNode, getNodes(tableDataNodes, refTable));
+                } else {
+                    graph.addDependency(fkNode, refNode);
+                }
+            }
+        }
+        return dataNodes;
+    }
+
+    /**
+     * Retrieves the estimated row count of the target table, it is the sum of the row count of its
+     * source tables.
+     *
+     * @param sources of the target table
+     * @return estimated row count, 0 if unknown
+     */
+    private long getEstimatedRowCount(List<SourceEntryTableConfig> sources) {
+        MigrationConfiguration config = context.getConfig();
+        long result = 0;
+        for (SourceEntryTableConfig setc : sources) {
+            Table st = config.getSrcTableSchema(setc.getOwner(), setc.getName());
+            if (st != null) {
+                result += st.getTableRowCount();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Wait until all nodes of the graph are finished.
+     *
+     * @param graph TaskGraph
+     */
+    private void waitForGraph(TaskGraph graph) {
+        try {
+            while (!graph.waitFor(1000)) {
+                if (graph.isBroken()) {
+                    throw new BreakMigrationException("Migration was interrupted.");
+                }
+                // The data of a table is not reported if its exporting was failed.
+                if (!context.getExportRecExe().isBusy()
+                        && !context.getImportRecordExecutor().isBusy()) {
+                    graph.finishExternalNodes();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BreakMigrationException(ex);
+        }
+    }
+
+    /**
+     * The node depends on all the nodes in the list.
+     *
+     * @param graph TaskGraph
+     * @param node TaskGraph.Node
+     * @param dependsOn the nodes to be finished first
+     */
+    private static void addDependencies(
+            TaskGraph graph, TaskGraph.Node node, List<TaskGraph.Node> dependsOn) {
+        for (TaskGraph.Node dep : dependsOn) {
+            graph.addDependency(node, dep);
+        }
+    }
+
+    /**
+     * Retrieves the node list of the key, a new list will be added if it is not found.
+     *
+     * @param map of the node lists
+     * @param key String
+     * @return the node list
+     */
+    private static List<TaskGraph.Node> getNodes(
+            Map<String, List<TaskGraph.Node>> map, String key) {
+        List<TaskGraph.Node> result = map.get(key);
+        if (result == null) {
+            result = new ArrayList<TaskGraph.Node>();
+            map.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * The key of the source used by the migration status manager.
+     *
+     * @param owner of the source
+     * @param source name
+     * @return key
+     */
+    private static String getSourceKey(String owner, String source) {
+        return (owner == null ? "" : owner) + "." + source;
+    }
+
+    /**
+     * Split a big table into key ranges by its leading PK(or unique key) column, so that the ranges
+     * can be exported by the exporting threads in parallel.
+     *
+     * @param setc SourceEntryTableConfig
+     * @return key ranges or empty list if the table should not be split.
+     */
+    protected List<SourceTableRangeConfig> splitTable(SourceEntryTableConfig setc) {
+        List<SourceTableRangeConfig> result = new ArrayList<SourceTableRangeConfig>();
+        CheckpointJournal journal = context.getCheckpointJournal();
+        List<String> savedRanges = journal == null ? null : journal.getRanges(setc);
+        if (savedRanges != null) {
+            // The checkpoints are saved by the ranges of the broken migration.
+            for (int i = 0; i < savedRanges.size(); i++) {
+                result.add(
+                        new SourceTableRangeConfig(
+                                setc, savedRanges.get(i), i, savedRanges.size()));
+            }
+            return result;
+        }
+        // The table without saved ranges was exported as a whole by the broken migration.
+        if (resumed) {
+            return result;
+        }
+        MigrationConfiguration config = context.getConfig();
+        if (config.getExportThreadCount() <= 1
+                || !setc.isEnableExpOpt()
+                || setc.isStartFromTargetMax()) {
+            return result;
+        }
+        Table sTable = config.getSrcTableSchema(setc.getOwner(), setc.getName());
+        if (sTable == null || sTable.getTableRowCount() < MIN_RANGE_RECORDS * 2) {
+            return result;
+        }
+        List<String> keyColumns = sTable.getUniqueKeyColumns();
+        if (keyColumns == null) {
+            return result;
+        }
+        long count = sTable.getTableRowCount() / MIN_RANGE_RECORDS;
+        count = Math.min(count, config.getExportThreadCount());
+        JDBCConManager cm = context.getConnManager();
+        Connection conn = cm.getSourceConnection();
+        try {
+            List<String> conditions =
+                    config.getSourceDBType()
+                            .getExportHelper()
+                            .getKeyRangeConditions(conn, setc, keyColumns.get(0), (int) count);
+            for (int i = 0; i < conditions.size(); i++) {
+                result.add(
+                        new SourceTableRangeConfig(setc, conditions.get(i), i, conditions.size()));
+            }
+            if (journal != null && !conditions.isEmpty()) {
+                journal.saveRanges(setc, conditions);
+            }
+        } catch (SQLException ex) {
+            LOG.warn("Table " + setc.getName() + " can't be split into key ranges.", ex);
+        } finally {
+            cm.closeSrc(conn);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves whether all records of the table were migrated by the broken migration.
+     *
+     * @param setc SourceEntryTableConfig
+     * @return true if the data of the table is finished.
+     */
+    private boolean isDataMigrated(SourceEntryTableConfig setc) {
+        CheckpointJournal journal = context.getCheckpointJournal();
+        if (journal == null) {
+            return false;
+        }
+        if (journal.isUnitDone(setc)) {
+            return true;
+        }
+        List<String> savedRanges = journal.getRanges(setc);
+        if (savedRanges == null) {
+            return false;
+        }
+        for (int i = 0; i < savedRanges.size(); i++) {
+            SourceTableRangeConfig range =
+                    new SourceTableRangeConfig(setc, savedRanges.get(i), i, savedRanges.size());
+            if (!journal.isUnitDone(range)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only the entry tables have checkpoints. The SQL files, CSV files and SQL tables are read
+     * again from the head, so resuming them would import their committed records twice.
+     *
+     * @param config MigrationConfiguration
+     */
+    private void checkResumable(MigrationConfiguration config) {
+        String source = null;
+        if (config.sourceIsSQL()) {
+            source = "SQL files";
+        } else if (config.sourceIsCSV() || !config.getCSVConfigs().isEmpty()) {
+            source = "CSV files";
+        } else {
+            for (SourceSQLTableConfig sstc : config.getExpSQLCfg()) {
+                if (sstc.isMigrateData()) {
+                    source = "SQL table " + sstc.getName();
+                    break;
+                }
+            }
+        }
+        if (source != null) {
+            throw new BreakMigrationException(
+                    "The migration can't be resumed: "
+                            + source
+                            + " have no checkpoints and their records would be imported again."
+                            + " Please migrate it again without resuming.");
+        }
+    }
+
+    /**
+     * Delete the target records of the table if the broken migration committed records which are
+     * not covered by the checkpoints of the table(or any key range of it), and clear the
+     * checkpoints so the table is migrated again from the head. The records are only deleted if
+     * the target table was created by the migration and no other source is migrated into it.
+     *
+     * @param setc SourceEntryTableConfig
+     */
+    private void deleteUnsafeRecords(SourceEntryTableConfig setc) {
+        CheckpointJournal journal = context.getCheckpointJournal();
+        List<SourceTableConfig> units = new ArrayList<SourceTableConfig>();
+        units.add(setc);
+        List<String> savedRanges = journal.getRanges(setc);
+        if (savedRanges != null) {
+            for (int i = 0; i < savedRanges.size(); i++) {
+                units.add(
+                        new SourceTableRangeConfig(
+                                setc, savedRanges.get(i), i, savedRanges.size()));
+            }
+        }
+        boolean unsafe = false;
+        for (SourceTableConfig unit : units) {
+            unsafe = unsafe || journal.isUnitUnsafe(unit);
+        }
+        if (!unsafe) {
+            return;
+        }
+        final String target = setc.getTarget().trim().toLowerCase(Locale.US);
+        if (!setc.isCreateNewTable()
+                || setc.isStartFromTargetMax()
+                || !journal.isTableCreated(target)) {
+            throw new BreakMigrationException(
+                    "Table "
+                            + setc.getName()
+                            + " can't be resumed: its checkpoint was not saved and the target"
+                            + " table "
+                            + setc.getTarget()
+                            + " was not created by the migration, its records can't be deleted."
+                            + " Please migrate it again without resuming.");
+        }
+        MigrationConfiguration config = context.getConfig();
+        List<SourceTableConfig> others = new ArrayList<SourceTableConfig>();
+        others.addAll(config.getExpEntryTableCfg());
+        others.addAll(config.getExpSQLCfg());
+        for (SourceTableConfig other : others) {
+            if (other != setc
+                    && other.isMigrateData()
+                    && StringUtils.equalsIgnoreCase(other.getTarget(), setc.getTarget())
+                    && StringUtils.equalsIgnoreCase(
+                            other.getTargetOwner(), setc.getTargetOwner())) {
+                throw new BreakMigrationException(
+                        "Table "
+                                + setc.getName()
+                                + " can't be resumed: its checkpoint was not saved and the target"
+                                + " table "
+                                + setc.getTarget()
+                                + " is shared with table "
+                                + other.getName()
+                                + ". Please migrate it again without resuming.");
+            }
+        }
+        StringBuffer sql = new StringBuffer("delete from ");
+        if (config.isAddUserSchema()) {
+            sql.append(setc.getTargetOwner()).append(".");
+        }
+        sql.append(CUBRIDSQLHelper.getInstance(null).getQuotedObjName(setc.getTarget()));
+        JDBCConManager cm = context.getConnManager();
+        Connection conn = cm.getTargetConnection();
+        Statement stmt = null;
+        try {
+            stmt = conn.createStatement();
+            int count = stmt.executeUpdate(sql.toString());
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+            LOG.warn(
+                    "The checkpoint of table "
+                            + setc.getName()
+                            + " was not saved, "
+                            + count
+                            + " records of table "
+                            + setc.getTarget()
+                            + " were deleted and it will be migrated again.");
+        } catch (SQLException ex) {
+            throw new BreakMigrationException(
+                    "Table "
+                            + setc.getName()
+                            + " can't be resumed: deleting the records of target table "
+                            + setc.getTarget()
+                            + " failed.",
+                    ex);
+        } finally {
+            Closer.close(stmt);
+            cm.closeTar(conn);
+        }
+        for (SourceTableConfig unit : units) {
+            journal.resetUnit(unit);
+        }
     }
 
     /** Schedule export Primary Key tasks. */
@@ -450,7 +1022,14 @@ public class MigrationTasksScheduler {
                 continue;
             }
             names.add(name);
-            executeTask(taskFactory.createExportPKTask(tb));
+            // The PKs of the online target are created in parallel, the offline target writes
+            // them into one schema file.
+            if (config.targetIsOnline()) {
+                IMigrationTask task = taskFactory.createExportPKTask(tb);
+                context.getConstraintTaskExe().execute((Runnable) task);
+            } else {
+                executeTask(taskFactory.createExportPKTask(tb));
+            }
         }
         await();
     }
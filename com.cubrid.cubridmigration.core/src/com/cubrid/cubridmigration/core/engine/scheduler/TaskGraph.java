@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.scheduler;
+
+import com.cubrid.cubridmigration.core.common.log.LogUtil;
+import com.cubrid.cubridmigration.core.engine.executors.IPrioritizedTask;
+import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.log4j.Logger;
+
+/**
+ * TaskGraph runs the tasks by their dependencies instead of global phases. A task is submitted to
+ * the executor as soon as all the nodes it depends on are finished. A node without task stands
+ * for the work done outside of the graph, such as the data of a table, and it is finished by
+ * {@link #finish(Node)}. The weight of a node is the priority of its task, the executor which
+ * supports {@link IPrioritizedTask} starts the heavy tasks first.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class TaskGraph {
+
+    private static final Logger LOG = LogUtil.getLogger(TaskGraph.class);
+
+    /** A node of the graph */
+    public static class Node {
+        private final String name;
+        private final Runnable task;
+        private final long weight;
+        private final List<Node> dependents = new ArrayList<Node>();
+        private int waitingCount;
+        private boolean submitted;
+        private boolean finished;
+
+        Node(String name, Runnable task, long weight) {
+            this.name = name;
+            this.task = task;
+            this.weight = weight;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private final IRunnableExecutor executor;
+    private final List<Node> nodes = new ArrayList<Node>();
+    private final Object lockObj = new Object();
+    private int unfinishedCount;
+    private boolean started;
+    private boolean broken;
+
+    public TaskGraph(IRunnableExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Add a node to the graph.
+     *
+     * @param name of the node, for logging
+     * @param task to be executed, null if the node is finished outside of the graph
+     * @return Node
+     */
+    public Node addNode(String name, Runnable task) {
+        return addNode(name, task, 0);
+    }
+
+    /**
+     * Add a node to the graph.
+     *
+     * @param name of the node, for logging
+     * @param task to be executed, null if the node is finished outside of the graph
+     * @param weight the estimated cost of the task, the heavy tasks are started first
+     * @return Node
+     */
+    public Node addNode(String name, Runnable task, long weight) {
+        synchronized (lockObj) {
+            if (started) {
+                throw new IllegalStateException("The graph was started.");
+            }
+            Node node = new Node(name, task, weight);
+            nodes.add(node);
+            unfinishedCount++;
+            return node;
+        }
+    }
+
+    /**
+     * The node can't start until the other node is finished.
+     *
+     * @param node to be executed later
+     * @param dependsOn to be finished first
+     */
+    public void addDependency(Node node, Node dependsOn) {
+        synchronized (lockObj) {
+            if (started) {
+                throw new IllegalStateException("The graph was started.");
+            }
+            if (node == dependsOn || dependsOn.dependents.contains(node)) {
+                return;
+            }
+            dependsOn.dependents.add(node);
+            node.waitingCount++;
+        }
+    }
+
+    /** Submit the tasks which don't depend on other nodes. */
+    public void start() {
+        List<Node> ready = new ArrayList<Node>();
+        synchronized (lockObj) {
+            started = true;
+            for (Node node : nodes) {
+                collectReady(node, ready);
+            }
+            lockObj.notifyAll();
+        }
+        submit(ready);
+    }
+
+    /**
+     * Finish a node, the tasks depending on it will be submitted if they are ready.
+     *
+     * @param node to be finished
+     */
+    public void finish(Node node) {
+        List<Node> ready = new ArrayList<Node>();
+        synchronized (lockObj) {
+            if (node.finished) {
+                return;
+            }
+            node.finished = true;
+            unfinishedCount--;
+            for (Node dep : node.dependents) {
+                dep.waitingCount--;
+                if (started) {
+                    collectReady(dep, ready);
+                }
+            }
+            lockObj.notifyAll();
+        }
+        submit(ready);
+    }
+
+    /**
+     * Finish all the nodes which are finished outside of the graph. It is called when the work
+     * outside was stopped without notifying the graph, such as an exporting error.
+     */
+    public void finishExternalNodes() {
+        List<Node> external = new ArrayList<Node>();
+        synchronized (lockObj) {
+            for (Node node : nodes) {
+                if (node.task == null && !node.finished) {
+                    external.add(node);
+                }
+            }
+        }
+        for (Node node : external) {
+            finish(node);
+        }
+    }
+
+    /**
+     * Wait until all nodes are finished.
+     *
+     * @param timeout the maximum time(ms) to wait
+     * @return true if all nodes are finished
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public boolean waitFor(long timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeout;
+        synchronized (lockObj) {
+            long left = timeout;
+            while (unfinishedCount > 0 && !broken && left > 0) {
+                lockObj.wait(left);
+                left = deadline - System.currentTimeMillis();
+            }
+            return unfinishedCount == 0;
+        }
+    }
+
+    /**
+     * Retrieves whether a task could not be submitted, the graph will never be finished then.
+     *
+     * @return true if broken
+     */
+    public boolean isBroken() {
+        synchronized (lockObj) {
+            return broken;
+        }
+    }
+
+    /**
+     * Add the node to the ready list if it can be submitted. It should be called in the
+     * synchronized block of lockObj.
+     *
+     * @param node Node
+     * @param ready the nodes to be submitted
+     */
+    private void collectReady(Node node, List<Node> ready) {
+        if (node.task == null || node.submitted || node.waitingCount > 0) {
+            return;
+        }
+        node.submitted = true;
+        ready.add(node);
+    }
+
+    /**
+     * Submit the tasks to the executor.
+     *
+     * @param ready the nodes to be submitted
+     */
+    private void submit(List<Node> ready) {
+        for (final Node node : ready) {
+            try {
+                executor.execute(
+                        new IPrioritizedTask() {
+                            public void run() {
+                                try {
+                                    node.task.run();
+                                } finally {
+                                    finish(node);
+                                }
+                            }
+
+                            public long getPriority() {
+                                return node.weight;
+                            }
+                        });
+            } catch (RuntimeException ex) {
+                LOG.warn("Task " + node.name + " can't be submitted.", ex);
+                synchronized (lockObj) {
+                    broken = true;
+                    lockObj.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+}
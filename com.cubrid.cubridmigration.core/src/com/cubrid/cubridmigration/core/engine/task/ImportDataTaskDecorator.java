@@ -30,10 +30,13 @@
  */
 package com.cubrid.cubridmigration.core.engine.task;
 
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal.UnitCheckpoint;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.task.imp.RecordImportTask;
 
 /**
- * ImportDataTaskDecorator is responses for record task count.
+ * ImportDataTaskDecorator is responses for record task count and releasing the memory reserved by
+ * the data to be imported.
  *
  * @author Kevin Cao
  * @version 1.0 - 2011-8-5 created by Kevin Cao
@@ -42,20 +45,80 @@ public class ImportDataTaskDecorator extends ImportTask {
 
     private final ImportTask task;
     private final MigrationContext mrManager;
+    private final String owner;
+    private final String source;
+    private final long reservedMemory;
+    private UnitCheckpoint checkpoint;
+    private long batch;
+    private int rows;
+    private long bytes;
 
-    public ImportDataTaskDecorator(MigrationContext mrManager, ImportTask task) {
+    public ImportDataTaskDecorator(
+            MigrationContext mrManager,
+            ImportTask task,
+            String owner,
+            String source,
+            long reservedMemory) {
         this.mrManager = mrManager;
         this.task = task;
+        this.owner = owner;
+        this.source = source;
+        this.reservedMemory = reservedMemory;
         setImporter(task.importer);
         setMigrationEventHandler(task.eventHandler);
     }
 
+    /**
+     * Set the checkpoint which will be moved after the records committed.
+     *
+     * @param checkpoint UnitCheckpoint
+     * @param batch the batch number of the records
+     */
+    public void setCheckpoint(UnitCheckpoint checkpoint, long batch) {
+        this.checkpoint = checkpoint;
+        this.batch = batch;
+    }
+
+    /**
+     * Set the size of the records, the commit latency of them will tune the batch size.
+     *
+     * @param rows record count
+     * @param bytes estimated size of the records
+     */
+    public void setRecords(int rows, long bytes) {
+        this.rows = rows;
+        this.bytes = bytes;
+    }
+
     /** Execute import operation */
     protected void executeImport() {
+        boolean imported = false;
         try {
             mrManager.getStatusMgr().increaseTotalImportTaskCount();
+            final long start = System.currentTimeMillis();
             task.executeImport();
+            boolean failed = false;
+            if (task instanceof RecordImportTask) {
+                imported = ((RecordImportTask) task).isImported();
+                failed = ((RecordImportTask) task).isBatchFailed();
+            } else {
+                imported = true;
+            }
+            // The failed batches are not measured even if they were bisected or retried after a
+            // lost connection, their latency would shrink the batch size of the healthy batches.
+            if (imported && !failed && rows > 0) {
+                mrManager
+                        .getStatusMgr()
+                        .batchImported(
+                                owner, source, rows, bytes, System.currentTimeMillis() - start);
+            }
         } finally {
+            if (checkpoint != null && imported) {
+                checkpoint.commitBatch(batch);
+            } else if (checkpoint != null) {
+                checkpoint.failBatch(batch);
+            }
+            mrManager.getStatusMgr().releaseMemory(owner, source, reservedMemory);
             mrManager.getStatusMgr().increaseFinishedImportTaskCount();
         }
     }
@@ -42,6 +42,10 @@ import com.cubrid.cubridmigration.core.dbobject.Synonym;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbobject.Trigger;
 import com.cubrid.cubridmigration.core.dbobject.View;
+import com.cubrid.cubridmigration.core.engine.AutoIncrementTracker;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal;
+import com.cubrid.cubridmigration.core.engine.CheckpointJournal.UnitCheckpoint;
+import com.cubrid.cubridmigration.core.engine.MemoryBudget;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceCSVConfig;
@@ -53,6 +57,7 @@ import com.cubrid.cubridmigration.core.engine.config.SourceSynonymConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
 import com.cubrid.cubridmigration.core.engine.exporter.IMigrationExporter;
 import com.cubrid.cubridmigration.core.engine.importer.IMigrationImporter;
+import com.cubrid.cubridmigration.core.engine.task.exp.CSVChunkExportTask;
 import com.cubrid.cubridmigration.core.engine.task.exp.CSVExportTask;
 import com.cubrid.cubridmigration.core.engine.task.exp.CSVTableSchemaExportTask;
 import com.cubrid.cubridmigration.core.engine.task.exp.FKExportTask;
@@ -392,7 +397,8 @@ public class MigrationTaskFactory {
     }
 
     /**
-     * createImportRecordsTask
+     * createImportRecordsTask, it is blocked until the memory budget has enough bytes for the
+     * records.
      *
      * @param tt SourceTableConfig
      * @param recordsTobeImport recordsTobeImport
@@ -402,7 +408,17 @@ public class MigrationTaskFactory {
             SourceTableConfig tt, List<Record> recordsTobeImport) {
         ImportTask task = new RecordImportTask(tt, recordsTobeImport);
         initImportTask(task);
-        return new ImportDataTaskDecorator(context, task);
+        final long bytes = MemoryBudget.estimateSize(recordsTobeImport);
+        long reserved = context.getStatusMgr().reserveMemory(tt.getOwner(), tt.getName(), bytes);
+        ImportDataTaskDecorator result =
+                new ImportDataTaskDecorator(context, task, tt.getOwner(), tt.getName(), reserved);
+        result.setRecords(recordsTobeImport.size(), bytes);
+        CheckpointJournal journal = context.getCheckpointJournal();
+        UnitCheckpoint checkpoint = journal == null ? null : journal.getCheckpoint(tt);
+        if (checkpoint != null) {
+            result.setCheckpoint(checkpoint, checkpoint.beginBatch());
+        }
+        return result;
     }
 
     /**
@@ -558,7 +574,8 @@ public class MigrationTaskFactory {
     }
 
     /**
-     * Create importing SQL task
+     * Create importing SQL task, it is blocked until the memory budget has enough bytes for the
+     * SQLs.
      *
      * @param sqlFile String
      * @param sqlList List<String>
@@ -570,7 +587,9 @@ public class MigrationTaskFactory {
         task.setConfig(context.getConfig());
         task.setMrManager(context);
         initImportTask(task);
-        return new ImportDataTaskDecorator(context, task);
+        // The size is the length of SQLs, 2 bytes per char.
+        long reserved = context.getStatusMgr().reserveMemory("", sqlFile, size * 2);
+        return new ImportDataTaskDecorator(context, task, "", sqlFile, reserved);
     }
 
     /**
@@ -611,7 +630,23 @@ public class MigrationTaskFactory {
     }
 
     /**
-     * Create import task
+     * Create export task of a CSV file chunk
+     *
+     * @param csv SourceCSVConfig
+     * @param chunk index of the chunk
+     * @param start position of the chunk
+     * @param end position(exclusive) of the chunk
+     * @return CSVChunkExportTask
+     */
+    public CSVChunkExportTask createExportCSVChunkTask(
+            SourceCSVConfig csv, int chunk, long start, long end) {
+        final CSVChunkExportTask task = new CSVChunkExportTask(context, csv, chunk, start, end);
+        initExportTask(task, true);
+        return task;
+    }
+
+    /**
+     * Create import task, it is blocked until the memory budget has enough bytes for the data.
      *
      * @param csvFile SourceCSVConfig
      * @param data List<String[]>
@@ -622,7 +657,9 @@ public class MigrationTaskFactory {
         final CSVImportTask task = new CSVImportTask(csvFile, data, size);
         initImportTask(task);
         task.setMrManager(context);
-        return new ImportDataTaskDecorator(context, task);
+        // The size is the length of the values, 2 bytes per char.
+        long reserved = context.getStatusMgr().reserveMemory("", csvFile.getName(), size * 2);
+        return new ImportDataTaskDecorator(context, task, "", csvFile.getName(), reserved);
     }
 
     public void setContext(MigrationContext context) {
@@ -641,10 +678,13 @@ public class MigrationTaskFactory {
      * createUpdateAiColumnsCurValTask
      *
      * @param config MigrationConfiguration
+     * @param tracker the max values tracked while importing, NULL if the tables should be scanned
      * @return IMigrationTask
      */
-    public IMigrationTask createUpdateAiColumnsCurValTask(MigrationConfiguration config) {
-        UpdateAutoIncColCurrentValueTask result = new UpdateAutoIncColCurrentValueTask(config);
+    public IMigrationTask createUpdateAiColumnsCurValTask(
+            MigrationConfiguration config, AutoIncrementTracker tracker) {
+        UpdateAutoIncColCurrentValueTask result =
+                new UpdateAutoIncColCurrentValueTask(config, tracker);
         initImportTask(result);
         return result;
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.engine.task.exp;
+
+import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
+import com.cubrid.cubridmigration.core.engine.config.CSVSettings;
+import com.cubrid.cubridmigration.core.engine.config.SourceCSVConfig;
+import com.cubrid.cubridmigration.core.engine.event.ExportCSVChunkEvent;
+import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
+import com.cubrid.cubridmigration.core.io.CSVChunkReader;
+import com.cubrid.cubridmigration.core.io.CSVTokenizer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSVChunkExportTask parses a chunk of a big CSV file, the chunks of a file are parsed in
+ * parallel and their batches are imported in any order.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class CSVChunkExportTask extends CSVExportTask {
+
+    private final int chunk;
+    private final long start;
+    private final long end;
+
+    public CSVChunkExportTask(
+            MigrationContext mrManager, SourceCSVConfig csvFile, int chunk, long start, long end) {
+        super(mrManager, csvFile);
+        this.chunk = chunk;
+        this.start = start;
+        this.end = end;
+    }
+
+    /** Parse the chunk and import its records in batches. */
+    protected void executeExportTask() {
+        final MigrationStatusManager statusMgr = mrManager.getStatusMgr();
+        try {
+            final CSVSettings settings = mrManager.getConfig().getCsvSettings();
+            CharBuffer chars =
+                    CSVChunkReader.readChunk(csvFile.getName(), settings.getCharset(), start, end);
+            CSVTokenizer tokenizer =
+                    new CSVTokenizer(
+                            settings.getSeparateChar(),
+                            settings.getQuoteChar(),
+                            settings.getEscapeChar());
+            ChunkRecordHandler handler = new ChunkRecordHandler();
+            // The first record of the file is the header.
+            handler.skip = chunk == 0 && !csvFile.isImportFirstRow();
+            final int offset = chars.arrayOffset() + chars.position();
+            tokenizer.tokenize(chars.array(), offset, chars.remaining(), handler);
+            handler.flush();
+            eventHandler.handleEvent(
+                    new ExportCSVChunkEvent(csvFile, chunk, start, end, handler.count));
+        } catch (Exception e) {
+            throw new NormalMigrationException(e);
+        } finally {
+            statusMgr.setExpFinished("", csvFile.getName());
+        }
+    }
+
+    /**
+     * Collect the records into batches
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private class ChunkRecordHandler implements CSVTokenizer.IRecordHandler {
+        private final MigrationStatusManager statusMgr = mrManager.getStatusMgr();
+        private final int commitCount = mrManager.getConfig().getCommitCount();
+        private List<String[]> data = new ArrayList<String[]>();
+        private long size; // char length of every transaction
+        private long count;
+        private boolean skip;
+
+        /**
+         * Add the record to the batch and import the batch if it is full.
+         *
+         * @param fields of the record
+         */
+        public void handleRecord(String[] fields) {
+            if (skip) {
+                skip = false;
+                return;
+            }
+            for (String ss : fields) {
+                size = size + ss.length();
+            }
+            data.add(fields);
+            count++;
+            // Watching memory to avoid out of memory errors
+            int status = statusMgr.isCommitNow(csvFile.getName(), data.size(), commitCount);
+            if (status == MigrationStatusManager.STATUS_COMMIT) {
+                flush();
+            }
+        }
+
+        /** Import the records of the batch. */
+        private void flush() {
+            if (data.isEmpty()) {
+                return;
+            }
+            importRecords(data, size);
+            data = new ArrayList<String[]>();
+            size = 0;
+        }
+    }
+}
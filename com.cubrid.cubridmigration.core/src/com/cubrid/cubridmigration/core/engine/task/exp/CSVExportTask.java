@@ -34,7 +34,7 @@ import au.com.bytecode.opencsv.CSVReader;
 import com.cubrid.cubridmigration.core.common.CUBRIDIOUtils;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
 import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
-import com.cubrid.cubridmigration.core.engine.ThreadUtils;
+import com.cubrid.cubridmigration.core.engine.config.CSVSettings;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceCSVConfig;
 import com.cubrid.cubridmigration.core.engine.event.ExportCSVEvent;
@@ -42,6 +42,7 @@ import com.cubrid.cubridmigration.core.engine.event.MigrationErrorEvent;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.engine.executors.IRunnableExecutor;
 import com.cubrid.cubridmigration.core.engine.task.ExportTask;
+import com.cubrid.cubridmigration.core.io.CSVChunkReader;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -79,6 +80,10 @@ public class CSVExportTask extends ExportTask {
 
     /** Execute export operation, parsing SQL file and call importing SQLs */
     protected void executeExportTask() {
+        if (isSplittable()) {
+            exportChunks();
+            return;
+        }
         try {
             final MigrationConfiguration config = mrManager.getConfig();
 
@@ -108,7 +113,6 @@ public class CSVExportTask extends ExportTask {
                 }
 
                 long size = 0; // char length of every transaction
-                final IRunnableExecutor importExecutor = getImportExecutor();
                 row = creader.readNext();
                 while (row != null && row.length > 0) {
                     for (String ss : row) {
@@ -116,37 +120,18 @@ public class CSVExportTask extends ExportTask {
                     }
                     data.add(row);
                     // Watching memory to avoid out of memory errors
-                    int status = MigrationStatusManager.STATUS_WAITING;
-                    int counter = 0;
-                    while (true) {
-                        status =
-                                statusMgr.isCommitNow(
-                                        csvFile.getName(), data.size(), config.getCommitCount());
-                        if (status == MigrationStatusManager.STATUS_WAITING) {
-                            ThreadUtils.threadSleep(1000, null);
-                            counter++;
-                        } else {
-                            break;
-                        }
-                        // If waiting for 10 seconds, the data will be committed right now.
-                        if (counter >= 10) {
-                            status = MigrationStatusManager.STATUS_COMMIT;
-                            break;
-                        }
-                    }
+                    int status =
+                            statusMgr.isCommitNow(
+                                    csvFile.getName(), data.size(), config.getCommitCount());
                     if (status == MigrationStatusManager.STATUS_COMMIT) {
-                        importExecutor.execute(taskFactory.createImportTask(csvFile, data, size));
-                        statusMgr.addExpCount("", csvFile.getName(), data.size());
-                        eventHandler.handleEvent(new ExportCSVEvent(csvFile, data.size()));
+                        importRecords(data, size);
                         data = new ArrayList<String[]>();
                         size = 0;
                     }
                     row = creader.readNext();
                 }
                 if (!data.isEmpty()) {
-                    importExecutor.execute(taskFactory.createImportTask(csvFile, data, size));
-                    statusMgr.addExpCount("", csvFile.getName(), data.size());
-                    eventHandler.handleEvent(new ExportCSVEvent(csvFile, data.size()));
+                    importRecords(data, size);
                 }
             } finally {
                 statusMgr.setExpFinished("", csvFile.getName());
@@ -158,11 +143,73 @@ public class CSVExportTask extends ExportTask {
     }
 
     /**
-     * getImportExecutor
+     * A big local CSV file is split into chunks which are parsed by the exporting threads in
+     * parallel.
+     *
+     * @return true if the file should be split
+     */
+    private boolean isSplittable() {
+        final MigrationConfiguration config = mrManager.getConfig();
+        final CSVSettings settings = config.getCsvSettings();
+        if (config.getExportThreadCount() < 2 || csvFile.getName().startsWith("hdfs://")) {
+            return false;
+        }
+        return CUBRIDIOUtils.getFileLength(csvFile.getName()) > CSVChunkReader.CHUNK_SIZE * 2
+                && CSVChunkReader.isSplittable(
+                        settings.getCharset(),
+                        settings.getSeparateChar(),
+                        settings.getQuoteChar(),
+                        settings.getEscapeChar());
+    }
+
+    /**
+     * Split the CSV file at the record boundaries and execute a chunk exporting task for every
+     * chunk. The file is finished after all of the chunks are finished.
+     */
+    private void exportChunks() {
+        final CSVSettings settings = mrManager.getConfig().getCsvSettings();
+        final MigrationStatusManager statusMgr = mrManager.getStatusMgr();
+        try {
+            statusMgr.addExpCount("", csvFile.getName(), 0);
+            CSVChunkReader reader =
+                    new CSVChunkReader(
+                            csvFile.getName(),
+                            settings.getSeparateChar(),
+                            settings.getQuoteChar(),
+                            settings.getEscapeChar());
+            try {
+                final IRunnableExecutor exportExecutor = mrManager.getExportRecExe();
+                int chunk = 0;
+                long start = 0;
+                long end;
+                while ((end = reader.nextChunk(CSVChunkReader.CHUNK_SIZE)) >= 0) {
+                    statusMgr.addExpPartCount("", csvFile.getName(), 1);
+                    exportExecutor.execute(
+                            taskFactory.createExportCSVChunkTask(csvFile, chunk, start, end));
+                    chunk++;
+                    start = end;
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            throw new NormalMigrationException(e);
+        } finally {
+            statusMgr.setExpFinished("", csvFile.getName());
+        }
+    }
+
+    /**
+     * Execute a importing task of the records
      *
-     * @return IRunnableExecutor
+     * @param data records
+     * @param size char length of the records
      */
-    private IRunnableExecutor getImportExecutor() {
-        return mrManager.getImportRecordExecutor();
+    protected void importRecords(List<String[]> data, long size) {
+        mrManager
+                .getImportRecordExecutor()
+                .execute(taskFactory.createImportTask(csvFile, data, size));
+        mrManager.getStatusMgr().addExpCount("", csvFile.getName(), data.size());
+        eventHandler.handleEvent(new ExportCSVEvent(csvFile, data.size()));
     }
 }
@@ -32,16 +32,19 @@ package com.cubrid.cubridmigration.core.engine.task.exp;
 
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
 import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
-import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.event.ExportSQLEvent;
 import com.cubrid.cubridmigration.core.engine.event.MigrationErrorEvent;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.engine.task.ExportTask;
-import com.cubrid.cubridmigration.core.engine.task.ImportTask;
+import com.cubrid.cubridmigration.core.io.InsertStatementParser;
 import com.cubrid.cubridmigration.core.io.SQLParser;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQLExportTask Description
@@ -82,23 +85,9 @@ public class SQLExportTask extends ExportTask {
 
                         public boolean isCommitNow(int sqlsSize) {
                             // Watching memory to avoid out of memory errors
-                            int status = MigrationStatusManager.STATUS_WAITING;
-                            int counter = 0;
-                            while (true) {
-                                status =
-                                        statusMgr.isCommitNow(
-                                                sqlFile, sqlsSize, config.getCommitCount());
-                                if (status == MigrationStatusManager.STATUS_WAITING) {
-                                    ThreadUtils.threadSleep(1000, null);
-                                    counter++;
-                                } else {
-                                    break;
-                                }
-                                if (counter >= 10) {
-                                    status = MigrationStatusManager.STATUS_COMMIT;
-                                    break;
-                                }
-                            }
+                            int status =
+                                    statusMgr.isCommitNow(
+                                            sqlFile, sqlsSize, config.getCommitCount());
                             if (status == MigrationStatusManager.STATUS_COMMIT) {
                                 return true;
                             }
@@ -110,13 +99,23 @@ public class SQLExportTask extends ExportTask {
                             SQLExportTask.this.eventHandler.handleEvent(
                                     new ExportSQLEvent(sqlFile, sqlList.size()));
                             mrManager.getStatusMgr().addExpCount("", sqlFile, sqlList.size());
-                            // Import SQLs
-                            ImportTask task =
-                                    taskFactory.createImportSQLTask(sqlFile, sqlList, size);
                             if (config.isCreateConstrainsBeforeData()) {
                                 importTaskExecutor = mrManager.getImportRecordExecutor();
                             }
-                            importTaskExecutor.execute(task);
+                            // Import SQLs
+                            if (!config.isBatchSQLInserts()) {
+                                importTaskExecutor.execute(
+                                        taskFactory.createImportSQLTask(sqlFile, sqlList, size));
+                                return;
+                            }
+                            for (List<String> sqls : splitByTable(sqlList)) {
+                                long sqlsSize =
+                                        sqls.size() == sqlList.size()
+                                                ? size
+                                                : size * sqls.size() / sqlList.size();
+                                importTaskExecutor.execute(
+                                        taskFactory.createImportSQLTask(sqlFile, sqls, sqlsSize));
+                            }
                         }
                     };
             SQLParser.executeSQLFile(
@@ -128,4 +127,31 @@ public class SQLExportTask extends ExportTask {
             mrManager.getStatusMgr().setExpFinished("", sqlFile);
         }
     }
+
+    /**
+     * Split the SQLs into the INSERT statements of every table, so that the tables can be imported
+     * by different threads. The SQLs are not split if there are other statements in them.
+     *
+     * @param sqlList SQLs
+     * @return the SQLs of every table
+     */
+    protected static List<List<String>> splitByTable(List<String> sqlList) {
+        Map<String, List<String>> tables = new LinkedHashMap<String, List<String>>();
+        for (String sql : sqlList) {
+            String table = InsertStatementParser.getTable(sql);
+            if (table == null) {
+                return Collections.singletonList(sqlList);
+            }
+            List<String> sqls = tables.get(table);
+            if (sqls == null) {
+                sqls = new ArrayList<String>();
+                tables.put(table, sqls);
+            }
+            sqls.add(sql);
+        }
+        if (tables.size() < 2) {
+            return Collections.singletonList(sqlList);
+        }
+        return new ArrayList<List<String>>(tables.values());
+    }
 }
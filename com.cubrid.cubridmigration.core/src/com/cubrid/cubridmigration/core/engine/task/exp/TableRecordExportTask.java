@@ -31,9 +31,15 @@
 package com.cubrid.cubridmigration.core.engine.task.exp;
 
 import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.engine.BatchSizeController.BatchStats;
 import com.cubrid.cubridmigration.core.engine.MigrationContext;
+import com.cubrid.cubridmigration.core.engine.MigrationStatusManager;
 import com.cubrid.cubridmigration.core.engine.RecordExportedListener;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
+import com.cubrid.cubridmigration.core.engine.config.SourceTableRangeConfig;
+import com.cubrid.cubridmigration.core.engine.event.BatchSizeEvent;
+import com.cubrid.cubridmigration.core.engine.event.EndExpTableEvent;
+import com.cubrid.cubridmigration.core.engine.event.ExportBlockedEvent;
 import com.cubrid.cubridmigration.core.engine.event.ExportRecordsEvent;
 import com.cubrid.cubridmigration.core.engine.event.StartExpTableEvent;
 import com.cubrid.cubridmigration.core.engine.task.ExportTask;
@@ -77,13 +83,36 @@ public class TableRecordExportTask extends ExportTask {
                     }
 
                     public void startExportTable(String tableName) {
+                        // The table is started by its first range.
+                        if (sourceTable instanceof SourceTableRangeConfig
+                                && ((SourceTableRangeConfig) sourceTable).getRangeIndex() > 0) {
+                            return;
+                        }
                         eventHandler.handleEvent(new StartExpTableEvent(sourceTable));
                     }
 
                     public void endExportTable(String tableName) {
-                        mrManager
-                                .getStatusMgr()
-                                .setExpFinished(sourceTable.getOwner(), sourceTable.getName());
+                        final MigrationStatusManager statusMgr = mrManager.getStatusMgr();
+                        final String owner = sourceTable.getOwner();
+                        final String name = sourceTable.getName();
+                        final boolean finished = statusMgr.setExpFinished(owner, name);
+                        BatchStats stats = statusMgr.getBatchStats(owner, name);
+                        if (stats != null) {
+                            eventHandler.handleEvent(new BatchSizeEvent(sourceTable, stats));
+                        }
+                        if (!finished) {
+                            return;
+                        }
+                        eventHandler.handleEvent(new EndExpTableEvent(sourceTable));
+                        // The blocked time is accumulated by all parts of the table.
+                        final long blockedTime = statusMgr.getBlockedTime(owner, name);
+                        if (blockedTime > 0) {
+                            eventHandler.handleEvent(
+                                    new ExportBlockedEvent(
+                                            sourceTable,
+                                            blockedTime,
+                                            statusMgr.getMaxPendingBatches(owner, name)));
+                        }
                     }
                 });
     }
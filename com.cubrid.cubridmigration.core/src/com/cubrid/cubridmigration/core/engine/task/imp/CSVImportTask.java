@@ -253,7 +253,7 @@ public class CSVImportTask extends ImportTask {
                     if (isConnectionError(ex)) {
                         LOG.error("Connection lost.", ex);
                         Closer.close(stmt);
-                        Closer.close(con);
+                        connManager.discardTar(con);
                         con = connManager.getTargetConnection();
                         stmt = con.prepareStatement(getPreparedSQL());
                     } else {
@@ -266,7 +266,7 @@ public class CSVImportTask extends ImportTask {
             return result;
         } finally {
             Closer.close(stmt);
-            Closer.close(con);
+            connManager.closeTar(con);
         }
     }
 
@@ -31,6 +31,8 @@
 package com.cubrid.cubridmigration.core.engine.task.imp;
 
 import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.config.SourceTableConfig;
 import com.cubrid.cubridmigration.core.engine.task.ImportTask;
 import java.util.ArrayList;
@@ -46,14 +48,43 @@ public class RecordImportTask extends ImportTask {
 
     private final SourceTableConfig table;
     private final List<Record> records;
+    private boolean imported;
+    private boolean batchFailed;
 
     public RecordImportTask(SourceTableConfig table, List<Record> records) {
         this.table = table;
-        this.records = new ArrayList<Record>(records);
+        // The record batches are handed over by the exporters, the other lists may be reused.
+        this.records =
+                records instanceof RecordBatch ? records : new ArrayList<Record>(records);
     }
 
     /** Execute import operation */
     protected void executeImport() {
-        importer.importRecords(table, records);
+        try {
+            imported = importer.importRecords(table, records) >= 0;
+            batchFailed = importer.isLastBatchFailed();
+        } finally {
+            SpilledLob.deleteAll(records);
+        }
+    }
+
+    /**
+     * Retrieves whether the records were imported, the failed records were written into the
+     * error files then.
+     *
+     * @return false if the records were not imported because of errors
+     */
+    public boolean isImported() {
+        return imported;
+    }
+
+    /**
+     * Retrieves whether the batch of the records failed, its latency is not the latency of a
+     * normal batch even if the records were imported by bisecting or retrying.
+     *
+     * @return true if the batch failed
+     */
+    public boolean isBatchFailed() {
+        return batchFailed;
     }
 }
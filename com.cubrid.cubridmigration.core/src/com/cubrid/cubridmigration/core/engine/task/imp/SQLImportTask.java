@@ -43,12 +43,17 @@ import com.cubrid.cubridmigration.core.engine.event.ImportSQLsEvent;
 import com.cubrid.cubridmigration.core.engine.exception.BreakMigrationException;
 import com.cubrid.cubridmigration.core.engine.task.FileMergeRunnable;
 import com.cubrid.cubridmigration.core.engine.task.ImportTask;
+import com.cubrid.cubridmigration.core.io.InsertStatementParser;
+import com.cubrid.cubridmigration.core.io.InsertStatementParser.InsertStatement;
 import java.io.File;
 import java.io.IOException;
 import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -255,15 +260,109 @@ public class SQLImportTask extends ImportTask {
         try {
             con = connManager.getTargetConnection();
             // con.setAutoCommit(false);
-            stmt = con.createStatement();
-            for (String sql : sqls) {
-                stmt.addBatch(sql);
+            if (config.isBatchSQLInserts()) {
+                executeInsertBatches(con);
+            } else {
+                stmt = con.createStatement();
+                for (String sql : sqls) {
+                    stmt.addBatch(sql);
+                }
+                stmt.executeBatch();
             }
-            stmt.executeBatch();
             con.commit();
         } finally {
             Closer.close(stmt);
             connManager.closeTar(con);
         }
     }
+
+    /**
+     * Execute the SQLs in order, the consecutive simple INSERT statements with the same table and
+     * columns are executed as a batch of a parameterized statement, and the other SQLs are executed
+     * as batches of raw SQLs.
+     *
+     * @param con Connection
+     * @throws SQLException ex
+     */
+    private void executeInsertBatches(Connection con) throws SQLException {
+        Statement stmt = null;
+        PreparedStatement pstmt = null;
+        String pstmtSQL = null;
+        // The indexes of the SQLs of the batched rows or SQLs
+        List<Integer> batched = new ArrayList<Integer>();
+        try {
+            for (int i = 0; i < sqls.size(); i++) {
+                InsertStatement insert = InsertStatementParser.parse(sqls.get(i));
+                if (insert == null) {
+                    if (pstmt != null) {
+                        executeBatch(pstmt, batched);
+                        Closer.close(pstmt);
+                        pstmt = null;
+                    }
+                    if (stmt == null) {
+                        stmt = con.createStatement();
+                    }
+                    stmt.addBatch(sqls.get(i));
+                    batched.add(i);
+                    continue;
+                }
+                if (stmt != null) {
+                    executeBatch(stmt, batched);
+                    Closer.close(stmt);
+                    stmt = null;
+                }
+                if (pstmt != null && !pstmtSQL.equals(insert.getParameterizedSQL())) {
+                    executeBatch(pstmt, batched);
+                    Closer.close(pstmt);
+                    pstmt = null;
+                }
+                if (pstmt == null) {
+                    pstmtSQL = insert.getParameterizedSQL();
+                    pstmt = con.prepareStatement(pstmtSQL);
+                }
+                for (Object[] row : insert.getRows()) {
+                    for (int j = 0; j < row.length; j++) {
+                        pstmt.setObject(j + 1, row[j]);
+                    }
+                    pstmt.addBatch();
+                    batched.add(i);
+                }
+            }
+            if (stmt != null) {
+                executeBatch(stmt, batched);
+            }
+            if (pstmt != null) {
+                executeBatch(pstmt, batched);
+            }
+        } finally {
+            Closer.close(stmt);
+            Closer.close(pstmt);
+        }
+    }
+
+    /**
+     * Execute the batch, the failed rows of the batch are reported as the failed SQLs.
+     *
+     * @param stmt Statement
+     * @param batched the indexes of the SQLs of the batched rows or SQLs
+     * @throws SQLException ex
+     */
+    private void executeBatch(Statement stmt, List<Integer> batched) throws SQLException {
+        try {
+            stmt.executeBatch();
+        } catch (BatchUpdateException ex) {
+            int[] counts = new int[sqls.size()];
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            int[] updateCounts = ex.getUpdateCounts();
+            for (int i = 0; i < updateCounts.length && i < batched.size(); i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    counts[batched.get(i)] = Statement.EXECUTE_FAILED;
+                }
+            }
+            throw new BatchUpdateException(
+                    ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), counts, ex);
+        } finally {
+            batched.clear();
+        }
+    }
 }
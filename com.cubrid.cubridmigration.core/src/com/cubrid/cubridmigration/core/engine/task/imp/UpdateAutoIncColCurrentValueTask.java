@@ -35,18 +35,25 @@ import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.connection.ConnParameters;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.Table;
+import com.cubrid.cubridmigration.core.engine.AutoIncrementTracker;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
 import com.cubrid.cubridmigration.core.engine.task.ImportTask;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import org.apache.log4j.Logger;
 
 /**
- * UpdateAutoIncColCurrentValueTask Description
+ * UpdateAutoIncColCurrentValueTask updates the serials of the auto increment columns after the
+ * data migration. The max values tracked while importing are used for the tables created and
+ * loaded by this migration, the other tables are scanned by MAX().
  *
  * @author Kevin Cao
  * @version 1.0 - 2014-2-28 created by Kevin Cao
@@ -57,8 +64,12 @@ public class UpdateAutoIncColCurrentValueTask extends ImportTask {
 
     private final MigrationConfiguration config;
 
-    public UpdateAutoIncColCurrentValueTask(MigrationConfiguration config) {
+    private final AutoIncrementTracker tracker;
+
+    public UpdateAutoIncColCurrentValueTask(
+            MigrationConfiguration config, AutoIncrementTracker tracker) {
         this.config = config;
+        this.tracker = tracker;
     }
 
     /** Update auto_increment columns current values */
@@ -100,15 +111,24 @@ public class UpdateAutoIncColCurrentValueTask extends ImportTask {
             }
             Closer.close(rs);
             // Start update serial's start value
+            Map<String, Boolean> trackedTables = new HashMap<String, Boolean>();
             for (String[] ss : tobeUpdated) {
                 try {
-                    rs = stmt.executeQuery("select max(\"" + ss[2] + "\") from \"" + ss[1] + "\"");
-                    rs.next();
-                    Long maxValue = rs.getLong(1);
-                    if (maxValue == null) {
-                        continue;
+                    Long maxValue;
+                    if (isTracked(trackedTables, ss[1])) {
+                        maxValue = tracker.getMaxValue(ss[1], ss[2]);
+                        // No value was written to the column, the serial generated all of them.
+                        if (maxValue == null) {
+                            continue;
+                        }
+                    } else {
+                        rs =
+                                stmt.executeQuery(
+                                        "select max(\"" + ss[2] + "\") from \"" + ss[1] + "\"");
+                        rs.next();
+                        maxValue = rs.getLong(1);
+                        Closer.close(rs);
                     }
-                    Closer.close(rs);
                     maxValue = maxValue + Long.parseLong(ss[3]);
                     // If the current max value of column is less than serial's current value, it
                     // doesn't need to be updated.
@@ -132,4 +152,38 @@ public class UpdateAutoIncColCurrentValueTask extends ImportTask {
             Closer.close(con);
         }
     }
+
+    /**
+     * Retrieves whether all rows of the table were written by this migration and the values of its
+     * auto increment columns were tracked.
+     *
+     * @param cache of the results, the key is the lower case table name
+     * @param tableName name of the target table
+     * @return true if the tracked values can be used
+     */
+    private boolean isTracked(Map<String, Boolean> cache, String tableName) {
+        if (tracker == null) {
+            return false;
+        }
+        final String key = tableName.toLowerCase(Locale.US);
+        Boolean result = cache.get(key);
+        if (result != null) {
+            return result;
+        }
+        result = tracker.isTracked(tableName);
+        boolean found = false;
+        for (SourceEntryTableConfig setc : config.getExpEntryTableCfg()) {
+            if (!key.equals(setc.getTarget().trim().toLowerCase(Locale.US))) {
+                continue;
+            }
+            found = true;
+            // The rows of an existing table are not tracked.
+            if (!setc.isCreateNewTable() || setc.isStartFromTargetMax()) {
+                result = false;
+            }
+        }
+        result = result && found;
+        cache.put(key, result);
+        return result;
+    }
 }
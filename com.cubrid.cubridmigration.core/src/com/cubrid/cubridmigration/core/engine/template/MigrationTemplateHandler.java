@@ -560,6 +560,26 @@ public final class MigrationTemplateHandler extends DefaultHandler {
                     Integer.parseInt(attributes.getValue(TemplateTags.ATTR_COMMIT_COUNT)));
             final String fetchCount = attributes.getValue(TemplateTags.ATTR_PAGE_FETCH_COUNT);
             config.setPageFetchCount(fetchCount == null ? 1000 : Integer.parseInt(fetchCount));
+            final String bisectDepth = attributes.getValue(TemplateTags.ATTR_ERROR_BISECT_DEPTH);
+            config.setErrorBisectDepth(bisectDepth == null ? 0 : Integer.parseInt(bisectDepth));
+            final String ddlThread = attributes.getValue(TemplateTags.ATTR_DDL_THREAD);
+            config.setDdlThreadCount(ddlThread == null ? 0 : Integer.parseInt(ddlThread));
+            config.setExactRowCount(
+                    getBoolean(attributes.getValue(TemplateTags.ATTR_EXACT_ROW_COUNT), false));
+            final String countThread = attributes.getValue(TemplateTags.ATTR_ROW_COUNT_THREAD);
+            config.setRowCountThreadCount(
+                    countThread == null ? 0 : Integer.parseInt(countThread));
+            config.setAdaptiveBatchSize(
+                    getBoolean(attributes.getValue(TemplateTags.ATTR_ADAPTIVE_BATCH_SIZE), true));
+            final String minBatch = attributes.getValue(TemplateTags.ATTR_MIN_BATCH_SIZE);
+            config.setMinBatchSize(minBatch == null ? 50 : Integer.parseInt(minBatch));
+            final String maxBatch = attributes.getValue(TemplateTags.ATTR_MAX_BATCH_SIZE);
+            config.setMaxBatchSize(maxBatch == null ? 50000 : Integer.parseInt(maxBatch));
+            final String latency = attributes.getValue(TemplateTags.ATTR_BATCH_TARGET_LATENCY);
+            config.setBatchTargetLatency(latency == null ? 1000 : Long.parseLong(latency));
+            final String maxBytes = attributes.getValue(TemplateTags.ATTR_MAX_BATCH_BYTES);
+            config.setMaxBatchBytes(
+                    maxBytes == null ? 16L * 1024 * 1024 : Long.parseLong(maxBytes));
             config.setImplicitEstimate(
                     getBoolean(
                             attributes.getValue(TemplateTags.ATTR_IMPLICIT_ESTIMATE_PROGRESS),
@@ -740,6 +760,8 @@ public final class MigrationTemplateHandler extends DefaultHandler {
             config.addExpProcedureCfg(attributes.getValue(TemplateTags.ATTR_NAME));
         } else if (TemplateTags.TAG_SQL.equals(qName)) {
             config.setSourceFileEncoding(attributes.getValue(TemplateTags.ATTR_CHARSET));
+            config.setBatchSQLInserts(
+                    getBoolean(attributes.getValue(TemplateTags.ATTR_BATCH_INSERTS), false));
         } else if (TemplateTags.TAG_SQL_FILE.equals(qName)) {
             config.addSQLFile(attributes.getValue(TemplateTags.ATTR_LOCATION));
         } else if (TemplateTags.TAG_CSVS.equals(qName)) {
@@ -880,6 +902,7 @@ public final class MigrationTemplateHandler extends DefaultHandler {
                                         : value.charAt(0));
             }
             config.setTargetLOBRootPath(attr.getValue(TemplateTags.ATTR_LOB_ROOT_DIR));
+            config.setPackLobFiles(getBoolean(attr.getValue(TemplateTags.ATTR_PACK_LOB), false));
             config.setAddUserSchema(getBoolean(attr.getValue(TemplateTags.ATTR_ADD_SCHEMA), false));
             config.setSplitSchema(getBoolean(attr.getValue(TemplateTags.ATTR_SPLIT_SCHEMA), false));
             config.setCreateUserSQL(
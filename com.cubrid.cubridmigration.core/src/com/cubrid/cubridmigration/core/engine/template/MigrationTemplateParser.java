@@ -243,6 +243,29 @@ public final class MigrationTemplateParser {
                     TemplateTags.ATTR_COMMIT_COUNT, String.valueOf(config.getCommitCount()));
             param.setAttribute(
                     TemplateTags.ATTR_PAGE_FETCH_COUNT, String.valueOf(config.getPageFetchCount()));
+            param.setAttribute(
+                    TemplateTags.ATTR_ERROR_BISECT_DEPTH,
+                    String.valueOf(config.getErrorBisectDepth()));
+            param.setAttribute(
+                    TemplateTags.ATTR_DDL_THREAD, String.valueOf(config.getDdlThreadCount()));
+            param.setAttribute(
+                    TemplateTags.ATTR_EXACT_ROW_COUNT,
+                    getBooleanString(config.isExactRowCount()));
+            param.setAttribute(
+                    TemplateTags.ATTR_ROW_COUNT_THREAD,
+                    String.valueOf(config.getRowCountThreadCount()));
+            param.setAttribute(
+                    TemplateTags.ATTR_ADAPTIVE_BATCH_SIZE,
+                    getBooleanString(config.isAdaptiveBatchSize()));
+            param.setAttribute(
+                    TemplateTags.ATTR_MIN_BATCH_SIZE, String.valueOf(config.getMinBatchSize()));
+            param.setAttribute(
+                    TemplateTags.ATTR_MAX_BATCH_SIZE, String.valueOf(config.getMaxBatchSize()));
+            param.setAttribute(
+                    TemplateTags.ATTR_BATCH_TARGET_LATENCY,
+                    String.valueOf(config.getBatchTargetLatency()));
+            param.setAttribute(
+                    TemplateTags.ATTR_MAX_BATCH_BYTES, String.valueOf(config.getMaxBatchBytes()));
             param.setAttribute(
                     TemplateTags.ATTR_IMPLICIT_ESTIMATE_PROGRESS,
                     getBooleanString(config.isImplicitEstimate()));
@@ -637,6 +660,8 @@ public final class MigrationTemplateParser {
             }
             if (config.targetIsDBDump()) {
                 dir.setAttribute(TemplateTags.ATTR_LOB_ROOT_DIR, config.getTargetLOBRootPath());
+                dir.setAttribute(
+                        TemplateTags.ATTR_PACK_LOB, getBooleanString(config.isPackLobFiles()));
             }
             return;
         }
@@ -750,6 +775,8 @@ public final class MigrationTemplateParser {
         } else if (config.sourceIsSQL()) {
             Element sourceFile = createElement(document, source, TemplateTags.TAG_SQL);
             sourceFile.setAttribute(TemplateTags.ATTR_CHARSET, config.getSourceFileEncoding());
+            sourceFile.setAttribute(
+                    TemplateTags.ATTR_BATCH_INSERTS, getBooleanString(config.isBatchSQLInserts()));
             List<String> files = config.getSqlFiles();
             for (String file : files) {
                 Element sqlFile = createElement(document, sourceFile, TemplateTags.TAG_SQL_FILE);
@@ -226,7 +226,18 @@ public final class TemplateTags {
     public static final String ATTR_OUTPUT_FILE_PREFIX = "file_prefix";
     public static final String ATTR_USER_DATA_HANDLER = "data_handler";
     public static final String ATTR_PAGE_FETCH_COUNT = "page_fetch_count";
+    public static final String ATTR_ERROR_BISECT_DEPTH = "error_bisect_depth";
+    public static final String ATTR_DDL_THREAD = "ddl_thread";
+    public static final String ATTR_EXACT_ROW_COUNT = "exact_row_count";
+    public static final String ATTR_ROW_COUNT_THREAD = "row_count_thread";
+    public static final String ATTR_ADAPTIVE_BATCH_SIZE = "adaptive_batch_size";
+    public static final String ATTR_MIN_BATCH_SIZE = "min_batch_size";
+    public static final String ATTR_MAX_BATCH_SIZE = "max_batch_size";
+    public static final String ATTR_BATCH_TARGET_LATENCY = "batch_target_latency";
+    public static final String ATTR_MAX_BATCH_BYTES = "max_batch_bytes";
     public static final String ATTR_LOB_ROOT_DIR = "lob_root_dir";
+    public static final String ATTR_PACK_LOB = "pack_lob";
+    public static final String ATTR_BATCH_INSERTS = "batch_inserts";
     public static final String ATTR_EXP_OPT_COL = "exp_opt_col";
     public static final String ATTR_START_TAR_MAX = "start_target_max";
     public static final String ATTR_OWNER = "owner";
@@ -30,10 +30,12 @@
  */
 package com.cubrid.cubridmigration.core.export;
 
+import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.connection.ConnParameters;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.IDependOnDatabaseType;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
@@ -48,6 +50,7 @@ import com.cubrid.cubridmigration.core.export.handler.CharTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.ClobTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.DateTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.DefaultHandler;
+import com.cubrid.cubridmigration.core.export.handler.DefaultHandler;
 import com.cubrid.cubridmigration.core.export.handler.IntTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.LongBytesTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.NumberTypeHandler;
@@ -55,16 +58,27 @@ import com.cubrid.cubridmigration.core.export.handler.TimeTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.TimestampTypeHandler;
 import com.cubrid.cubridmigration.core.sql.SQLHelper;
 import com.cubrid.cubridmigration.cubrid.export.CUBRIDExportHelper;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 
@@ -84,6 +98,8 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
     public static final int NVARCHAR = -9;
 
     protected static final String PARTITITON_INDEX = "pidx"; // be same as Exporter.PARTITITON_INDEX
+    private static final IExportDataHandler DEFAULT_HANDLER = new DefaultHandler();
+
     protected Map<Integer, IExportDataHandler> handlerMap1 =
             new HashMap<Integer, IExportDataHandler>();
     protected Map<String, IExportDataHandler> handlerMap2 =
@@ -132,24 +148,115 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
      * @throws SQLException e
      */
     public Object getJdbcObject(final ResultSet rs, final Column column) throws SQLException {
+        return getJdbcObject(rs, column, 0);
+    }
+
+    /**
+     * get JDBC Object by the column's index in the result set
+     *
+     * @param rs ResultSet
+     * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means reading the value
+     *     by column name.
+     * @return Object
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(final ResultSet rs, final Column column, final int columnIndex)
+            throws SQLException {
         if (column == null) {
             throw new RuntimeException("Column can't be null.");
         }
+        return readJdbcObject(getExportDataHandler(column), rs, column, columnIndex);
+    }
+
+    /**
+     * Retrieves the handler which reads the values of the column from result sets, it can be
+     * resolved once and reused for all the records.
+     *
+     * @param column Column
+     * @return NULL if the data type of the column is unknown
+     */
+    public IExportDataHandler getExportDataHandler(final Column column) {
         Integer dataTypeID = column.getJdbcIDOfDataType();
-        if (dataTypeID != null) {
-            IExportDataHandler edh = handlerMap1.get(dataTypeID);
-            if (edh == null) {
-                return rs.getObject(column.getName());
-            }
-            return edh.getJdbcObject(rs, column);
-        }
-        LOG.error(
-                "Unknown SQL data type:"
-                        + column.getDataType()
-                        + "(Column name="
-                        + column.getName()
-                        + ")");
-        return null;
+        if (dataTypeID == null) {
+            return null;
+        }
+        IExportDataHandler edh = handlerMap1.get(dataTypeID);
+        return edh == null ? DEFAULT_HANDLER : edh;
+    }
+
+    /**
+     * Read the value of the column by the handler resolved by {@link
+     * #getExportDataHandler(Column)}.
+     *
+     * @param edh IExportDataHandler, NULL means the data type of the column is unknown
+     * @param rs ResultSet
+     * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means by column name
+     * @return Object
+     * @throws SQLException e
+     */
+    public Object readJdbcObject(
+            IExportDataHandler edh, ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        if (edh == null) {
+            LOG.error(
+                    "Unknown SQL data type:"
+                            + column.getDataType()
+                            + "(Column name="
+                            + column.getName()
+                            + ")");
+            return null;
+        }
+        return getJdbcObject(edh, rs, column, columnIndex);
+    }
+
+    /**
+     * Read the value of the column into the record batch by the handler resolved by {@link
+     * #getExportDataHandler(Column)}.
+     *
+     * @param edh IExportDataHandler, NULL means the data type of the column is unknown
+     * @param rs ResultSet
+     * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means by column name
+     * @param batch the record batch
+     * @param row index of the record in the batch
+     * @param batchColumn index of the column in the batch
+     * @throws SQLException e
+     */
+    public void readJdbcValue(
+            IExportDataHandler edh,
+            ResultSet rs,
+            Column column,
+            int columnIndex,
+            RecordBatch batch,
+            int row,
+            int batchColumn)
+            throws SQLException {
+        if (edh == null || columnIndex <= 0) {
+            batch.setValue(row, batchColumn, readJdbcObject(edh, rs, column, columnIndex));
+            return;
+        }
+        edh.readValue(rs, column, columnIndex, batch, row, batchColumn);
+    }
+
+    /**
+     * Retrieves the value by the handler, by index if the index is available.
+     *
+     * @param edh IExportDataHandler
+     * @param rs ResultSet
+     * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means by column name
+     * @return Object
+     * @throws SQLException e
+     */
+    protected static Object getJdbcObject(
+            IExportDataHandler edh, ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        if (columnIndex > 0) {
+            return edh.getJdbcObject(rs, column, columnIndex);
+        }
+        return edh.getJdbcObject(rs, column);
     }
 
     /**
@@ -174,6 +281,29 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
         // Entry table
         SourceEntryTableConfig setc = (SourceEntryTableConfig) stc;
         StringBuffer buf = new StringBuffer(256);
+        appendSelectFrom(setc, buf);
+
+        String condition = setc.getCondition();
+        if (StringUtils.isNotBlank(condition)) {
+            condition = condition.trim();
+            if (!condition.toLowerCase(Locale.US).startsWith("where")) {
+                buf.append(" WHERE ");
+            }
+            if (condition.trim().endsWith(";")) {
+                condition = condition.substring(0, condition.length() - 1);
+            }
+            buf.append(" ").append(condition);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Append "SELECT columns FROM table" of the entry table to the buffer.
+     *
+     * @param setc SourceEntryTableConfig
+     * @param buf StringBuffer
+     */
+    private void appendSelectFrom(SourceEntryTableConfig setc, StringBuffer buf) {
         buf.append("SELECT ");
         final List<SourceColumnConfig> columnList = setc.getColumnConfigList();
         for (int i = 0; i < columnList.size(); i++) {
@@ -188,19 +318,6 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
         addSchemaPrefix(setc, buf);
 
         buf.append(getQuotedObjName(setc.getName()));
-
-        String condition = setc.getCondition();
-        if (StringUtils.isNotBlank(condition)) {
-            condition = condition.trim();
-            if (!condition.toLowerCase(Locale.US).startsWith("where")) {
-                buf.append(" WHERE ");
-            }
-            if (condition.trim().endsWith(";")) {
-                condition = condition.substring(0, condition.length() - 1);
-            }
-            buf.append(" ").append(condition);
-        }
-        return buf.toString();
     }
 
     /**
@@ -259,7 +376,9 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
      *
      * <p>The attribute may be used by some other function such as monitor and reporter.
      *
-     * <p>It is not recommended to call this method often because of it may take a long time.
+     * <p>The row counts of the tables without conditions are read from the statistics of the source
+     * database and marked as estimated, the other tables are counted by SELECT COUNT in parallel.
+     * All tables are counted exactly if {@link MigrationConfiguration#isExactRowCount()} is true.
      *
      * @param config MigrationConfiguration
      */
@@ -271,69 +390,247 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
             setAllTableRowCountTo0(config);
             return;
         }
-        try {
-            Connection con = config.getSourceConParams().createConnection();
-            if (con == null) {
-                return;
+        final boolean exact = config.isExactRowCount();
+        List<RowCountJob> jobs = new ArrayList<RowCountJob>();
+        List<Table> estimable = new ArrayList<Table>();
+        for (SourceEntryTableConfig setc : config.getExpEntryTableCfg()) {
+            if (!setc.isMigrateData()) {
+                continue;
+            }
+            // It will put an owner name from Table object
+            // whenever counting total records
+            // because SourceEntryTableConfig.setOwner() is volatility.
+            Table tbl = config.getSrcTableSchema(setc.getOwner(), setc.getName());
+            if (tbl == null) {
+                continue;
             }
-            Statement stmt = con.createStatement();
-            if (stmt == null) {
-                return;
+            if (StringUtils.isNotEmpty(tbl.getOwner())) {
+                setc.setOwner(tbl.getOwner());
             }
-
-            try {
-                for (SourceEntryTableConfig setc : config.getExpEntryTableCfg()) {
-                    if (!setc.isMigrateData()) {
+            jobs.add(new RowCountJob(tbl, getSelectCountSQL(setc)));
+            if (!exact && StringUtils.isBlank(setc.getCondition())) {
+                estimable.add(tbl);
+            }
+        }
+        SQLHelper sqlHelper = config.getSourceDBType().getSQLHelper(null);
+        for (SourceSQLTableConfig sstc : config.getExpSQLCfg()) {
+            if (!sstc.isMigrateData()) {
+                continue;
+            }
+            Table tbl = config.getSrcTableSchema(sstc.getOwner(), sstc.getName());
+            if (tbl == null) {
+                continue;
+            }
+            String cleanSQL = cleanSQLTableSQL(sstc);
+            String executableSQL =
+                    sqlHelper.replacePageQueryParameters(cleanSQL, Long.MAX_VALUE, 0);
+            RowCountJob job = new RowCountJob(tbl, null);
+
+            String trimSql = executableSQL.toLowerCase();
+            int sp = trimSql.indexOf("select");
+            int ep = trimSql.indexOf("from");
+            int lmt = trimSql.indexOf("limit");
+            if (sp != -1 && ep != -1 && lmt == -1) {
+                sp += "select".length();
+                String pre = executableSQL.substring(0, sp);
+                String post = executableSQL.substring(ep, executableSQL.length());
+                job.sqls.add(pre + " COUNT(1) " + post);
+            }
+            // The derived query is used if the SQL can't be changed to a count query.
+            job.sqls.add("SELECT COUNT(1) FROM (" + executableSQL + ") tbl");
+            jobs.add(job);
+        }
+        try {
+            if (!estimable.isEmpty()) {
+                Map<Table, Long> counts = readStatisticsRowCounts(config, estimable);
+                for (Iterator<RowCountJob> it = jobs.iterator(); it.hasNext(); ) {
+                    RowCountJob job = it.next();
+                    Long count = counts.get(job.table);
+                    if (count == null) {
                         continue;
                     }
-                    // It will put an owner name from Table object
-                    // whenever counting total records
-                    // because SourceEntryTableConfig.setOwner() is volatility.
-                    Table tbl = config.getSrcTableSchema(setc.getOwner(), setc.getName());
-                    if (tbl != null && StringUtils.isNotEmpty(tbl.getOwner())) {
-                        setc.setOwner(tbl.getOwner());
-                    }
-                    String sql = getSelectCountSQL(setc);
-                    setTableRowCount(config, stmt, setc.getOwner(), setc.getName(), sql);
+                    job.table.setTableRowCount(Math.max(0, count.longValue()));
+                    job.table.setTableRowCountEstimated(true);
+                    it.remove();
                 }
-                SQLHelper sqlHelper = config.getSourceDBType().getSQLHelper(null);
-                for (SourceSQLTableConfig sstc : config.getExpSQLCfg()) {
-                    if (!sstc.isMigrateData()) {
-                        continue;
-                    }
-                    String cleanSQL = cleanSQLTableSQL(sstc);
-                    String executableSQL =
-                            sqlHelper.replacePageQueryParameters(cleanSQL, Long.MAX_VALUE, 0);
-
-                    boolean useDerivedQuery = true;
-
-                    String trimSql = executableSQL.toLowerCase();
-                    int sp = trimSql.indexOf("select");
-                    int ep = trimSql.indexOf("from");
-                    int lmt = trimSql.indexOf("limit");
-                    if (sp != -1 && ep != -1 && lmt == -1) {
-                        sp += "select".length();
-                        String pre = executableSQL.substring(0, sp);
-                        String post = executableSQL.substring(ep, executableSQL.length());
-                        String finalsql = pre + " COUNT(1) " + post;
-                        if (setTableRowCount(
-                                config, stmt, sstc.getOwner(), sstc.getName(), finalsql)) {
-                            useDerivedQuery = false;
-                        }
-                    }
+            }
+            countRows(config, jobs);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Retrieves the row counts of the tables from the optimizer statistics of the source database.
+     * The statistics may be out of date, so they are used to estimate the progress only.
+     *
+     * @param con Connection
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the statistics can't be read
+     */
+    protected Map<Table, Long> getStatisticsRowCounts(Connection con, List<Table> tables)
+            throws SQLException {
+        return new IdentityHashMap<Table, Long>();
+    }
 
-                    if (useDerivedQuery) {
-                        executableSQL = "SELECT COUNT(1) FROM (" + executableSQL + ") tbl";
-                        setTableRowCount(
-                                config, stmt, sstc.getOwner(), sstc.getName(), executableSQL);
+    /**
+     * Execute the SQL which returns the owner, the name and the row count of the tables, and match
+     * the results with the tables by their names.
+     *
+     * @param con Connection
+     * @param sql of the statistics
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the statistics can't be read
+     */
+    public Map<Table, Long> getStatisticsRowCounts(
+            Connection con, String sql, List<Table> tables) throws SQLException {
+        Map<String, List<Table>> tablesByName = new HashMap<String, List<Table>>();
+        for (Table tbl : tables) {
+            String name = tbl.getName().toLowerCase(Locale.US);
+            List<Table> list = tablesByName.get(name);
+            if (list == null) {
+                list = new ArrayList<Table>();
+                tablesByName.put(name, list);
+            }
+            list.add(tbl);
+        }
+        Map<Table, Long> result = new IdentityHashMap<Table, Long>();
+        Map<Table, Table> ambiguous = new IdentityHashMap<Table, Table>();
+        Statement stmt = con.createStatement();
+        ResultSet rs = null;
+        try {
+            rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                String owner = StringUtils.trim(rs.getString(1));
+                String name = StringUtils.trim(rs.getString(2));
+                long rows = rs.getLong(3);
+                if (name == null || rs.wasNull()) {
+                    continue;
+                }
+                List<Table> list = tablesByName.get(name.toLowerCase(Locale.US));
+                if (list == null) {
+                    continue;
+                }
+                for (Table tbl : list) {
+                    if (StringUtils.isNotBlank(tbl.getOwner())) {
+                        if (tbl.getOwner().equalsIgnoreCase(owner)) {
+                            result.put(tbl, rows);
+                        }
+                    } else if (list.size() == 1 && result.put(tbl, rows) != null) {
+                        // The table without owner is found in several schemas.
+                        ambiguous.put(tbl, tbl);
                     }
                 }
-            } finally {
-                stmt.close();
-                con.close();
             }
+        } finally {
+            Closer.close(rs);
+            Closer.close(stmt);
+        }
+        result.keySet().removeAll(ambiguous.keySet());
+        return result;
+    }
+
+    /**
+     * Read the statistics of the tables, the tables will be counted exactly if the statistics
+     * can't be read.
+     *
+     * @param config MigrationConfiguration
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the connection can't be created
+     */
+    private Map<Table, Long> readStatisticsRowCounts(
+            MigrationConfiguration config, List<Table> tables) throws SQLException {
+        Connection con = config.getSourceConParams().createConnection();
+        if (con == null) {
+            return new IdentityHashMap<Table, Long>();
+        }
+        try {
+            return getStatisticsRowCounts(con, tables);
         } catch (SQLException e) {
+            LOG.warn("Statistics of the source tables can't be read, the rows will be counted.", e);
+            return new IdentityHashMap<Table, Long>();
+        } finally {
+            Closer.close(con);
+        }
+    }
+
+    /**
+     * Count the rows of the tables exactly, the tables are counted in parallel by at most the row
+     * count threads of the configuration, the default value is the export thread count.
+     *
+     * @param config MigrationConfiguration
+     * @param jobs to be counted
+     * @throws SQLException if a connection can't be created
+     */
+    private void countRows(final MigrationConfiguration config, List<RowCountJob> jobs)
+            throws SQLException {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        int threads = config.getRowCountThreadCount();
+        threads = threads > 0 ? threads : config.getExportThreadCount();
+        threads = Math.max(1, Math.min(threads, jobs.size()));
+        final Queue<RowCountJob> queue = new ConcurrentLinkedQueue<RowCountJob>(jobs);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<Future<Object>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                        pool.submit(
+                                new Callable<Object>() {
+                                    public Object call() throws SQLException {
+                                        countRowsByOneConnection(config, queue);
+                                        return null;
+                                    }
+                                }));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Count the rows of the tables in the queue by one connection.
+     *
+     * @param config MigrationConfiguration
+     * @param queue of the tables to be counted
+     * @throws SQLException if the connection can't be created
+     */
+    private void countRowsByOneConnection(
+            MigrationConfiguration config, Queue<RowCountJob> queue) throws SQLException {
+        Connection con = config.getSourceConParams().createConnection();
+        if (con == null) {
+            return;
+        }
+        Statement stmt = null;
+        try {
+            stmt = con.createStatement();
+            RowCountJob job = queue.poll();
+            while (job != null) {
+                for (String sql : job.sqls) {
+                    if (setTableRowCount(job.table, stmt, sql)) {
+                        break;
+                    }
+                }
+                job = queue.poll();
+            }
+        } finally {
+            Closer.close(stmt);
+            Closer.close(con);
         }
     }
 
@@ -378,24 +675,12 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
     /**
      * Set a table's row count
      *
-     * @param config MigrationConfiguration
+     * @param tbl the source table
      * @param stat Statement
-     * @param schema table's schema name
-     * @param stname String
      * @param sql String
      * @return true if setting successfully
      */
-    private boolean setTableRowCount(
-            MigrationConfiguration config,
-            Statement stat,
-            String schema,
-            String stname,
-            String sql) {
-        Table tbl = config.getSrcTableSchema(schema, stname);
-        if (tbl == null) {
-            return false;
-        }
-
+    private boolean setTableRowCount(Table tbl, Statement stat, String sql) {
         try {
             ResultSet rs = stat.executeQuery(sql); // NOPMD
             try {
@@ -404,6 +689,7 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
                 } else {
                     tbl.setTableRowCount(0);
                 }
+                tbl.setTableRowCountEstimated(false);
             } finally {
                 rs.close();
             }
@@ -444,6 +730,208 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
     public abstract String getPagedSelectSQL(
             String sql, long pageSize, long exportedRecords, PK pk);
 
+    /**
+     * Is support seek paging, which means fetching every page by the key columns' values of the
+     * last record of the previous page instead of skipping the exported records.
+     *
+     * @return true or false
+     */
+    public boolean supportSeekPaging() {
+        return false;
+    }
+
+    /**
+     * Retrieves the seek paging SQL of the entry table. For example: SELECT f1,f2,f3 FROM t WHERE
+     * (cond) AND ((f1>?) OR (f1=? AND f2>?)) ORDER BY f1,f2 LIMIT 1000. The parameters can be
+     * retrieved by {@link #getSeekParams(Object[])}.
+     *
+     * @param setc SourceEntryTableConfig
+     * @param keyColumns key columns which can identify a record uniquely.
+     * @param isFirstPage if it is true, no key condition will be appended.
+     * @param pageSize record count per-page
+     * @return SQL
+     */
+    public String getSeekPagedSelectSQL(
+            SourceEntryTableConfig setc,
+            List<String> keyColumns,
+            boolean isFirstPage,
+            long pageSize) {
+        StringBuffer buf = new StringBuffer(256);
+        appendSelectFrom(setc, buf);
+
+        String condition = setc.getConditionBody();
+        String[] quotedKeys = new String[keyColumns.size()];
+        for (int i = 0; i < quotedKeys.length; i++) {
+            quotedKeys[i] = getQuotedObjName(keyColumns.get(i));
+        }
+        if (StringUtils.isNotBlank(condition)) {
+            buf.append(" WHERE (").append(condition).append(")");
+            if (!isFirstPage) {
+                buf.append(" AND (").append(getSeekCondition(quotedKeys)).append(")");
+            }
+        } else if (!isFirstPage) {
+            buf.append(" WHERE ").append(getSeekCondition(quotedKeys));
+        }
+        buf.append(" ORDER BY ");
+        for (int i = 0; i < quotedKeys.length; i++) {
+            if (i > 0) {
+                buf.append(',');
+            }
+            buf.append(quotedKeys[i]);
+        }
+        return getLimitedSelectSQL(buf.toString(), pageSize);
+    }
+
+    /**
+     * Retrieves the SQL which returns the first rows of the ordered selection SQL only.
+     *
+     * @param sql ordered selection SQL which starts with "SELECT "
+     * @param rows maximum record count to be returned
+     * @return SQL
+     */
+    protected String getLimitedSelectSQL(String sql, long rows) {
+        return sql + " LIMIT " + rows;
+    }
+
+    /**
+     * Retrieves the condition of records after the key, for example: (f1>?) OR (f1=? AND f2>?)
+     *
+     * @param quotedKeys quoted key column names
+     * @return condition SQL
+     */
+    private static String getSeekCondition(String[] quotedKeys) {
+        StringBuffer buf = new StringBuffer();
+        for (int i = 0; i < quotedKeys.length; i++) {
+            if (i > 0) {
+                buf.append(" OR ");
+            }
+            buf.append('(');
+            for (int j = 0; j < i; j++) {
+                buf.append(quotedKeys[j]).append("=? AND ");
+            }
+            buf.append(quotedKeys[i]).append(">?)");
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Retrieves the parameters of the seek paging SQL.
+     *
+     * @param lastKey key columns' values of the last exported record
+     * @return parameters to be set
+     */
+    public static Object[] getSeekParams(Object[] lastKey) {
+        List<Object> result = new ArrayList<Object>();
+        for (int i = 0; i < lastKey.length; i++) {
+            for (int j = 0; j <= i; j++) {
+                result.add(lastKey[j]);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Split the entry table into key ranges by the minimum and maximum values of the key column.
+     * Only the integer key column can be split. The first and the last range are open, so the
+     * records inserted after splitting will not be lost.
+     *
+     * @param conn source JDBC connection
+     * @param setc SourceEntryTableConfig
+     * @param keyColumn the leading column of PK or unique key
+     * @param count the maximum count of ranges
+     * @return range conditions, it will be empty if the table can't be split.
+     * @throws SQLException when fetching minimum and maximum values
+     */
+    public List<String> getKeyRangeConditions(
+            Connection conn, SourceEntryTableConfig setc, String keyColumn, int count)
+            throws SQLException {
+        List<String> result = new ArrayList<String>();
+        final String quotedKey = getQuotedObjName(keyColumn);
+        StringBuffer buf = new StringBuffer(256);
+        buf.append("SELECT MIN(").append(quotedKey).append("),MAX(").append(quotedKey);
+        buf.append(") FROM ");
+        addSchemaPrefix(setc, buf);
+        buf.append(getQuotedObjName(setc.getName()));
+        final String condition = setc.getConditionBody();
+        if (StringUtils.isNotBlank(condition)) {
+            buf.append(" WHERE ").append(condition);
+        }
+        BigInteger min;
+        BigInteger max;
+        Statement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.createStatement();
+            rs = stmt.executeQuery(buf.toString());
+            if (!rs.next()) {
+                return result;
+            }
+            min = toBigInteger(rs.getObject(1));
+            max = toBigInteger(rs.getObject(2));
+        } finally {
+            Closer.close(rs);
+            Closer.close(stmt);
+        }
+        if (min == null || max == null) {
+            return result;
+        }
+        BigInteger span = max.subtract(min).add(BigInteger.ONE);
+        BigInteger ranges = span.min(BigInteger.valueOf(count));
+        if (ranges.compareTo(BigInteger.ONE) <= 0) {
+            return result;
+        }
+        BigInteger step = span.add(ranges).subtract(BigInteger.ONE).divide(ranges);
+        BigInteger lower = null;
+        for (int i = 1; i <= ranges.intValue(); i++) {
+            BigInteger upper = min.add(step.multiply(BigInteger.valueOf(i)));
+            if (upper.compareTo(max) > 0) {
+                upper = null;
+            }
+            StringBuffer cond = new StringBuffer();
+            if (lower != null) {
+                cond.append(quotedKey).append(">=").append(lower);
+            }
+            if (upper != null) {
+                if (lower != null) {
+                    cond.append(" AND ");
+                }
+                cond.append(quotedKey).append('<').append(upper);
+            }
+            result.add(cond.toString());
+            if (upper == null) {
+                break;
+            }
+            lower = upper;
+        }
+        return result;
+    }
+
+    /**
+     * Convert the integer value to BigInteger
+     *
+     * @param value of integer column
+     * @return BigInteger or NULL if it is not an integer value.
+     */
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            try {
+                return ((BigDecimal) value).toBigIntegerExact();
+            } catch (ArithmeticException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     /**
      * Is support fast search with PK.
      *
@@ -464,4 +952,17 @@ public abstract class DBExportHelper implements IDependOnDatabaseType {
     public BigInteger getSerialStartValue(ConnParameters sourceConParams, SourceSequenceConfig sq) {
         return null;
     }
+
+    /** The table to be counted and the SQLs to try in order. */
+    private static class RowCountJob {
+        private final Table table;
+        private final List<String> sqls = new ArrayList<String>();
+
+        RowCountJob(Table table, String sql) {
+            this.table = table;
+            if (sql != null) {
+                sqls.add(sql);
+            }
+        }
+    }
 }
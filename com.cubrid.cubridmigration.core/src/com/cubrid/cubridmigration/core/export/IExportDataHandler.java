@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.core.export;
 
 import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -51,4 +52,42 @@ public interface IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(final ResultSet rs, final Column column) throws SQLException;
+
+    /**
+     * Retrieves the value object of column by its index in the result set. The handlers which
+     * only read values by column name need not to override it.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return value of column
+     * @throws SQLException e
+     */
+    default Object getJdbcObject(final ResultSet rs, final Column column, final int columnIndex)
+            throws SQLException {
+        return getJdbcObject(rs, column);
+    }
+
+    /**
+     * Read the value of column into the record batch. The handlers which read primitive values
+     * can override it to set them without boxing.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @param batch the record batch
+     * @param row index of the record in the batch
+     * @param batchColumn index of the column in the batch
+     * @throws SQLException e
+     */
+    default void readValue(
+            final ResultSet rs,
+            final Column column,
+            final int columnIndex,
+            final RecordBatch batch,
+            final int row,
+            final int batchColumn)
+            throws SQLException {
+        batch.setValue(row, batchColumn, getJdbcObject(rs, column, columnIndex));
+    }
 }
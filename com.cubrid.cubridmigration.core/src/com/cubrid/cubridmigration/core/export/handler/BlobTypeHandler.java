@@ -31,6 +31,8 @@
 package com.cubrid.cubridmigration.core.export.handler;
 
 import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
+import java.io.IOException;
 import java.sql.Blob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -43,6 +45,17 @@ import java.sql.SQLException;
  */
 public class BlobTypeHandler extends LongBytesTypeHandler {
 
+    private final long spillThreshold;
+
+    public BlobTypeHandler() {
+        this(SpilledLob.SPILL_THRESHOLD);
+    }
+
+    /** @param spillThreshold the values longer than it are spilled to temporary files */
+    public BlobTypeHandler(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
     /**
      * Retrieves the value object of BLOB column.
      *
@@ -52,7 +65,32 @@ public class BlobTypeHandler extends LongBytesTypeHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
-        Blob blob = rs.getBlob(column.getName());
-        return blob == null ? null : blob.getBytes(1, (int) blob.length());
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of BLOB column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return null, byte[] or SpilledLob if the value is longer than the spill threshold
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        Blob blob = rs.getBlob(columnIndex);
+        if (blob == null) {
+            return null;
+        }
+        final long length = blob.length();
+        if (length <= spillThreshold) {
+            return blob.getBytes(1, (int) length);
+        }
+        try {
+            return SpilledLob.spill(blob.getBinaryStream());
+        } catch (IOException ex) {
+            throw new SQLException(ex);
+        }
     }
 }
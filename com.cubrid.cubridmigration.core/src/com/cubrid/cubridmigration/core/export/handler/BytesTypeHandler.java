@@ -52,6 +52,20 @@ public class BytesTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
-        return rs.getBytes(column.getName());
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of Bytes column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return null or byte[]
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        return rs.getBytes(columnIndex);
     }
 }
@@ -52,6 +52,20 @@ public class CharTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
-        return rs.getString(column.getName());
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of char/varchar column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return value of column
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        return rs.getString(columnIndex);
     }
 }
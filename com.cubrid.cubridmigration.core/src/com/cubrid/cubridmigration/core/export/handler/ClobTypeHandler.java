@@ -32,6 +32,7 @@ package com.cubrid.cubridmigration.core.export.handler;
 
 import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.export.IExportDataHandler;
 import java.io.IOException;
 import java.io.Reader;
@@ -46,6 +47,17 @@ import java.sql.SQLException;
  */
 public class ClobTypeHandler implements IExportDataHandler {
 
+    private final long spillThreshold;
+
+    public ClobTypeHandler() {
+        this(SpilledLob.SPILL_THRESHOLD);
+    }
+
+    /** @param spillThreshold the values longer than it are spilled to temporary files */
+    public ClobTypeHandler(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
     /**
      * Retrieves the value object of CLOB column.
      *
@@ -55,11 +67,26 @@ public class ClobTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
-        return getCharObject(rs.getCharacterStream(column.getName()));
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of CLOB column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return null, String or SpilledLob if the value is longer than the spill threshold
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        return getCharObject(rs.getCharacterStream(columnIndex));
     }
 
     /**
-     * getCharObject
+     * getCharObject, the value is spilled to a temporary file if it is longer than the spill
+     * threshold.
      *
      * @param reader Reader
      * @return Object
@@ -77,6 +104,9 @@ public class ClobTypeHandler implements IExportDataHandler {
 
             while (len != -1) {
                 buffer.append(buf, 0, len);
+                if (buffer.length() > spillThreshold) {
+                    return SpilledLob.spill(buffer, reader);
+                }
                 len = reader.read(buf);
             }
 
@@ -54,8 +54,22 @@ public class DateTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of Date column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return value of column
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
         try {
-            return rs.getDate(column.getName());
+            return rs.getDate(columnIndex);
         } catch (Exception e) {
             String dateValue =
                     MySQL2CUBRIDMigParas.getMigrationParamter(MySQL2CUBRIDMigParas.UNPARSED_DATE);
@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.core.export.handler;
 
 import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.export.IExportDataHandler;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -52,6 +53,48 @@ public class IntTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
-        return rs.getObject(column.getName()) == null ? null : rs.getInt(column.getName());
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of int/smallint/tinyint column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return Integer type
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        int value = rs.getInt(columnIndex);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Read the value of int/smallint/tinyint column into the int array of the batch.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @param batch the record batch
+     * @param row index of the record in the batch
+     * @param batchColumn index of the column in the batch
+     * @throws SQLException e
+     */
+    public void readValue(
+            ResultSet rs,
+            Column column,
+            int columnIndex,
+            RecordBatch batch,
+            int row,
+            int batchColumn)
+            throws SQLException {
+        int value = rs.getInt(columnIndex);
+        if (rs.wasNull()) {
+            batch.setNull(row, batchColumn);
+        } else {
+            batch.setInt(row, batchColumn, value);
+        }
     }
 }
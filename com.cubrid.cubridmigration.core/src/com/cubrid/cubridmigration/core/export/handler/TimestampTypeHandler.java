@@ -54,9 +54,23 @@ public class TimestampTypeHandler implements IExportDataHandler {
      * @throws SQLException e
      */
     public Object getJdbcObject(ResultSet rs, Column column) throws SQLException {
+        return getJdbcObject(rs, column, rs.findColumn(column.getName()));
+    }
+
+    /**
+     * Retrieves the value object of Timestamp column.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return value of column
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
         // if there is "0000-00-00 00:00:00" in time field, for example, return null
         try {
-            return rs.getTimestamp(column.getName());
+            return rs.getTimestamp(columnIndex);
         } catch (Exception e) {
             String timestampValue =
                     MySQL2CUBRIDMigParas.getMigrationParamter(
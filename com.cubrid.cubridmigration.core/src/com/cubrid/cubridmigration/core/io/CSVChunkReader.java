@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Locale;
+
+/**
+ * CSVChunkReader splits a CSV file into chunks at the record boundaries, so that the chunks can be
+ * parsed by {@link CSVTokenizer} in parallel. The boundaries are found by scanning the bytes with
+ * the same quote and escape rules of the tokenizer, a line break in a quoted section is never a
+ * boundary. The file should be encoded with an ASCII compatible charset (see {@link
+ * #isSplittable(String, char, char, char)}), or the bytes of the special chars may be a part of
+ * other chars.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class CSVChunkReader {
+
+    /**
+     * The minimum bytes of a chunk, the files smaller than it are not split. It can be changed by
+     * the system property "cmt.csv.chunk.size".
+     */
+    public static final long CHUNK_SIZE =
+            Long.getLong("cmt.csv.chunk.size", 32 * 1024 * 1024).longValue();
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final FileInputStream input;
+    private final int separator;
+    private final int quotechar;
+    private final int escape;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long position;
+
+    public CSVChunkReader(String fileName, char separator, char quotechar, char escape)
+            throws IOException {
+        this.input = new FileInputStream(fileName);
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+    }
+
+    /**
+     * Whether the CSV file can be split at the bytes of the line breaks. The charset should encode
+     * the ASCII chars to the same single bytes and never use these bytes in other chars.
+     *
+     * @param charset of the CSV file
+     * @param separator char
+     * @param quotechar char
+     * @param escape char
+     * @return true if it can be split
+     */
+    public static boolean isSplittable(
+            String charset, char separator, char quotechar, char escape) {
+        if (separator >= 0x80 || quotechar >= 0x80 || escape >= 0x80) {
+            return false;
+        }
+        String name;
+        try {
+            name = Charset.forName(charset).name().toUpperCase(Locale.ENGLISH);
+        } catch (Exception ex) {
+            return false;
+        }
+        return "UTF-8".equals(name) || "US-ASCII".equals(name) || name.startsWith("ISO-8859-");
+    }
+
+    /**
+     * Retrieves the position of the next chunk's start
+     *
+     * @return position
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Scan the next chunk, it has one record at least and ends at the first record boundary after
+     * the minimum size.
+     *
+     * @param minSize minimum bytes of the chunk
+     * @return the end position(exclusive) of the chunk, or -1 if there is no more data
+     * @throws IOException if reading failed
+     */
+    public long nextChunk(long minSize) throws IOException {
+        final long start = position;
+        if (peek() < 0) {
+            return -1;
+        }
+        boolean inQuotes = false;
+        boolean inField = false;
+        int c;
+        while ((c = read()) >= 0) {
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (inQuotes) {
+                    continue;
+                }
+                inField = false;
+                if (position - start >= minSize) {
+                    return position;
+                }
+                continue;
+            }
+            final int next = peek();
+            final boolean hasNext = next >= 0 && next != '\n' && next != '\r';
+            if (c == escape) {
+                if ((inQuotes || inField) && hasNext && (next == quotechar || next == escape)) {
+                    read();
+                }
+            } else if (c == quotechar) {
+                if ((inQuotes || inField) && hasNext && next == quotechar) {
+                    read();
+                } else {
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            } else if (c == separator && !inQuotes) {
+                inField = false;
+            } else {
+                inField = true;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Read a byte
+     *
+     * @return the byte or -1 at the end of the file
+     * @throws IOException if reading failed
+     */
+    private int read() throws IOException {
+        final int c = peek();
+        if (c >= 0) {
+            pos++;
+            position++;
+        }
+        return c;
+    }
+
+    /**
+     * Retrieves the next byte without reading it
+     *
+     * @return the byte or -1 at the end of the file
+     * @throws IOException if reading failed
+     */
+    private int peek() throws IOException {
+        if (pos == limit) {
+            pos = 0;
+            limit = Math.max(0, input.read(buffer));
+            if (limit == 0) {
+                return -1;
+            }
+        }
+        return buffer[pos] & 0xFF;
+    }
+
+    /** Close the file */
+    public void close() {
+        try {
+            input.close();
+        } catch (IOException ignored) {
+            // Ignore the closing error
+        }
+    }
+
+    /**
+     * Read the chars of a chunk, the malformed bytes are replaced like the InputStreamReader.
+     *
+     * @param fileName CSV file
+     * @param charset of the file
+     * @param start position of the chunk
+     * @param end position(exclusive) of the chunk
+     * @return chars of the chunk
+     * @throws IOException if reading failed
+     */
+    public static CharBuffer readChunk(String fileName, String charset, long start, long end)
+            throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "The CSV chunk [" + start + ", " + end + ") of " + fileName + " is too big.");
+        }
+        ByteBuffer bytes = ByteBuffer.allocate((int) (end - start));
+        RandomAccessFile raf = new RandomAccessFile(new File(fileName), "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, start + bytes.position()) < 0) {
+                    throw new IOException("Unexpected end of file " + fileName);
+                }
+            }
+        } finally {
+            raf.close();
+        }
+        bytes.flip();
+        CharsetDecoder decoder =
+                Charset.forName(charset)
+                        .newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return decoder.decode(bytes);
+    }
+}
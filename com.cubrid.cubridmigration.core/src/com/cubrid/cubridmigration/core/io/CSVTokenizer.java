@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSVTokenizer splits the records of a char buffer with the rules of the opencsv parser: a quoted
+ * section may contain separators and line breaks, a doubled quote char or an escape char followed
+ * by a quote or escape char in a field stands for the second char, and the line breaks in quoted
+ * sections are read as '\n'. The fields are created from the buffer directly unless some chars
+ * have to be removed from them.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class CSVTokenizer {
+
+    /**
+     * The handler of the tokenized records
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    public interface IRecordHandler {
+        /**
+         * Handle a record
+         *
+         * @param fields the fields of the record
+         */
+        void handleRecord(String[] fields);
+    }
+
+    private final char separator;
+    private final char quotechar;
+    private final char escape;
+
+    // The field is the range [fieldStart, fieldEnd) of the buffer until a char can not be added
+    // to the range, then it is copied to the builder.
+    private final StringBuilder sb = new StringBuilder();
+    private char[] buf;
+    private int fieldStart;
+    private int fieldEnd;
+    private boolean copied;
+
+    public CSVTokenizer(char separator, char quotechar, char escape) {
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+    }
+
+    /**
+     * Tokenize the records of the buffer, the last record may be ended without a line break.
+     *
+     * @param buffer the chars of the records
+     * @param offset start position
+     * @param length count of the chars
+     * @param handler IRecordHandler
+     * @return count of the records
+     */
+    public int tokenize(char[] buffer, int offset, int length, IRecordHandler handler) {
+        this.buf = buffer;
+        final int end = offset + length;
+        List<String> fields = new ArrayList<String>();
+        boolean inQuotes = false;
+        boolean inField = false;
+        boolean inRecord = false;
+        int lineStart = offset;
+        int count = 0;
+        resetField();
+        for (int i = offset; i < end; i++) {
+            final char c = buffer[i];
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < end && buffer[i + 1] == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+                if (inQuotes) {
+                    appendChar('\n');
+                    continue;
+                }
+                fields.add(takeField());
+                handler.handleRecord(fields.toArray(new String[fields.size()]));
+                count++;
+                fields.clear();
+                inField = false;
+                inRecord = false;
+                continue;
+            }
+            inRecord = true;
+            final boolean hasNext = i + 1 < end && buffer[i + 1] != '\n' && buffer[i + 1] != '\r';
+            if (c == escape) {
+                if ((inQuotes || inField)
+                        && hasNext
+                        && (buffer[i + 1] == quotechar || buffer[i + 1] == escape)) {
+                    append(++i);
+                }
+            } else if (c == quotechar) {
+                if ((inQuotes || inField) && hasNext && buffer[i + 1] == quotechar) {
+                    append(++i);
+                } else {
+                    // The quote char in the middle of a field is a part of the field.
+                    if (i - lineStart > 2
+                            && buffer[i - 1] != separator
+                            && hasNext
+                            && buffer[i + 1] != separator) {
+                        if (isAllWhiteSpace()) {
+                            resetField();
+                        } else {
+                            append(i);
+                        }
+                    }
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            } else if (c == separator && !inQuotes) {
+                fields.add(takeField());
+                inField = false;
+            } else {
+                append(i);
+                inField = true;
+            }
+        }
+        // The quoted section which is not closed at the end is dropped.
+        if (inRecord && !inQuotes) {
+            fields.add(takeField());
+        }
+        if (!fields.isEmpty()) {
+            handler.handleRecord(fields.toArray(new String[fields.size()]));
+            count++;
+        }
+        this.buf = null;
+        return count;
+    }
+
+    /**
+     * Append the char of the buffer to the field
+     *
+     * @param pos position of the char in the buffer
+     */
+    private void append(int pos) {
+        if (!copied) {
+            if (fieldStart < 0) {
+                fieldStart = pos;
+                fieldEnd = pos + 1;
+                return;
+            }
+            if (fieldEnd == pos) {
+                fieldEnd++;
+                return;
+            }
+            copyField();
+        }
+        sb.append(buf[pos]);
+    }
+
+    /**
+     * Append a char which is not in the buffer to the field
+     *
+     * @param c char
+     */
+    private void appendChar(char c) {
+        if (!copied) {
+            copyField();
+        }
+        sb.append(c);
+    }
+
+    /** Copy the range of the field to the builder. */
+    private void copyField() {
+        if (fieldStart >= 0) {
+            sb.append(buf, fieldStart, fieldEnd - fieldStart);
+        }
+        copied = true;
+    }
+
+    /**
+     * Whether the field only has white spaces, an empty field returns false.
+     *
+     * @return true if it is all white space
+     */
+    private boolean isAllWhiteSpace() {
+        if (copied) {
+            if (sb.length() == 0) {
+                return false;
+            }
+            for (int i = 0; i < sb.length(); i++) {
+                if (!Character.isWhitespace(sb.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (fieldStart < 0) {
+            return false;
+        }
+        for (int i = fieldStart; i < fieldEnd; i++) {
+            if (!Character.isWhitespace(buf[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the field and start a new field
+     *
+     * @return String
+     */
+    private String takeField() {
+        final String result;
+        if (copied) {
+            result = sb.toString();
+        } else if (fieldStart < 0) {
+            result = "";
+        } else {
+            result = new String(buf, fieldStart, fieldEnd - fieldStart);
+        }
+        resetField();
+        return result;
+    }
+
+    /** Start a new field. */
+    private void resetField() {
+        sb.setLength(0);
+        fieldStart = -1;
+        fieldEnd = -1;
+        copied = false;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.io;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * InsertStatementParser parses the simple INSERT statements of SQL dump files, such as "INSERT
+ * INTO t (a, b) VALUES (1, 'x'), (2, NULL);". The values should be string or numeric literals or
+ * NULL, so that the statement can be executed as a parameterized statement with the values. The
+ * other statements are not parsed.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public final class InsertStatementParser {
+
+    /**
+     * The parsed INSERT statement
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    public static final class InsertStatement {
+        private final String table;
+        private final String parameterizedSQL;
+        private final List<Object[]> rows;
+
+        private InsertStatement(String table, String parameterizedSQL, List<Object[]> rows) {
+            this.table = table;
+            this.parameterizedSQL = parameterizedSQL;
+            this.rows = rows;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        /**
+         * Retrieves the SQL of a row with parameters, the statements with the same SQL can be
+         * executed in one batch.
+         *
+         * @return SQL
+         */
+        public String getParameterizedSQL() {
+            return parameterizedSQL;
+        }
+
+        /**
+         * Retrieves the values of the rows, a value is String, BigDecimal or null.
+         *
+         * @return rows
+         */
+        public List<Object[]> getRows() {
+            return rows;
+        }
+    }
+
+    private final String sql;
+    private int pos;
+
+    private InsertStatementParser(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Retrieves the table of an INSERT statement, the values of the statement are not parsed.
+     *
+     * @param sql statement
+     * @return table name or null if it is not an INSERT ... VALUES statement
+     */
+    public static String getTable(String sql) {
+        InsertStatementParser parser = new InsertStatementParser(sql);
+        String table = parser.readTable();
+        if (table == null || parser.readColumns() == null || !parser.readKeyword("VALUES")) {
+            return null;
+        }
+        return table;
+    }
+
+    /**
+     * Parse a simple INSERT statement
+     *
+     * @param sql statement
+     * @return InsertStatement or null if it is not a simple INSERT statement
+     */
+    public static InsertStatement parse(String sql) {
+        InsertStatementParser parser = new InsertStatementParser(sql);
+        String table = parser.readTable();
+        if (table == null) {
+            return null;
+        }
+        String columns = parser.readColumns();
+        if (columns == null || !parser.readKeyword("VALUES")) {
+            return null;
+        }
+        List<Object[]> rows = new ArrayList<Object[]>();
+        do {
+            Object[] row = parser.readRow();
+            if (row == null || (!rows.isEmpty() && row.length != rows.get(0).length)) {
+                return null;
+            }
+            rows.add(row);
+        } while (parser.readChar(','));
+        parser.readChar(';');
+        parser.skipBlank();
+        if (parser.pos < sql.length()) {
+            return null;
+        }
+        StringBuffer psql = new StringBuffer("INSERT INTO ").append(table);
+        if (columns.length() > 0) {
+            psql.append(' ').append(columns);
+        }
+        psql.append(" VALUES (");
+        for (int i = 0; i < rows.get(0).length; i++) {
+            psql.append(i == 0 ? "?" : ", ?");
+        }
+        psql.append(')');
+        return new InsertStatement(table, psql.toString(), rows);
+    }
+
+    /**
+     * Read "INSERT INTO table"
+     *
+     * @return table name or null
+     */
+    private String readTable() {
+        if (!readKeyword("INSERT") || !readKeyword("INTO")) {
+            return null;
+        }
+        skipBlank();
+        final int start = pos;
+        while (pos < sql.length()) {
+            final char ch = sql.charAt(pos);
+            if (ch == '"' || ch == '`' || ch == '[') {
+                final int end = sql.indexOf(ch == '[' ? ']' : ch, pos + 1);
+                if (end < 0) {
+                    return null;
+                }
+                pos = end + 1;
+            } else if (isIdentifierChar(ch) || ch == '.') {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        return pos == start ? null : sql.substring(start, pos);
+    }
+
+    /**
+     * Read the column list
+     *
+     * @return the column list, empty string if there is no column list, or null if it is invalid
+     */
+    private String readColumns() {
+        skipBlank();
+        if (pos >= sql.length() || sql.charAt(pos) != '(') {
+            return "";
+        }
+        final int start = pos++;
+        while (pos < sql.length()) {
+            final char ch = sql.charAt(pos++);
+            if (ch == ')') {
+                return sql.substring(start, pos);
+            }
+            if (ch == '\'' || ch == '(') {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read the values of a row, such as "(1, 'x', NULL)"
+     *
+     * @return values or null if a value is not a literal
+     */
+    private Object[] readRow() {
+        if (!readChar('(')) {
+            return null;
+        }
+        List<Object> values = new ArrayList<Object>();
+        do {
+            skipBlank();
+            if (pos >= sql.length()) {
+                return null;
+            }
+            final char ch = sql.charAt(pos);
+            if (ch == '\'') {
+                String value = readString();
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+            } else if (readKeyword("NULL")) {
+                values.add(null);
+            } else {
+                BigDecimal value = readNumber();
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+            }
+        } while (readChar(','));
+        if (!readChar(')')) {
+            return null;
+        }
+        return values.toArray();
+    }
+
+    /**
+     * Read a quoted string, two quotes in the string stand for one quote.
+     *
+     * @return string or null if it is not closed
+     */
+    private String readString() {
+        StringBuffer sb = null;
+        int start = ++pos;
+        while (true) {
+            final int end = sql.indexOf('\'', pos);
+            if (end < 0) {
+                return null;
+            }
+            pos = end + 1;
+            if (pos < sql.length() && sql.charAt(pos) == '\'') {
+                if (sb == null) {
+                    sb = new StringBuffer();
+                }
+                sb.append(sql, start, pos);
+                start = ++pos;
+                continue;
+            }
+            if (sb == null) {
+                return sql.substring(start, end);
+            }
+            return sb.append(sql, start, end).toString();
+        }
+    }
+
+    /**
+     * Read a numeric literal
+     *
+     * @return number or null if it is not a number
+     */
+    private BigDecimal readNumber() {
+        final int start = pos;
+        while (pos < sql.length()) {
+            final char ch = sql.charAt(pos);
+            if (Character.isDigit(ch) || ch == '.' || ch == 'e' || ch == 'E') {
+                pos++;
+            } else if ((ch == '-' || ch == '+')
+                    && (pos == start || Character.toUpperCase(sql.charAt(pos - 1)) == 'E')) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        try {
+            return pos == start ? null : new BigDecimal(sql.substring(start, pos));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Read a keyword, the case is ignored.
+     *
+     * @param keyword to be read
+     * @return true if the keyword is read
+     */
+    private boolean readKeyword(String keyword) {
+        skipBlank();
+        final int end = pos + keyword.length();
+        if (!sql.regionMatches(true, pos, keyword, 0, keyword.length())
+                || (end < sql.length() && isIdentifierChar(sql.charAt(end)))) {
+            return false;
+        }
+        pos = end;
+        return true;
+    }
+
+    /**
+     * Read a char after the blanks
+     *
+     * @param ch to be read
+     * @return true if the char is read
+     */
+    private boolean readChar(char ch) {
+        skipBlank();
+        if (pos < sql.length() && sql.charAt(pos) == ch) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the char can be a part of an identifier without quotes
+     *
+     * @param ch char
+     * @return true if it is a letter, digit, '_' or '$'
+     */
+    private static boolean isIdentifierChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '$';
+    }
+
+    /** Skip the white spaces and comments */
+    private void skipBlank() {
+        while (pos < sql.length()) {
+            final char ch = sql.charAt(pos);
+            if (Character.isWhitespace(ch)) {
+                pos++;
+            } else if (sql.startsWith("--", pos) || sql.startsWith("//", pos)) {
+                final int end = sql.indexOf('\n', pos);
+                pos = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", pos)) {
+                final int end = sql.indexOf("*/", pos + 2);
+                pos = end < 0 ? sql.length() : end + 2;
+            } else {
+                return;
+            }
+        }
+    }
+}
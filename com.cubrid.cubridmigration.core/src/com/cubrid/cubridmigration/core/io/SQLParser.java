@@ -48,6 +48,8 @@ import org.apache.commons.lang.StringUtils;
  */
 public class SQLParser {
 
+    private static final int BLOCK_SIZE = 64 * 1024;
+
     /**
      * Execute export operation, parsing SQL file and call importing SQLs
      *
@@ -67,7 +69,8 @@ public class SQLParser {
     }
 
     /**
-     * Execute export operation, parsing SQL file and call importing SQLs
+     * Execute export operation, parsing SQL file and call importing SQLs. The file is read in
+     * blocks, and the chars of a statement are appended to the statement by slices of the block.
      *
      * @param reader BufferedReader
      * @param commitCount commit count
@@ -76,111 +79,73 @@ public class SQLParser {
      */
     public static void executeSQLFile(Reader reader, int commitCount, ISQLParsingCallback callBack)
             throws IOException {
-        StringBuffer sql = new StringBuffer();
+        StringBuilder sql = new StringBuilder();
         try {
             boolean inQuote = false;
             boolean inComment = false;
             boolean inLineComment = false;
             long size = 0;
-            char[] cbuf = new char[1];
-            Character char2 = null;
-            int count = reader.read(cbuf);
+            final char[] block = new char[BLOCK_SIZE];
+            int len = reader.read(block);
+            // The chars of the block in [start, pos) are not appended to the statement.
+            int start = 0;
+            int pos = 0;
             List<String> sqlList = new ArrayList<String>(commitCount);
-            while (count > 0) {
+            while (len > 0) {
+                if (pos == len) {
+                    sql.append(block, start, len - start);
+                    len = reader.read(block);
+                    start = 0;
+                    pos = 0;
+                    continue;
+                }
                 size++;
-                char ch = cbuf[0];
-                switch (ch) {
-                    case '\'':
-                        if (inQuote) {
-                            inQuote = false;
-                        } else {
-                            inQuote = !inComment && !inLineComment && true;
-                        }
-                        break;
-                    case '/':
-                        count = reader.read(cbuf);
-                        if (count < 0) {
-                            break;
-                        }
-                        char2 = cbuf[0];
-                        if (cbuf[0] == '*') {
-                            inComment = !inQuote && !inLineComment && true;
-                        } else if (cbuf[0] == '\'') {
-                            if (inQuote) {
-                                inQuote = false;
-                            } else {
-                                inQuote = !inComment && !inLineComment && true;
-                            }
-                        }
-                        break;
-                    case '*':
-                        count = reader.read(cbuf);
-                        if (count < 0) {
-                            break;
-                        }
-                        char2 = cbuf[0];
-                        if (cbuf[0] == '/') {
-                            inComment = false;
-                        } else if (cbuf[0] == '\'') {
-                            if (inQuote) {
-                                inQuote = false;
-                            } else {
-                                inQuote = !inComment && !inLineComment && true;
-                            }
-                        }
-                        break;
-                    case '-':
-                        count = reader.read(cbuf);
-                        if (count < 0) {
+                final char ch = block[pos++];
+                char char2 = 0;
+                if (ch == '/' || ch == '*' || ch == '-') {
+                    if (pos == len) {
+                        sql.append(block, start, len - start);
+                        len = reader.read(block);
+                        start = 0;
+                        pos = 0;
+                        if (len <= 0) {
+                            sqlList.add(sql.toString());
+                            sql.setLength(0);
                             break;
                         }
-                        char2 = cbuf[0];
-                        if (cbuf[0] == '-') {
-                            inLineComment = !inQuote && !inComment && true;
-                        } else if (cbuf[0] == '\'') {
-                            if (inQuote) {
-                                inQuote = false;
-                            } else {
-                                inQuote = !inComment && !inLineComment && true;
-                            }
-                        }
-                        break;
-                    case '\n':
-                        inLineComment = false;
-                        break;
-                    default:
-                }
-                // Break loop
-                if (count < 0) {
-                    sql.append(ch);
-                    sqlList.add(sql.toString());
-                    sql = new StringBuffer();
-                    break;
+                    }
+                    // The second char is only checked for the comment and quote chars.
+                    char2 = block[pos++];
                 }
-                sql.append(ch);
-                if (char2 != null) {
-                    sql.append(char2);
-                    char2 = null;
+                if (ch == '\'' || char2 == '\'') {
+                    if (inQuote) {
+                        inQuote = false;
+                    } else {
+                        inQuote = !inComment && !inLineComment;
+                    }
+                } else if (ch == '/' && char2 == '*') {
+                    inComment = !inQuote && !inLineComment;
+                } else if (ch == '*' && char2 == '/') {
+                    inComment = false;
+                } else if (ch == '-' && char2 == '-') {
+                    inLineComment = !inQuote && !inComment;
+                } else if (ch == '\n') {
+                    inLineComment = false;
                 }
-                // Ignore the comment chars.
-                if (inComment || inLineComment) {
-                    count = reader.read(cbuf);
+                // Ignore the comment chars, and the ; in '' will be ignored
+                if (inComment || inLineComment || ch != ';' || inQuote) {
                     continue;
                 }
-                if (ch == ';') {
-                    if (!inQuote) {
-                        // the ; in '' will be ignored
-                        sqlList.add(sql.toString());
-                        sql = new StringBuffer();
-                        if (callBack.isCommitNow(sqlList.size())) {
-                            callBack.executeSQLs(sqlList, size);
-                            size = 0;
-                            // New list, old list will be used by import task.
-                            sqlList = new ArrayList<String>(commitCount);
-                        }
-                    }
+                sql.append(block, start, pos - start);
+                start = pos;
+                sqlList.add(sql.toString());
+                sql.setLength(0);
+                if (callBack.isCommitNow(sqlList.size())) {
+                    callBack.executeSQLs(sqlList, size);
+                    size = 0;
+                    // New list, old list will be used by import task.
+                    sqlList = new ArrayList<String>(commitCount);
                 }
-                count = reader.read(cbuf);
             }
             if (StringUtils.isNotBlank(sql.toString())) {
                 sqlList.add(sql.toString());
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.core.trans;
+
+import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.dbobject.Column;
+import com.cubrid.cubridmigration.core.engine.UserDefinedDataHandlerManager;
+import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
+import java.util.Map;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * ColumnValueConverter converts the values of one exporting column to the target column. The user
+ * defined data handler, the target data type and the trim and replacement rules of the column are
+ * resolved when the converter is created instead of for every value.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public class ColumnValueConverter {
+
+    private final DBTransformHelper transformHelper;
+    private final MigrationConfiguration config;
+    private final SourceColumnConfig scc;
+    private final Column toColumn;
+    private final DataTypeInstance toType;
+    private final Object userDataHandler;
+    private final boolean needTrim;
+    private final boolean needReplace;
+
+    public ColumnValueConverter(
+            DBTransformHelper transformHelper,
+            MigrationConfiguration config,
+            SourceColumnConfig scc,
+            Column toColumn) {
+        this.transformHelper = transformHelper;
+        this.config = config;
+        this.scc = scc;
+        this.toColumn = toColumn;
+        this.toType = toColumn.getDataTypeInstance();
+        this.userDataHandler =
+                StringUtils.isBlank(scc.getUserDataHandler())
+                        ? null
+                        : UserDefinedDataHandlerManager.getInstance()
+                                .getColumnDataHandler(scc.getUserDataHandler());
+        this.needTrim = scc.isNeedTrim();
+        this.needReplace = scc.hasValueReplacement();
+    }
+
+    /**
+     * Retrieves whether the values are converted by a user defined data handler.
+     *
+     * @return true if the column has a user defined data handler
+     */
+    public boolean hasUserDataHandler() {
+        return userDataHandler != null;
+    }
+
+    /**
+     * Retrieves whether the source values of the class are passed to the target as they are.
+     *
+     * @param srcColumn the column of the source values
+     * @param valueClass class of the source values
+     * @return true if {@link #convert(Map, Column, Object)} does not change the values
+     */
+    public boolean isIdentity(Column srcColumn, Class<?> valueClass) {
+        if (userDataHandler != null) {
+            return false;
+        }
+        if (valueClass == String.class && (needTrim || needReplace)) {
+            return false;
+        }
+        return transformHelper.isIdentityConversion(srcColumn, toType, valueClass);
+    }
+
+    /**
+     * Convert the source value to the target value
+     *
+     * @param recordMap the column name to value map of the record, it is only used by the user
+     *     defined data handler.
+     * @param srcColumn the column of the source value
+     * @param srcValue source value
+     * @return target value
+     */
+    public Object convert(Map<String, Object> recordMap, Column srcColumn, Object srcValue) {
+        if (srcValue == null) {
+            return null;
+        }
+        // If user defined handler is not null, CMT will use the handler's return value.
+        if (userDataHandler != null) {
+            return UserDefinedDataHandlerManager.getInstance()
+                    .handleColumnData(userDataHandler, recordMap, scc.getName());
+        }
+        Object result =
+                transformHelper.convertColumnValue(config, srcColumn, toColumn, toType, srcValue);
+        if (result instanceof String) {
+            if (needTrim) {
+                result = result.toString().trim();
+            }
+            if (needReplace) {
+                result = scc.getReplaceValue(result.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -43,7 +43,6 @@ import com.cubrid.cubridmigration.core.dbobject.PartitionInfo;
 import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbobject.TableOrView;
 import com.cubrid.cubridmigration.core.dbobject.View;
-import com.cubrid.cubridmigration.core.engine.UserDefinedDataHandlerManager;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceConfig;
@@ -583,20 +582,58 @@ public abstract class DBTransformHelper {
         if (srcValue == null) {
             return null;
         }
-        final UserDefinedDataHandlerManager uddhm = UserDefinedDataHandlerManager.getInstance();
-        Object handler = uddhm.getColumnDataHandler(scc.getUserDataHandler());
-        // If user defined handler is not null, CMT will use the handler's return value.
-        if (handler != null) {
-            return uddhm.handleColumnData(handler, recordMap, scc.getName());
-        }
-        Object result = convertFactory.convert(srcValue, toColumn.getDataTypeInstance(), config);
-        if (result instanceof String) {
-            if (scc.isNeedTrim()) {
-                result = result.toString().trim();
-            }
-            result = scc.getReplaceValue(result.toString());
-        }
-        return result;
+        return getColumnValueConverter(config, scc, toColumn)
+                .convert(recordMap, srcColumn, srcValue);
+    }
+
+    /**
+     * Retrieves the converter of the column, it should be created once and reused by all values
+     * of the column.
+     *
+     * @param config MigrationConfiguration
+     * @param scc SourceColumnConfig
+     * @param toColumn target Column
+     * @return ColumnValueConverter
+     */
+    public ColumnValueConverter getColumnValueConverter(
+            MigrationConfiguration config, SourceColumnConfig scc, Column toColumn) {
+        return new ColumnValueConverter(this, config, scc, toColumn);
+    }
+
+    /**
+     * Convert the source value which is not handled by user defined data handler to the target
+     * data type. The source database specific conversions should override it.
+     *
+     * @param config MigrationConfiguration
+     * @param srcColumn Column
+     * @param toColumn Column
+     * @param toType the data type instance of the target column
+     * @param srcValue not null source value
+     * @return Object
+     */
+    protected Object convertColumnValue(
+            MigrationConfiguration config,
+            Column srcColumn,
+            Column toColumn,
+            DataTypeInstance toType,
+            Object srcValue) {
+        return convertFactory.convert(srcValue, toType, config);
+    }
+
+    /**
+     * Retrieves whether the source values of the class are not changed by {@link
+     * #convertColumnValue(MigrationConfiguration, Column, Column, DataTypeInstance, Object)}, then
+     * they can be passed to the target without being converted one by one. The source database
+     * specific conversions should override it if they change the values of the class.
+     *
+     * @param srcColumn Column
+     * @param toType the data type instance of the target column
+     * @param valueClass class of the source values
+     * @return true if the values are not changed
+     */
+    protected boolean isIdentityConversion(
+            Column srcColumn, DataTypeInstance toType, Class<?> valueClass) {
+        return convertFactory.isIdentity(valueClass, toType);
     }
 
     /**
@@ -49,4 +49,14 @@ public interface IDataConvertorFacade {
      * @return value Object
      */
     public Object convert(Object obj, DataTypeInstance dti, MigrationConfiguration config);
+
+    /**
+     * Retrieves whether the values of the class are returned as they are when they are converted
+     * to the data type.
+     *
+     * @param valueClass class of the values
+     * @param dti DataTypeInstance
+     * @return true if the conversion does not change the values
+     */
+    public boolean isIdentity(Class<?> valueClass, DataTypeInstance dti);
 }
@@ -0,0 +1,425 @@
+/*
+ * Copyright (C) 2008 Search Solution Corporation.
+ * Copyright (C) 2016 CUBRID Corporation.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * - Redistributions of source code must retain the above copyright notice,
+ *   this list of conditions and the following disclaimer.
+ *
+ * - Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * - Neither the name of the <ORGANIZATION> nor the names of its contributors
+ *   may be used to endorse or promote products derived from this software without
+ *   specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA,
+ * OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ * OF SUCH DAMAGE.
+ *
+ */
+package com.cubrid.cubridmigration.cubrid;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable and thread safe replacement of SimpleDateFormat for formatting values into the
+ * patterns used by CUBRID literals. The output is the same as SimpleDateFormat with Locale.US.
+ *
+ * <p>Patterns made of fixed width numeric fields, AM/PM markers and literals (such as
+ * "yyyy-MM-dd HH:mm:ss.SSS" or "hh:mm:ss a MM/dd/yyyy") are written directly into a char array.
+ * Other patterns with the supported letters are formatted by a cached DateTimeFormatter.
+ * Unsupported letters and years before the Gregorian cutover or after 9999, where the calendars
+ * of java.time and java.util differ, are handed to SimpleDateFormat.
+ *
+ * <p>Time zone offsets are always resolved by java.util.TimeZone, like Calendar does.
+ *
+ * @author Rathana
+ * @version 1.0 - 2026-10-18 created by Rathana
+ */
+public final class CUBRIDDateFormatter {
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final long MIN_LOCAL_MILLIS =
+            LocalDate.of(1583, 1, 1).toEpochDay() * MILLIS_PER_DAY;
+    private static final long MAX_LOCAL_MILLIS =
+            LocalDate.of(10000, 1, 1).toEpochDay() * MILLIS_PER_DAY;
+
+    private static final Map<String, CUBRIDDateFormatter> FORMATTERS =
+            new ConcurrentHashMap<String, CUBRIDDateFormatter>();
+
+    private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+    private static final char YEAR = 'y';
+    private static final char MONTH = 'M';
+    private static final char DAY = 'd';
+    private static final char HOUR_OF_DAY = 'H';
+    private static final char HOUR_OF_AMPM = 'h';
+    private static final char MINUTE = 'm';
+    private static final char SECOND = 's';
+    private static final char MILLISECOND = 'S';
+    private static final char AMPM = 'a';
+    private static final char LITERAL = 0;
+
+    private final String pattern;
+    private final Token[] tokens;
+    private final int length;
+    private final DateTimeFormatter formatter;
+
+    /**
+     * Retrieves the shared formatter of the pattern.
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @return CUBRIDDateFormatter
+     */
+    public static CUBRIDDateFormatter getInstance(String pattern) {
+        CUBRIDDateFormatter result = FORMATTERS.get(pattern);
+        if (result == null) {
+            result = new CUBRIDDateFormatter(pattern);
+            FORMATTERS.put(pattern, result);
+        }
+        return result;
+    }
+
+    private CUBRIDDateFormatter(String pattern) {
+        this.pattern = pattern;
+        List<Token> list = tokenize(pattern);
+        if (list == null) {
+            tokens = null;
+            length = -1;
+            formatter = null;
+            return;
+        }
+        tokens = list.toArray(new Token[list.size()]);
+        int len = 0;
+        for (Token token : tokens) {
+            if (len >= 0 && token.isFixedWidth()) {
+                len += token.getWidth();
+            } else {
+                len = -1;
+            }
+        }
+        length = len;
+        formatter = length < 0 ? createFormatter(tokens) : null;
+    }
+
+    /**
+     * Format date
+     *
+     * @param date to be formatted
+     * @param tz time zone, GMT if it is null
+     * @return String
+     */
+    public String format(Date date, TimeZone tz) {
+        return format(date.getTime(), tz);
+    }
+
+    /**
+     * Format time in milliseconds
+     *
+     * @param millis to be formatted
+     * @param tz time zone, GMT if it is null
+     * @return String
+     */
+    public String format(long millis, TimeZone tz) {
+        TimeZone zone = tz == null ? GMT : tz;
+        long local = millis + zone.getOffset(millis);
+        if (tokens == null || local < MIN_LOCAL_MILLIS || local >= MAX_LOCAL_MILLIS) {
+            return CUBRIDTimeUtil.getDateFormat(pattern, Locale.US, zone).format(new Date(millis));
+        }
+        if (formatter != null) {
+            long seconds = Math.floorDiv(local, 1000L);
+            int nanos = (int) Math.floorMod(local, 1000L) * 1000000;
+            return formatter.format(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC));
+        }
+        return formatFixed(local);
+    }
+
+    /**
+     * Write the fields of the local time into the pattern.
+     *
+     * @param local milliseconds since epoch in the local time
+     * @return String
+     */
+    private String formatFixed(long local) {
+        long days = Math.floorDiv(local, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(local, MILLIS_PER_DAY);
+        // Convert epoch days to the proleptic Gregorian year, month and day
+        long z = days + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+        int hour = millisOfDay / 3600000;
+
+        char[] buf = new char[length];
+        int pos = 0;
+        for (Token token : tokens) {
+            switch (token.letter) {
+                case YEAR:
+                    pos = writeNumber(buf, pos, year, token.count);
+                    break;
+                case MONTH:
+                    pos = writeNumber(buf, pos, month, token.count);
+                    break;
+                case DAY:
+                    pos = writeNumber(buf, pos, day, token.count);
+                    break;
+                case HOUR_OF_DAY:
+                    pos = writeNumber(buf, pos, hour, token.count);
+                    break;
+                case HOUR_OF_AMPM:
+                    pos = writeNumber(buf, pos, hour % 12 == 0 ? 12 : hour % 12, token.count);
+                    break;
+                case MINUTE:
+                    pos = writeNumber(buf, pos, millisOfDay / 60000 % 60, token.count);
+                    break;
+                case SECOND:
+                    pos = writeNumber(buf, pos, millisOfDay / 1000 % 60, token.count);
+                    break;
+                case MILLISECOND:
+                    pos = writeNumber(buf, pos, millisOfDay % 1000, token.count);
+                    break;
+                case AMPM:
+                    buf[pos++] = hour < 12 ? 'A' : 'P';
+                    buf[pos++] = 'M';
+                    break;
+                default:
+                    token.text.getChars(0, token.text.length(), buf, pos);
+                    pos += token.text.length();
+                    break;
+            }
+        }
+        return new String(buf);
+    }
+
+    /**
+     * Write a non negative number padded with zero into the buffer.
+     *
+     * @param buf char[]
+     * @param pos start position
+     * @param value number
+     * @param width the count of digits
+     * @return the position after the number
+     */
+    private static int writeNumber(char[] buf, int pos, int value, int width) {
+        int number = value;
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return pos + width;
+    }
+
+    /**
+     * Split the pattern by the rules of SimpleDateFormat.
+     *
+     * @param pattern String
+     * @return tokens or null if the pattern has a letter which is not supported
+     */
+    private static List<Token> tokenize(String pattern) {
+        List<Token> result = new ArrayList<Token>();
+        StringBuffer literal = new StringBuffer();
+        int len = pattern.length();
+        int i = 0;
+        while (i < len) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < len && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                    continue;
+                }
+                int end = i + 1;
+                while (true) {
+                    if (end >= len) {
+                        return null;
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < len && pattern.charAt(end + 1) == '\'') {
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(end++));
+                }
+                i = end + 1;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int end = i + 1;
+                while (end < len && pattern.charAt(end) == c) {
+                    end++;
+                }
+                int count = end - i;
+                if (!isSupported(c, count)) {
+                    return null;
+                }
+                if (literal.length() > 0) {
+                    result.add(new Token(LITERAL, 0, literal.toString()));
+                    literal.setLength(0);
+                }
+                result.add(new Token(c, count, null));
+                i = end;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            result.add(new Token(LITERAL, 0, literal.toString()));
+        }
+        return result;
+    }
+
+    /**
+     * Two digits years and full month names are left to SimpleDateFormat.
+     *
+     * @param letter pattern letter
+     * @param count repeated times
+     * @return true if the field can be formatted by this class
+     */
+    private static boolean isSupported(char letter, int count) {
+        switch (letter) {
+            case YEAR:
+                return count != 2;
+            case MONTH:
+                return count <= 3;
+            case DAY:
+            case HOUR_OF_DAY:
+            case HOUR_OF_AMPM:
+            case MINUTE:
+            case SECOND:
+            case MILLISECOND:
+            case AMPM:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Build the DateTimeFormatter of the tokens.
+     *
+     * @param tokens of the pattern
+     * @return DateTimeFormatter
+     */
+    private static DateTimeFormatter createFormatter(Token[] tokens) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        for (Token token : tokens) {
+            switch (token.letter) {
+                case YEAR:
+                    appendNumber(builder, ChronoField.YEAR_OF_ERA, token.count);
+                    break;
+                case MONTH:
+                    if (token.count == 3) {
+                        builder.appendText(ChronoField.MONTH_OF_YEAR, TextStyle.SHORT);
+                    } else {
+                        appendNumber(builder, ChronoField.MONTH_OF_YEAR, token.count);
+                    }
+                    break;
+                case DAY:
+                    appendNumber(builder, ChronoField.DAY_OF_MONTH, token.count);
+                    break;
+                case HOUR_OF_DAY:
+                    appendNumber(builder, ChronoField.HOUR_OF_DAY, token.count);
+                    break;
+                case HOUR_OF_AMPM:
+                    appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, token.count);
+                    break;
+                case MINUTE:
+                    appendNumber(builder, ChronoField.MINUTE_OF_HOUR, token.count);
+                    break;
+                case SECOND:
+                    appendNumber(builder, ChronoField.SECOND_OF_MINUTE, token.count);
+                    break;
+                case MILLISECOND:
+                    appendNumber(builder, ChronoField.MILLI_OF_SECOND, token.count);
+                    break;
+                case AMPM:
+                    builder.appendText(ChronoField.AMPM_OF_DAY, TextStyle.SHORT);
+                    break;
+                default:
+                    builder.appendLiteral(token.text);
+                    break;
+            }
+        }
+        return builder.toFormatter(Locale.US);
+    }
+
+    private static void appendNumber(
+            DateTimeFormatterBuilder builder, ChronoField field, int count) {
+        builder.appendValue(field, Math.min(count, 19), 19, SignStyle.NORMAL);
+    }
+
+    /** A field or a literal of the pattern */
+    private static final class Token {
+        private final char letter;
+        private final int count;
+        private final String text;
+
+        Token(char letter, int count, String text) {
+            this.letter = letter;
+            this.count = count;
+            this.text = text;
+        }
+
+        /**
+         * Numeric fields padded to their natural width, AM/PM markers and literals
+         *
+         * @return true if the token always has the same width
+         */
+        boolean isFixedWidth() {
+            switch (letter) {
+                case YEAR:
+                    return count == 4;
+                case MILLISECOND:
+                    return count == 3;
+                case MONTH:
+                case DAY:
+                case HOUR_OF_DAY:
+                case HOUR_OF_AMPM:
+                case MINUTE:
+                case SECOND:
+                    return count == 2;
+                default:
+                    return true;
+            }
+        }
+
+        int getWidth() {
+            if (letter == LITERAL) {
+                return text.length();
+            }
+            return letter == AMPM ? 2 : count;
+        }
+    }
+}
@@ -230,8 +230,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return yyyy-MM-dd
      */
     public static String defaultFormatDate(Date date) {
-        return CUBRIDTimeUtil.getDateFormat("yyyy-MM-dd", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "yyyy-MM-dd", TimeZone.getDefault());
     }
 
     /**
@@ -241,8 +240,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return yyyy-MM-dd HH:mm:ss
      */
     public static String defaultFormatDateTime(Date date) {
-        return CUBRIDTimeUtil.getDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "yyyy-MM-dd HH:mm:ss", TimeZone.getDefault());
     }
 
     /**
@@ -252,8 +250,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return yyyyMMddHHmmss
      */
     public static String wizardStarDateTimeFormat(Date date) {
-        return CUBRIDTimeUtil.getDateFormat("yyyyMMddHHmm", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "yyyyMMddHHmm", TimeZone.getDefault());
     }
 
     /**
@@ -263,9 +260,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return yyyy-MM-dd HH:mm:ss.SSS
      */
     public static String defaultFormatMilin(Date date) {
-        return CUBRIDTimeUtil.getDateFormat(
-                        "yyyy-MM-dd HH:mm:ss.SSS", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "yyyy-MM-dd HH:mm:ss.SSS", TimeZone.getDefault());
     }
 
     /**
@@ -275,8 +270,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return HH:mm:ss
      */
     public static String defaultFormatTime(Date date) {
-        return CUBRIDTimeUtil.getDateFormat("HH:mm:ss", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "HH:mm:ss", TimeZone.getDefault());
     }
 
     /**
@@ -286,12 +280,11 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return HH:mm:ss.SSS
      */
     public static String defaultFormatTimeMilin(Date date) {
-        return CUBRIDTimeUtil.getDateFormat("HH:mm:ss.SSS", Locale.US, TimeZone.getDefault())
-                .format(date);
+        return formatDate(date, "HH:mm:ss.SSS", TimeZone.getDefault());
     }
 
     /**
-     * getDateCUBRIDString
+     * getDateCUBRIDString, the formatter of the pattern is cached and shared by all threads.
      *
      * @param date Date
      * @param datepattern String
@@ -299,10 +292,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return String
      */
     public static String formatDate(final Date date, final String datepattern, TimeZone tz) {
-        final DateFormat formatter = new SimpleDateFormat(datepattern, Locale.US);
-        formatter.setTimeZone(tz);
-        formatter.setLenient(false);
-        return formatter.format(date);
+        return CUBRIDDateFormatter.getInstance(datepattern).format(date, tz);
     }
 
     /**
@@ -314,9 +304,7 @@ public class CUBRIDTimeUtil { // NOPMD
      * @return String
      */
     public static String formatDateTime(long dateTime, String datepattern, TimeZone tz) {
-        DateFormat formatter = getDateFormat(datepattern, Locale.US, tz);
-        Date date = new Date(dateTime);
-        return formatter.format(date);
+        return CUBRIDDateFormatter.getInstance(datepattern).format(dateTime, tz);
     }
 
     /**
@@ -397,11 +385,9 @@ public class CUBRIDTimeUtil { // NOPMD
      */
     public static String formatTimestampLong(long timestamp, String datepattern, TimeZone tz) {
         long newTimestamp = timestamp;
-        DateFormat formatter = getDateFormat(datepattern, Locale.US, tz);
         newTimestamp = newTimestamp / 1000;
         newTimestamp = newTimestamp * 1000;
-        Date date = new Date(newTimestamp);
-        return formatter.format(date);
+        return CUBRIDDateFormatter.getInstance(datepattern).format(newTimestamp, tz);
     }
 
     /**
@@ -37,8 +37,13 @@ import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.datatype.DataTypeConstant;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.Record.ColumnValue;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
+import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.engine.MigrationDirAndFilesManager;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
+import com.cubrid.cubridmigration.core.engine.importer.LobPackWriter;
 import com.cubrid.cubridmigration.core.trans.IData2StrTranslator;
 import com.cubrid.cubridmigration.cubrid.exception.FormatCUBRIDDataTypeException;
 import com.cubrid.cubridmigration.cubrid.format.BitToCUBRIDString;
@@ -99,6 +104,7 @@ public class Data2StrTranslator implements IData2StrTranslator {
 
     private final int targetDataFileFormat;
     private final MigrationDirAndFilesManager dirAndFilesManager;
+    private final boolean packLob;
 
     public Data2StrTranslator(
             String dataFilePath,
@@ -108,6 +114,9 @@ public class Data2StrTranslator implements IData2StrTranslator {
         this.lobFilePath = dataFilePath;
         this.targetDataFileFormat = targetDataFileFormat;
         this.dirAndFilesManager = dirAndFilesManager;
+        this.packLob =
+                config.isPackLobFiles()
+                        && targetDataFileFormat == MigrationConfiguration.DEST_DB_UNLOAD;
         // Initialize formaters mapping
         formaters.put(DataTypeConstant.CUBRID_DT_MONETARY, new IntegerToCUBRIDString());
         formaters.put(DataTypeConstant.CUBRID_DT_INTEGER, new IntegerToCUBRIDString());
@@ -275,6 +284,35 @@ public class Data2StrTranslator implements IData2StrTranslator {
                 dataVal, cubridColumn.getDataType(), schemaName, tableName, lobFiles);
     }
 
+    /**
+     * Retrieves the string of a value in the target record batch. The int and long values of the
+     * integer columns are formatted without being boxed.
+     *
+     * @param batch target records
+     * @param row index of the record
+     * @param column index of the column
+     * @param lobFiles to be uploaded
+     * @return String
+     */
+    public String stringValueOf(RecordBatch batch, int row, int column, List<String> lobFiles) {
+        if (batch.isNull(row, column)) {
+            return VALUE_NULL;
+        }
+        final Column cubridColumn = batch.getColumn(column);
+        final int kind = batch.getKind(column);
+        if (kind == RecordBatch.KIND_INT || kind == RecordBatch.KIND_LONG) {
+            Integer dataTypeID =
+                    CUBRIDDataTypeHelper.getInstance(null)
+                            .getCUBRIDDataTypeID(cubridColumn.getDataType());
+            if (formaters.get(dataTypeID) instanceof IntegerToCUBRIDString) {
+                return kind == RecordBatch.KIND_INT
+                        ? Integer.toString(batch.getInt(row, column))
+                        : Long.toString(batch.getLong(row, column));
+            }
+        }
+        return stringValueOf(batch.getValue(row, column), cubridColumn, lobFiles);
+    }
+
     /**
      * return data value string
      *
@@ -301,17 +339,35 @@ public class Data2StrTranslator implements IData2StrTranslator {
                 return exportBlobToFile(dataVal, schemaName, tableName, lobFiles);
             }
             formater = formaters.get(DataTypeConstant.CUBRID_DT_BIT);
-            return formater.format(dataVal);
+            return formater.format(materializeLob(dataVal));
         } else if (dataTypeID == DataTypeConstant.CUBRID_DT_CLOB) {
             if (targetDataFileFormat == MigrationConfiguration.DEST_DB_UNLOAD) {
                 return exportClobToFile(dataVal, schemaName, tableName, lobFiles);
             }
             formater = formaters.get(DataTypeConstant.CUBRID_DT_VARCHAR);
-            return formater.format(dataVal);
+            return formater.format(materializeLob(dataVal));
         }
         return VALUE_NULL;
     }
 
+    /**
+     * Read the spilled LOB value into heap, it is used by the formats which can not refer to a LOB
+     * file.
+     *
+     * @param dataVal Object
+     * @return byte[] or String if the value was spilled, else the value itself
+     */
+    private static Object materializeLob(Object dataVal) {
+        if (!(dataVal instanceof SpilledLob)) {
+            return dataVal;
+        }
+        try {
+            return ((SpilledLob) dataVal).materialize();
+        } catch (IOException ex) {
+            throw new NormalMigrationException(ex);
+        }
+    }
+
     /**
      * return a line of a record in the unload file
      *
@@ -320,6 +376,16 @@ public class Data2StrTranslator implements IData2StrTranslator {
      * @return String
      */
     public String getRecordString(List<ColumnValue> columnList, List<String> columnDataList) {
+        return getRecordString(columnDataList);
+    }
+
+    /**
+     * return a line of a record in the unload file
+     *
+     * @param columnDataList data list
+     * @return String
+     */
+    public String getRecordString(List<String> columnDataList) {
         if (columnDataList == null) {
             return null;
         }
@@ -349,6 +415,13 @@ public class Data2StrTranslator implements IData2StrTranslator {
         } else if (obj instanceof byte[]) {
             byte buf[] = (byte[]) obj;
             CUBRIDIOUtils.writeToFile(fileName, new ByteArrayInputStream(buf));
+        } else if (obj instanceof SpilledLob) {
+            SpilledLob lob = (SpilledLob) obj;
+            if (lob.isCharacter()) {
+                CUBRIDIOUtils.writeToFile(lob.openReader(), fileName, TARGET_CHARSET);
+            } else {
+                CUBRIDIOUtils.writeToFile(fileName, lob.openStream());
+            }
         } else if (obj instanceof String) {
             String clob = (String) obj;
             CUBRIDIOUtils.writeToFile(new StringReader(clob), fileName, TARGET_CHARSET);
@@ -376,6 +449,10 @@ public class Data2StrTranslator implements IData2StrTranslator {
         }
         String blobFileName = tableName + "." + DBUtils.getIdentity();
         String lobDirDepth = dirAndFilesManager.getLobDirDepth(schemaName, tableName);
+        if (packLob) {
+            return packLob(
+                    data, BLOB_HEADER, schemaName, tableName, lobDirDepth, blobFileName, lobFiles);
+        }
 
         String blobFilePath =
                 PathUtils.mergePath(
@@ -403,17 +480,12 @@ public class Data2StrTranslator implements IData2StrTranslator {
             }
 
             lobFiles.add(blobFilePath);
-            return new StringBuffer(BLOB_HEADER)
-                    .append(new File(blobFilePath).length())
-                    .append(LOB_HEADER)
-                    .append(LOBFILEPATH)
-                    .append(lobDirDepth)
-                    .append(File.separator)
-                    .append(blobFileName)
-                    .append("|")
-                    .append(tableName)
-                    .append("'")
-                    .toString();
+            return getLobReference(
+                    BLOB_HEADER,
+                    new File(blobFilePath).length(),
+                    lobDirDepth,
+                    blobFileName,
+                    tableName);
         } catch (Exception e) {
             LOG.error("", e);
         }
@@ -436,6 +508,10 @@ public class Data2StrTranslator implements IData2StrTranslator {
         }
         String clobFileName = tableName + DBUtils.getIdentity();
         String lobDirDepth = dirAndFilesManager.getLobDirDepth(schemaName, tableName);
+        if (packLob) {
+            return packLob(
+                    data, CLOB_HEADER, schemaName, tableName, lobDirDepth, clobFileName, lobFiles);
+        }
 
         String clobFilePath =
                 PathUtils.mergePath(
@@ -463,23 +539,99 @@ public class Data2StrTranslator implements IData2StrTranslator {
 
             lobFiles.add(clobFilePath);
 
-            return new StringBuffer(CLOB_HEADER)
-                    .append(new File(clobFilePath).length())
-                    .append(LOB_HEADER)
-                    .append(LOBFILEPATH)
-                    .append(lobDirDepth)
-                    .append(File.separator)
-                    .append(clobFileName)
-                    .append("|")
-                    .append(tableName)
-                    .append("'")
-                    .toString();
+            return getLobReference(
+                    CLOB_HEADER,
+                    new File(clobFilePath).length(),
+                    lobDirDepth,
+                    clobFileName,
+                    tableName);
         } catch (Exception e) {
             LOG.error("", e);
         }
         return VALUE_NULL;
     }
 
+    /**
+     * Append the LOB value to the LOB pack of the table. The value is referred as the LOB file
+     * which will be restored from the pack by LobPackReader.
+     *
+     * @param data Object
+     * @param header BLOB_HEADER or CLOB_HEADER
+     * @param schemaName String
+     * @param tableName String
+     * @param lobDirDepth String
+     * @param lobFileName String
+     * @param lobFiles to be uploaded
+     * @return String
+     */
+    private String packLob(
+            Object data,
+            String header,
+            String schemaName,
+            String tableName,
+            String lobDirDepth,
+            String lobFileName,
+            List<String> lobFiles) {
+        try {
+            LobPackWriter pack =
+                    dirAndFilesManager.getLobPack(getLobDir(schemaName, tableName), tableName);
+            long length = pack.append(lobDirDepth + File.separator + lobFileName, data);
+            lobFiles.add(pack.getCurrentSegmentFile().getPath());
+            return getLobReference(header, length, lobDirDepth, lobFileName, tableName);
+        } catch (Exception e) {
+            LOG.error("", e);
+        }
+        return VALUE_NULL;
+    }
+
+    /**
+     * Close the LOB pack of the table, it will be reopened if more LOB values come.
+     *
+     * @param table target table
+     */
+    public void closeLobPack(Table table) {
+        if (packLob) {
+            dirAndFilesManager.closeLobPack(getLobDir(table.getOwner(), table.getName()));
+        }
+    }
+
+    /**
+     * Retrieves the LOB directory of the table
+     *
+     * @param schemaName String
+     * @param tableName String
+     * @return String
+     */
+    private String getLobDir(String schemaName, String tableName) {
+        return PathUtils.getLocalHostFilePath(
+                PathUtils.mergePath(lobFilePath, "/lob/" + schemaName + "/" + tableName));
+    }
+
+    /**
+     * Retrieves the reference of a LOB file in the unload file
+     *
+     * @param header BLOB_HEADER or CLOB_HEADER
+     * @param length of the LOB value in bytes
+     * @param lobDirDepth String
+     * @param lobFileName String
+     * @param tableName String
+     * @return String
+     */
+    private static String getLobReference(
+            String header, long length, String lobDirDepth, String lobFileName, String tableName) {
+        return new StringBuffer(header)
+                .append(length)
+                .append(LOB_HEADER)
+                .append(LOBFILEPATH)
+                .append(lobDirDepth)
+                .append(File.separator)
+                .append(lobFileName)
+                .append("|")
+                .append(tableName)
+                .append("'")
+                .toString();
+    }
+
     /**
      * If the char or varchar value is to long (>70), separate it
      *
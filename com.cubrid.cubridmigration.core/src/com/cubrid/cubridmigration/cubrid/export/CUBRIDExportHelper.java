@@ -35,6 +35,7 @@ import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.connection.ConnParameters;
 import com.cubrid.cubridmigration.core.datatype.DataTypeConstant;
 import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
 import com.cubrid.cubridmigration.core.engine.config.SourceEntryTableConfig;
 import com.cubrid.cubridmigration.core.engine.config.SourceSequenceConfig;
@@ -53,6 +54,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.log4j.Logger;
@@ -237,4 +242,49 @@ public class CUBRIDExportHelper extends DBExportHelper {
         }
         return null;
     }
+
+    /**
+     * Retrieves the row counts of the tables from the estimated record count in the heap header
+     * of each table. The partitioned tables are counted.
+     *
+     * @param con Connection
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the heap header is not supported
+     */
+    protected Map<Table, Long> getStatisticsRowCounts(Connection con, List<Table> tables)
+            throws SQLException {
+        Map<Table, Long> result = new IdentityHashMap<Table, Long>();
+        Statement stmt = con.createStatement();
+        try {
+            for (Table tbl : tables) {
+                if (tbl.getPartitionInfo() != null) {
+                    continue;
+                }
+                StringBuffer sql = new StringBuffer("SHOW HEAP HEADER OF ");
+                if (tbl.getOwner() != null) {
+                    sql.append(getQuotedObjName(tbl.getOwner())).append(".");
+                }
+                sql.append(getQuotedObjName(tbl.getName()));
+                ResultSet rs = null;
+                try {
+                    rs = stmt.executeQuery(sql.toString());
+                    if (rs.next()) {
+                        result.put(tbl, rs.getLong("Estimates_num_recs"));
+                    }
+                } catch (SQLException ex) {
+                    // The old versions don't support it, the tables will be counted.
+                    if (result.isEmpty()) {
+                        throw ex;
+                    }
+                    LOG.warn("Heap header of " + tbl.getName() + " can't be read.", ex);
+                } finally {
+                    Closer.close(rs);
+                }
+            }
+        } finally {
+            Closer.close(stmt);
+        }
+        return result;
+    }
 }
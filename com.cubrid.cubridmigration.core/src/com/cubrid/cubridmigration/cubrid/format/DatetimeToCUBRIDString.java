@@ -34,8 +34,6 @@ import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.cubrid.CUBRIDTimeUtil;
 import com.cubrid.cubridmigration.cubrid.IFormatValueToString;
 import java.sql.Timestamp;
-import java.text.DateFormat;
-import java.util.Locale;
 
 /**
  * DatetimeToCUBRIDString Description
@@ -59,10 +57,9 @@ public class DatetimeToCUBRIDString implements IFormatValueToString {
      */
     public String format(Object value) {
         // Date:  no timezone in mysql
-        final DateFormat formatter =
-                CUBRIDTimeUtil.getDateFormat(
-                        "yyyy-MM-dd HH:mm:ss.SSS", Locale.US, config.getTargetDatabaseTimeZone());
-        String datetime = formatter.format(Timestamp.valueOf(String.valueOf(value)));
-        return datetime;
+        return CUBRIDTimeUtil.formatDate(
+                Timestamp.valueOf(String.valueOf(value)),
+                "yyyy-MM-dd HH:mm:ss.SSS",
+                config.getTargetDatabaseTimeZone());
     }
 }
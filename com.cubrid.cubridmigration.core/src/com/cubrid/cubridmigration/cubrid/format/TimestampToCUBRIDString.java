@@ -33,8 +33,6 @@ package com.cubrid.cubridmigration.cubrid.format;
 import com.cubrid.cubridmigration.cubrid.CUBRIDTimeUtil;
 import com.cubrid.cubridmigration.cubrid.IFormatValueToString;
 import java.sql.Timestamp;
-import java.text.DateFormat;
-import java.util.Locale;
 import java.util.TimeZone;
 
 /**
@@ -58,10 +56,9 @@ public class TimestampToCUBRIDString implements IFormatValueToString {
      * @return String value
      */
     public String format(Object value) {
-        final DateFormat formatter =
-                CUBRIDTimeUtil.getDateFormat(
-                        "hh:mm:ss a MM/dd/yyyy", Locale.US, TimeZone.getDefault());
-        String timestamp = formatter.format(Timestamp.valueOf(String.valueOf(value)));
-        return timestamp;
+        return CUBRIDTimeUtil.formatDate(
+                Timestamp.valueOf(String.valueOf(value)),
+                "hh:mm:ss a MM/dd/yyyy",
+                TimeZone.getDefault());
     }
 }
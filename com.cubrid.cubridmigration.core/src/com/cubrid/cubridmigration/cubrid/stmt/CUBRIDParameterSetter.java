@@ -31,7 +31,9 @@
 package com.cubrid.cubridmigration.cubrid.stmt;
 
 import com.cubrid.cubridmigration.core.datatype.DataTypeConstant;
+import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.Record;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
 import com.cubrid.cubridmigration.core.dbobject.Record.ColumnValue;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
@@ -52,6 +54,7 @@ import com.cubrid.cubridmigration.cubrid.stmt.handler.VarBitHandler;
 import com.cubrid.cubridmigration.cubrid.stmt.handler.VarcharHandler;
 import java.sql.PreparedStatement;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -65,6 +68,7 @@ public class CUBRIDParameterSetter {
 
     private final Map<Integer, SetterHandler> handlerMap = new HashMap<Integer, SetterHandler>();
     private final DefaultHandler defaultHandler = new DefaultHandler();
+    private final DoubleHandler doubleHandler = new DoubleHandler();
 
     public CUBRIDParameterSetter(MigrationConfiguration config) {
         String sourceCharset = config.getSourceCharset();
@@ -82,7 +86,7 @@ public class CUBRIDParameterSetter {
         handlerMap.put(DataTypeConstant.CUBRID_DT_TIMESTAMP, new TimestampHandler());
 
         handlerMap.put(DataTypeConstant.CUBRID_DT_FLOAT, new FloatHandler());
-        handlerMap.put(DataTypeConstant.CUBRID_DT_DOUBLE, new DoubleHandler());
+        handlerMap.put(DataTypeConstant.CUBRID_DT_DOUBLE, doubleHandler);
         handlerMap.put(DataTypeConstant.CUBRID_DT_NUMERIC, new NumericHandler());
 
         handlerMap.put(DataTypeConstant.CUBRID_DT_SMALLINT, defaultHandler);
@@ -127,6 +131,75 @@ public class CUBRIDParameterSetter {
         }
     }
 
+    /**
+     * Set column value to prepared statement with the handlers resolved before.
+     *
+     * @param record Record
+     * @param handlers the setter handlers of the record's columns
+     * @param stmt PreparedStatement
+     */
+    public void setRecord2Statement(
+            Record record, SetterHandler[] handlers, PreparedStatement stmt) {
+        final List<ColumnValue> columnValues = record.getColumnValueList();
+        int len = columnValues.size();
+        try {
+            for (int i = 0; i < len; i++) {
+                ColumnValue columnValue = columnValues.get(i);
+                final SetterHandler handler =
+                        i < handlers.length && handlers[i] != null
+                                ? handlers[i]
+                                : getHandler(columnValue);
+                if (columnValue.getValue() == null) {
+                    handler.setNull(stmt, i);
+                } else {
+                    handler.handle(stmt, i, columnValue);
+                }
+            }
+        } catch (Exception e) {
+            throw new NormalMigrationException(e);
+        }
+    }
+
+    /**
+     * Set the values of a record in the batch to prepared statement. The int, long and double
+     * values kept in primitive arrays are set without being boxed if their handlers set them as
+     * they are.
+     *
+     * @param batch target records
+     * @param row index of the record
+     * @param handlers the setter handlers of the batch's columns
+     * @param stmt PreparedStatement
+     */
+    public void setRecord2Statement(
+            RecordBatch batch, int row, SetterHandler[] handlers, PreparedStatement stmt) {
+        final int len = batch.getColumnCount();
+        try {
+            for (int i = 0; i < len; i++) {
+                final SetterHandler handler =
+                        i < handlers.length && handlers[i] != null
+                                ? handlers[i]
+                                : getHandler(batch.getColumn(i));
+                if (batch.isNull(row, i)) {
+                    handler.setNull(stmt, i);
+                    continue;
+                }
+                final int kind = batch.getKind(i);
+                if (handler == defaultHandler && kind == RecordBatch.KIND_INT) {
+                    stmt.setString(i + 1, Integer.toString(batch.getInt(row, i)));
+                } else if (handler == defaultHandler && kind == RecordBatch.KIND_LONG) {
+                    stmt.setString(i + 1, Long.toString(batch.getLong(row, i)));
+                } else if (handler == doubleHandler && kind == RecordBatch.KIND_DOUBLE) {
+                    stmt.setDouble(i + 1, batch.getDouble(row, i));
+                } else {
+                    handler.handle(
+                            stmt, i, new ColumnValue(batch.getColumn(i), batch.getValue(row, i)));
+                }
+            }
+        } catch (Exception e) {
+            throw new NormalMigrationException(e);
+        }
+    }
+
     /**
      * If cannot find hander, return a default handler.
      *
@@ -134,7 +207,18 @@ public class CUBRIDParameterSetter {
      * @return SetterHandler
      */
     private SetterHandler getHandler(ColumnValue columnValue) {
-        SetterHandler setterHandler = handlerMap.get(columnValue.getColumn().getJdbcIDOfDataType());
+        return getHandler(columnValue.getColumn());
+    }
+
+    /**
+     * Retrieves the handler of the column's data type. If cannot find hander, return a default
+     * handler.
+     *
+     * @param column target column
+     * @return SetterHandler
+     */
+    public SetterHandler getHandler(Column column) {
+        SetterHandler setterHandler = handlerMap.get(column.getJdbcIDOfDataType());
         if (setterHandler == null) {
             setterHandler = defaultHandler;
         }
@@ -32,6 +32,7 @@ package com.cubrid.cubridmigration.cubrid.stmt.handler;
 
 import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.dbobject.Record.ColumnValue;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -76,6 +77,8 @@ public class BlobHandler extends DefaultHandler {
             } else if (value instanceof InputStream) {
                 in = (InputStream) value;
 
+            } else if (value instanceof SpilledLob) {
+                in = ((SpilledLob) value).openStream();
             } else if (value instanceof byte[]) {
                 in = new ByteArrayInputStream((byte[]) value);
             } else {
@@ -93,7 +96,7 @@ public class BlobHandler extends DefaultHandler {
                                     .newInstance(stmt.getConnection());
 
             out = blob.setBinaryStream(1);
-            byte[] data = new byte[512];
+            byte[] data = new byte[8192];
             int count;
             while ((count = in.read(data)) != -1) {
                 out.write(data, 0, count);
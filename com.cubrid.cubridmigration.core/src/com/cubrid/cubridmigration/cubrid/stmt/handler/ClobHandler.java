@@ -32,6 +32,7 @@ package com.cubrid.cubridmigration.cubrid.stmt.handler;
 
 import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.dbobject.Record.ColumnValue;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -82,6 +83,8 @@ public class ClobHandler extends DefaultHandler {
                 reader = srcClob.getCharacterStream();
             } else if (value instanceof InputStream) {
                 reader = new InputStreamReader((InputStream) value, sourceCharset);
+            } else if (value instanceof SpilledLob) {
+                reader = ((SpilledLob) value).openReader();
             } else {
                 reader = new StringReader(String.valueOf(value));
             }
@@ -96,7 +99,7 @@ public class ClobHandler extends DefaultHandler {
                                     .newInstance(stmt.getConnection(), targetCharset);
 
             writer = clob.setCharacterStream(1);
-            char[] charArr = new char[512];
+            char[] charArr = new char[8192];
             int count = reader.read(charArr);
             while (count > 0) {
                 writer.write(charArr, 0, count);
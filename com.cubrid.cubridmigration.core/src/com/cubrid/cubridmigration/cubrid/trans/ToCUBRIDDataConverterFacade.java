@@ -33,7 +33,9 @@ package com.cubrid.cubridmigration.cubrid.trans;
 import com.cubrid.cubridmigration.core.common.CommonUtils;
 import com.cubrid.cubridmigration.core.datatype.DataTypeConstant;
 import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
+import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.trans.AbstractDataConverter;
 import com.cubrid.cubridmigration.core.trans.IDataConvertorFacade;
 import com.cubrid.cubridmigration.cubrid.CUBRIDDataTypeHelper;
@@ -51,12 +53,18 @@ import com.cubrid.cubridmigration.cubrid.trans.converter.NumericConverter;
 import com.cubrid.cubridmigration.cubrid.trans.converter.SmallIntConverter;
 import com.cubrid.cubridmigration.cubrid.trans.converter.TimeConverter;
 import com.cubrid.cubridmigration.cubrid.trans.converter.TimeStampConverter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CubridObjectFactory Description
@@ -67,8 +75,51 @@ import java.util.Map;
 public final class ToCUBRIDDataConverterFacade implements IDataConvertorFacade {
 
     private static final ToCUBRIDDataConverterFacade INSTANCE = new ToCUBRIDDataConverterFacade();
+
+    /** The classes of the values which are returned by the converters without any change. */
+    private static final Map<Integer, Class<?>> IDENTITY_CLASSES = new HashMap<Integer, Class<?>>();
+
+    private static final AbstractDataConverter IDENTITY_KERNEL =
+            new AbstractDataConverter() {
+                public Object convert(
+                        Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+                    return obj;
+                }
+            };
+
+    private static final AbstractDataConverter ENUM_KERNEL =
+            new AbstractDataConverter() {
+                public Object convert(
+                        Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+                    return (String) obj;
+                }
+            };
+
+    static {
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_SMALLINT, Short.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_INTEGER, Integer.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_BIGINT, Long.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_NUMERIC, BigInteger.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_FLOAT, Float.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_DOUBLE, Double.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_MONETARY, Double.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_CHAR, String.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_VARCHAR, String.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_NCHAR, String.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_NVARCHAR, String.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_TIME, Time.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_DATE, java.sql.Date.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_DATETIME, Timestamp.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_BIT, byte[].class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_VARBIT, byte[].class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_CLOB, String.class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_BLOB, byte[].class);
+        IDENTITY_CLASSES.put(DataTypeConstant.CUBRID_DT_JSON, String.class);
+    }
+
     private final Map<Integer, AbstractDataConverter> converterMap =
             new HashMap<Integer, AbstractDataConverter>();
+    private final Map<String, TargetType> targetTypes = new ConcurrentHashMap<String, TargetType>();
 
     /**
      * Singleton factory
@@ -109,7 +160,8 @@ public final class ToCUBRIDDataConverterFacade implements IDataConvertorFacade {
     }
 
     /**
-     * Convert input value to a data with specified data type.
+     * Convert input value to a data with specified data type. The conversion is resolved once for
+     * every target data type and class of the values.
      *
      * @param obj Object
      * @param dti Integer
@@ -121,25 +173,104 @@ public final class ToCUBRIDDataConverterFacade implements IDataConvertorFacade {
         if (obj == null) {
             return null;
         }
-        CUBRIDDataTypeHelper dataTypeHelper = CUBRIDDataTypeHelper.getInstance(null);
-        if (dataTypeHelper.isEnum(dti.getName())) {
-            return (String) obj;
-        } else if (dataTypeHelper.isCollection(dti.getName())) {
-            return toCUBRIDCollection(obj, dti, config);
-        }
-        Object dataTypeID = dataTypeHelper.getCUBRIDDataTypeID(dti.getName());
-        final AbstractDataConverter cvter = converterMap.get(dataTypeID);
-        if (cvter != null) {
-            Object value = obj;
-            // Transform Byte[] to byte[]
-            if (obj instanceof Byte[]) {
-                value = CommonUtils.getBytesFromByteArray((Byte[]) obj);
+        final TargetType targetType = getTargetType(dti.getName());
+        if (obj instanceof SpilledLob) {
+            // The spilled LOB values are streamed to the target LOB columns by the importers.
+            if (targetType.typeID == DataTypeConstant.CUBRID_DT_BLOB
+                    || targetType.typeID == DataTypeConstant.CUBRID_DT_CLOB) {
+                return obj;
+            }
+            try {
+                return convert(((SpilledLob) obj).materialize(), dti, config);
+            } catch (IOException ex) {
+                throw new NormalMigrationException(ex);
             }
+        }
+        return targetType.getKernel(obj.getClass()).convert(obj, dti, config);
+    }
+
+    /**
+     * Retrieves whether the values of the class are returned as they are when they are converted
+     * to the data type.
+     *
+     * @param valueClass class of the values
+     * @param dti DataTypeInstance
+     * @return true if the conversion does not change the values
+     */
+    public boolean isIdentity(Class<?> valueClass, DataTypeInstance dti) {
+        return getTargetType(dti.getName()).getKernel(valueClass) == IDENTITY_KERNEL;
+    }
 
-            return cvter.convert(value, dti, config);
+    /**
+     * Retrieves the resolved target data type
+     *
+     * @param dataType name of the target data type
+     * @return TargetType
+     */
+    private TargetType getTargetType(String dataType) {
+        TargetType targetType = targetTypes.get(dataType);
+        if (targetType == null) {
+            targetType = new TargetType(dataType);
+            targetTypes.put(dataType, targetType);
+        }
+        return targetType;
+    }
+
+    /**
+     * Create the conversion kernel of the values with the class
+     *
+     * @param targetType TargetType
+     * @param valueClass class of the values
+     * @return AbstractDataConverter
+     */
+    private AbstractDataConverter createKernel(TargetType targetType, Class<?> valueClass) {
+        if (targetType.isEnum) {
+            return ENUM_KERNEL;
+        }
+        if (targetType.isCollection) {
+            return new AbstractDataConverter() {
+                public Object convert(
+                        Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+                    return toCUBRIDCollection(obj, dti, config);
+                }
+            };
+        }
+        final AbstractDataConverter cvter = converterMap.get(targetType.typeID);
+        if (cvter == null) {
+            return new AbstractDataConverter() {
+                public Object convert(
+                        Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+                    throw new RuntimeException(
+                            "ERROR: could not convert:" + obj + " to CUBRID type" + dti.getName());
+                }
+            };
+        }
+        if (valueClass == Byte[].class) {
+            // Transform Byte[] to byte[]
+            return new AbstractDataConverter() {
+                public Object convert(
+                        Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+                    return cvter.convert(
+                            CommonUtils.getBytesFromByteArray((Byte[]) obj), dti, config);
+                }
+            };
+        }
+        if (valueClass == IDENTITY_CLASSES.get(targetType.typeID)) {
+            return IDENTITY_KERNEL;
+        }
+        if (valueClass == BigDecimal.class
+                && targetType.typeID == DataTypeConstant.CUBRID_DT_NUMERIC) {
+            return new DecimalKernel(cvter);
+        }
+        final boolean isIntegral =
+                valueClass == Byte.class
+                        || valueClass == Short.class
+                        || valueClass == Integer.class
+                        || valueClass == Long.class;
+        if (isIntegral && IntegralKernel.isSupported(targetType.typeID)) {
+            return new IntegralKernel(targetType.typeID, cvter);
         }
-        throw new RuntimeException(
-                "ERROR: could not convert:" + obj + " to CUBRID type" + dti.getName());
+        return cvter;
     }
 
     /**
@@ -170,4 +301,132 @@ public final class ToCUBRIDDataConverterFacade implements IDataConvertorFacade {
         }
         return obj == null ? null : obj.toString();
     }
+
+    /**
+     * The target data type resolved by its name, and the conversion kernels of the value classes.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private final class TargetType {
+        private final boolean isEnum;
+        private final boolean isCollection;
+        private final int typeID;
+        private final Map<Class<?>, AbstractDataConverter> kernels =
+                new ConcurrentHashMap<Class<?>, AbstractDataConverter>();
+
+        TargetType(String dataType) {
+            CUBRIDDataTypeHelper dataTypeHelper = CUBRIDDataTypeHelper.getInstance(null);
+            isEnum = dataTypeHelper.isEnum(dataType);
+            isCollection = !isEnum && dataTypeHelper.isCollection(dataType);
+            typeID = isEnum || isCollection ? -1 : dataTypeHelper.getCUBRIDDataTypeID(dataType);
+        }
+
+        /**
+         * Retrieves the conversion kernel of the values with the class
+         *
+         * @param valueClass class of the values
+         * @return AbstractDataConverter
+         */
+        AbstractDataConverter getKernel(Class<?> valueClass) {
+            AbstractDataConverter kernel = kernels.get(valueClass);
+            if (kernel == null) {
+                kernel = createKernel(this, valueClass);
+                kernels.put(valueClass, kernel);
+            }
+            return kernel;
+        }
+    }
+
+    /**
+     * DecimalKernel returns the BigDecimal values to NUMERIC as they are. The values with more
+     * digits than NUMERIC supports are rounded by the converter of the type.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private static final class DecimalKernel extends AbstractDataConverter {
+        private final AbstractDataConverter converter;
+
+        DecimalKernel(AbstractDataConverter converter) {
+            this.converter = converter;
+        }
+
+        /**
+         * @param obj Object
+         * @param dti DataTypeInstance
+         * @param config MigrationConfiguration
+         * @return value Object
+         */
+        public Object convert(Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+            if (obj.toString().length() <= DataTypeConstant.NUMERIC_MAX_PRECISIE_SIZE) {
+                return obj;
+            }
+            return converter.convert(obj, dti, config);
+        }
+    }
+
+    /**
+     * IntegralKernel converts the Byte, Short, Integer and Long values to the numeric types without
+     * parsing their strings. The values out of the range are converted by the converter of the
+     * type, which reports the error.
+     *
+     * @author Rathana
+     * @version 1.0 - 2026-10-18 created by Rathana
+     */
+    private static final class IntegralKernel extends AbstractDataConverter {
+        private final int typeID;
+        private final AbstractDataConverter converter;
+
+        IntegralKernel(int typeID, AbstractDataConverter converter) {
+            this.typeID = typeID;
+            this.converter = converter;
+        }
+
+        /**
+         * Whether the target type is a numeric type supported by the kernel
+         *
+         * @param typeID target type
+         * @return true if it is supported
+         */
+        static boolean isSupported(int typeID) {
+            return typeID == DataTypeConstant.CUBRID_DT_SMALLINT
+                    || typeID == DataTypeConstant.CUBRID_DT_INTEGER
+                    || typeID == DataTypeConstant.CUBRID_DT_BIGINT
+                    || typeID == DataTypeConstant.CUBRID_DT_FLOAT
+                    || typeID == DataTypeConstant.CUBRID_DT_DOUBLE
+                    || typeID == DataTypeConstant.CUBRID_DT_MONETARY;
+        }
+
+        /**
+         * @param obj Object
+         * @param dti DataTypeInstance
+         * @param config MigrationConfiguration
+         * @return value Object
+         */
+        public Object convert(Object obj, DataTypeInstance dti, MigrationConfiguration config) {
+            final long value = ((Number) obj).longValue();
+            switch (typeID) {
+                case DataTypeConstant.CUBRID_DT_SMALLINT:
+                    if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                        return Short.valueOf((short) value);
+                    }
+                    break;
+                case DataTypeConstant.CUBRID_DT_INTEGER:
+                    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                        return Integer.valueOf((int) value);
+                    }
+                    break;
+                case DataTypeConstant.CUBRID_DT_BIGINT:
+                    return Long.valueOf(value);
+                case DataTypeConstant.CUBRID_DT_FLOAT:
+                    return Float.valueOf(value);
+                case DataTypeConstant.CUBRID_DT_DOUBLE:
+                case DataTypeConstant.CUBRID_DT_MONETARY:
+                    return Double.valueOf(value);
+                default:
+            }
+            return converter.convert(obj, dti, config);
+        }
+    }
 }
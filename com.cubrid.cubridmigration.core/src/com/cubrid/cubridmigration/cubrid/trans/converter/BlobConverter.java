@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.cubrid.trans.converter;
 
 import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.trans.AbstractDataConverter;
 
@@ -48,6 +49,9 @@ public class BlobConverter extends AbstractDataConverter {
      * @return value Object
      */
     public Object convert(Object obj, DataTypeInstance dti, MigrationConfiguration config) {
-        return obj instanceof byte[] ? obj : obj.toString();
+        if (obj instanceof byte[] || obj instanceof SpilledLob) {
+            return obj;
+        }
+        return obj.toString();
     }
 }
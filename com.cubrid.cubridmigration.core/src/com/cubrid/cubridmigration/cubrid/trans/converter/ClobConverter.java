@@ -31,6 +31,7 @@
 package com.cubrid.cubridmigration.cubrid.trans.converter;
 
 import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
+import com.cubrid.cubridmigration.core.dbobject.SpilledLob;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.trans.AbstractDataConverter;
 
@@ -49,6 +50,6 @@ public class ClobConverter extends AbstractDataConverter {
      * @return value Object
      */
     public Object convert(Object obj, DataTypeInstance dti, MigrationConfiguration config) {
-        return obj.toString();
+        return obj instanceof SpilledLob ? obj : obj.toString();
     }
 }
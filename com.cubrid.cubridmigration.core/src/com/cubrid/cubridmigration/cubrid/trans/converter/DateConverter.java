@@ -35,7 +35,6 @@ import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.trans.AbstractDataConverter;
 import com.cubrid.cubridmigration.cubrid.CUBRIDTimeUtil;
-import java.text.ParseException;
 import java.util.Calendar;
 
 /**
@@ -76,18 +75,18 @@ public class DateConverter extends AbstractDataConverter {
             ex = e;
         }
         if (ex != null) {
-            try {
-                value = new java.sql.Date(DBUtils.getDateFormat().parse(obj.toString()).getTime());
+            final java.util.Date date = DBUtils.parseDate(obj.toString());
+            if (date == null) {
+                throw new RuntimeException(
+                        "ERROR: could not convert:" + obj + " to CUBRID type Date", ex);
+            }
+            value = new java.sql.Date(date.getTime());
 
-                if (value.toString().charAt(0) == 0) {
-                    throw new RuntimeException(
-                            "java.sql.Date could not build date correctly (not in range 999 - 9999 ?): "
-                                    + obj,
-                            ex);
-                }
-            } catch (ParseException e1) {
+            if (value.toString().charAt(0) == 0) {
                 throw new RuntimeException(
-                        "ERROR: could not convert:" + obj + " to CUBRID type Date", e1);
+                        "java.sql.Date could not build date correctly (not in range 999 - 9999 ?): "
+                                + obj,
+                        ex);
             }
         }
 
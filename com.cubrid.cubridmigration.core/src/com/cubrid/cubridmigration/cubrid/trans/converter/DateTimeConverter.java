@@ -65,10 +65,9 @@ public class DateTimeConverter extends AbstractDataConverter {
         if (obj instanceof Calendar) {
             return new Timestamp(((Calendar) obj).getTime().getTime());
         }
-        try {
-            return new Timestamp(DBUtils.getDateFormat().parse(obj.toString()).getTime());
-        } catch (Exception e) {
-            e.getMessage();
+        final java.util.Date date = DBUtils.parseDate(obj.toString());
+        if (date != null) {
+            return new Timestamp(date.getTime());
         }
         try {
             return new Timestamp(
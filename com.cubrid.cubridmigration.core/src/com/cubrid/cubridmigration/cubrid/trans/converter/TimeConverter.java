@@ -35,7 +35,6 @@ import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
 import com.cubrid.cubridmigration.core.trans.AbstractDataConverter;
 import java.sql.Time;
-import java.text.ParseException;
 import java.util.Calendar;
 
 /**
@@ -74,12 +73,12 @@ public class TimeConverter extends AbstractDataConverter {
             ex = e;
         }
         if (ex != null) {
-            try {
-                return new Time(DBUtils.getDateFormat().parse(obj.toString()).getTime());
-            } catch (ParseException e1) {
+            final java.util.Date date = DBUtils.parseDate(obj.toString());
+            if (date == null) {
                 throw new RuntimeException(
-                        "ERROR: could not convert:" + obj + " to CUBRID type Time", e1);
+                        "ERROR: could not convert:" + obj + " to CUBRID type Time", ex);
             }
+            return new Time(date.getTime());
         }
         return value;
     }
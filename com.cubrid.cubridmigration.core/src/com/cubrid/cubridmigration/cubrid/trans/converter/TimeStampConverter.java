@@ -65,10 +65,9 @@ public class TimeStampConverter extends AbstractDataConverter {
             Calendar calendar = (Calendar) obj;
             srcTime = calendar.getTime().getTime();
         } else {
-            try {
-                srcTime = DBUtils.getDateFormat().parse(obj.toString()).getTime();
-            } catch (Exception e) {
-                e.getMessage();
+            final java.util.Date date = DBUtils.parseDate(obj.toString());
+            if (date != null) {
+                srcTime = date.getTime();
             }
         }
         if (srcTime == null) {
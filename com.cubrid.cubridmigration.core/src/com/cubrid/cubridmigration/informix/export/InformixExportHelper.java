@@ -40,8 +40,6 @@ import com.cubrid.cubridmigration.informix.export.handler.InformixBooleanTypeHan
 import com.cubrid.cubridmigration.informix.export.handler.InformixJSONTypeHandler;
 import com.cubrid.cubridmigration.informix.export.handler.InformixListTypeHandler;
 import com.cubrid.cubridmigration.informix.export.handler.InformixSetTypeHandler;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 
 /**
  * InformixExportHelper Description
@@ -65,19 +63,17 @@ public class InformixExportHelper extends DBExportHelper {
     }
 
     /**
-     * get JDBC Object
+     * Retrieves the handler which reads the values of the column
      *
-     * @param rs ResultSet
      * @param column Column
-     * @return Object
-     * @throws SQLException e
+     * @return IExportDataHandler
      */
-    public Object getJdbcObject(final ResultSet rs, final Column column) throws SQLException {
+    public IExportDataHandler getExportDataHandler(final Column column) {
         IExportDataHandler edh = handlerMap2.get(column.getDataType());
         if (edh != null) {
-            return edh.getJdbcObject(rs, column);
+            return edh;
         }
-        return super.getJdbcObject(rs, column);
+        return super.getExportDataHandler(column);
     }
 
     public DatabaseType getDBType() {
@@ -92,6 +88,21 @@ public class InformixExportHelper extends DBExportHelper {
         return objectName;
     }
 
+    /**
+     * Is support seek paging.
+     *
+     * @return true
+     */
+    @Override
+    public boolean supportSeekPaging() {
+        return true;
+    }
+
+    @Override
+    protected String getLimitedSelectSQL(String sql, long rows) {
+        return "SELECT FIRST " + rows + " " + sql.substring("SELECT ".length());
+    }
+
     @Override
     public String getPagedSelectSQL(String sql, long pageSize, long exportedRecords, PK pk) {
         // TODO Auto-generated method stub
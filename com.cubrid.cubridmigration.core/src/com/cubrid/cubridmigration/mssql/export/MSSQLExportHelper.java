@@ -31,11 +31,16 @@
 package com.cubrid.cubridmigration.mssql.export;
 
 import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
 import com.cubrid.cubridmigration.core.export.DBExportHelper;
 import com.cubrid.cubridmigration.core.export.handler.CharTypeHandler;
 import com.cubrid.cubridmigration.mssql.MSSQLDataTypeHelper;
 import com.cubrid.cubridmigration.mssql.MSSQLSQLHelper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * a class help to export MSSQL data and verify MSSQL sql statement
@@ -412,6 +417,26 @@ public class MSSQLExportHelper extends DBExportHelper {
     //		return ptValue;
     //	}
 
+    /**
+     * Is support seek paging.
+     *
+     * @return true
+     */
+    public boolean supportSeekPaging() {
+        return true;
+    }
+
+    /**
+     * Retrieves the SQL which returns the first rows of the ordered selection SQL only.
+     *
+     * @param sql ordered selection SQL which starts with "SELECT "
+     * @param rows maximum record count to be returned
+     * @return SQL
+     */
+    protected String getLimitedSelectSQL(String sql, long rows) {
+        return "SELECT TOP " + rows + " " + sql.substring("SELECT ".length());
+    }
+
     /**
      * Retrieves the SQL with page condition
      *
@@ -444,4 +469,24 @@ public class MSSQLExportHelper extends DBExportHelper {
     public DatabaseType getDBType() {
         return DatabaseType.MSSQL;
     }
+
+    private static final String STATISTICS_ROW_COUNT_SQL =
+            "SELECT s.name, t.name, SUM(p.rows) FROM sys.tables t "
+                    + "JOIN sys.schemas s ON t.schema_id = s.schema_id "
+                    + "JOIN sys.partitions p ON p.object_id = t.object_id AND p.index_id IN (0, 1) "
+                    + "GROUP BY s.name, t.name";
+
+    /**
+     * Retrieves the row counts of the tables from the rows of the heap or clustered index
+     * partitions in sys.partitions.
+     *
+     * @param con Connection
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the statistics can't be read
+     */
+    protected Map<Table, Long> getStatisticsRowCounts(Connection con, List<Table> tables)
+            throws SQLException {
+        return getStatisticsRowCounts(con, STATISTICS_ROW_COUNT_SQL, tables);
+    }
 }
@@ -37,7 +37,6 @@ import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.View;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
-import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.engine.exception.NormalMigrationException;
 import com.cubrid.cubridmigration.core.mapping.AbstractDataTypeMappingHelper;
 import com.cubrid.cubridmigration.core.trans.DBTransformHelper;
@@ -165,29 +164,41 @@ public class MSSQL2CUBRIDTranformHelper extends DBTransformHelper {
         return defaultValue.startsWith("N'") && defaultValue.endsWith("'");
     }
 
+    /**
+     * The values of time, datetime2 and datetimeoffset columns may be changed.
+     *
+     * @param srcColumn Column
+     * @param toType DataTypeInstance of the target column
+     * @param valueClass class of the source values
+     * @return true if the values are not changed
+     */
+    protected boolean isIdentityConversion(
+            Column srcColumn, DataTypeInstance toType, Class<?> valueClass) {
+        String dataType = srcColumn.getDataType();
+        if ("time".equals(dataType)
+                || "datetime2".equals(dataType)
+                || "datetimeoffset".equals(dataType)) {
+            return false;
+        }
+        return super.isIdentityConversion(srcColumn, toType, valueClass);
+    }
+
     /**
      * Convert JDBC Object To CUBRID Object
      *
      * @param config MigrationConfiguration
-     * @param recordMap used by data handler
-     * @param scc SourceColumnConfig
      * @param srcColumn Column
      * @param toColumn Column
+     * @param toType DataTypeInstance of the target column
      * @param srcValue Object
      * @return Object obj
      */
-    public Object convertValueToTargetDBValue(
+    protected Object convertColumnValue(
             MigrationConfiguration config,
-            Map<String, Object> recordMap,
-            SourceColumnConfig scc,
             Column srcColumn,
             Column toColumn,
+            DataTypeInstance toType,
             Object srcValue) {
-
-        if (srcValue == null) {
-            return null;
-        }
-
         String dataType = srcColumn.getDataType();
 
         if ("time".equals(dataType)
@@ -242,8 +253,7 @@ public class MSSQL2CUBRIDTranformHelper extends DBTransformHelper {
                 throw new NormalMigrationException(e);
             }
         }
-        return super.convertValueToTargetDBValue(
-                config, recordMap, scc, srcColumn, toColumn, srcValue);
+        return super.convertColumnValue(config, srcColumn, toColumn, toType, srcValue);
     }
 
     /**
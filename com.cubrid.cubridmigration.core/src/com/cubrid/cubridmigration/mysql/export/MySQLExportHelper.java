@@ -33,6 +33,7 @@ package com.cubrid.cubridmigration.mysql.export;
 import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
 import com.cubrid.cubridmigration.core.export.DBExportHelper;
 import com.cubrid.cubridmigration.core.export.IExportDataHandler;
@@ -42,9 +43,11 @@ import com.cubrid.cubridmigration.core.export.handler.TimeTypeHandler;
 import com.cubrid.cubridmigration.core.export.handler.TimestampTypeHandler;
 import com.cubrid.cubridmigration.mysql.export.handler.MySQLYearTypeHandler;
 import java.lang.reflect.Method;
-import java.sql.ResultSet;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.log4j.Logger;
@@ -70,19 +73,17 @@ public class MySQLExportHelper extends DBExportHelper {
     }
 
     /**
-     * get JDBC Object
+     * Retrieves the handler which reads the values of the column
      *
-     * @param rs ResultSet
      * @param column Column
-     * @return Object
-     * @throws SQLException e
+     * @return IExportDataHandler
      */
-    public Object getJdbcObject(final ResultSet rs, final Column column) throws SQLException {
+    public IExportDataHandler getExportDataHandler(final Column column) {
         IExportDataHandler edh = handlerMap2.get(column.getDataType());
         if (edh != null) {
-            return edh.getJdbcObject(rs, column);
+            return edh;
         }
-        return super.getJdbcObject(rs, column);
+        return super.getExportDataHandler(column);
     }
 
     /**
@@ -193,6 +194,15 @@ public class MySQLExportHelper extends DBExportHelper {
     //		return buf.toString();
     //	}
 
+    /**
+     * Is support seek paging.
+     *
+     * @return true
+     */
+    public boolean supportSeekPaging() {
+        return true;
+    }
+
     /**
      * Retrieves the SQL with page condition
      *
@@ -221,4 +231,22 @@ public class MySQLExportHelper extends DBExportHelper {
     public DatabaseType getDBType() {
         return DatabaseType.MYSQL;
     }
+
+    private static final String STATISTICS_ROW_COUNT_SQL =
+            "SELECT TABLE_SCHEMA, TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_TYPE = 'BASE TABLE'";
+
+    /**
+     * Retrieves the row counts of the tables from information_schema.TABLES, the row counts of
+     * InnoDB tables are approximate.
+     *
+     * @param con Connection
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the statistics can't be read
+     */
+    protected Map<Table, Long> getStatisticsRowCounts(Connection con, List<Table> tables)
+            throws SQLException {
+        return getStatisticsRowCounts(con, STATISTICS_ROW_COUNT_SQL, tables);
+    }
 }
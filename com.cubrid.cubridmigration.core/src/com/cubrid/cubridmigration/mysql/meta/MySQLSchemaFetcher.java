@@ -59,6 +59,7 @@ import com.cubrid.cubridmigration.core.sql.SQLHelper;
 import com.cubrid.cubridmigration.mysql.MySQLDataTypeHelper;
 import com.cubrid.cubridmigration.mysql.dbobj.MySQLTrigger;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverPropertyInfo;
 import java.sql.PreparedStatement;
@@ -69,7 +70,9 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -98,6 +101,49 @@ public final class MySQLSchemaFetcher extends AbstractJDBCSchemaFetcher {
 
     // private static final String SCHEMA_SELECT = "SHOW DATABASES";
 
+    private static final String SQL_GET_ALL_PKS =
+            "SELECT TABLE_NAME, CONSTRAINT_NAME, COLUMN_NAME"
+                    + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE"
+                    + " WHERE TABLE_SCHEMA=? AND CONSTRAINT_NAME='PRIMARY'"
+                    + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+    private static final String SQL_GET_ALL_FKS =
+            "SELECT K.TABLE_NAME, K.CONSTRAINT_NAME, K.REFERENCED_TABLE_NAME, R.DELETE_RULE,"
+                    + " R.UPDATE_RULE, K.COLUMN_NAME, K.REFERENCED_COLUMN_NAME"
+                    + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE K,"
+                    + " INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS R"
+                    + " WHERE K.TABLE_SCHEMA=? AND K.REFERENCED_TABLE_NAME IS NOT NULL"
+                    + " AND R.CONSTRAINT_SCHEMA=K.CONSTRAINT_SCHEMA AND R.TABLE_NAME=K.TABLE_NAME"
+                    + " AND R.CONSTRAINT_NAME=K.CONSTRAINT_NAME"
+                    + " ORDER BY K.TABLE_NAME, K.CONSTRAINT_NAME, K.ORDINAL_POSITION";
+
+    private static final String SQL_GET_ALL_INDEXES =
+            "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, INDEX_TYPE, COLUMN_NAME, COLLATION"
+                    + " FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA=?"
+                    + " ORDER BY TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX";
+
+    /** PK, FK and index rows fetched by prefetchTables, grouped by table name */
+    private static class PrefetchedKeys {
+        private Map<String, List<String[]>> pks;
+        private Map<String, List<String[]>> fks;
+        private Map<String, List<String[]>> indexes;
+
+        /**
+         * Retrieves the rows of the table
+         *
+         * @param rows grouped by table name
+         * @param tableName String
+         * @return empty list if the table has no rows
+         */
+        private static List<String[]> get(Map<String, List<String[]>> rows, String tableName) {
+            List<String[]> result = rows.get(tableName);
+            return result == null ? Collections.<String[]>emptyList() : result;
+        }
+    }
+
+    private final Map<Schema, PrefetchedKeys> prefetchedKeys =
+            Collections.synchronizedMap(new IdentityHashMap<Schema, PrefetchedKeys>());
+
     /**
      * get db prop info
      *
@@ -416,6 +462,132 @@ public final class MySQLSchemaFetcher extends AbstractJDBCSchemaFetcher {
         return sourceTable;
     }
 
+    /**
+     * Fetch the PKs, FKs and indexes of all the given tables with one query on information_schema
+     * each. The tables are fetched one by one if the queries fail.
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param tables tables to be built
+     * @throws SQLException e
+     */
+    protected void prefetchTables(
+            final Connection conn,
+            final Catalog catalog,
+            final Schema schema,
+            final List<Table> tables)
+            throws SQLException {
+        if (tables.isEmpty() || catalog.getVersion().getDbMajorVersion() < 5) {
+            return;
+        }
+        try {
+            PrefetchedKeys keys = new PrefetchedKeys();
+            keys.pks = queryTableRows(conn, SQL_GET_ALL_PKS, schema.getName());
+            keys.fks = queryTableRows(conn, SQL_GET_ALL_FKS, schema.getName());
+            keys.indexes = queryTableRows(conn, SQL_GET_ALL_INDEXES, schema.getName());
+            prefetchedKeys.put(schema, keys);
+        } catch (SQLException ex) {
+            LOG.warn("Keys of schema " + schema.getName() + " will be fetched by tables.", ex);
+        }
+    }
+
+    /**
+     * Release the prefetched keys of the schema
+     *
+     * @param schema Schema
+     */
+    protected void releasePrefetchedTables(final Schema schema) {
+        prefetchedKeys.remove(schema);
+    }
+
+    /**
+     * Extract Table's PK
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param table Table
+     * @throws SQLException e
+     */
+    protected void buildTablePK(
+            final Connection conn, final Catalog catalog, final Schema schema, final Table table)
+            throws SQLException {
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys == null) {
+            super.buildTablePK(conn, catalog, schema, table);
+            return;
+        }
+        // CONSTRAINT_NAME, COLUMN_NAME
+        List<String[]> rows = PrefetchedKeys.get(keys.pks, table.getName());
+        if (!rows.isEmpty()) {
+            List<String> columnNames = new ArrayList<String>();
+            for (String[] row : rows) {
+                columnNames.add(row[1]);
+            }
+            setTablePK(table, rows.get(0)[0], columnNames);
+        }
+        setUniquColumnByPK(table);
+    }
+
+    /**
+     * Extract Table's FKs
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param table Table
+     * @throws SQLException e
+     */
+    protected void buildTableFKs(
+            final Connection conn, final Catalog catalog, final Schema schema, final Table table)
+            throws SQLException {
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys == null) {
+            super.buildTableFKs(conn, catalog, schema, table);
+            return;
+        }
+        // CONSTRAINT_NAME, REFERENCED_TABLE_NAME, DELETE_RULE, UPDATE_RULE, COLUMN_NAME,
+        // REFERENCED_COLUMN_NAME
+        FK foreignKey = null;
+        for (String[] row : PrefetchedKeys.get(keys.fks, table.getName())) {
+            if (foreignKey == null || !foreignKey.getName().equalsIgnoreCase(row[0])) {
+                if (foreignKey != null) {
+                    table.addFK(foreignKey);
+                }
+                foreignKey = factory.createFK(table);
+                foreignKey.setName(row[0]);
+                foreignKey.setReferencedTableName(row[1]);
+                foreignKey.setDeleteRule(getReferentialAction(row[2], FK.ON_DELETE_NO_ACTION));
+                foreignKey.setUpdateRule(getReferentialAction(row[3], FK.ON_UPDATE_NO_ACTION));
+            }
+            if (table.getColumnByName(row[4]) != null) {
+                foreignKey.addRefColumnName(row[4], row[5]);
+            }
+        }
+        if (foreignKey != null) {
+            table.addFK(foreignKey);
+        }
+    }
+
+    /**
+     * Retrieves the JDBC rule of a referential action, as the driver reports it.
+     *
+     * @param rule DELETE_RULE or UPDATE_RULE of information_schema
+     * @param noAction the rule of NO ACTION
+     * @return the rule of the FK
+     */
+    private static int getReferentialAction(String rule, int noAction) {
+        if ("CASCADE".equals(rule)) {
+            return DatabaseMetaData.importedKeyCascade;
+        } else if ("RESTRICT".equals(rule)) {
+            return DatabaseMetaData.importedKeyRestrict;
+        } else if ("SET NULL".equals(rule)) {
+            return DatabaseMetaData.importedKeySetNull;
+        }
+        return noAction;
+    }
+
     /**
      * get meta data and build table columns
      *
@@ -521,6 +693,16 @@ public final class MySQLSchemaFetcher extends AbstractJDBCSchemaFetcher {
     protected void buildTableIndexes(
             final Connection conn, final Catalog catalog, final Schema schema, final Table table)
             throws SQLException {
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys != null) {
+            addTableIndexes(table, PrefetchedKeys.get(keys.indexes, table.getName()));
+            // filter the indexes of FKs
+            for (FK fk : table.getFks()) {
+                table.removeIndex(fk.getName());
+            }
+            removePKIndex(table);
+            return;
+        }
         super.buildTableIndexes(conn, catalog, schema, table);
         Statement stmt = null; // NOPMD
         ResultSet rs = null; // NOPMD
@@ -548,8 +730,15 @@ public final class MySQLSchemaFetcher extends AbstractJDBCSchemaFetcher {
             Closer.close(rs);
             Closer.close(stmt);
         }
+        removePKIndex(table);
+    }
 
-        // remove duplicate PK index
+    /**
+     * Remove the duplicate index of the PK
+     *
+     * @param table Table
+     */
+    private void removePKIndex(final Table table) {
         final PK pk = table.getPk();
         if (pk == null) {
             return;
@@ -558,6 +747,38 @@ public final class MySQLSchemaFetcher extends AbstractJDBCSchemaFetcher {
         setUniquColumnByIndex(table);
     }
 
+    /**
+     * Add the indexes of the prefetched rows to the table
+     *
+     * @param table Table
+     * @param rows INDEX_NAME, NON_UNIQUE, INDEX_TYPE, COLUMN_NAME, COLLATION
+     */
+    private void addTableIndexes(final Table table, List<String[]> rows) {
+        Index index = null;
+        for (String[] row : rows) {
+            Column column = row[3] == null ? null : table.getColumnByName(row[3]);
+            if (row[0] == null || column == null) {
+                continue;
+            }
+            if (index == null || !index.getName().equalsIgnoreCase(row[0])) {
+                if (index != null) {
+                    table.addIndex(index);
+                }
+                index = factory.createIndex(table);
+                index.setName(row[0]);
+                index.setIndexType(
+                        "HASH".equalsIgnoreCase(row[2])
+                                ? DatabaseMetaData.tableIndexHashed
+                                : DatabaseMetaData.tableIndexOther);
+                index.setUnique("0".equals(row[1]));
+            }
+            index.addColumn(column.getName(), !"D".equalsIgnoreCase(row[4]));
+        }
+        if (index != null) {
+            table.addIndex(index);
+        }
+    }
+
     /**
      * Fetch all stored Triggers of the given schemata.
      *
@@ -33,10 +33,10 @@ package com.cubrid.cubridmigration.mysql.trans;
 import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.datatype.DataType;
 import com.cubrid.cubridmigration.core.datatype.DataTypeConstant;
+import com.cubrid.cubridmigration.core.datatype.DataTypeInstance;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.View;
 import com.cubrid.cubridmigration.core.engine.config.MigrationConfiguration;
-import com.cubrid.cubridmigration.core.engine.config.SourceColumnConfig;
 import com.cubrid.cubridmigration.core.mapping.AbstractDataTypeMappingHelper;
 import com.cubrid.cubridmigration.core.mapping.model.VerifyInfo;
 import com.cubrid.cubridmigration.core.trans.DBTransformHelper;
@@ -278,44 +278,49 @@ public class MySQL2CUBRIDTranformHelper extends DBTransformHelper {
     }
 
     /**
-     * Convert Jdbc Object To Cubrid Object
+     * The strings may be changed by replacing '\0'.
+     *
+     * @param srcColumn Column
+     * @param toType DataTypeInstance of the target column
+     * @param valueClass class of the source values
+     * @return true if the values are not changed
+     */
+    protected boolean isIdentityConversion(
+            Column srcColumn, DataTypeInstance toType, Class<?> valueClass) {
+        return valueClass != String.class
+                && super.isIdentityConversion(srcColumn, toType, valueClass);
+    }
+
+    /**
+     * Convert Jdbc Object To Cubrid Object, the '\0' in the strings will be replaced.
      *
      * @param config MigrationConfiguration
-     * @param recordMap the column name to value map.
-     * @param scc SourceColumnConfig
      * @param srcColumn Column
      * @param toColumn Column
+     * @param toType DataTypeInstance of the target column
      * @param sourceValue Object
-     * @return Object obj @ e
+     * @return Object obj
      */
-    public Object convertValueToTargetDBValue(
+    protected Object convertColumnValue(
             MigrationConfiguration config,
-            Map<String, Object> recordMap,
-            SourceColumnConfig scc,
             Column srcColumn,
             Column toColumn,
+            DataTypeInstance toType,
             Object sourceValue) {
-
-        if (sourceValue instanceof String) {
-            String strValue = (String) sourceValue;
-
+        if (sourceValue instanceof String && ((String) sourceValue).indexOf('\0') >= 0) {
             String replacedChar =
                     MySQL2CUBRIDMigParas.getMigrationParamter(MySQL2CUBRIDMigParas.REPLAXE_CHAR0);
             if (replacedChar.length() == 3) {
                 replacedChar = replacedChar.substring(1, replacedChar.length() - 1);
             }
-
-            return super.convertValueToTargetDBValue(
+            return super.convertColumnValue(
                     config,
-                    recordMap,
-                    scc,
                     srcColumn,
                     toColumn,
-                    strValue.replaceAll("\0", replacedChar));
+                    toType,
+                    ((String) sourceValue).replace("\0", replacedChar));
         }
-
-        return super.convertValueToTargetDBValue(
-                config, recordMap, scc, srcColumn, toColumn, sourceValue);
+        return super.convertColumnValue(config, srcColumn, toColumn, toType, sourceValue);
     }
 
     /**
@@ -34,6 +34,8 @@ import com.cubrid.cubridmigration.core.common.Closer;
 import com.cubrid.cubridmigration.core.connection.ConnParameters;
 import com.cubrid.cubridmigration.core.dbobject.Column;
 import com.cubrid.cubridmigration.core.dbobject.PK;
+import com.cubrid.cubridmigration.core.dbobject.RecordBatch;
+import com.cubrid.cubridmigration.core.dbobject.Table;
 import com.cubrid.cubridmigration.core.dbtype.DatabaseType;
 import com.cubrid.cubridmigration.core.engine.config.SourceSequenceConfig;
 import com.cubrid.cubridmigration.core.engine.event.LobMigrationErrorEvent;
@@ -51,6 +53,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.List;
+import java.util.Map;
 
 /**
  * a class help to export Oracle data and verify Oracle sql statement
@@ -76,21 +80,36 @@ public class OracleExportHelper extends DBExportHelper {
     }
 
     /**
-     * get JDBC Object
+     * Retrieves the handler which reads the values of the column
      *
+     * @param column Column
+     * @return IExportDataHandler
+     */
+    public IExportDataHandler getExportDataHandler(final Column column) {
+        String oraType = OracleDataTypeHelper.getOracleDataTypeKey(column.getDataType());
+        IExportDataHandler edh = handlerMap2.get(oraType);
+        if (edh != null) {
+            return edh;
+        }
+        return super.getExportDataHandler(column);
+    }
+
+    /**
+     * Read the value of the column, the errors of reading LOB values are returned as {@link
+     * LobMigrationErrorEvent}.
+     *
+     * @param edh IExportDataHandler
      * @param rs ResultSet
      * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means by column name
      * @return Object
      * @throws SQLException e
      */
-    public Object getJdbcObject(final ResultSet rs, final Column column) throws SQLException {
-        String oraType = OracleDataTypeHelper.getOracleDataTypeKey(column.getDataType());
-        IExportDataHandler edh = handlerMap2.get(oraType);
+    public Object readJdbcObject(
+            IExportDataHandler edh, ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
         try {
-            if (edh != null) {
-                return edh.getJdbcObject(rs, column);
-            }
-            return super.getJdbcObject(rs, column);
+            return super.readJdbcObject(edh, rs, column, columnIndex);
         } catch (SQLException e) {
             if (column.getDataType().equalsIgnoreCase("BLOB")
                     || column.getDataType().equalsIgnoreCase("CLOB")) {
@@ -100,6 +119,40 @@ public class OracleExportHelper extends DBExportHelper {
         }
     }
 
+    /**
+     * Read the value of the column into the record batch, the errors of reading LOB values are set
+     * as {@link LobMigrationErrorEvent}.
+     *
+     * @param edh IExportDataHandler
+     * @param rs ResultSet
+     * @param column Column
+     * @param columnIndex 1-based index of the column in the result set, 0 means by column name
+     * @param batch the record batch
+     * @param row index of the record in the batch
+     * @param batchColumn index of the column in the batch
+     * @throws SQLException e
+     */
+    public void readJdbcValue(
+            IExportDataHandler edh,
+            ResultSet rs,
+            Column column,
+            int columnIndex,
+            RecordBatch batch,
+            int row,
+            int batchColumn)
+            throws SQLException {
+        try {
+            super.readJdbcValue(edh, rs, column, columnIndex, batch, row, batchColumn);
+        } catch (SQLException e) {
+            if (column.getDataType().equalsIgnoreCase("BLOB")
+                    || column.getDataType().equalsIgnoreCase("CLOB")) {
+                batch.setValue(row, batchColumn, new LobMigrationErrorEvent(e));
+                return;
+            }
+            throw new SQLException();
+        }
+    }
+
     /**
      * return database object name
      *
@@ -140,6 +193,26 @@ public class OracleExportHelper extends DBExportHelper {
     //
     //		return buf.toString();
     //	}
+    /**
+     * Is support seek paging.
+     *
+     * @return true
+     */
+    public boolean supportSeekPaging() {
+        return true;
+    }
+
+    /**
+     * Retrieves the SQL which returns the first rows of the ordered selection SQL only.
+     *
+     * @param sql ordered selection SQL
+     * @param rows maximum record count to be returned
+     * @return SQL
+     */
+    protected String getLimitedSelectSQL(String sql, long rows) {
+        return "SELECT * FROM (" + sql + ") WHERE ROWNUM<=" + rows;
+    }
+
     /**
      * Retrieves the sql with page condition
      *
@@ -206,4 +279,21 @@ public class OracleExportHelper extends DBExportHelper {
         }
         return null;
     }
+
+    private static final String STATISTICS_ROW_COUNT_SQL =
+            "SELECT OWNER, TABLE_NAME, NUM_ROWS FROM ALL_TABLES WHERE NUM_ROWS IS NOT NULL";
+
+    /**
+     * Retrieves the row counts of the tables from the NUM_ROWS of ALL_TABLES which is gathered by
+     * DBMS_STATS, the tables never analyzed are not included.
+     *
+     * @param con Connection
+     * @param tables to be estimated
+     * @return the row counts of the tables which have statistics
+     * @throws SQLException if the statistics can't be read
+     */
+    protected Map<Table, Long> getStatisticsRowCounts(Connection con, List<Table> tables)
+            throws SQLException {
+        return getStatisticsRowCounts(con, STATISTICS_ROW_COUNT_SQL, tables);
+    }
 }
@@ -48,6 +48,20 @@ import org.apache.log4j.Logger;
 public class OracleBFileTypeHandler extends BlobTypeHandler {
     private static final Logger LOG = LogUtil.getLogger(OracleBFileTypeHandler.class);
 
+    /**
+     * Retrieves the value object of BFile column, the BFILE is always read by the column name.
+     *
+     * @param rs the result set
+     * @param column column description
+     * @param columnIndex 1-based index of the column in the result set
+     * @return value of column
+     * @throws SQLException e
+     */
+    public Object getJdbcObject(ResultSet rs, Column column, int columnIndex)
+            throws SQLException {
+        return getJdbcObject(rs, column);
+    }
+
     /**
      * Retrieves the value object of BFile column.
      *
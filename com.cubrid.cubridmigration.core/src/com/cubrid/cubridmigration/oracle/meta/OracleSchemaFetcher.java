@@ -70,9 +70,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import org.apache.commons.lang.StringUtils;
@@ -112,6 +116,12 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
                     + " WHERE T.OWNER=? AND T.TABLE_NAME=? AND C.COLUMN_NAME=T.COLUMN_NAME AND T.TABLE_NAME=C.TABLE_NAME"
                     + " ORDER BY COLUMN_ID";
 
+    private static final String SQL_GET_ALL_COLUMNS =
+            "SELECT T.TABLE_NAME, T.COLUMN_NAME, T.DATA_TYPE, T.DATA_LENGTH, T.DATA_PRECISION, T.DATA_SCALE, T.NULLABLE, T.DATA_DEFAULT, T.CHAR_LENGTH, T.CHAR_USED, T.COLUMN_ID, C.COMMENTS"
+                    + " FROM ALL_TAB_COLUMNS T, ALL_COL_COMMENTS C"
+                    + " WHERE T.OWNER=? AND C.OWNER=T.OWNER AND C.TABLE_NAME=T.TABLE_NAME AND C.COLUMN_NAME=T.COLUMN_NAME"
+                    + " ORDER BY T.TABLE_NAME, T.COLUMN_ID";
+
     private static final String SQL_GET_INDEX_COLUMNS =
             "SELECT A.COLUMN_NAME, A.DESCEND, B.COLUMN_EXPRESSION "
                     + "FROM ALL_IND_COLUMNS A LEFT JOIN ALL_IND_EXPRESSIONS B "
@@ -119,6 +129,41 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
                     + " WHERE A.TABLE_OWNER=? AND A.TABLE_NAME=? "
                     + "AND A.INDEX_NAME=? ORDER BY A.COLUMN_POSITION";
 
+    private static final String SQL_GET_ALL_PKS =
+            "SELECT C.TABLE_NAME, C.CONSTRAINT_NAME, CC.COLUMN_NAME"
+                    + " FROM ALL_CONSTRAINTS C, ALL_CONS_COLUMNS CC"
+                    + " WHERE C.OWNER=? AND C.CONSTRAINT_TYPE='P' AND CC.OWNER=C.OWNER"
+                    + " AND CC.CONSTRAINT_NAME=C.CONSTRAINT_NAME AND CC.TABLE_NAME=C.TABLE_NAME"
+                    + " ORDER BY C.TABLE_NAME, CC.POSITION";
+
+    private static final String SQL_GET_ALL_FKS =
+            "SELECT C.TABLE_NAME, C.CONSTRAINT_NAME, C.DELETE_RULE, R.TABLE_NAME R_TABLE_NAME,"
+                    + " CC.COLUMN_NAME, RC.COLUMN_NAME R_COLUMN_NAME"
+                    + " FROM ALL_CONSTRAINTS C, ALL_CONSTRAINTS R, ALL_CONS_COLUMNS CC,"
+                    + " ALL_CONS_COLUMNS RC"
+                    + " WHERE C.OWNER=? AND C.CONSTRAINT_TYPE='R'"
+                    + " AND R.OWNER=C.R_OWNER AND R.CONSTRAINT_NAME=C.R_CONSTRAINT_NAME"
+                    + " AND CC.OWNER=C.OWNER AND CC.CONSTRAINT_NAME=C.CONSTRAINT_NAME"
+                    + " AND CC.TABLE_NAME=C.TABLE_NAME"
+                    + " AND RC.OWNER=R.OWNER AND RC.CONSTRAINT_NAME=R.CONSTRAINT_NAME"
+                    + " AND RC.TABLE_NAME=R.TABLE_NAME AND RC.POSITION=CC.POSITION"
+                    + " ORDER BY C.TABLE_NAME, C.CONSTRAINT_NAME, CC.POSITION";
+
+    private static final String SQL_GET_ALL_INDEXES =
+            "SELECT A.TABLE_NAME, A.INDEX_NAME, A.INDEX_TYPE, A.UNIQUENESS FROM ALL_INDEXES A "
+                    + " WHERE A.TABLE_OWNER=? "
+                    + "AND A.INDEX_NAME NOT IN (SELECT C.CONSTRAINT_NAME FROM ALL_CONSTRAINTS C "
+                    + "WHERE C.CONSTRAINT_TYPE='P' AND C.OWNER=A.TABLE_OWNER"
+                    + " AND C.TABLE_NAME=A.TABLE_NAME) ORDER BY A.TABLE_NAME, A.INDEX_NAME";
+
+    private static final String SQL_GET_ALL_INDEX_COLUMNS =
+            "SELECT A.TABLE_NAME, A.INDEX_NAME, A.COLUMN_NAME, A.DESCEND, B.COLUMN_EXPRESSION "
+                    + "FROM ALL_IND_COLUMNS A LEFT JOIN ALL_IND_EXPRESSIONS B "
+                    + "ON A.TABLE_OWNER=B.TABLE_OWNER AND A.TABLE_NAME=B.TABLE_NAME"
+                    + " AND A.INDEX_NAME=B.INDEX_NAME AND A.COLUMN_POSITION=B.COLUMN_POSITION"
+                    + " WHERE A.TABLE_OWNER=? "
+                    + "ORDER BY A.TABLE_NAME, A.INDEX_NAME, A.COLUMN_POSITION";
+
     private static final String SQL_GET_PART_COLUMN =
             "SELECT * FROM ALL_PART_KEY_COLUMNS WHERE OBJECT_TYPE='TABLE' AND OWNER=? "
                     + " ORDER BY NAME, COLUMN_POSITION";
@@ -159,17 +204,14 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
             "SELECT SYNONYM_NAME, TABLE_OWNER, TABLE_NAME, DB_LINK FROM ALL_SYNONYMS WHERE OWNER=?";
 
     private static final String SQL_SHOW_VIEW_QUERYTEXT =
-            "SELECT TEXT from ALL_VIEWS WHERE OWNER=? AND VIEW_NAME=?";
-
-    private static final String SQL_GET_VIEW_COMMENT =
-            "SELECT COMMENTS FROM ALL_TAB_COMMENTS WHERE OWNER=? AND " + "TABLE_NAME=?";
+            "SELECT VIEW_NAME, TEXT from ALL_VIEWS WHERE OWNER=?";
 
     private static final String SQL_GET_VIEW_COLUMN_COMMENT =
             "SELECT COMMENTS FROM ALL_COL_COMMENTS WHERE OWNER=? AND "
                     + "TABLE_NAME=? AND COLUMN_NAME=?";
 
     private static final String SQL_GET_TABLE_COMMENT =
-            "SELECT COMMENTS FROM ALL_TAB_COMMENTS WHERE OWNER=? AND " + "TABLE_NAME=?";
+            "SELECT TABLE_NAME, COMMENTS FROM ALL_TAB_COMMENTS WHERE OWNER=?";
 
     private static final String SQL_SHOW_GRANT_TABLE =
             "SELECT P.GRANTEE, P.OWNER, P.TABLE_NAME, P.GRANTOR, P.PRIVILEGE, P.GRANTABLE"
@@ -187,6 +229,33 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
 
     // private static final String SHOW_SEQUENCE_MAXVAL = "SELECT ?.CURRVAL  FROM DUAL";
 
+    /** Columns fetched by prefetchTables, grouped by table name, while the schema is built */
+    private final Map<Schema, Map<String, List<Column>>> prefetchedColumns =
+            Collections.synchronizedMap(new IdentityHashMap<Schema, Map<String, List<Column>>>());
+
+    /** PK, FK and index rows fetched by prefetchTables, grouped by table name */
+    private static class PrefetchedKeys {
+        private Map<String, List<String[]>> pks;
+        private Map<String, List<String[]>> fks;
+        private Map<String, List<String[]>> indexes;
+        private Map<String, List<String[]>> indexColumns;
+
+        /**
+         * Retrieves the rows of the table
+         *
+         * @param rows grouped by table name
+         * @param tableName String
+         * @return empty list if the table has no rows
+         */
+        private static List<String[]> get(Map<String, List<String[]>> rows, String tableName) {
+            List<String[]> result = rows.get(tableName);
+            return result == null ? Collections.<String[]>emptyList() : result;
+        }
+    }
+
+    private final Map<Schema, PrefetchedKeys> prefetchedKeys =
+            Collections.synchronizedMap(new IdentityHashMap<Schema, PrefetchedKeys>());
+
     public OracleSchemaFetcher() {
         factory = new DBObjectFactory() {};
     }
@@ -211,6 +280,15 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("[VAR]schema=" + schema.getName());
             }
+            Map<String, String> comments = new HashMap<String, String>();
+            try {
+                comments =
+                        getObjectValues(conn, SQL_GET_TABLE_COMMENT, schema.getName(), "COMMENTS");
+            } catch (SQLException e) {
+                LOG.error("Read comments error:" + schema.getName(), e);
+            }
+            Map<String, String> queryTexts =
+                    getObjectValues(conn, SQL_SHOW_VIEW_QUERYTEXT, schema.getName(), "TEXT");
             // get tables
             List<Table> tableList = schema.getTables();
             if (tableList == null) {
@@ -220,7 +298,7 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
                 LOG.debug("[VAR]tableList.count=" + tableList.size());
             }
             for (Table table : tableList) {
-                String comment = getTableComment(conn, schema.getName(), table.getName());
+                String comment = getComment(comments, table.getName());
 
                 if (comment != null) {
                     comment = commentEditor(comment);
@@ -237,9 +315,9 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
                 LOG.debug("[VAR]viewList.count=" + viewList.size());
             }
             for (View view : viewList) {
-                view.setQuerySpec(getQueryText(conn, schema.getName(), view.getName(), view));
+                view.setQuerySpec(queryTexts.get(view.getName()));
 
-                String comment = getViewComment(conn, schema.getName(), view.getName());
+                String comment = getComment(comments, view.getName());
 
                 if (comment != null) {
                     comment = commentEditor(comment);
@@ -491,6 +569,79 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         return sourceTable;
     }
 
+    /**
+     * Fetch the columns of all the given tables with one query on ALL_TAB_COLUMNS, and their PKs,
+     * FKs and indexes with one query on ALL_CONS_COLUMNS and ALL_IND_COLUMNS each. The tables are
+     * fetched one by one if the dictionary queries fail.
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param tables tables to be built
+     * @throws SQLException e
+     */
+    protected void prefetchTables(
+            final Connection conn,
+            final Catalog catalog,
+            final Schema schema,
+            final List<Table> tables)
+            throws SQLException {
+        if (tables.isEmpty()) {
+            return;
+        }
+        Map<String, List<Column>> columns = new HashMap<String, List<Column>>();
+        for (Table table : tables) {
+            columns.put(table.getName(), new ArrayList<Column>());
+        }
+        ResultSet rs = null; // NOPMD
+        PreparedStatement stmt = null; // NOPMD
+        try {
+            stmt = conn.prepareStatement(SQL_GET_ALL_COLUMNS);
+            stmt.setString(1, schema.getName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("[SQL]" + SQL_GET_ALL_COLUMNS + ", 1=" + schema.getName());
+            }
+            OracleDataTypeHelper dtHelper = OracleDataTypeHelper.getInstance(null);
+            rs = stmt.executeQuery();
+            while (rs.next()) {
+                String tableName = rs.getString("TABLE_NAME");
+                List<Column> tableColumns = columns.get(tableName);
+                if (tableColumns == null) {
+                    continue;
+                }
+                try {
+                    tableColumns.add(readColumn(rs, catalog, dtHelper));
+                } catch (Exception ex) {
+                    LOG.error("Read table column information error:" + tableName, ex);
+                }
+            }
+        } finally {
+            Closer.close(rs);
+            Closer.close(stmt);
+        }
+        prefetchedColumns.put(schema, columns);
+        try {
+            PrefetchedKeys keys = new PrefetchedKeys();
+            keys.pks = queryTableRows(conn, SQL_GET_ALL_PKS, schema.getName());
+            keys.fks = queryTableRows(conn, SQL_GET_ALL_FKS, schema.getName());
+            keys.indexes = queryTableRows(conn, SQL_GET_ALL_INDEXES, schema.getName());
+            keys.indexColumns = queryTableRows(conn, SQL_GET_ALL_INDEX_COLUMNS, schema.getName());
+            prefetchedKeys.put(schema, keys);
+        } catch (SQLException ex) {
+            LOG.warn("Keys of schema " + schema.getName() + " will be fetched by tables.", ex);
+        }
+    }
+
+    /**
+     * Release the prefetched columns of the schema
+     *
+     * @param schema Schema
+     */
+    protected void releasePrefetchedTables(final Schema schema) {
+        prefetchedColumns.remove(schema);
+        prefetchedKeys.remove(schema);
+    }
+
     /**
      * Extract Table's Columns
      *
@@ -506,6 +657,15 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         if (LOG.isDebugEnabled()) {
             LOG.debug("[IN]buildTableColumns()");
         }
+        Map<String, List<Column>> columns = prefetchedColumns.get(schema);
+        List<Column> tableColumns = columns == null ? null : columns.get(table.getName());
+        // The columns missed by the bulk query are fetched by the table.
+        if (tableColumns != null && !tableColumns.isEmpty()) {
+            for (Column column : tableColumns) {
+                table.addColumn(column);
+            }
+            return;
+        }
         ResultSet rs = null; // NOPMD
         PreparedStatement stmt = null; // NOPMD
         try {
@@ -525,58 +685,7 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
             rs = stmt.executeQuery();
             while (rs.next()) {
                 try {
-                    // create new column
-                    final Column column = factory.createColumn();
-                    String columnName = rs.getString("COLUMN_NAME");
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("[VAR]columnName=" + columnName);
-                    }
-                    column.setName(columnName);
-                    column.setDataType(rs.getString("DATA_TYPE"));
-
-                    // DATA_LENGTH  Length of the column in bytes
-                    column.setByteLength(rs.getInt("DATA_LENGTH"));
-                    String precisionStr = rs.getString("DATA_PRECISION");
-
-                    column.setPrecision(precisionStr == null ? null : rs.getInt("DATA_PRECISION"));
-                    String scaleStr = rs.getString("DATA_SCALE");
-                    column.setScale(scaleStr == null ? null : rs.getInt("DATA_SCALE"));
-                    // Oracle Integer
-                    if (column.getDataType().equals("NUMBER")
-                            && precisionStr == null
-                            && "0".equals(scaleStr)) {
-                        column.setDataType("INTEGER");
-                    }
-                    column.setJdbcIDOfDataType(
-                            dtHelper.getJdbcDataTypeID(
-                                    catalog,
-                                    column.getDataType(),
-                                    column.getPrecision(),
-                                    column.getScale()));
-
-                    column.setNullable(!"N".equalsIgnoreCase(rs.getString("NULLABLE")));
-
-                    // set column default value
-                    String defaultValue = rs.getString("DATA_DEFAULT");
-                    // if the data is last,default value add "\n" or "\r" automatically,so trim it
-                    if (defaultValue != null) {
-                        defaultValue = defaultValue.trim();
-                    }
-                    if ("NULL".equals(defaultValue)) {
-                        column.setDefaultValue(null);
-                    } else {
-                        column.setDefaultValue(defaultValue);
-                    }
-                    column.setCharLength(rs.getInt("CHAR_LENGTH"));
-                    // CHAR_USED: C=varchar2(xx char) B=varchar2(xx)
-                    column.setCharUsed(rs.getString("CHAR_USED"));
-                    resetOracleColumnPrecision(column);
-
-                    String shownDataType = dtHelper.getShownDataType(column);
-                    column.setShownDataType(shownDataType);
-                    column.setComment(rs.getString("COMMENTS"));
-
-                    table.addColumn(column);
+                    table.addColumn(readColumn(rs, catalog, dtHelper));
                 } catch (Exception ex) {
                     LOG.error("Read table column information error:" + table.getName(), ex);
                 }
@@ -587,6 +696,65 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         }
     }
 
+    /**
+     * Create a column from the current row of a column query
+     *
+     * @param rs ResultSet
+     * @param catalog Catalog
+     * @param dtHelper OracleDataTypeHelper
+     * @return Column
+     * @throws SQLException e
+     */
+    private Column readColumn(ResultSet rs, Catalog catalog, OracleDataTypeHelper dtHelper)
+            throws SQLException {
+        // create new column
+        final Column column = factory.createColumn();
+        String columnName = rs.getString("COLUMN_NAME");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[VAR]columnName=" + columnName);
+        }
+        column.setName(columnName);
+        column.setDataType(rs.getString("DATA_TYPE"));
+
+        // DATA_LENGTH  Length of the column in bytes
+        column.setByteLength(rs.getInt("DATA_LENGTH"));
+        String precisionStr = rs.getString("DATA_PRECISION");
+
+        column.setPrecision(precisionStr == null ? null : rs.getInt("DATA_PRECISION"));
+        String scaleStr = rs.getString("DATA_SCALE");
+        column.setScale(scaleStr == null ? null : rs.getInt("DATA_SCALE"));
+        // Oracle Integer
+        if (column.getDataType().equals("NUMBER") && precisionStr == null && "0".equals(scaleStr)) {
+            column.setDataType("INTEGER");
+        }
+        column.setJdbcIDOfDataType(
+                dtHelper.getJdbcDataTypeID(
+                        catalog, column.getDataType(), column.getPrecision(), column.getScale()));
+
+        column.setNullable(!"N".equalsIgnoreCase(rs.getString("NULLABLE")));
+
+        // set column default value
+        String defaultValue = rs.getString("DATA_DEFAULT");
+        // if the data is last,default value add "\n" or "\r" automatically,so trim it
+        if (defaultValue != null) {
+            defaultValue = defaultValue.trim();
+        }
+        if ("NULL".equals(defaultValue)) {
+            column.setDefaultValue(null);
+        } else {
+            column.setDefaultValue(defaultValue);
+        }
+        column.setCharLength(rs.getInt("CHAR_LENGTH"));
+        // CHAR_USED: C=varchar2(xx char) B=varchar2(xx)
+        column.setCharUsed(rs.getString("CHAR_USED"));
+        resetOracleColumnPrecision(column);
+
+        String shownDataType = dtHelper.getShownDataType(column);
+        column.setShownDataType(shownDataType);
+        column.setComment(rs.getString("COMMENTS"));
+        return column;
+    }
+
     //	/**
     //	 * get time zone
     //	 *
@@ -615,6 +783,35 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
     //		}
     //	}
 
+    /**
+     * Extract Table's PK
+     *
+     * @param conn Connection
+     * @param catalog Catalog
+     * @param schema Schema
+     * @param table Table
+     * @throws SQLException e
+     */
+    protected void buildTablePK(
+            final Connection conn, final Catalog catalog, final Schema schema, final Table table)
+            throws SQLException {
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys == null) {
+            super.buildTablePK(conn, catalog, schema, table);
+            return;
+        }
+        // CONSTRAINT_NAME, COLUMN_NAME
+        List<String[]> rows = PrefetchedKeys.get(keys.pks, table.getName());
+        if (!rows.isEmpty()) {
+            List<String> columnNames = new ArrayList<String>();
+            for (String[] row : rows) {
+                columnNames.add(row[1]);
+            }
+            setTablePK(table, rows.get(0)[0], columnNames);
+        }
+        setUniquColumnByPK(table);
+    }
+
     /**
      * extract Table's FK
      *
@@ -630,6 +827,11 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         if (LOG.isDebugEnabled()) {
             LOG.debug("[IN]buildTableFKs()");
         }
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys != null) {
+            addTableFKs(table, PrefetchedKeys.get(keys.fks, table.getName()));
+            return;
+        }
         ResultSet rs = null; // NOPMD
         try {
             final String schemaName = schema == null ? null : schema.getName();
@@ -707,6 +909,40 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         }
     }
 
+    /**
+     * Add the FKs of the prefetched rows to the table
+     *
+     * @param table Table
+     * @param rows CONSTRAINT_NAME, DELETE_RULE, R_TABLE_NAME, COLUMN_NAME, R_COLUMN_NAME
+     */
+    private void addTableFKs(final Table table, List<String[]> rows) {
+        FK foreignKey = null;
+        for (String[] row : rows) {
+            if (foreignKey == null || !foreignKey.getName().equalsIgnoreCase(row[0])) {
+                if (foreignKey != null) {
+                    table.addFK(foreignKey);
+                }
+                foreignKey = factory.createFK(table);
+                foreignKey.setName(row[0]);
+                foreignKey.setUpdateRule(FK.ON_UPDATE_NO_ACTION);
+                if ("CASCADE".equals(row[1])) {
+                    foreignKey.setDeleteRule(FK.ON_DELETE_CASCADE);
+                } else if ("SET NULL".equals(row[1])) {
+                    foreignKey.setDeleteRule(FK.ON_DELETE_SET_NULL);
+                } else {
+                    foreignKey.setDeleteRule(FK.ON_DELETE_NO_ACTION);
+                }
+                foreignKey.setReferencedTableName(row[2]);
+            }
+            if (table.getColumnByName(row[3]) != null) {
+                foreignKey.addRefColumnName(row[3], row[4]);
+            }
+        }
+        if (foreignKey != null) {
+            table.addFK(foreignKey);
+        }
+    }
+
     /**
      * Build Table's indexes
      *
@@ -722,6 +958,22 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         if (LOG.isDebugEnabled()) {
             LOG.debug("[IN]buildTableIndexes()");
         }
+        PrefetchedKeys keys = prefetchedKeys.get(schema);
+        if (keys != null) {
+            // INDEX_NAME, INDEX_TYPE, UNIQUENESS
+            for (String[] row : PrefetchedKeys.get(keys.indexes, table.getName())) {
+                table.addIndex(createIndex(table, row[0], row[1], row[2]));
+            }
+            // INDEX_NAME, COLUMN_NAME, DESCEND, COLUMN_EXPRESSION
+            for (String[] row : PrefetchedKeys.get(keys.indexColumns, table.getName())) {
+                Index idx = table.getIndexByName(row[0]);
+                if (idx != null) {
+                    addIndexColumn(table, idx, row[1], row[2], row[3]);
+                }
+            }
+            setUniquColumnByIndex(table);
+            return;
+        }
         ResultSet rs = null; // NOPMD
         PreparedStatement stmt = null; // NOPMD
         try {
@@ -733,22 +985,12 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
             }
             rs = stmt.executeQuery();
             while (rs.next()) {
-                String indexName = rs.getString("INDEX_NAME");
-                String indexType = rs.getString("INDEX_TYPE");
-
-                Index idx = factory.createIndex(table);
-                idx.setName(indexName);
-                idx.setUnique("UNIQUE".equals(rs.getString("UNIQUENESS")));
-
-                if ("NORMAL".equals(indexType)) {
-                    idx.setIndexType(DatabaseMetaData.tableIndexClustered);
-                } else if ("NORMAL/REV".equals(indexType)) {
-                    idx.setReverse(true);
-                    idx.setIndexType(DatabaseMetaData.tableIndexClustered);
-                } else {
-                    idx.setIndexType(DatabaseMetaData.tableIndexOther);
-                }
-                table.addIndex(idx);
+                table.addIndex(
+                        createIndex(
+                                table,
+                                rs.getString("INDEX_NAME"),
+                                rs.getString("INDEX_TYPE"),
+                                rs.getString("UNIQUENESS")));
             }
             if (LOG.isDebugEnabled()) {
                 LOG.debug(
@@ -779,26 +1021,12 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
                 }
                 rs = stmt.executeQuery();
                 while (rs.next()) {
-                    Column col = table.getColumnByName(rs.getString("COLUMN_NAME"));
-                    String name;
-                    if (col == null) {
-                        name = rs.getString("COLUMN_EXPRESSION");
-                        if (name == null) {
-                            continue;
-                        }
-                        // Some column name may be something like "test"
-                        if (name.matches("^\"(\\w|\\W|\\d|_)+\"$")) {
-                            name = name.substring(1, name.length() - 1);
-                        }
-                    } else {
-                        name = col.getName();
-                    }
-                    if (name == null) {
-                        continue;
-                    }
-                    String order = rs.getString("DESCEND");
-                    order = order == null ? "A" : order.toUpperCase(Locale.US);
-                    idx.addColumn(name, order.startsWith("A"));
+                    addIndexColumn(
+                            table,
+                            idx,
+                            rs.getString("COLUMN_NAME"),
+                            rs.getString("DESCEND"),
+                            rs.getString("COLUMN_EXPRESSION"));
                 }
                 rs.close();
             }
@@ -809,6 +1037,64 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         setUniquColumnByIndex(table);
     }
 
+    /**
+     * Create an index of the table
+     *
+     * @param table Table
+     * @param indexName INDEX_NAME
+     * @param indexType INDEX_TYPE
+     * @param uniqueness UNIQUENESS
+     * @return Index
+     */
+    private Index createIndex(
+            final Table table, String indexName, String indexType, String uniqueness) {
+        Index idx = factory.createIndex(table);
+        idx.setName(indexName);
+        idx.setUnique("UNIQUE".equals(uniqueness));
+
+        if ("NORMAL".equals(indexType)) {
+            idx.setIndexType(DatabaseMetaData.tableIndexClustered);
+        } else if ("NORMAL/REV".equals(indexType)) {
+            idx.setReverse(true);
+            idx.setIndexType(DatabaseMetaData.tableIndexClustered);
+        } else {
+            idx.setIndexType(DatabaseMetaData.tableIndexOther);
+        }
+        return idx;
+    }
+
+    /**
+     * Add a column(or the expression of a function based index) to the index
+     *
+     * @param table Table
+     * @param idx Index
+     * @param columnName COLUMN_NAME
+     * @param descend DESCEND
+     * @param expression COLUMN_EXPRESSION
+     */
+    private void addIndexColumn(
+            final Table table, Index idx, String columnName, String descend, String expression) {
+        Column col = table.getColumnByName(columnName);
+        String name;
+        if (col == null) {
+            name = expression;
+            if (name == null) {
+                return;
+            }
+            // Some column name may be something like "test"
+            if (name.matches("^\"(\\w|\\W|\\d|_)+\"$")) {
+                name = name.substring(1, name.length() - 1);
+            }
+        } else {
+            name = col.getName();
+        }
+        if (name == null) {
+            return;
+        }
+        String order = descend == null ? "A" : descend.toUpperCase(Locale.US);
+        idx.addColumn(name, order.startsWith("A"));
+    }
+
     /**
      * Fetch all stored Triggers of the given schemata.
      *
@@ -1214,68 +1500,51 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
     }
 
     /**
-     * get TABLE comment
+     * Return the values of a column of a dictionary query, by object name
      *
      * @param conn Connection
-     * @param objectName String
-     * @return comment
+     * @param sql query with the owner as parameter, returning the object name first
+     * @param schemaName String
+     * @param column name of the value column
+     * @return Map<String, String> object name to value
+     * @throws SQLException e
      */
-    private String getTableComment(Connection conn, String schemaName, String objectName) {
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+    private Map<String, String> getObjectValues(
+            Connection conn, String sql, String schemaName, String column) throws SQLException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[SQL]" + sql + ", 1=" + schemaName);
+        }
+        Map<String, String> result = new HashMap<String, String>();
+        PreparedStatement pstmt = null; // NOPMD
+        ResultSet rs = null; // NOPMD
         try {
-            pstmt = conn.prepareStatement(SQL_GET_TABLE_COMMENT);
+            pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, schemaName);
-            pstmt.setString(2, objectName);
-
             rs = pstmt.executeQuery();
-
-            String comment = "";
             while (rs.next()) {
-                comment = rs.getString("COMMENTS");
+                String objectName = rs.getString(1);
+                result.put(objectName, rs.getString(column));
             }
-
-            if (comment != null) {
-                comment = commentEditor(comment);
-            }
-
-            return comment;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+            return result;
         } finally {
             Closer.close(rs);
             Closer.close(pstmt);
         }
     }
 
-    private String getViewComment(Connection conn, String schemaName, String viewName) {
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        try {
-            pstmt = conn.prepareStatement(SQL_GET_VIEW_COMMENT);
-            pstmt.setString(1, schemaName);
-            pstmt.setString(2, viewName);
-
-            rs = pstmt.executeQuery();
-
-            String comment = "";
-            while (rs.next()) {
-                comment = rs.getString("COMMENTS");
-            }
-
-            if (comment != null) {
-                comment = commentEditor(comment);
-            }
-
-            return comment;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        } finally {
-            Closer.close(rs);
-            Closer.close(pstmt);
+    /**
+     * get TABLE or VIEW comment
+     *
+     * @param comments Map<String, String> comments of the schema by object name
+     * @param objectName String
+     * @return comment
+     */
+    private String getComment(Map<String, String> comments, String objectName) {
+        String comment = comments.containsKey(objectName) ? comments.get(objectName) : "";
+        if (comment != null) {
+            comment = commentEditor(comment);
         }
+        return comment;
     }
 
     private String getViewColumnComment(
@@ -1448,48 +1717,6 @@ public final class OracleSchemaFetcher extends AbstractJDBCSchemaFetcher {
         }
     }
 
-    /**
-     * Return query text of a view
-     *
-     * @param conn Connection
-     * @param schemaName schema name
-     * @param viewName String
-     * @return String
-     * @throws SQLException e
-     */
-    private String getQueryText(
-            final Connection conn, String schemaName, final String viewName, View view)
-            throws SQLException {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("[IN]getQueryText()");
-        }
-        ResultSet rs = null; // NOPMD
-        PreparedStatement stmt = null; // NOPMD
-        try {
-            stmt = conn.prepareStatement(SQL_SHOW_VIEW_QUERYTEXT);
-            stmt.setString(1, schemaName);
-            stmt.setString(2, viewName);
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(
-                        "[SQL]"
-                                + SQL_SHOW_VIEW_QUERYTEXT
-                                + ", 1="
-                                + schemaName
-                                + ", 1="
-                                + viewName);
-            }
-            rs = stmt.executeQuery();
-            while (rs.next()) {
-                return rs.getString("TEXT");
-            }
-
-            return null;
-        } finally {
-            Closer.close(rs);
-            Closer.close(stmt);
-        }
-    }
-
     //	/**
     //	 * getSQLTable
     //	 *
@@ -158,6 +158,18 @@ public class MigrationHistoryEditorPart extends MigrationBaseEditorPart {
                 }
             };
 
+    private Action actShowTableSummary =
+            new Action() {
+
+                public String getText() {
+                    return Messages.menuShowTableSummary;
+                }
+
+                public void run() {
+                    delegate.showTableSummaries(getSelectedHistory());
+                }
+            };
+
     private MigrationHistoryBriefComparator comparator = new MigrationHistoryBriefComparator();
     private Text txtFileter;
 
@@ -170,11 +182,13 @@ public class MigrationHistoryEditorPart extends MigrationBaseEditorPart {
                     public void menuAboutToShow(IMenuManager manager) {
                         boolean empty = tableViewer.getSelection().isEmpty();
                         actOpenReport.setEnabled(!empty);
+                        actShowTableSummary.setEnabled(!empty);
                         actReStartMigration.setEnabled(!empty);
                         actDelete.setEnabled(!empty);
                     }
                 });
         mm.add(actOpenReport);
+        mm.add(actShowTableSummary);
         mm.add(actReStartMigration);
         mm.add(new Separator());
         mm.add(actDelete);
@@ -38,17 +38,17 @@ import com.cubrid.cubridmigration.core.common.PathUtils;
 import com.cubrid.cubridmigration.core.common.log.LogUtil;
 import com.cubrid.cubridmigration.core.engine.ThreadUtils;
 import com.cubrid.cubridmigration.core.engine.report.MigrationBriefReport;
+import com.cubrid.cubridmigration.core.engine.report.MigrationHistoryIndex;
 import com.cubrid.cubridmigration.core.engine.report.MigrationReport;
+import com.cubrid.cubridmigration.core.engine.report.RecordMigrationResult;
 import com.cubrid.cubridmigration.ui.history.MigrationReporter;
+import com.cubrid.cubridmigration.ui.history.dialog.ShowTextDialog;
 import com.cubrid.cubridmigration.ui.message.Messages;
 import com.cubrid.cubridmigration.ui.wizard.MigrationWizardFactory;
 import java.io.File;
-import java.io.FilenameFilter;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -102,6 +102,36 @@ public class MigrationHistoryUIController {
         return reporter;
     }
 
+    /**
+     * Show the data migration summaries of the tables in the selected history, they are read from
+     * the history index without loading the whole report.
+     *
+     * @param itemSelection from view
+     */
+    public void showTableSummaries(IStructuredSelection itemSelection) {
+        if (itemSelection.isEmpty()) {
+            return;
+        }
+        MigrationBriefReport brief = (MigrationBriefReport) itemSelection.getFirstElement();
+        Shell shell = getShell();
+        try {
+            List<RecordMigrationResult> tables =
+                    MigrationHistoryIndex.getTableSummaries(brief.getHistoryFile());
+            StringBuffer sb = new StringBuffer();
+            for (RecordMigrationResult rmr : tables) {
+                sb.append('[').append(rmr.getSource()).append("] >> [");
+                sb.append(rmr.getTarget()).append("] Total:[");
+                sb.append(rmr.getTotalCount()).append("] Exported:[");
+                sb.append(rmr.getExpCount()).append("] Imported:[");
+                sb.append(rmr.getImpCount()).append("]\n");
+            }
+            new ShowTextDialog(shell, sb.toString()).open();
+        } catch (Exception e) {
+            MessageDialog.openError(shell, Messages.msgError, e.getMessage());
+            LOGGER.error("", e);
+        }
+    }
+
     /**
      * Reopen migration wizard with the migration history
      *
@@ -239,33 +269,7 @@ public class MigrationHistoryUIController {
      * @return local history list
      */
     public List<MigrationBriefReport> getAllLocalHistory() {
-        List<MigrationBriefReport> briefs = new ArrayList<MigrationBriefReport>();
-        File reportDir = new File(PathUtils.getReportDir());
-        if (!reportDir.exists()) {
-            return briefs;
-        }
-        File[] hisFiles =
-                reportDir.listFiles(
-                        new FilenameFilter() {
-
-                            public boolean accept(File dir, String name) {
-                                return name.toLowerCase(Locale.US).endsWith(".mh");
-                            }
-                        });
-        if (hisFiles == null) {
-            return briefs;
-        }
-
-        for (File hf : hisFiles) {
-            MigrationBriefReport mbr = new MigrationBriefReport();
-            try {
-                mbr.loadFromHistoryFile(hf.getName());
-                briefs.add(mbr);
-            } catch (Exception ex) {
-                LOGGER.error("", ex);
-            }
-        }
-        return briefs;
+        return MigrationHistoryIndex.getBriefs();
     }
 
     /**
@@ -517,6 +517,7 @@ public class Messages extends NLS {
     public static String menuOpenReport;
     public static String menuOpenWithWizard;
     public static String menuRefresh;
+    public static String menuShowTableSummary;
     public static String menuTopElment;
     public static String menuSelectAll;
     public static String menuDeselectAll;
@@ -74,6 +74,8 @@ import org.eclipse.ui.part.EditorPart;
 /** @author Kevin Cao */
 public class MigrationProgressUIController {
     protected static final String NA_STRING = "--";
+    // The prefix of the row count estimated by the statistics of the source database.
+    protected static final String ESTIMATED_PREFIX = "~";
     protected static final Logger LOG = LogUtil.getLogger(MigrationProgressUIController.class);
 
     protected ProgressMonitorDialogRunner progressMonitorDialogRunner =
@@ -147,6 +149,9 @@ public class MigrationProgressUIController {
         if (StringUtils.isBlank(svalue)) {
             return 0;
         }
+        if (svalue.startsWith(ESTIMATED_PREFIX)) {
+            return Long.parseLong(svalue.substring(ESTIMATED_PREFIX.length()));
+        }
         return Long.parseLong(NA_STRING.equals(svalue) ? "0" : svalue);
     }
 
@@ -243,7 +248,8 @@ public class MigrationProgressUIController {
                 tableItems[index] =
                         new String[] {
                             stc.getName(),
-                            String.valueOf(tbl.getTableRowCount()),
+                            (tbl.isTableRowCountEstimated() ? ESTIMATED_PREFIX : "")
+                                    + tbl.getTableRowCount(),
                             "0",
                             "0",
                             "0%",